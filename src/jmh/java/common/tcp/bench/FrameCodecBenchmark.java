@@ -0,0 +1,141 @@
+package common.tcp.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import common.tcp.buffer.PooledByteBufferAllocator;
+import common.tcp.codec.AsciiLengthFieldFrameCodec;
+import common.tcp.codec.DelimiterFrameCodec;
+import common.tcp.codec.FrameAccumulator;
+import common.tcp.codec.FrameCodec;
+import common.tcp.codec.LengthFieldFrameCodec;
+
+/**
+ * <pre>
+ * 전문 프레이밍 코덱 마이크로 벤치마크 (수신 시 decode, 송신 시 encode 경로)
+ *  - encode : 전문 1개 인코딩
+ *  - decodeCoalesced : 한 번의 read 에 전문 여러 개가 붙어 온 경우 (작은 전문 다량)
+ *  - decodeFragmented : 전문이 MTU 크기로 나뉘어 온 경우 (큰 전문)
+ *  - pooled : 수신 누적 버퍼를 Direct 버퍼 풀(서버 기본값)에서 빌리는지 여부
+ *
+ * 실행
+ *  gradlew jmh
+ *  gradlew jmh -PjmhArgs="FrameCodecBenchmark -p codec=length -p size=1024 -prof gc"
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameCodecBenchmark {
+
+	private static final int FRAMES_PER_READ = 64;
+	private static final int MTU = 1500;
+
+	@Param({ "length", "ascii", "delimiter" })
+	public String codec;
+
+	@Param({ "64", "1024", "16384" })
+	public int size;
+
+	@Param({ "false", "true" })
+	public boolean pooled;
+
+	private FrameCodec frameCodec;
+	private PooledByteBufferAllocator allocator;
+	private FrameAccumulator accumulator;
+
+	private byte[] message;
+	// 인코딩된 전문 FRAMES_PER_READ 개를 이어 붙인 수신 데이터
+	private byte[] stream;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		if ( "length".equals(codec) ) {
+			frameCodec = new LengthFieldFrameCodec(4);
+		} else if ( "ascii".equals(codec) ) {
+			frameCodec = new AsciiLengthFieldFrameCodec(8);
+		} else {
+			frameCodec = new DelimiterFrameCodec("\r\n".getBytes(StandardCharsets.US_ASCII), true, size + 2);
+		}
+
+		if (pooled) {
+			allocator = new PooledByteBufferAllocator(new int[] { 4096, 16 * 1024, 64 * 1024 },
+					PooledByteBufferAllocator.DEFAULT_MAX_POOLED_PER_CLASS, true);
+			accumulator = new FrameAccumulator(frameCodec, allocator);
+		} else {
+			accumulator = new FrameAccumulator(frameCodec);
+		}
+
+		message = new byte[size];
+		Arrays.fill(message, (byte) 'a');
+
+		byte[] encoded = frameCodec.encode(message);
+		stream = new byte[encoded.length * FRAMES_PER_READ];
+		for (int i = 0; i < FRAMES_PER_READ; i++) {
+			System.arraycopy(encoded, 0, stream, i * encoded.length, encoded.length);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		accumulator.release();
+	}
+
+	@Benchmark
+	public byte[] encode() {
+		return frameCodec.encode(message);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(FRAMES_PER_READ)
+	public void decodeCoalesced(Blackhole blackhole) throws IOException {
+		accumulator.append(stream, 0, stream.length);
+
+		byte[] frame;
+		while ( (frame = accumulator.next()) != null ) {
+			blackhole.consume(frame);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(FRAMES_PER_READ)
+	public void decodeFragmented(Blackhole blackhole) throws IOException {
+		for (int nOffset = 0; nOffset < stream.length; nOffset += MTU) {
+			accumulator.append(stream, nOffset, Math.min(MTU, stream.length - nOffset));
+
+			byte[] frame;
+			while ( (frame = accumulator.next()) != null ) {
+				blackhole.consume(frame);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,363 @@
+package common.tcp.bench;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLContext;
+
+import common.tcp.codec.LengthFieldFrameCodec;
+import common.tcp.metrics.LatencyHistogram;
+import common.tcp.socket.SslContextCache;
+import common.tcp.socket.SslSocketTrustStoreVo;
+import common.tcp.socket.multi.SocketServerRunnable;
+import common.tcp.socketchannel.multi.NioNonBlockingServerThread;
+
+/**
+ * <pre>
+ * 루프백 부하 테스트 (NioNonBlockingServerThread, SocketServerRunnable)
+ *  - 같은 JVM 에서 서버를 띄우고 연결마다 스레드 하나로 Echo 요청을 보냄
+ *  - 요청은 4바이트 길이 헤더(LengthFieldFrameCodec) + 본문, 서버는 기본 Echo 처리
+ *  - 파이프라이닝 : 연결마다 응답을 기다리지 않고 depth 개까지 요청을 보내 둠 (응답 1개 수신 시 요청 1개 추가)
+ *  - 워밍업 후 측정 구간 동안의 처리량, 지연 시간(요청 전송 ~ 응답 수신), 서버 스레드의 힙 할당량, GC 를 출력
+ *
+ * 실행
+ *  gradlew loadTest -PloadArgs="--server=nio --ssl=true --connections=16 --size=128 --depth=8 --duration=10"
+ *
+ * 옵션 (--이름=값)
+ *  server      nio | blocking (기본값: nio, blocking 은 SSL 만 지원)
+ *  ssl         true | false (기본값: true, false 는 nio 평문 모드)
+ *  connections 연결 수 (기본값: 16)
+ *  size        본문 크기 (기본값: 128 bytes)
+ *  depth       연결별 파이프라이닝 깊이 (기본값: 1)
+ *  duration    측정 시간 (기본값: 10초)
+ *  warmup      워밍업 시간 (기본값: 3초)
+ *  workers     nio Worker 셀렉터 개수 (기본값: CPU 코어 수)
+ *  port        서버 포트 (기본값: 19900)
+ *  keystore    서버 키 저장소 (기본값: src/jmh/resources/bench-keystore.jks, 비밀번호 changeit)
+ *
+ * 참고
+ *  - 서버 할당량은 서버 스레드(NioNonBlockingServer-*, SocketServer-*)의 ThreadMXBean 할당 바이트 합계
+ *    (측정 중에 종료된 스레드는 빠짐, HotSpot 계열 JVM 에서만 지원)
+ *  - 서버의 요청/응답 데이터 로그가 결과에 영향을 주므로 logback-bench.xml (WARN) 로 실행
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class LoopbackLoadGenerator {
+
+	private static final String KEYSTORE_PASSWORD = "changeit";
+
+	private static final String[] SERVER_THREAD_PREFIXES = { "NioNonBlockingServer-", "SocketServer-" };
+
+	private final String server;
+	private final boolean ssl;
+	private final int connections;
+	private final int size;
+	private final int depth;
+	private final int durationSeconds;
+	private final int warmupSeconds;
+	private final int workers;
+	private final int port;
+	private final String keystore;
+
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final LongAdder messages = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+
+	private volatile boolean measuring;
+	private volatile boolean running = true;
+
+	public LoopbackLoadGenerator(Map<String, String> options) {
+		this.server = option(options, "server", "nio");
+		this.ssl = Boolean.parseBoolean(option(options, "ssl", "true"));
+		this.connections = Integer.parseInt(option(options, "connections", "16"));
+		this.size = Integer.parseInt(option(options, "size", "128"));
+		this.depth = Integer.parseInt(option(options, "depth", "1"));
+		this.durationSeconds = Integer.parseInt(option(options, "duration", "10"));
+		this.warmupSeconds = Integer.parseInt(option(options, "warmup", "3"));
+		this.workers = Integer.parseInt(option(options, "workers", String.valueOf(Runtime.getRuntime().availableProcessors())));
+		this.port = Integer.parseInt(option(options, "port", "19900"));
+		this.keystore = option(options, "keystore", "src/jmh/resources/bench-keystore.jks");
+
+		if ( !"nio".equals(server) && !"blocking".equals(server) ) {
+			throw new IllegalArgumentException("server 는 nio 또는 blocking 이어야 합니다: " + server);
+		}
+
+		if ( "blocking".equals(server) && !ssl ) {
+			throw new IllegalArgumentException("blocking 서버는 SSL 만 지원합니다.");
+		}
+
+		if ( connections <= 0 || size <= 0 || depth <= 0 || durationSeconds <= 0 || warmupSeconds < 0 ) {
+			throw new IllegalArgumentException("connections, size, depth, duration 은 1 이상, warmup 은 0 이상이어야 합니다.");
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			if ( !arg.startsWith("--") || arg.indexOf('=') < 0 ) {
+				throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+			}
+			options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+		}
+
+		new LoopbackLoadGenerator(options).run();
+	}
+
+	private static String option(Map<String, String> options, String name, String defaultValue) {
+		String value = options.get(name);
+		return (value == null || value.isEmpty()) ? defaultValue : value;
+	}
+
+	public void run() throws Exception {
+		NioNonBlockingServerThread nioServer = null;
+		SocketServerRunnable blockingServer = null;
+
+		// ISO-8859-1 : 서버의 byte[] <-> String 변환에서 데이터가 바뀌지 않도록
+		if ( "nio".equals(server) ) {
+			nioServer = ssl
+					? new NioNonBlockingServerThread(keystore, KEYSTORE_PASSWORD, port, "ISO-8859-1", workers)
+					: new NioNonBlockingServerThread(port, "ISO-8859-1", workers);
+			nioServer.setFrameCodec(new LengthFieldFrameCodec(4));
+			nioServer.startServer();
+		} else {
+			blockingServer = new SocketServerRunnable(keystore, KEYSTORE_PASSWORD, port, "ISO-8859-1");
+			blockingServer.setFrameCodec(new LengthFieldFrameCodec(4));
+			blockingServer.startServer();
+		}
+
+		try {
+			Thread.sleep(500); // 서버 바인드 대기
+			runLoad();
+		} finally {
+			if (nioServer != null) {
+				nioServer.stopServer();
+			}
+			if (blockingServer != null) {
+				blockingServer.stopServer();
+			}
+		}
+	}
+
+	private void runLoad() throws Exception {
+		SSLContext sslContext = null;
+		if (ssl) {
+			SslSocketTrustStoreVo trustStoreVo = new SslSocketTrustStoreVo();
+			trustStoreVo.setTrustStorePath(keystore);
+			trustStoreVo.setTrustStorePassword(KEYSTORE_PASSWORD);
+			sslContext = SslContextCache.getSslContext(trustStoreVo);
+		}
+
+		CountDownLatch connected = new CountDownLatch(connections);
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < connections; i++) {
+			Thread thread = new Thread(new Connection(sslContext, connected), "LoadGen-" + i);
+			thread.setDaemon(true);
+			thread.start();
+			threads.add(thread);
+		}
+
+		if ( !connected.await(30, TimeUnit.SECONDS) ) {
+			throw new IOException("30초 내에 연결하지 못했습니다.");
+		}
+
+		System.out.printf("[워밍업 %d초] server=%s, ssl=%s, connections=%d, size=%d, depth=%d%n",
+				warmupSeconds, server, ssl, connections, size, depth);
+		Thread.sleep(TimeUnit.SECONDS.toMillis(warmupSeconds));
+
+		Map<Long, Long> allocatedBefore = serverThreadAllocatedBytes();
+		long[] gcBefore = gcCountAndTime();
+		long lStart = System.nanoTime();
+		measuring = true;
+
+		Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+
+		measuring = false;
+		long lElapsed = System.nanoTime() - lStart;
+		long[] gcAfter = gcCountAndTime();
+		Map<Long, Long> allocatedAfter = serverThreadAllocatedBytes();
+
+		running = false;
+		for (Thread thread : threads) {
+			thread.join(5000);
+		}
+
+		report(lElapsed, allocatedBefore, allocatedAfter, gcBefore, gcAfter);
+	}
+
+	private void report(long lElapsedNanos, Map<Long, Long> allocatedBefore, Map<Long, Long> allocatedAfter, long[] gcBefore, long[] gcAfter) {
+		double seconds = lElapsedNanos / 1e9;
+		long lMessages = messages.sum();
+		double msgsPerSec = lMessages / seconds;
+		// 응답 본문 기준 (요청도 같은 크기)
+		double mbPerSec = lMessages * (double) size / seconds / (1024 * 1024);
+
+		System.out.println("----------------------------------------------------------------");
+		System.out.printf(Locale.ROOT, "server=%s, ssl=%s, connections=%d, size=%d bytes, depth=%d, duration=%.1fs%n",
+				server, ssl, connections, size, depth, seconds);
+		System.out.printf(Locale.ROOT, "throughput : %,.0f msgs/s, %.2f MB/s (응답 본문 기준), errors=%d%n", msgsPerSec, mbPerSec, errors.sum());
+		System.out.printf(Locale.ROOT, "latency    : p50=%dus, p99=%dus, p999=%dus, max=%dus, mean=%.1fus%n",
+				latency.getPercentile(50, TimeUnit.MICROSECONDS),
+				latency.getPercentile(99, TimeUnit.MICROSECONDS),
+				latency.getPercentile(99.9, TimeUnit.MICROSECONDS),
+				latency.getMax(TimeUnit.MICROSECONDS),
+				latency.getMean(TimeUnit.MICROSECONDS));
+
+		if (allocatedAfter == null) {
+			System.out.println("allocation : 지원하지 않는 JVM");
+		} else {
+			long lAllocated = 0;
+			for (Map.Entry<Long, Long> entry : allocatedAfter.entrySet()) {
+				Long before = allocatedBefore.get(entry.getKey());
+				lAllocated += entry.getValue() - (before == null ? 0 : before);
+			}
+			System.out.printf(Locale.ROOT, "allocation : server %.2f MB/s, %.0f bytes/msg%n",
+					lAllocated / seconds / (1024 * 1024), lMessages == 0 ? 0.0 : (double) lAllocated / lMessages);
+		}
+
+		System.out.printf(Locale.ROOT, "gc         : %d 회, %d ms%n", gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+		System.out.println("----------------------------------------------------------------");
+	}
+
+	/**
+	 * 서버 스레드별 누적 할당 바이트
+	 * @return 지원하지 않는 JVM 이면 null
+	 */
+	private static Map<Long, Long> serverThreadAllocatedBytes() {
+		java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if ( !(threadMXBean instanceof com.sun.management.ThreadMXBean) ) {
+			return null;
+		}
+
+		com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+		if ( !sunThreadMXBean.isThreadAllocatedMemorySupported() ) {
+			return null;
+		}
+		sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+		Map<Long, Long> allocated = new HashMap<>();
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if ( isServerThread(thread.getName()) ) {
+				long lBytes = sunThreadMXBean.getThreadAllocatedBytes(thread.getId());
+				if (lBytes >= 0) {
+					allocated.put(thread.getId(), lBytes);
+				}
+			}
+		}
+		return allocated;
+	}
+
+	private static boolean isServerThread(String sName) {
+		for (String prefix : SERVER_THREAD_PREFIXES) {
+			if ( sName.startsWith(prefix) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static long[] gcCountAndTime() {
+		long lCount = 0;
+		long lTime = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			lCount += Math.max(0, gc.getCollectionCount());
+			lTime += Math.max(0, gc.getCollectionTime());
+		}
+		return new long[] { lCount, lTime };
+	}
+
+	/**
+	 * 연결 하나의 요청/응답 루프
+	 */
+	private class Connection implements Runnable {
+		private final SSLContext sslContext;
+		private final CountDownLatch connected;
+
+		Connection(SSLContext sslContext, CountDownLatch connected) {
+			this.sslContext = sslContext;
+			this.connected = connected;
+		}
+
+		@Override
+		public void run() {
+			byte[] request = new byte[4 + size];
+			request[0] = (byte) (size >>> 24);
+			request[1] = (byte) (size >>> 16);
+			request[2] = (byte) (size >>> 8);
+			request[3] = (byte) size;
+			Arrays.fill(request, 4, request.length, (byte) 'a');
+
+			byte[] response = new byte[size];
+			// 응답 순서는 요청 순서와 같으므로 depth 크기의 링 버퍼에 전송 시각 보관
+			long[] sentNanos = new long[depth];
+
+			boolean isConnected = false;
+			try ( Socket socket = (sslContext != null) ? sslContext.getSocketFactory().createSocket("127.0.0.1", port) : new Socket("127.0.0.1", port) ) {
+				socket.setTcpNoDelay(true);
+				socket.setSoTimeout(10 * 1000); // 응답이 10초 이상 없으면 오류
+
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), request.length * depth));
+				DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 64 * 1024));
+
+				for (int i = 0; i < depth; i++) {
+					sentNanos[i] = System.nanoTime();
+					out.write(request);
+				}
+				out.flush();
+
+				isConnected = true;
+				connected.countDown();
+
+				long lReceived = 0;
+				while (running) {
+					int nLength = in.readInt();
+					if (nLength != size) {
+						throw new IOException("응답 길이 오류: " + nLength);
+					}
+					in.readFully(response);
+
+					long lNow = System.nanoTime();
+					int nSlot = (int) (lReceived++ % depth);
+					if (measuring) {
+						latency.record(lNow - sentNanos[nSlot], TimeUnit.NANOSECONDS);
+						messages.increment();
+					}
+
+					sentNanos[nSlot] = System.nanoTime();
+					out.write(request);
+					out.flush();
+				}
+			} catch (IOException e) {
+				if (running) {
+					errors.increment();
+					System.err.println("[" + Thread.currentThread().getName() + "] " + e);
+				}
+			} finally {
+				if (!isConnected) {
+					connected.countDown();
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,307 @@
+package common.tcp.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * 크기별(Size Class) ByteBuffer 풀
+ *  - 요청 크기 이상인 가장 작은 크기 클래스의 버퍼를 빌려주고, 반납 받아 재사용
+ *  - 가장 큰 크기 클래스보다 큰 요청은 풀을 거치지 않고 할당 (반납 시 버림)
+ *  - 크기 클래스별 유휴 버퍼 수는 maxPooledPerClass 까지만 보관하고, 초과분은 버림 (GC 대상)
+ *  - Direct 버퍼는 할당 비용이 크고 GC 로 회수가 늦으므로 풀링과 함께 사용하는 것을 권장
+ *
+ * 스레드 안전
+ * 주의) acquire 로 받은 버퍼만 release 해야 하며, 반납한 버퍼는 더 이상 사용하면 안 됨
+ *   (대여 중인 버퍼를 추적하여 중복 반납, 풀에서 빌리지 않은 버퍼의 반납은 거부하고 경고 로그를 남김)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	대여 중인 버퍼 추적, 중복 반납 및 풀에서 빌리지 않은 버퍼의 반납 거부
+ * </pre>
+ */
+public class PooledByteBufferAllocator {
+
+	private static final Logger logger = LoggerFactory.getLogger(PooledByteBufferAllocator.class);
+
+	public static final int DEFAULT_MAX_POOLED_PER_CLASS = 1024;
+
+	private static final int[] DEFAULT_SIZE_CLASSES = { 1024, 4096, 8192, 16384, 32768, 65536 };
+
+	private final SizeClass[] sizeClasses;
+	private final int maxPooledPerClass;
+	private final boolean direct;
+
+	private final AtomicLong unpooledAllocations = new AtomicLong();
+	private final AtomicLong rejectedReleases = new AtomicLong();
+
+	/**
+	 * 기본 크기 클래스 (1K, 4K, 8K, 16K, 32K, 64K), Direct 버퍼
+	 */
+	public PooledByteBufferAllocator() {
+		this(DEFAULT_SIZE_CLASSES, DEFAULT_MAX_POOLED_PER_CLASS, true);
+	}
+
+	/**
+	 * @param sizeClassArray 크기 클래스 (중복은 제거되고 오름차순 정렬됨)
+	 * @param maxPooledPerClass 크기 클래스별 최대 유휴 버퍼 수
+	 * @param direct Direct 버퍼 사용 여부
+	 */
+	public PooledByteBufferAllocator(int[] sizeClassArray, int maxPooledPerClass, boolean direct) {
+		if ( sizeClassArray == null || sizeClassArray.length == 0 ) {
+			throw new IllegalArgumentException("sizeClassArray 는 null이거나 비어 있을 수 없습니다.");
+		}
+
+		if (maxPooledPerClass < 0) {
+			throw new IllegalArgumentException("maxPooledPerClass 는 0 이상이어야 합니다: " + maxPooledPerClass);
+		}
+
+		int[] sizes = Arrays.stream(sizeClassArray).distinct().sorted().toArray();
+		if (sizes[0] <= 0) {
+			throw new IllegalArgumentException("크기 클래스는 1 이상이어야 합니다: " + sizes[0]);
+		}
+
+		this.sizeClasses = new SizeClass[sizes.length];
+		for (int i = 0; i < sizes.length; i++) {
+			this.sizeClasses[i] = new SizeClass(sizes[i]);
+		}
+
+		this.maxPooledPerClass = maxPooledPerClass;
+		this.direct = direct;
+	}
+
+	/**
+	 * 버퍼 대여
+	 * @param minCapacity 필요한 최소 크기
+	 * @return clear 된 버퍼 (capacity 는 minCapacity 이상)
+	 */
+	public ByteBuffer acquire(int minCapacity) {
+		if (minCapacity < 0) {
+			throw new IllegalArgumentException("minCapacity 는 0 이상이어야 합니다: " + minCapacity);
+		}
+
+		SizeClass sizeClass = findSizeClass(minCapacity);
+		if (sizeClass == null) {
+			unpooledAllocations.incrementAndGet();
+			return allocate(minCapacity);
+		}
+
+		ByteBuffer buffer = sizeClass.free.poll();
+		if (buffer == null) {
+			buffer = allocate(sizeClass.size);
+			sizeClass.allocated.incrementAndGet();
+		} else {
+			sizeClass.idle.decrementAndGet();
+		}
+
+		synchronized (sizeClass.outstanding) {
+			sizeClass.outstanding.add(buffer);
+		}
+		sizeClass.borrowed.incrementAndGet();
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * 버퍼 반납 (null 은 무시)
+	 *  - 대여 중이 아닌 버퍼(중복 반납, 다른 풀 또는 직접 할당한 버퍼)는 풀에 넣지 않고 경고 로그만 남김
+	 * @param buffer
+	 */
+	public void release(ByteBuffer buffer) {
+		if (buffer == null) {
+			return;
+		}
+
+		SizeClass sizeClass = getSizeClass(buffer.capacity());
+		if (sizeClass == null) {
+			// 가장 큰 크기 클래스보다 커서 풀을 거치지 않고 할당된 버퍼
+			return;
+		}
+
+		boolean isOutstanding;
+		synchronized (sizeClass.outstanding) {
+			isOutstanding = sizeClass.outstanding.remove(buffer);
+		}
+		if (!isOutstanding) {
+			rejectedReleases.incrementAndGet();
+			logger.warn("대여 중이 아닌 버퍼의 반납을 거부합니다 (중복 반납 또는 풀에서 빌리지 않은 버퍼): {}", buffer);
+			return;
+		}
+
+		sizeClass.borrowed.decrementAndGet();
+
+		if (sizeClass.idle.incrementAndGet() <= maxPooledPerClass) {
+			buffer.clear();
+			sizeClass.free.offer(buffer);
+		} else {
+			sizeClass.idle.decrementAndGet();
+			sizeClass.allocated.decrementAndGet();
+		}
+	}
+
+	public boolean isDirect() {
+		return direct;
+	}
+
+	private ByteBuffer allocate(int capacity) {
+		return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+	}
+
+	private SizeClass findSizeClass(int minCapacity) {
+		for (SizeClass sizeClass : sizeClasses) {
+			if (sizeClass.size >= minCapacity) {
+				return sizeClass;
+			}
+		}
+		return null;
+	}
+
+	private SizeClass getSizeClass(int capacity) {
+		for (SizeClass sizeClass : sizeClasses) {
+			if (sizeClass.size == capacity) {
+				return sizeClass;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 풀 점유 현황
+	 * @return
+	 */
+	public Stats getStats() {
+		List<SizeClassStats> list = new ArrayList<>(sizeClasses.length);
+		for (SizeClass sizeClass : sizeClasses) {
+			list.add(new SizeClassStats(sizeClass.size, sizeClass.allocated.get(), sizeClass.borrowed.get(), sizeClass.idle.get()));
+		}
+		return new Stats(list, unpooledAllocations.get(), rejectedReleases.get());
+	}
+
+	private static class SizeClass {
+		private final int size;
+		private final ConcurrentLinkedQueue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger allocated = new AtomicInteger();
+		private final AtomicInteger borrowed = new AtomicInteger();
+		private final AtomicInteger idle = new AtomicInteger();
+		// 대여 중인 버퍼 (ByteBuffer.equals 는 내용 비교이므로 동일성으로 관리)
+		private final Set<ByteBuffer> outstanding = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		SizeClass(int size) {
+			this.size = size;
+		}
+	}
+
+	public static class SizeClassStats {
+		private final int size;
+		private final int allocated;
+		private final int borrowed;
+		private final int idle;
+
+		SizeClassStats(int size, int allocated, int borrowed, int idle) {
+			this.size = size;
+			this.allocated = allocated;
+			this.borrowed = borrowed;
+			this.idle = idle;
+		}
+
+		/**
+		 * @return 크기 클래스 (바이트)
+		 */
+		public int getSize() {
+			return size;
+		}
+		/**
+		 * @return 풀이 관리하는 버퍼 수 (대여 중 + 유휴)
+		 */
+		public int getAllocated() {
+			return allocated;
+		}
+		/**
+		 * @return 대여 중인 버퍼 수
+		 */
+		public int getBorrowed() {
+			return borrowed;
+		}
+		/**
+		 * @return 유휴 버퍼 수
+		 */
+		public int getIdle() {
+			return idle;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d: allocated=%d, borrowed=%d, idle=%d", size, allocated, borrowed, idle);
+		}
+	}
+
+	public static class Stats {
+		private final List<SizeClassStats> sizeClasses;
+		private final long unpooledAllocations;
+		private final long rejectedReleases;
+
+		Stats(List<SizeClassStats> sizeClasses, long unpooledAllocations, long rejectedReleases) {
+			this.sizeClasses = Collections.unmodifiableList(sizeClasses);
+			this.unpooledAllocations = unpooledAllocations;
+			this.rejectedReleases = rejectedReleases;
+		}
+
+		public List<SizeClassStats> getSizeClasses() {
+			return sizeClasses;
+		}
+		/**
+		 * @return 가장 큰 크기 클래스를 넘어 풀 없이 할당한 횟수
+		 */
+		public long getUnpooledAllocations() {
+			return unpooledAllocations;
+		}
+		/**
+		 * @return 거부한 반납 횟수 (중복 반납, 풀에서 빌리지 않은 버퍼)
+		 */
+		public long getRejectedReleases() {
+			return rejectedReleases;
+		}
+		/**
+		 * @return 대여 중인 버퍼의 총 바이트
+		 */
+		public long getBorrowedBytes() {
+			long lBytes = 0;
+			for (SizeClassStats stats : sizeClasses) {
+				lBytes += (long) stats.getSize() * stats.getBorrowed();
+			}
+			return lBytes;
+		}
+		/**
+		 * @return 풀이 관리하는 버퍼의 총 바이트 (대여 중 + 유휴)
+		 */
+		public long getAllocatedBytes() {
+			long lBytes = 0;
+			for (SizeClassStats stats : sizeClasses) {
+				lBytes += (long) stats.getSize() * stats.getAllocated();
+			}
+			return lBytes;
+		}
+
+		@Override
+		public String toString() {
+			return "Stats [sizeClasses=" + sizeClasses + ", unpooledAllocations=" + unpooledAllocations
+					+ ", rejectedReleases=" + rejectedReleases + ", borrowedBytes=" + getBorrowedBytes() + ", allocatedBytes=" + getAllocatedBytes() + "]";
+		}
+	}
+
+}
@@ -0,0 +1,127 @@
+package common.tcp.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * <pre>
+ * 길이 필드 기반 전문 코덱의 공통 처리
+ *  - 길이 필드 앞에 전문구분 등의 고정 필드가 있는 경우 lengthFieldOffset 으로 지정
+ *  - lengthIncludesHeader 가 true 이면 길이 값이 헤더를 포함한 전체 전문 길이를 의미
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public abstract class AbstractLengthFieldFrameCodec implements FrameCodec {
+
+	public static final int DEFAULT_MAX_FRAME_LENGTH = 1024 * 1024;
+
+	private final int lengthFieldOffset;
+	private final int lengthFieldLength;
+	private final boolean lengthIncludesHeader;
+	private final boolean stripHeader;
+	private final int maxFrameLength;
+
+	protected AbstractLengthFieldFrameCodec(int lengthFieldOffset, int lengthFieldLength,
+			boolean lengthIncludesHeader, boolean stripHeader, int maxFrameLength) {
+
+		if (lengthFieldOffset < 0) {
+			throw new IllegalArgumentException("lengthFieldOffset 은 0 이상이어야 합니다: " + lengthFieldOffset);
+		}
+
+		if (lengthFieldLength <= 0) {
+			throw new IllegalArgumentException("lengthFieldLength 는 1 이상이어야 합니다: " + lengthFieldLength);
+		}
+
+		if (maxFrameLength <= lengthFieldOffset + lengthFieldLength) {
+			throw new IllegalArgumentException("maxFrameLength 는 헤더 길이보다 커야 합니다: " + maxFrameLength);
+		}
+
+		if (stripHeader && lengthFieldOffset > 0) {
+			// 길이 필드 앞의 고정 필드는 encode 시 복원할 수 없음
+			throw new IllegalArgumentException("lengthFieldOffset 이 있는 경우 stripHeader 를 사용할 수 없습니다.");
+		}
+
+		this.lengthFieldOffset = lengthFieldOffset;
+		this.lengthFieldLength = lengthFieldLength;
+		this.lengthIncludesHeader = lengthIncludesHeader;
+		this.stripHeader = stripHeader;
+		this.maxFrameLength = maxFrameLength;
+	}
+
+	/**
+	 * 길이 필드 값을 읽음
+	 * @param in 읽기 모드 버퍼
+	 * @param index 길이 필드의 절대 위치 (position 은 변경하지 않아야 함)
+	 * @return
+	 * @throws IOException 길이 필드를 해석할 수 없는 경우
+	 */
+	protected abstract long readLength(ByteBuffer in, int index) throws IOException;
+
+	/**
+	 * 길이 필드 값을 씀
+	 * @param out
+	 * @param length
+	 */
+	protected abstract void writeLength(ByteBuffer out, int length);
+
+	protected int getLengthFieldLength() {
+		return lengthFieldLength;
+	}
+
+	private int getHeaderLength() {
+		return lengthFieldOffset + lengthFieldLength;
+	}
+
+	@Override
+	public byte[] decode(ByteBuffer in) throws IOException {
+		int nHeaderLen = getHeaderLength();
+		if (in.remaining() < nHeaderLen) {
+			return null;
+		}
+
+		int nStart = in.position();
+		long lLength = readLength(in, nStart + lengthFieldOffset);
+		long lFrameLength = lengthIncludesHeader ? lLength : lLength + nHeaderLen;
+
+		if ( lFrameLength < nHeaderLen || lFrameLength > maxFrameLength ) {
+			throw new IOException("유효하지 않은 전문 길이: " + lLength + " (최대 " + maxFrameLength + ")");
+		}
+
+		int nFrameLength = (int) lFrameLength;
+		if (in.remaining() < nFrameLength) {
+			return null;
+		}
+
+		int nSkip = stripHeader ? nHeaderLen : 0;
+		byte[] frame = new byte[nFrameLength - nSkip];
+
+		in.position(nStart + nSkip);
+		in.get(frame);
+		return frame;
+	}
+
+	@Override
+	public byte[] encode(byte[] message) {
+		if (!stripHeader) {
+			return message;
+		}
+
+		int nHeaderLen = getHeaderLength();
+		int nFrameLength = nHeaderLen + message.length;
+		if (nFrameLength > maxFrameLength) {
+			throw new IllegalArgumentException("전문 길이가 최대 길이를 초과했습니다: " + nFrameLength + " (최대 " + maxFrameLength + ")");
+		}
+
+		ByteBuffer out = ByteBuffer.allocate(nFrameLength);
+		writeLength(out, lengthIncludesHeader ? nFrameLength : message.length);
+		out.put(message);
+		return out.array();
+	}
+
+}
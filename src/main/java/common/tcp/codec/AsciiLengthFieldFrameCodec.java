@@ -0,0 +1,92 @@
+package common.tcp.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * <pre>
+ * 숫자 문자열 길이 필드 전문 코덱 (은행/대외기관 전문에서 주로 사용)
+ *  - 예) "0025" + 본문 25 바이트
+ *  - 길이 필드의 앞뒤 공백은 허용하고, 숫자가 아닌 문자가 있으면 오류
+ *  - encode 시 길이 필드는 0 으로 채움
+ *
+ * 사용 예) 전문구분(2) + 길이(5, 전체 길이) 형태, 헤더 유지
+ *   new AsciiLengthFieldFrameCodec(2, 5, true, false, AbstractLengthFieldFrameCodec.DEFAULT_MAX_FRAME_LENGTH)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class AsciiLengthFieldFrameCodec extends AbstractLengthFieldFrameCodec {
+
+	private static final int MAX_DIGITS = 10;
+
+	/**
+	 * 길이 필드가 맨 앞에 있고 본문 길이만 나타내는 경우 (헤더 제거)
+	 * @param digits 길이 필드 자릿수
+	 */
+	public AsciiLengthFieldFrameCodec(int digits) {
+		this(0, digits, false, true, DEFAULT_MAX_FRAME_LENGTH);
+	}
+
+	/**
+	 * @param lengthFieldOffset 길이 필드 위치
+	 * @param digits 길이 필드 자릿수
+	 * @param lengthIncludesHeader 길이 값이 헤더를 포함한 전체 길이인지 여부
+	 * @param stripHeader decode 시 헤더 제거, encode 시 헤더 추가 여부
+	 * @param maxFrameLength 허용하는 최대 전문 길이
+	 */
+	public AsciiLengthFieldFrameCodec(int lengthFieldOffset, int digits,
+			boolean lengthIncludesHeader, boolean stripHeader, int maxFrameLength) {
+		super(lengthFieldOffset, digits, lengthIncludesHeader, stripHeader, maxFrameLength);
+
+		if (digits > MAX_DIGITS) {
+			throw new IllegalArgumentException("길이 필드 자릿수는 " + MAX_DIGITS + " 이하이어야 합니다: " + digits);
+		}
+	}
+
+	@Override
+	protected long readLength(ByteBuffer in, int index) throws IOException {
+		long lLength = 0;
+		boolean hasDigit = false;
+
+		for (int i = 0; i < getLengthFieldLength(); i++) {
+			byte b = in.get(index + i);
+
+			if (b >= '0' && b <= '9') {
+				lLength = lLength * 10 + (b - '0');
+				hasDigit = true;
+			} else if (b != ' ') {
+				throw new IOException("길이 필드에 숫자가 아닌 문자가 있습니다: 0x" + Integer.toHexString(b & 0xFF));
+			}
+		}
+
+		if (!hasDigit) {
+			throw new IOException("길이 필드가 비어 있습니다.");
+		}
+
+		return lLength;
+	}
+
+	@Override
+	protected void writeLength(ByteBuffer out, int length) {
+		int nDigits = getLengthFieldLength();
+		String sLength = Integer.toString(length);
+
+		if (sLength.length() > nDigits) {
+			throw new IllegalArgumentException(nDigits + "자리 길이 필드로 표현할 수 없는 길이: " + length);
+		}
+
+		for (int i = sLength.length(); i < nDigits; i++) {
+			out.put((byte) '0');
+		}
+		for (int i = 0; i < sLength.length(); i++) {
+			out.put((byte) sLength.charAt(i));
+		}
+	}
+
+}
@@ -0,0 +1,140 @@
+package common.tcp.codec;
+
+import java.io.IOException;
+
+/**
+ * <pre>
+ * 전문 내 고정 위치의 요청 식별 번호(Correlation ID) 필드
+ *  - 한 연결에 여러 요청을 보내고 응답을 요청과 짝지을 때 사용 (응답에도 같은 위치에 같은 값이 있어야 함)
+ *  - 위치는 FrameCodec 이 decode 한 전문 기준 (헤더를 제거하는 코덱이면 본문 기준)
+ *  - ASCII : 0 으로 채운 숫자 문자열 (예: 6자리 "000123"), 값 범위 0 ~ 10^length - 1
+ *  - BINARY : Big Endian 부호 없는 정수 (1 ~ 8 바이트), 값 범위 0 ~ 2^(8*length) - 1 (8 바이트는 Long.MAX_VALUE 까지)
+ *
+ * 상태를 가지지 않으므로 여러 연결에서 공유 가능
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class CorrelationIdField {
+
+	private static final int MAX_ASCII_DIGITS = 18;
+	private static final int MAX_BINARY_BYTES = 8;
+
+	private final int offset;
+	private final int length;
+	private final boolean ascii;
+	private final long maxValue;
+
+	/**
+	 * @param offset 필드 위치
+	 * @param length 필드 길이 (ASCII: 1 ~ 18 자리, BINARY: 1 ~ 8 바이트)
+	 * @param ascii true 면 숫자 문자열, false 면 Big Endian 정수
+	 */
+	public CorrelationIdField(int offset, int length, boolean ascii) {
+		if (offset < 0) {
+			throw new IllegalArgumentException("offset 은 0 이상이어야 합니다: " + offset);
+		}
+
+		int nMaxLength = ascii ? MAX_ASCII_DIGITS : MAX_BINARY_BYTES;
+		if ( length <= 0 || length > nMaxLength ) {
+			throw new IllegalArgumentException("length 는 1 ~ " + nMaxLength + " 이어야 합니다: " + length);
+		}
+
+		this.offset = offset;
+		this.length = length;
+		this.ascii = ascii;
+
+		if (ascii) {
+			long lMax = 1;
+			for (int i = 0; i < length; i++) {
+				lMax *= 10;
+			}
+			this.maxValue = lMax - 1;
+		} else {
+			this.maxValue = (length == MAX_BINARY_BYTES) ? Long.MAX_VALUE : (1L << (8 * length)) - 1;
+		}
+	}
+
+	public int getOffset() {
+		return offset;
+	}
+
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * 필드에 담을 수 있는 최대 값
+	 * @return
+	 */
+	public long getMaxValue() {
+		return maxValue;
+	}
+
+	/**
+	 * 전문에 식별 번호를 씀
+	 * @param message 필드 자리가 포함된 전문
+	 * @param id 0 ~ getMaxValue()
+	 */
+	public void write(byte[] message, long id) {
+		checkLength(message.length);
+
+		if ( id < 0 || id > maxValue ) {
+			throw new IllegalArgumentException("식별 번호 범위 초과: " + id + " (최대 " + maxValue + ")");
+		}
+
+		long lValue = id;
+		for (int i = offset + length - 1; i >= offset; i--) {
+			if (ascii) {
+				message[i] = (byte) ('0' + (lValue % 10));
+				lValue /= 10;
+			} else {
+				message[i] = (byte) lValue;
+				lValue >>>= 8;
+			}
+		}
+	}
+
+	/**
+	 * 전문에서 식별 번호를 읽음
+	 * @param message
+	 * @return
+	 * @throws IOException 필드가 없거나 숫자가 아닌 경우
+	 */
+	public long read(byte[] message) throws IOException {
+		if (message.length < offset + length) {
+			throw new IOException("전문 길이가 식별 번호 필드보다 짧습니다: " + message.length);
+		}
+
+		long lValue = 0;
+		for (int i = offset; i < offset + length; i++) {
+			byte b = message[i];
+
+			if (ascii) {
+				if ( b < '0' || b > '9' ) {
+					throw new IOException("식별 번호 필드에 숫자가 아닌 문자가 있습니다: 0x" + Integer.toHexString(b & 0xFF));
+				}
+				lValue = lValue * 10 + (b - '0');
+			} else {
+				lValue = (lValue << 8) | (b & 0xFF);
+			}
+		}
+
+		if (lValue < 0) {
+			throw new IOException("식별 번호 범위 초과: " + lValue);
+		}
+		return lValue;
+	}
+
+	private void checkLength(int nMessageLength) {
+		if (nMessageLength < offset + length) {
+			throw new IllegalArgumentException("전문 길이가 식별 번호 필드보다 짧습니다: " + nMessageLength + " (필드: " + offset + " ~ " + (offset + length) + ")");
+		}
+	}
+
+}
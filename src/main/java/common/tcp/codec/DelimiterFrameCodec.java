@@ -0,0 +1,115 @@
+package common.tcp.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * 구분자 전문 코덱 (예: CRLF, ETX)
+ *  - 구분자가 나오지 않은 채 maxFrameLength 를 넘으면 오류
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	이전 호출에서 검사한 구간은 다시 검색하지 않도록 수정
+ * </pre>
+ */
+public class DelimiterFrameCodec implements FrameCodec {
+
+	private final byte[] delimiter;
+	private final boolean stripDelimiter;
+	private final int maxFrameLength;
+
+	/**
+	 * 구분자 제거, 최대 길이 AbstractLengthFieldFrameCodec.DEFAULT_MAX_FRAME_LENGTH
+	 * @param delimiter
+	 */
+	public DelimiterFrameCodec(byte[] delimiter) {
+		this(delimiter, true, AbstractLengthFieldFrameCodec.DEFAULT_MAX_FRAME_LENGTH);
+	}
+
+	/**
+	 * @param delimiter 구분자
+	 * @param stripDelimiter decode 시 구분자 제거, encode 시 구분자 추가 여부
+	 * @param maxFrameLength 구분자를 포함한 최대 전문 길이
+	 */
+	public DelimiterFrameCodec(byte[] delimiter, boolean stripDelimiter, int maxFrameLength) {
+		if ( delimiter == null || delimiter.length == 0 ) {
+			throw new IllegalArgumentException("구분자는 null이거나 비어 있을 수 없습니다.");
+		}
+
+		if (maxFrameLength <= delimiter.length) {
+			throw new IllegalArgumentException("maxFrameLength 는 구분자 길이보다 커야 합니다: " + maxFrameLength);
+		}
+
+		this.delimiter = delimiter.clone();
+		this.stripDelimiter = stripDelimiter;
+		this.maxFrameLength = maxFrameLength;
+	}
+
+	@Override
+	public byte[] decode(ByteBuffer in) throws IOException {
+		return decode(in, 0);
+	}
+
+	@Override
+	public byte[] decode(ByteBuffer in, int nScanned) throws IOException {
+		int nStart = in.position();
+		// 구분자가 이전 검사 구간의 끝에 걸쳐 있을 수 있으므로 (구분자 길이 - 1) 만큼 앞에서부터 검색
+		int nFrom = nStart + Math.max(0, Math.min(nScanned, in.remaining()) - (delimiter.length - 1));
+		int nIndex = indexOf(in, nFrom, in.limit());
+
+		if (nIndex < 0) {
+			if (in.remaining() >= maxFrameLength) {
+				throw new IOException("구분자 없이 최대 전문 길이를 초과했습니다: " + in.remaining() + " (최대 " + maxFrameLength + ")");
+			}
+			return null;
+		}
+
+		int nFrameLength = nIndex - nStart + delimiter.length;
+		if (nFrameLength > maxFrameLength) {
+			throw new IOException("전문 길이가 최대 길이를 초과했습니다: " + nFrameLength + " (최대 " + maxFrameLength + ")");
+		}
+
+		byte[] frame = new byte[stripDelimiter ? nFrameLength - delimiter.length : nFrameLength];
+		in.get(frame);
+		in.position(nStart + nFrameLength);
+		return frame;
+	}
+
+	private int indexOf(ByteBuffer in, int from, int to) {
+		int nLast = to - delimiter.length;
+
+		for (int i = from; i <= nLast; i++) {
+			if (in.get(i) != delimiter[0]) {
+				continue;
+			}
+
+			int j = 1;
+			while ( j < delimiter.length && in.get(i + j) == delimiter[j] ) {
+				j++;
+			}
+
+			if (j == delimiter.length) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public byte[] encode(byte[] message) {
+		if (!stripDelimiter) {
+			return message;
+		}
+
+		byte[] frame = Arrays.copyOf(message, message.length + delimiter.length);
+		System.arraycopy(delimiter, 0, frame, message.length, delimiter.length);
+		return frame;
+	}
+
+}
@@ -0,0 +1,67 @@
+package common.tcp.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * 고정 길이 전문 코덱
+ *  - encode 시 전문 길이보다 짧으면 padByte 로 채우고, 길면 오류
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class FixedLengthFrameCodec implements FrameCodec {
+
+	private final int frameLength;
+	private final byte padByte;
+
+	/**
+	 * 공백(0x20)으로 채움
+	 * @param frameLength
+	 */
+	public FixedLengthFrameCodec(int frameLength) {
+		this(frameLength, (byte) ' ');
+	}
+
+	public FixedLengthFrameCodec(int frameLength, byte padByte) {
+		if (frameLength <= 0) {
+			throw new IllegalArgumentException("frameLength 는 1 이상이어야 합니다: " + frameLength);
+		}
+
+		this.frameLength = frameLength;
+		this.padByte = padByte;
+	}
+
+	@Override
+	public byte[] decode(ByteBuffer in) {
+		if (in.remaining() < frameLength) {
+			return null;
+		}
+
+		byte[] frame = new byte[frameLength];
+		in.get(frame);
+		return frame;
+	}
+
+	@Override
+	public byte[] encode(byte[] message) {
+		if (message.length == frameLength) {
+			return message;
+		}
+
+		if (message.length > frameLength) {
+			throw new IllegalArgumentException("전문 길이가 고정 길이를 초과했습니다: " + message.length + " (고정 " + frameLength + ")");
+		}
+
+		byte[] frame = Arrays.copyOf(message, frameLength);
+		Arrays.fill(frame, message.length, frameLength, padByte);
+		return frame;
+	}
+
+}
@@ -0,0 +1,219 @@
+package common.tcp.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import common.tcp.buffer.PooledByteBufferAllocator;
+
+/**
+ * <pre>
+ * 연결 단위 수신 누적 버퍼
+ *  - 수신 데이터를 이어 붙이고, FrameCodec 으로 완성된 전문을 하나씩 꺼냄
+ *  - 읽기 위치와 쓰기 위치를 따로 관리하여, 전문을 꺼낼 때마다 버퍼를 복사하지 않음
+ *  - 공간이 부족할 때만 남은 (미완성 전문) 데이터를 앞으로 당기고, 그래도 부족하면 확장
+ *  - PooledByteBufferAllocator 를 지정하면 데이터가 남아 있는 동안만 풀에서 버퍼를 빌리고, 모두 꺼내면 반납
+ *    (유휴 연결이 버퍼를 점유하지 않음, 사용 후 release() 호출 필요)
+ *
+ * 스레드 안전하지 않음 (연결을 처리하는 스레드 하나에서만 사용)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	미완성 전문에 대해 코덱이 이미 검사한 길이를 기억하여 다시 검사하지 않도록 수정
+ * </pre>
+ */
+public class FrameAccumulator {
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 4096;
+
+	private final FrameCodec codec;
+	private final PooledByteBufferAllocator allocator;
+	private final int initialCapacity;
+
+	// [readIndex, buffer.position()) 구간이 아직 꺼내지 않은 데이터, 풀 사용 시 비어 있으면 null
+	private ByteBuffer buffer;
+	private int readIndex;
+	// readIndex 부터 코덱이 이미 검사한 바이트 수 (전문을 꺼내면 0)
+	private int scanned;
+
+	public FrameAccumulator(FrameCodec codec) {
+		this(codec, DEFAULT_INITIAL_CAPACITY);
+	}
+
+	public FrameAccumulator(FrameCodec codec, int initialCapacity) {
+		if (codec == null) {
+			throw new IllegalArgumentException("codec 은 null일 수 없습니다.");
+		}
+
+		if (initialCapacity <= 0) {
+			throw new IllegalArgumentException("initialCapacity 는 1 이상이어야 합니다: " + initialCapacity);
+		}
+
+		this.codec = codec;
+		this.allocator = null;
+		this.initialCapacity = initialCapacity;
+		this.buffer = ByteBuffer.allocate(initialCapacity);
+	}
+
+	/**
+	 * 풀에서 버퍼를 빌려 쓰는 누적 버퍼
+	 * @param codec
+	 * @param allocator
+	 */
+	public FrameAccumulator(FrameCodec codec, PooledByteBufferAllocator allocator) {
+		this(codec, allocator, DEFAULT_INITIAL_CAPACITY);
+	}
+
+	public FrameAccumulator(FrameCodec codec, PooledByteBufferAllocator allocator, int initialCapacity) {
+		if (codec == null) {
+			throw new IllegalArgumentException("codec 은 null일 수 없습니다.");
+		}
+
+		if (allocator == null) {
+			throw new IllegalArgumentException("allocator 는 null일 수 없습니다.");
+		}
+
+		if (initialCapacity <= 0) {
+			throw new IllegalArgumentException("initialCapacity 는 1 이상이어야 합니다: " + initialCapacity);
+		}
+
+		this.codec = codec;
+		this.allocator = allocator;
+		this.initialCapacity = initialCapacity;
+	}
+
+	public FrameCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 수신 데이터 추가
+	 * @param src 읽기 모드 버퍼 (전부 소비됨)
+	 */
+	public void append(ByteBuffer src) {
+		if ( !src.hasRemaining() ) {
+			return;
+		}
+
+		ensureWritable(src.remaining());
+		buffer.put(src);
+	}
+
+	public void append(byte[] src, int offset, int length) {
+		if (length == 0) {
+			return;
+		}
+
+		ensureWritable(length);
+		buffer.put(src, offset, length);
+	}
+
+	/**
+	 * 완성된 전문 하나를 꺼냄
+	 * @return 전문, 데이터가 부족하면 null
+	 * @throws IOException 코덱이 잘못된 전문으로 판단한 경우
+	 */
+	public byte[] next() throws IOException {
+		if (buffer == null) {
+			return null;
+		}
+
+		int nWriteIndex = buffer.position();
+		if (readIndex == nWriteIndex) {
+			return null;
+		}
+
+		byte[] frame;
+		buffer.limit(nWriteIndex).position(readIndex);
+		try {
+			frame = codec.decode(buffer, scanned);
+			if (frame != null) {
+				readIndex = buffer.position();
+				scanned = 0;
+			} else {
+				scanned = nWriteIndex - readIndex;
+			}
+		} finally {
+			buffer.limit(buffer.capacity()).position(nWriteIndex);
+		}
+
+		if (readIndex == nWriteIndex) {
+			// 모두 소비된 경우 복사 없이 처음으로 되돌림 (풀 사용 시 반납)
+			clear();
+		}
+
+		return frame;
+	}
+
+	/**
+	 * 아직 꺼내지 않은 바이트 수
+	 * @return
+	 */
+	public int pending() {
+		return (buffer == null) ? 0 : buffer.position() - readIndex;
+	}
+
+	/**
+	 * 남은 데이터를 버림 (풀 사용 시 버퍼 반납)
+	 */
+	public void clear() {
+		readIndex = 0;
+		scanned = 0;
+
+		if (allocator == null) {
+			buffer.clear();
+		} else {
+			allocator.release(buffer);
+			buffer = null;
+		}
+	}
+
+	/**
+	 * 연결 종료 시 호출 (풀 사용 시 버퍼 반납)
+	 */
+	public void release() {
+		if (allocator != null) {
+			clear();
+		}
+	}
+
+	private void ensureWritable(int length) {
+		if (buffer == null) {
+
+			buffer = allocator.acquire(Math.max(initialCapacity, length));
+			readIndex = 0;
+			scanned = 0;
+			return;
+		}
+
+		if (buffer.remaining() >= length) {
+			return;
+		}
+
+		int nPending = pending();
+
+		if (buffer.capacity() - nPending >= length) {
+			// 남은 데이터만 앞으로 당김
+			buffer.limit(buffer.position()).position(readIndex);
+			buffer.compact();
+		} else {
+			int nNewCapacity = buffer.capacity();
+			while (nNewCapacity - nPending < length) {
+				nNewCapacity *= 2;
+			}
+
+			ByteBuffer newBuffer = (allocator == null) ? ByteBuffer.allocate(nNewCapacity) : allocator.acquire(nNewCapacity);
+			buffer.limit(buffer.position()).position(readIndex);
+			newBuffer.put(buffer);
+			if (allocator != null) {
+				allocator.release(buffer);
+			}
+			buffer = newBuffer;
+		}
+		readIndex = 0;
+	}
+
+}
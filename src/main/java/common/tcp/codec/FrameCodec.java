@@ -0,0 +1,57 @@
+package common.tcp.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * <pre>
+ * 전문 프레이밍 코덱
+ *  - TCP 는 메시지 경계가 없으므로 한 번의 read 에 전문이 여러 개 붙어 오거나 일부만 올 수 있음
+ *  - FrameAccumulator 에 누적된 데이터에서 완성된 전문을 하나씩 잘라냄
+ *
+ * decode / encode 는 대칭
+ *  - 헤더(구분자)를 제거하도록 설정된 코덱은 encode 시 헤더(구분자)를 붙임
+ *  - 헤더를 유지하도록 설정된 코덱은 호출자가 완성된 전문을 만든다고 보고 그대로 반환
+ *
+ * 구현체는 상태를 가지지 않으므로 여러 연결에서 공유 가능
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	이전 호출에서 검사한 길이를 전달하는 decode 추가
+ * </pre>
+ */
+public interface FrameCodec {
+
+	/**
+	 * 누적 버퍼에서 전문 하나를 잘라냄
+	 * @param in 읽기 모드 버퍼. 전문이 완성된 경우에만 그 길이만큼 position 이 이동함
+	 * @return 완성된 전문, 데이터가 부족하면 null
+	 * @throws IOException 헤더가 잘못되었거나 최대 길이를 초과한 경우
+	 */
+	byte[] decode(ByteBuffer in) throws IOException;
+
+	/**
+	 * 누적 버퍼에서 전문 하나를 잘라냄 (FrameAccumulator 가 호출)
+	 *  - 같은 전문에 대해 이전 호출에서 검사한 길이를 전달하여, 구분자 코덱 등이 이미 검사한 구간을 다시 읽지 않게 함
+	 *  - 기본 구현은 nScanned 를 무시하고 decode(in) 호출
+	 * @param in 읽기 모드 버퍼. 전문이 완성된 경우에만 그 길이만큼 position 이 이동함
+	 * @param nScanned 현재 position 부터 이전 호출에서 이미 검사한 바이트 수 (처음이면 0)
+	 * @return 완성된 전문, 데이터가 부족하면 null
+	 * @throws IOException 헤더가 잘못되었거나 최대 길이를 초과한 경우
+	 */
+	default byte[] decode(ByteBuffer in, int nScanned) throws IOException {
+		return decode(in);
+	}
+
+	/**
+	 * 송신할 메시지를 전문 형태로 변환
+	 * @param message
+	 * @return
+	 */
+	byte[] encode(byte[] message);
+
+}
@@ -0,0 +1,66 @@
+package common.tcp.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <pre>
+ * 바이너리 길이 필드 전문 코덱 (Big Endian, 2 또는 4 바이트)
+ *
+ * 사용 예) 2바이트 길이 + 본문, 헤더 제거
+ *   new LengthFieldFrameCodec(2)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class LengthFieldFrameCodec extends AbstractLengthFieldFrameCodec {
+
+	/**
+	 * 길이 필드가 맨 앞에 있고 본문 길이만 나타내는 경우 (헤더 제거)
+	 * @param lengthFieldLength 2 또는 4
+	 */
+	public LengthFieldFrameCodec(int lengthFieldLength) {
+		this(0, lengthFieldLength, false, true, DEFAULT_MAX_FRAME_LENGTH);
+	}
+
+	/**
+	 * @param lengthFieldOffset 길이 필드 위치
+	 * @param lengthFieldLength 2 또는 4
+	 * @param lengthIncludesHeader 길이 값이 헤더를 포함한 전체 길이인지 여부
+	 * @param stripHeader decode 시 헤더 제거, encode 시 헤더 추가 여부
+	 * @param maxFrameLength 허용하는 최대 전문 길이
+	 */
+	public LengthFieldFrameCodec(int lengthFieldOffset, int lengthFieldLength,
+			boolean lengthIncludesHeader, boolean stripHeader, int maxFrameLength) {
+		super(lengthFieldOffset, lengthFieldLength, lengthIncludesHeader, stripHeader, maxFrameLength);
+
+		if (lengthFieldLength != 2 && lengthFieldLength != 4) {
+			throw new IllegalArgumentException("lengthFieldLength 는 2 또는 4 이어야 합니다: " + lengthFieldLength);
+		}
+	}
+
+	@Override
+	protected long readLength(ByteBuffer in, int index) {
+		if (getLengthFieldLength() == 2) {
+			return in.getShort(index) & 0xFFFF;
+		}
+		return in.getInt(index) & 0xFFFFFFFFL;
+	}
+
+	@Override
+	protected void writeLength(ByteBuffer out, int length) {
+		if (getLengthFieldLength() == 2) {
+			if (length > 0xFFFF) {
+				throw new IllegalArgumentException("2바이트 길이 필드로 표현할 수 없는 길이: " + length);
+			}
+			out.putShort((short) length);
+		} else {
+			out.putInt(length);
+		}
+	}
+
+}
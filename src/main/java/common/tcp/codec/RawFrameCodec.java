@@ -0,0 +1,36 @@
+package common.tcp.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <pre>
+ * 구분 없이 수신된 만큼을 하나의 메시지로 처리 (기존 동작)
+ *  - 전문 경계를 보장하지 않으므로 요청/응답이 1:1 로 오가는 단순한 경우에만 사용
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class RawFrameCodec implements FrameCodec {
+
+	@Override
+	public byte[] decode(ByteBuffer in) {
+		if ( !in.hasRemaining() ) {
+			return null;
+		}
+
+		byte[] frame = new byte[in.remaining()];
+		in.get(frame);
+		return frame;
+	}
+
+	@Override
+	public byte[] encode(byte[] message) {
+		return message;
+	}
+
+}
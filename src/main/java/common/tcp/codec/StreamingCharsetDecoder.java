@@ -0,0 +1,166 @@
+package common.tcp.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
+
+/**
+ * <pre>
+ * 연결 단위 문자열 디코더
+ *  - CharsetDecoder, CharBuffer 를 재사용 (Java 8 의 new String(byte[], Charset) 은 호출마다 디코더와 char 배열을 새로 생성)
+ *  - decode : 수신된 만큼씩 이어서 디코딩, 끝에 걸친 미완성 멀티바이트 문자(EUC-KR/MS949 한글 등)는 다음 호출까지 보관
+ *  - decodeFrame : 전문 하나를 디코딩 (전문 경계에서 문자가 끝나므로 보관하지 않음)
+ *  - 잘못된 바이트는 new String 과 동일하게 대체 문자로 변환
+ *
+ * 스레드 안전하지 않음 (연결마다 생성하여 해당 연결의 수신 스레드에서만 사용)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class StreamingCharsetDecoder {
+
+	private static final int INITIAL_CHAR_BUFFER_SIZE = 1024;
+	private static final int INITIAL_CARRY_SIZE = 16;
+	// 이보다 큰 변환 버퍼는 연결에 유지하지 않음 (큰 전문 한 번으로 연결마다 메모리를 계속 점유하지 않도록)
+	private static final int MAX_RETAINED_CHAR_BUFFER_SIZE = 64 * 1024;
+
+	private final CharsetDecoder decoder;
+	private CharBuffer charBuffer;
+	// 이전 decode 에서 남은 미완성 문자 바이트 (쓰기 모드)
+	private ByteBuffer carry;
+
+	public StreamingCharsetDecoder(Charset charset) {
+		this.decoder = Objects.requireNonNull(charset, "charset 은 null일 수 없습니다.").newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.charBuffer = CharBuffer.allocate(INITIAL_CHAR_BUFFER_SIZE);
+		this.carry = ByteBuffer.allocate(INITIAL_CARRY_SIZE);
+	}
+
+	public Charset charset() {
+		return decoder.charset();
+	}
+
+	/**
+	 * 수신된 데이터를 이어서 디코딩
+	 * @param src
+	 * @param offset
+	 * @param length
+	 * @return 완성된 문자열 (모두 미완성 문자이면 빈 문자열)
+	 */
+	public String decode(byte[] src, int offset, int length) {
+		ByteBuffer in;
+		if ( carry.position() > 0 ) {
+			ensureCarryCapacity(carry.position() + length);
+			carry.put(src, offset, length);
+			carry.flip();
+			in = carry;
+		} else {
+			in = ByteBuffer.wrap(src, offset, length);
+		}
+
+		String sDecoded = decode(in, false);
+
+		if (in == carry) {
+			carry.compact();
+		} else {
+			carry.clear();
+			if ( in.hasRemaining() ) {
+				ensureCarryCapacity(in.remaining());
+				carry.put(in);
+			}
+		}
+		return sDecoded;
+	}
+
+	public String decode(byte[] src) {
+		return decode(src, 0, src.length);
+	}
+
+	/**
+	 * 전문 하나를 디코딩 (이어서 디코딩 중인 데이터와는 무관)
+	 * @param frame
+	 * @return
+	 */
+	public String decodeFrame(byte[] frame) {
+		return decode(ByteBuffer.wrap(frame), true);
+	}
+
+	/**
+	 * 보관 중인 미완성 문자 바이트 수
+	 * @return
+	 */
+	public int pending() {
+		return carry.position();
+	}
+
+	/**
+	 * 보관 중인 미완성 문자를 대체 문자로 변환하여 반환하고 비움 (연결 종료 시)
+	 * @return
+	 */
+	public String flush() {
+		if ( carry.position() == 0 ) {
+			return "";
+		}
+
+		carry.flip();
+		String sDecoded = decode(carry, true);
+		carry.clear();
+		return sDecoded;
+	}
+
+	/**
+	 * @param in
+	 * @param endOfInput false 이면 디코더 상태(상태를 가지는 문자셋의 시프트 상태 등)를 다음 호출까지 유지
+	 * @return
+	 */
+	private String decode(ByteBuffer in, boolean endOfInput) {
+		CharBuffer out = charBufferFor((int) (in.remaining() * (double) decoder.maxCharsPerByte()) + 1);
+
+		if (endOfInput) {
+			decoder.reset();
+			CoderResult result = decoder.decode(in, out, true);
+			if ( result.isUnderflow() ) {
+				decoder.flush(out);
+			}
+			decoder.reset();
+		} else {
+			decoder.decode(in, out, false);
+		}
+
+		out.flip();
+		return out.toString();
+	}
+
+	private CharBuffer charBufferFor(int nCapacity) {
+		if ( charBuffer.capacity() >= nCapacity ) {
+			charBuffer.clear();
+			return charBuffer;
+		}
+
+		CharBuffer newBuffer = CharBuffer.allocate(nCapacity);
+		if (nCapacity <= MAX_RETAINED_CHAR_BUFFER_SIZE) {
+			charBuffer = newBuffer;
+		}
+		return newBuffer;
+	}
+
+	private void ensureCarryCapacity(int nCapacity) {
+		if ( carry.capacity() < nCapacity ) {
+			ByteBuffer newCarry = ByteBuffer.allocate(Math.max(nCapacity, carry.capacity() * 2));
+			carry.flip();
+			newCarry.put(carry);
+			carry = newCarry;
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package common.tcp.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
+
+/**
+ * <pre>
+ * 연결 단위 문자열 인코더
+ *  - CharsetEncoder, 인코딩 버퍼를 재사용 (Java 8 의 String.getBytes(Charset) 은 호출마다 인코더와 byte 배열을 새로 생성)
+ *  - 변환할 수 없는 문자는 String.getBytes 와 동일하게 대체 바이트로 변환
+ *
+ * 스레드 안전하지 않음 (연결마다 생성하여 해당 연결의 송신 순서대로 호출)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class StreamingCharsetEncoder {
+
+	private static final int INITIAL_BYTE_BUFFER_SIZE = 1024;
+	// 이보다 큰 인코딩 버퍼는 연결에 유지하지 않음
+	private static final int MAX_RETAINED_BYTE_BUFFER_SIZE = 64 * 1024;
+
+	private final CharsetEncoder encoder;
+	private ByteBuffer byteBuffer;
+
+	public StreamingCharsetEncoder(Charset charset) {
+		this.encoder = Objects.requireNonNull(charset, "charset 은 null일 수 없습니다.").newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.byteBuffer = ByteBuffer.allocate(INITIAL_BYTE_BUFFER_SIZE);
+	}
+
+	public Charset charset() {
+		return encoder.charset();
+	}
+
+	/**
+	 * 문자열 하나를 인코딩
+	 * @param message
+	 * @return
+	 */
+	public byte[] encode(CharSequence message) {
+		CharBuffer in = CharBuffer.wrap(message);
+
+		ByteBuffer out = byteBufferFor((int) (in.remaining() * (double) encoder.maxBytesPerChar()) + 1);
+
+		encoder.reset();
+		CoderResult result = encoder.encode(in, out, true);
+		if ( result.isUnderflow() ) {
+			encoder.flush(out);
+		}
+
+		out.flip();
+		byte[] encoded = new byte[out.remaining()];
+		out.get(encoded);
+		return encoded;
+	}
+
+	private ByteBuffer byteBufferFor(int nCapacity) {
+		if ( byteBuffer.capacity() >= nCapacity ) {
+			byteBuffer.clear();
+			return byteBuffer;
+		}
+
+		ByteBuffer newBuffer = ByteBuffer.allocate(nCapacity);
+		if (nCapacity <= MAX_RETAINED_BYTE_BUFFER_SIZE) {
+			byteBuffer = newBuffer;
+		}
+		return newBuffer;
+	}
+
+}
@@ -0,0 +1,127 @@
+package common.tcp.metrics;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * <pre>
+ * TLS 핸드쉐이크 통계
+ *  - 전체(Full) / 세션 재사용(Resumed) / 실패 횟수
+ *  - 핸드쉐이크 소요 시간 (TCP 연결 수락 ~ 핸드쉐이크 완료) 백분위
+ *  - 세션 재사용 여부는 앞서 핸드쉐이크를 마친 세션 ID 와 비교하여 판단
+ *    (JDK 의 TLS 1.3 은 재사용할 때도 새 세션 ID 를 발급하므로 전체 핸드쉐이크로 집계됨)
+ *
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	세션 재사용 판단을 세션 생성 시각 대신 이미 알고 있는 세션 ID 로 변경
+ * </pre>
+ */
+public class HandshakeMetrics {
+
+	// JDK 서버 세션 캐시 기본 크기와 동일
+	public static final int DEFAULT_KNOWN_SESSIONS = 20480;
+
+	private final AtomicLong fullHandshakes = new AtomicLong();
+	private final AtomicLong resumedHandshakes = new AtomicLong();
+	private final AtomicLong failedHandshakes = new AtomicLong();
+	private final LatencyHistogram latency = new LatencyHistogram();
+	// 핸드쉐이크를 마친 세션 ID (오래된 것부터 제거)
+	private final Map<ByteBuffer, Boolean> knownSessions;
+
+	public HandshakeMetrics() {
+		this(DEFAULT_KNOWN_SESSIONS);
+	}
+
+	/**
+	 * @param nKnownSessions 재사용 여부 판단을 위해 기억할 세션 ID 개수 (서버 세션 캐시 크기 이상 권장)
+	 */
+	public HandshakeMetrics(int nKnownSessions) {
+		if (nKnownSessions <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 세션 ID 개수: " + nKnownSessions + ". 1 이상이어야 합니다.");
+		}
+
+		this.knownSessions = Collections.synchronizedMap(new LinkedHashMap<ByteBuffer, Boolean>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+				return size() > nKnownSessions;
+			}
+		});
+	}
+
+	/**
+	 * 핸드쉐이크 완료 기록 (이미 핸드쉐이크를 마친 세션 ID 이면 세션 재사용)
+	 * @param session 핸드쉐이크가 완료된 세션
+	 * @param elapsedNanos 소요 시간
+	 */
+	public void recordHandshake(SSLSession session, long elapsedNanos) {
+		byte[] sessionId = (session == null) ? null : session.getId();
+
+		boolean resumed = false;
+		if ( sessionId != null && sessionId.length > 0 ) {
+			resumed = knownSessions.put(ByteBuffer.wrap(sessionId.clone()), Boolean.TRUE) != null;
+		}
+		recordHandshake(resumed, elapsedNanos);
+	}
+
+	/**
+	 * 핸드쉐이크 완료 기록
+	 * @param resumed 세션 재사용 여부
+	 * @param elapsedNanos 소요 시간
+	 */
+	public void recordHandshake(boolean resumed, long elapsedNanos) {
+		if (resumed) {
+			resumedHandshakes.incrementAndGet();
+		} else {
+			fullHandshakes.incrementAndGet();
+		}
+		latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 핸드쉐이크 실패(오류, 시간 초과, 도중 종료) 기록
+	 */
+	public void recordFailure() {
+		failedHandshakes.incrementAndGet();
+	}
+
+	public long getFullHandshakeCount() {
+		return fullHandshakes.get();
+	}
+
+	public long getResumedHandshakeCount() {
+		return resumedHandshakes.get();
+	}
+
+	public long getFailedHandshakeCount() {
+		return failedHandshakes.get();
+	}
+
+	/**
+	 * 핸드쉐이크 소요 시간 히스토그램
+	 * @return
+	 */
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	@Override
+	public String toString() {
+		return "HandshakeMetrics [full=" + fullHandshakes.get() + ", resumed=" + resumedHandshakes.get()
+				+ ", failed=" + failedHandshakes.get() + ", latency=" + latency + "]";
+	}
+
+}
@@ -0,0 +1,141 @@
+package common.tcp.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <pre>
+ * 지연 시간 히스토그램 (마이크로초 단위, 로그-선형 버킷)
+ *  - 2의 거듭제곱 구간마다 8개의 버킷으로 나누므로 백분위 값의 오차는 최대 약 12.5%
+ *  - 값을 저장하지 않으므로 기록 횟수와 관계없이 메모리 사용량이 일정
+ *  - 약 19시간(2^36 us) 이상은 마지막 버킷에 기록
+ *
+ * 스레드 안전 (기록 중에 조회하면 일부 기록이 반영되지 않을 수 있음)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_VALUE_BITS = 36;
+	private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+	private static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong totalCount = new AtomicLong();
+	private final AtomicLong totalMicros = new AtomicLong();
+	private final AtomicLong maxMicros = new AtomicLong();
+
+	/**
+	 * 지연 시간 기록
+	 * @param duration
+	 * @param unit
+	 */
+	public void record(long duration, TimeUnit unit) {
+		long micros = Math.min(Math.max(0, unit.toMicros(duration)), MAX_VALUE);
+
+		counts.incrementAndGet(indexOf(micros));
+		totalCount.incrementAndGet();
+		totalMicros.addAndGet(micros);
+
+		long max;
+		while ( micros > (max = maxMicros.get()) && !maxMicros.compareAndSet(max, micros) ) {
+			// 다른 스레드가 갱신한 경우 다시 비교
+		}
+	}
+
+	public long getCount() {
+		return totalCount.get();
+	}
+
+	public long getMax(TimeUnit unit) {
+		return unit.convert(maxMicros.get(), TimeUnit.MICROSECONDS);
+	}
+
+	public double getMean(TimeUnit unit) {
+		long count = totalCount.get();
+		if (count == 0) {
+			return 0;
+		}
+		return (double) totalMicros.get() / count * TimeUnit.MICROSECONDS.toNanos(1) / unit.toNanos(1);
+	}
+
+	/**
+	 * 백분위 값 (해당 버킷의 상한, 최대값을 넘지 않음)
+	 * @param percentile 0 ~ 100 (예: 99.9)
+	 * @param unit
+	 * @return 기록이 없으면 0
+	 */
+	public long getPercentile(double percentile, TimeUnit unit) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException("percentile 은 0 ~ 100 사이여야 합니다: " + percentile);
+		}
+
+		long count = totalCount.get();
+		if (count == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+		long seen = 0;
+		long micros = maxMicros.get();
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				micros = Math.min(upperBoundOf(i), micros);
+				break;
+			}
+		}
+
+		return unit.convert(micros, TimeUnit.MICROSECONDS);
+	}
+
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts.set(i, 0);
+		}
+		totalCount.set(0);
+		totalMicros.set(0);
+		maxMicros.set(0);
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram [count=" + getCount()
+				+ ", p50=" + getPercentile(50, TimeUnit.MICROSECONDS)
+				+ "us, p99=" + getPercentile(99, TimeUnit.MICROSECONDS)
+				+ "us, p999=" + getPercentile(99.9, TimeUnit.MICROSECONDS)
+				+ "us, max=" + getMax(TimeUnit.MICROSECONDS) + "us]";
+	}
+
+	static int indexOf(long micros) {
+		if (micros < SUB_BUCKET_COUNT) {
+			return (int) micros;
+		}
+
+		int shift = (63 - Long.numberOfLeadingZeros(micros)) - SUB_BUCKET_BITS;
+		int sub = (int) (micros >>> shift) & (SUB_BUCKET_COUNT - 1);
+		return (shift + 1) * SUB_BUCKET_COUNT + sub;
+	}
+
+	static long upperBoundOf(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		int sub = index % SUB_BUCKET_COUNT;
+		long lower = (long) (SUB_BUCKET_COUNT + sub) << shift;
+		return lower + (1L << shift) - 1;
+	}
+
+}
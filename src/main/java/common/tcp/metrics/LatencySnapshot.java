@@ -0,0 +1,77 @@
+package common.tcp.metrics;
+
+import java.beans.ConstructorProperties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * 지연 시간 히스토그램의 특정 시점 값 (마이크로초 단위)
+ *  - MXBean 속성으로 노출되면 CompositeData 로 변환됨
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class LatencySnapshot {
+
+	private final long count;
+	private final long p50Micros;
+	private final long p99Micros;
+	private final long p999Micros;
+	private final long maxMicros;
+	private final double meanMicros;
+
+	@ConstructorProperties({ "count", "p50Micros", "p99Micros", "p999Micros", "maxMicros", "meanMicros" })
+	public LatencySnapshot(long count, long p50Micros, long p99Micros, long p999Micros, long maxMicros, double meanMicros) {
+		this.count = count;
+		this.p50Micros = p50Micros;
+		this.p99Micros = p99Micros;
+		this.p999Micros = p999Micros;
+		this.maxMicros = maxMicros;
+		this.meanMicros = meanMicros;
+	}
+
+	public static LatencySnapshot of(LatencyHistogram histogram) {
+		return new LatencySnapshot(histogram.getCount(),
+				histogram.getPercentile(50, TimeUnit.MICROSECONDS),
+				histogram.getPercentile(99, TimeUnit.MICROSECONDS),
+				histogram.getPercentile(99.9, TimeUnit.MICROSECONDS),
+				histogram.getMax(TimeUnit.MICROSECONDS),
+				histogram.getMean(TimeUnit.MICROSECONDS));
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getP50Micros() {
+		return p50Micros;
+	}
+
+	public long getP99Micros() {
+		return p99Micros;
+	}
+
+	public long getP999Micros() {
+		return p999Micros;
+	}
+
+	public long getMaxMicros() {
+		return maxMicros;
+	}
+
+	public double getMeanMicros() {
+		return meanMicros;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencySnapshot [count=" + count + ", p50=" + p50Micros + "us, p99=" + p99Micros + "us, p999="
+				+ p999Micros + "us, max=" + maxMicros + "us, mean=" + String.format("%.1f", meanMicros) + "us]";
+	}
+
+}
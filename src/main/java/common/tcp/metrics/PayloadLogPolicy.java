@@ -0,0 +1,123 @@
+package common.tcp.metrics;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * 요청/응답 데이터 로그 출력 정책
+ *  - FULL : 모든 요청/응답 출력 (기존 동작)
+ *  - SAMPLED : N 건 중 1 건만 출력
+ *  - OFF : 출력하지 않음
+ *
+ * 코드 수정 없이 변경
+ *  - 시스템 속성 : -Dcommon.tcp.payloadLog=full|sampled|off -Dcommon.tcp.payloadLog.sampleRate=100
+ *  - 실행 중 : ServerMetricsMXBean 의 PayloadLogMode, PayloadLogSampleRate 속성 (JConsole 등)
+ *
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class PayloadLogPolicy {
+
+	public static final String MODE_PROPERTY = "common.tcp.payloadLog";
+	public static final String SAMPLE_RATE_PROPERTY = "common.tcp.payloadLog.sampleRate";
+
+	public static final int DEFAULT_SAMPLE_RATE = 100;
+
+	public enum Mode {
+		FULL,
+		SAMPLED,
+		OFF
+	}
+
+	private volatile Mode mode;
+	private volatile int sampleRate;
+	private final AtomicLong sequence = new AtomicLong();
+
+	public PayloadLogPolicy(Mode mode, int sampleRate) {
+		setMode(mode);
+		setSampleRate(sampleRate);
+	}
+
+	/**
+	 * 시스템 속성으로 생성 (지정하지 않으면 FULL)
+	 * @return
+	 */
+	public static PayloadLogPolicy fromSystemProperties() {
+		Mode mode = parseMode(System.getProperty(MODE_PROPERTY, Mode.FULL.name()));
+
+		int sampleRate;
+		try {
+			sampleRate = Integer.parseInt(System.getProperty(SAMPLE_RATE_PROPERTY, String.valueOf(DEFAULT_SAMPLE_RATE)).trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("유효하지 않은 " + SAMPLE_RATE_PROPERTY + " 값: " + System.getProperty(SAMPLE_RATE_PROPERTY), e);
+		}
+		return new PayloadLogPolicy(mode, sampleRate);
+	}
+
+	/**
+	 * 대소문자 구분 없이 모드 이름 변환
+	 * @param sMode full, sampled, off
+	 * @return
+	 */
+	public static Mode parseMode(String sMode) {
+		Objects.requireNonNull(sMode, "mode 는 null일 수 없습니다.");
+
+		try {
+			return Mode.valueOf(sMode.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("유효하지 않은 로그 모드: " + sMode + ". full, sampled, off 중 하나여야 합니다.", e);
+		}
+	}
+
+	/**
+	 * 이번 요청/응답을 로그로 출력할지 여부 (요청마다 한 번 호출)
+	 * @return
+	 */
+	public boolean shouldLog() {
+		switch (mode) {
+			case FULL:
+				return true;
+			case SAMPLED:
+				return sequence.getAndIncrement() % sampleRate == 0;
+			default:
+				return false;
+		}
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	public void setMode(Mode mode) {
+		this.mode = Objects.requireNonNull(mode, "mode 는 null일 수 없습니다.");
+	}
+
+	public int getSampleRate() {
+		return sampleRate;
+	}
+
+	/**
+	 * @param sampleRate SAMPLED 모드에서 N 건 중 1 건 출력 (1 이면 FULL 과 동일)
+	 */
+	public void setSampleRate(int sampleRate) {
+		if (sampleRate <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 샘플링 비율: " + sampleRate + ". 1 이상이어야 합니다.");
+		}
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public String toString() {
+		return "PayloadLogPolicy [mode=" + mode + ", sampleRate=" + sampleRate + "]";
+	}
+
+}
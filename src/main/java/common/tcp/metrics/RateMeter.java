@@ -0,0 +1,95 @@
+package common.tcp.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <pre>
+ * 초당 발생 횟수 (최근 N초 평균)
+ *  - 1초 단위 슬롯을 순환하며 사용하므로 기록 횟수와 관계없이 메모리 사용량이 일정
+ *  - 현재 진행 중인 1초는 제외하고 직전 N초의 합계로 계산
+ *
+ * 스레드 안전 (슬롯이 바뀌는 순간 동시에 기록된 일부 횟수는 누락될 수 있는 근사값)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class RateMeter {
+
+	public static final int DEFAULT_WINDOW_SECONDS = 10;
+
+	private final int windowSeconds;
+	// 진행 중인 슬롯, 다음 초에 초기화될 슬롯을 위해 2개 여유
+	private final int slotCount;
+	private final AtomicLongArray counts;
+	private final AtomicLongArray seconds;
+
+	public RateMeter() {
+		this(DEFAULT_WINDOW_SECONDS);
+	}
+
+	/**
+	 * @param windowSeconds 평균을 계산할 기간 (초)
+	 */
+	public RateMeter(int windowSeconds) {
+		if (windowSeconds <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 기간: " + windowSeconds + ". 1 이상이어야 합니다.");
+		}
+
+		this.windowSeconds = windowSeconds;
+		this.slotCount = windowSeconds + 2;
+		this.counts = new AtomicLongArray(slotCount);
+		this.seconds = new AtomicLongArray(slotCount);
+
+		for (int i = 0; i < slotCount; i++) {
+			seconds.set(i, -1);
+		}
+	}
+
+	public void mark() {
+		mark(1);
+	}
+
+	public void mark(long n) {
+		long now = currentSecond();
+		int index = (int) (now % slotCount);
+
+		long second = seconds.get(index);
+		if ( second != now && seconds.compareAndSet(index, second, now) ) {
+			// 이전 주기의 슬롯 재사용
+			counts.set(index, 0);
+		}
+		counts.addAndGet(index, n);
+	}
+
+	/**
+	 * 직전 N초 동안의 초당 평균 횟수
+	 * @return
+	 */
+	public double getRate() {
+		long now = currentSecond();
+		long total = 0;
+
+		for (int i = 0; i < slotCount; i++) {
+			long second = seconds.get(i);
+			if ( second < now && second >= now - windowSeconds ) {
+				total += counts.get(i);
+			}
+		}
+		return (double) total / windowSeconds;
+	}
+
+	public int getWindowSeconds() {
+		return windowSeconds;
+	}
+
+	private static long currentSecond() {
+		return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()) & Long.MAX_VALUE;
+	}
+
+}
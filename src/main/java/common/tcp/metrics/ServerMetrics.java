@@ -0,0 +1,263 @@
+package common.tcp.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * TCP 서버 지표 (조회 API + MBean)
+ *  - 누적 값 : 수락한 연결, 수신/송신 바이트, 수신/송신 메시지
+ *  - 현재 값 : 연결 개수, 송신 대기 응답 개수 (서버가 제공)
+ *  - 단계별 지연 시간 : decode(전문 추출 + 문자열 변환), handler(업무 처리), encode(문자열 변환 + 전문 인코딩)
+ *  - 핸드쉐이크 실패 횟수 (HandshakeMetrics)
+ *  - 요청/응답 데이터 로그 정책 (PayloadLogPolicy), MBean 으로 실행 중 변경 가능
+ *
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class ServerMetrics implements ServerMetricsMXBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(ServerMetrics.class);
+
+	public static final String JMX_DOMAIN = "common.tcp";
+
+	private final IntSupplier activeConnections;
+	private final LongSupplier outboundQueueDepth;
+	private final HandshakeMetrics handshakeMetrics;
+	private final PayloadLogPolicy payloadLogPolicy;
+
+	private final LongAdder acceptedConnections = new LongAdder();
+	private final RateMeter acceptRate = new RateMeter();
+	private final LongAdder bytesIn = new LongAdder();
+	private final LongAdder bytesOut = new LongAdder();
+	private final LongAdder messagesIn = new LongAdder();
+	private final LongAdder messagesOut = new LongAdder();
+
+	private final LatencyHistogram decodeLatency = new LatencyHistogram();
+	private final LatencyHistogram handlerLatency = new LatencyHistogram();
+	private final LatencyHistogram encodeLatency = new LatencyHistogram();
+
+	private volatile ObjectName objectName;
+
+	/**
+	 * @param activeConnections 현재 연결 개수
+	 * @param outboundQueueDepth 송신 대기 응답 개수
+	 * @param handshakeMetrics 핸드쉐이크 통계
+	 * @param payloadLogPolicy 요청/응답 데이터 로그 정책
+	 */
+	public ServerMetrics(IntSupplier activeConnections, LongSupplier outboundQueueDepth,
+			HandshakeMetrics handshakeMetrics, PayloadLogPolicy payloadLogPolicy) {
+		this.activeConnections = Objects.requireNonNull(activeConnections, "activeConnections 는 null일 수 없습니다.");
+		this.outboundQueueDepth = Objects.requireNonNull(outboundQueueDepth, "outboundQueueDepth 는 null일 수 없습니다.");
+		this.handshakeMetrics = Objects.requireNonNull(handshakeMetrics, "handshakeMetrics 는 null일 수 없습니다.");
+		this.payloadLogPolicy = Objects.requireNonNull(payloadLogPolicy, "payloadLogPolicy 는 null일 수 없습니다.");
+	}
+
+	public void recordAccept() {
+		acceptedConnections.increment();
+		acceptRate.mark();
+	}
+
+	public void recordBytesIn(long nBytes) {
+		bytesIn.add(nBytes);
+	}
+
+	public void recordBytesOut(long nBytes) {
+		bytesOut.add(nBytes);
+	}
+
+	public void recordMessageIn() {
+		messagesIn.increment();
+	}
+
+	public void recordMessageOut() {
+		messagesOut.increment();
+	}
+
+	public void recordDecode(long elapsedNanos) {
+		decodeLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordHandler(long elapsedNanos) {
+		handlerLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordEncode(long elapsedNanos) {
+		encodeLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public PayloadLogPolicy getPayloadLogPolicy() {
+		return payloadLogPolicy;
+	}
+
+	public HandshakeMetrics getHandshakeMetrics() {
+		return handshakeMetrics;
+	}
+
+	/**
+	 * 플랫폼 MBeanServer 에 등록 (이미 같은 이름이 등록되어 있으면 경고 로그만 출력)
+	 * @param sType ObjectName 의 type (서버 클래스 이름)
+	 * @param nPort ObjectName 의 port
+	 */
+	public void registerMBean(String sType, int nPort) {
+		try {
+			ObjectName name = new ObjectName(JMX_DOMAIN + ":type=" + sType + ",port=" + nPort);
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			this.objectName = name;
+			logger.info("[지표 MBean 등록: {}]", name);
+		} catch (InstanceAlreadyExistsException e) {
+			logger.warn("[지표 MBean 이 이미 등록되어 있음: {}:type={},port={}]", JMX_DOMAIN, sType, nPort);
+		} catch (MalformedObjectNameException e) {
+			throw new IllegalArgumentException("유효하지 않은 MBean 이름: type=" + sType + ", port=" + nPort, e);
+		} catch (JMException e) {
+			logger.error("지표 MBean 등록 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 등록한 MBean 해제 (등록하지 않았으면 무시)
+	 */
+	public void unregisterMBean() {
+		ObjectName name = this.objectName;
+		if (name == null) {
+			return;
+		}
+		this.objectName = null;
+
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		try {
+			mBeanServer.unregisterMBean(name);
+		} catch (InstanceNotFoundException e) {
+			// 외부에서 이미 해제한 경우
+		} catch (JMException e) {
+			logger.error("지표 MBean 해제 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 등록된 MBean 이름
+	 * @return 등록하지 않았으면 null
+	 */
+	public ObjectName getObjectName() {
+		return objectName;
+	}
+
+	@Override
+	public int getActiveConnections() {
+		return activeConnections.getAsInt();
+	}
+
+	@Override
+	public long getAcceptedConnections() {
+		return acceptedConnections.sum();
+	}
+
+	@Override
+	public double getAcceptsPerSecond() {
+		return acceptRate.getRate();
+	}
+
+	@Override
+	public long getBytesIn() {
+		return bytesIn.sum();
+	}
+
+	@Override
+	public long getBytesOut() {
+		return bytesOut.sum();
+	}
+
+	@Override
+	public long getMessagesIn() {
+		return messagesIn.sum();
+	}
+
+	@Override
+	public long getMessagesOut() {
+		return messagesOut.sum();
+	}
+
+	@Override
+	public long getOutboundQueueDepth() {
+		return outboundQueueDepth.getAsLong();
+	}
+
+	@Override
+	public long getHandshakeFailures() {
+		return handshakeMetrics.getFailedHandshakeCount();
+	}
+
+	@Override
+	public LatencySnapshot getDecodeLatency() {
+		return LatencySnapshot.of(decodeLatency);
+	}
+
+	@Override
+	public LatencySnapshot getHandlerLatency() {
+		return LatencySnapshot.of(handlerLatency);
+	}
+
+	@Override
+	public LatencySnapshot getEncodeLatency() {
+		return LatencySnapshot.of(encodeLatency);
+	}
+
+	@Override
+	public String getPayloadLogMode() {
+		return payloadLogPolicy.getMode().name();
+	}
+
+	@Override
+	public void setPayloadLogMode(String mode) {
+		payloadLogPolicy.setMode(PayloadLogPolicy.parseMode(mode));
+	}
+
+	@Override
+	public int getPayloadLogSampleRate() {
+		return payloadLogPolicy.getSampleRate();
+	}
+
+	@Override
+	public void setPayloadLogSampleRate(int sampleRate) {
+		payloadLogPolicy.setSampleRate(sampleRate);
+	}
+
+	@Override
+	public void resetLatency() {
+		decodeLatency.reset();
+		handlerLatency.reset();
+		encodeLatency.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "ServerMetrics [activeConnections=" + getActiveConnections() + ", accepted=" + getAcceptedConnections()
+				+ ", acceptsPerSecond=" + getAcceptsPerSecond() + ", bytesIn=" + getBytesIn() + ", bytesOut=" + getBytesOut()
+				+ ", messagesIn=" + getMessagesIn() + ", messagesOut=" + getMessagesOut()
+				+ ", outboundQueueDepth=" + getOutboundQueueDepth() + ", handshakeFailures=" + getHandshakeFailures()
+				+ ", decode=" + getDecodeLatency() + ", handler=" + getHandlerLatency() + ", encode=" + getEncodeLatency()
+				+ ", " + payloadLogPolicy + "]";
+	}
+
+}
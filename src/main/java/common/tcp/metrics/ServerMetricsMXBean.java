@@ -0,0 +1,58 @@
+package common.tcp.metrics;
+
+/**
+ * <pre>
+ * TCP 서버 지표 MBean
+ *  - 서버 시작 시 플랫폼 MBeanServer 에 common.tcp:type=서버 클래스 이름,port=포트 로 등록
+ *  - 바이트/메시지 수는 서버 시작 이후 누적 (암호화 전 애플리케이션 데이터 기준)
+ *  - 지연 시간은 마이크로초 단위
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public interface ServerMetricsMXBean {
+
+	int getActiveConnections();
+
+	long getAcceptedConnections();
+
+	double getAcceptsPerSecond();
+
+	long getBytesIn();
+
+	long getBytesOut();
+
+	long getMessagesIn();
+
+	long getMessagesOut();
+
+	long getOutboundQueueDepth();
+
+	long getHandshakeFailures();
+
+	/** 수신 데이터에서 전문 추출 + 문자열 변환 */
+	LatencySnapshot getDecodeLatency();
+
+	/** 업무 처리 (MessageHandler) */
+	LatencySnapshot getHandlerLatency();
+
+	/** 문자열 변환 + 전문 인코딩 */
+	LatencySnapshot getEncodeLatency();
+
+	String getPayloadLogMode();
+
+	void setPayloadLogMode(String mode);
+
+	int getPayloadLogSampleRate();
+
+	void setPayloadLogSampleRate(int sampleRate);
+
+	/** 단계별 지연 시간 초기화 (누적 횟수는 유지) */
+	void resetLatency();
+
+}
@@ -2,7 +2,8 @@ package common.tcp.socket;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.FileInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -11,22 +12,24 @@ import java.net.Socket;
 import java.net.SocketAddress;
 import java.nio.charset.Charset;
 import java.security.KeyManagementException;
-import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.security.cert.CertificateException;
 import java.util.Objects;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.TrustManagerFactory;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import common.tcp.codec.FrameAccumulator;
+import common.tcp.codec.FrameCodec;
+import common.tcp.codec.StreamingCharsetDecoder;
+import common.tcp.socket.pool.PooledConnection;
+import common.tcp.socket.pool.SocketConnectionPool;
+
 /**
  * <pre>
  * 소켓 클라이언트
@@ -40,6 +43,9 @@ import org.slf4j.LoggerFactory;
  * 2018. 12. 22. 김대광	최초작성
  * 2021.  8. 14. 김대광	SonarLint 지시에 따른 수정
  * 2025.  5. 28. 김대광	제미나이에 의한 코드 대폭 개선
+ * 2026. 10. 18. kdk	SSLContext 캐시 (SslContextCache), 커넥션 풀 (SocketConnectionPool) 및 응답 전문 코덱 옵션 추가
+ * 2026. 10. 18. kdk	응답을 모두 받은 뒤 한 번에 문자열 변환 (4KB 단위로 나뉜 한글 깨짐 수정), 디코더 재사용, 문자열 변환 생략 옵션 추가
+ * 2026. 10. 18. kdk	코덱 없이 풀을 사용하면 응답 후 연결을 반납하지 않고 종료 (남은 응답이 다음 요청에 섞이지 않도록)
  * </pre>
  */
 public class SocketClient {
@@ -49,12 +55,57 @@ public class SocketClient {
 	private static final int TIMEOUT = 15*1000;		// 15초
 
     private String sRecvData;
+    private byte[] bRecvData;
     private String mScharsetName;
+    private Charset mCharset;
+    private StreamingCharsetDecoder mDecoder;
+    private boolean mDecodeResponse = true;
+
+    private SocketConnectionPool mConnectionPool;
+    private FrameCodec mFrameCodec;
 
 	public String getsRecvData() {
 		return sRecvData;
 	}
 
+	/**
+	 * 응답 원본 데이터
+	 * @return
+	 */
+	public byte[] getRecvBytes() {
+		return bRecvData;
+	}
+
+	/**
+	 * 응답 문자열 변환 여부 (기본값: true)
+	 *  - false 이면 getsRecvData 는 null 이고 getRecvBytes 로만 조회 (문자열 변환 비용 없음)
+	 * @param bDecodeResponse
+	 */
+	public void setDecodeResponse(boolean bDecodeResponse) {
+		this.mDecodeResponse = bDecodeResponse;
+	}
+
+	/**
+	 * 커넥션 풀 지정
+	 *  - 지정하면 요청마다 연결/핸드쉐이크 하지 않고 풀의 연결을 재사용
+	 *  - 연결을 재사용하려면 응답의 끝을 알 수 있어야 하므로 setFrameCodec 으로 응답 전문 코덱도 지정해야 함
+	 *    (지정하지 않으면 읽지 않은 응답이 다음 요청에 섞이지 않도록 응답 후 연결을 풀에 반납하지 않고 종료)
+	 * @param connectionPool
+	 */
+	public void setConnectionPool(SocketConnectionPool connectionPool) {
+		this.mConnectionPool = Objects.requireNonNull(connectionPool, "connectionPool 은 null일 수 없습니다.");
+	}
+
+	/**
+	 * 응답 전문 코덱 지정
+	 *  - 지정하면 응답 전문 하나를 끝까지 읽음 (getsRecvData 는 코덱이 꺼낸 전문)
+	 *  - 지정하지 않으면 더 읽을 데이터가 없을 때까지 읽음
+	 * @param frameCodec
+	 */
+	public void setFrameCodec(FrameCodec frameCodec) {
+		this.mFrameCodec = Objects.requireNonNull(frameCodec, "frameCodec 은 null일 수 없습니다.");
+	}
+
 	/**
 	 * 지정된 서버에 소켓 연결을 시작
 	 * @param sServerIp
@@ -87,35 +138,32 @@ public class SocketClient {
         }
 
 		SocketAddress socketAddr = new InetSocketAddress(sServerIp, nPort);
+		if ( mCharset == null || !sCharsetName.equals(mScharsetName) ) {
+			// 같은 문자셋으로 반복 호출하면 Charset, 디코더 재사용
+			mCharset = Charset.forName(sCharsetName);
+			mDecoder = new StreamingCharsetDecoder(mCharset);
+		}
 		mScharsetName = sCharsetName;
 
-		SSLContext sslContext = null;
+		if (isSsl && isTrust) {
+			Objects.requireNonNull(sslSocketTrustStoreVo, "신뢰할 수 있는 저장소 정보는 null일 수 없습니다.");
+			Objects.requireNonNull(sslSocketTrustStoreVo.getTrustStorePath(), "신뢰할 수 있는 저장소 경로는 null일 수 없습니다.");
+			Objects.requireNonNull(sslSocketTrustStoreVo.getTrustStorePassword(), "신뢰할 수 있는 저장소 비밀번호는 null일 수 없습니다.");
+		}
+
+		// 명시적으로 TrustManager를 설정하지 않으면(isTrust == false) JVM의 기본 TrustManager가 사용됩니다.
+		// 이 기본 TrustManager는 JDK의 'cacerts' 파일에 있는 신뢰할 수 있는 CA 인증서를 기반으로 서버 인증서를 검증합니다.
+		SslSocketTrustStoreVo trustStoreVo = isTrust ? sslSocketTrustStoreVo : null;
+
+		if (mConnectionPool != null) {
+			this.exchangePooled(sServerIp, nPort, bSendData, isSsl, trustStoreVo);
+			return;
+		}
+
 		SSLSocketFactory sslSocketFactory = null;
 		if (isSsl) {
-			TrustManager[] trustManagers = null;
-
-			if (isTrust) {
-				Objects.requireNonNull(sslSocketTrustStoreVo, "신뢰할 수 있는 저장소 정보는 null일 수 없습니다.");
-				Objects.requireNonNull(sslSocketTrustStoreVo.getTrustStorePath(), "신뢰할 수 있는 저장소 경로는 null일 수 없습니다.");
-				Objects.requireNonNull(sslSocketTrustStoreVo.getTrustStorePassword(), "신뢰할 수 있는 저장소 비밀번호는 null일 수 없습니다.");
-
-				KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
-				try ( InputStream trustStoreStream = new FileInputStream(sslSocketTrustStoreVo.getTrustStorePath()) ) {
-	                trustStore.load(trustStoreStream, sslSocketTrustStoreVo.getTrustStorePassword().toCharArray());
-	            }
-
-				TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-				tmf.init(trustStore);
-				trustManagers = tmf.getTrustManagers();
-			} else {
-				// 명시적으로 TrustManager를 설정하지 않으면 JVM의 기본 TrustManager가 사용됩니다.
-				// 이 기본 TrustManager는 JDK의 'cacerts' 파일에 있는 신뢰할 수 있는 CA 인증서를 기반으로 서버 인증서를 검증합니다.
-				// 이는 일반적으로 안전하고 권장되는 방법입니다.
-				trustManagers = null;
-			}
-
-            sslContext = SSLContext.getInstance("TLS");	// 또는 "TLSv1.2", "TLSv1.3"
-            sslContext.init(null, trustManagers, new SecureRandom());
+			// 신뢰 저장소별로 캐시된 SSLContext 사용 (요청마다 신뢰 저장소를 읽지 않음)
+			SSLContext sslContext = SslContextCache.getSslContext(trustStoreVo);
             sslSocketFactory = sslContext.getSocketFactory();
 		}
 
@@ -150,36 +198,89 @@ public class SocketClient {
 		}
 	}
 
+	/**
+	 * 커넥션 풀의 연결로 요청/응답 처리 (오류 시 해당 연결은 재사용하지 않음)
+	 */
+	private void exchangePooled(String sServerIp, int nPort, byte[] bSendData, boolean isSsl, SslSocketTrustStoreVo trustStoreVo) throws IOException {
+		try ( PooledConnection conn = mConnectionPool.borrow(sServerIp, nPort, isSsl, trustStoreVo) ) {
+			try {
+				this.sendToServer(conn.getOutputStream(), bSendData);
+				this.receivedFromServer(conn.getInputStream());
+			} catch (IOException | RuntimeException e) {
+				conn.invalidate();
+				throw e;
+			}
+
+			if (mFrameCodec == null) {
+				// 응답의 끝을 알 수 없으므로 남은 데이터가 있을 수 있는 연결은 재사용하지 않음
+				conn.invalidate();
+			}
+		}
+	}
+
 	private void sendToServer(BufferedOutputStream bos, byte[] bSendData) throws IOException {
 		bos.write(bSendData);
 		bos.flush();
 
-		String sSendData;
-		try {
-			sSendData = new String(bSendData, Charset.forName(mScharsetName));
-		} catch (IllegalArgumentException e) {
-            logger.warn("지원되지 않는 문자셋 이름: {}. 로깅을 위해 기본 문자셋을 사용합니다.", mScharsetName);
-            sSendData = new String(bSendData, Charset.defaultCharset());
-        }
-
-        logger.info("[보내기 완료: {}]", sSendData);
+		if ( logger.isInfoEnabled() ) {
+			logger.info("[보내기 완료: {}]", new String(bSendData, mCharset));
+		}
 	}
 
 	private void receivedFromServer(BufferedInputStream bis) throws IOException {
-		StringBuilder sb = new StringBuilder();
+		if (mFrameCodec != null) {
+			this.receiveFrameFromServer(bis);
+			return;
+		}
+
+		// 멀티바이트 문자가 read 경계에서 나뉘지 않도록 모두 받은 뒤 한 번에 변환
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		byte[] buffer = new byte[4096];
         int nRead;
 
 		while ( (nRead = bis.read(buffer)) != -1 ) {
-			sb.append(new String(buffer, 0, nRead, Charset.forName(mScharsetName)));
+			baos.write(buffer, 0, nRead);
 			if (bis.available() == 0) {
 				break;
 			}
 		}
 
-		this.sRecvData = sb.toString();
+		this.setRecvData(baos.toByteArray());
+	}
+
+	/**
+	 * 응답 전문 하나를 끝까지 읽음
+	 */
+	private void receiveFrameFromServer(BufferedInputStream bis) throws IOException {
+		FrameAccumulator frameAccumulator = new FrameAccumulator(mFrameCodec);
+		byte[] buffer = new byte[4096];
+		byte[] frame;
+
+		while ( (frame = frameAccumulator.next()) == null ) {
+			int nRead = bis.read(buffer);
+			if (nRead == -1) {
+				throw new EOFException("응답 전문을 모두 받기 전에 연결이 종료되었습니다.");
+			}
+			frameAccumulator.append(buffer, 0, nRead);
+		}
+
+		if (frameAccumulator.pending() > 0) {
+			throw new IOException("응답 전문 뒤에 예상하지 못한 데이터가 있습니다: " + frameAccumulator.pending() + " bytes");
+		}
+
+		this.setRecvData(frame);
+	}
+
+	private void setRecvData(byte[] bData) {
+		this.bRecvData = bData;
 
-		logger.info("[받기 완료: {}]", this.sRecvData);
+		if (mDecodeResponse) {
+			this.sRecvData = mDecoder.decodeFrame(bData);
+			logger.info("[받기 완료: {}]", this.sRecvData);
+		} else {
+			this.sRecvData = null;
+			logger.info("[받기 완료: {} bytes]", bData.length);
+		}
 	}
 
 }
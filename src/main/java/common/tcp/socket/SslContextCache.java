@@ -0,0 +1,158 @@
+package common.tcp.socket;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyManagementException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+/**
+ * <pre>
+ * 클라이언트용 SSLContext 캐시
+ *  - 요청마다 신뢰 저장소를 읽고 SSLContext 를 새로 만들지 않도록 신뢰 저장소(경로, 비밀번호) 별로 재사용
+ *  - 같은 SSLContext 를 쓰면 클라이언트 세션 캐시도 공유되므로, 새 연결도 세션 재사용(Resumed 핸드쉐이크)이 가능
+ *  - 신뢰 저장소 파일이 변경(수정 시각 기준)되면 다시 읽음
+ *  - 캐시 키는 경로 + 비밀번호의 SHA-256 다이제스트 (비밀번호 원문을 키로 보관하지 않음)
+ *
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	캐시 키에 비밀번호 원문 대신 SHA-256 다이제스트 사용
+ * 2026. 10. 18. kdk	캐시 키 공개 (keyOf, 커넥션 풀 키에 사용)
+ * </pre>
+ */
+public class SslContextCache {
+
+	private static final String DEFAULT_TRUST_KEY = "";
+
+	private static final Map<String, Entry> CACHE = new ConcurrentHashMap<>();
+
+	private SslContextCache() {
+		super();
+	}
+
+	private static class Entry {
+		private final SSLContext sslContext;
+		private final long lastModified;
+
+		Entry(SSLContext sslContext, long lastModified) {
+			this.sslContext = sslContext;
+			this.lastModified = lastModified;
+		}
+	}
+
+	/**
+	 * 신뢰 저장소에 해당하는 SSLContext
+	 * @param sslSocketTrustStoreVo null 이면 JVM 기본 TrustManager (JDK 의 cacerts 또는 javax.net.ssl.trustStore)
+	 * @return
+	 * @throws IOException
+	 * @throws NoSuchAlgorithmException
+	 * @throws KeyManagementException
+	 * @throws KeyStoreException
+	 * @throws CertificateException
+	 */
+	public static SSLContext getSslContext(SslSocketTrustStoreVo sslSocketTrustStoreVo)
+			throws IOException, NoSuchAlgorithmException, KeyManagementException, KeyStoreException, CertificateException {
+
+		if (sslSocketTrustStoreVo == null) {
+			Entry entry = CACHE.get(DEFAULT_TRUST_KEY);
+			if (entry == null) {
+				SSLContext sslContext = SSLContext.getInstance("TLS");
+				sslContext.init(null, null, null);
+				entry = new Entry(sslContext, 0);
+				Entry prev = CACHE.putIfAbsent(DEFAULT_TRUST_KEY, entry);
+				if (prev != null) {
+					entry = prev;
+				}
+			}
+			return entry.sslContext;
+		}
+
+		String sTrustStorePath = sslSocketTrustStoreVo.getTrustStorePath();
+		String sTrustStorePassword = sslSocketTrustStoreVo.getTrustStorePassword();
+
+		String sKey = keyOf(sslSocketTrustStoreVo);
+		long lastModified = new File(sTrustStorePath).lastModified();
+
+		Entry entry = CACHE.get(sKey);
+		if ( entry == null || entry.lastModified != lastModified ) {
+			entry = new Entry(createSslContext(sTrustStorePath, sTrustStorePassword), lastModified);
+			CACHE.put(sKey, entry);
+		}
+		return entry.sslContext;
+	}
+
+	/**
+	 * 신뢰 저장소의 캐시 키 (경로 + 비밀번호의 SHA-256 다이제스트, 비밀번호 원문은 포함하지 않음)
+	 * @param sslSocketTrustStoreVo null 이면 JVM 기본 TrustManager
+	 * @return
+	 * @throws NoSuchAlgorithmException
+	 */
+	public static String keyOf(SslSocketTrustStoreVo sslSocketTrustStoreVo) throws NoSuchAlgorithmException {
+		if (sslSocketTrustStoreVo == null) {
+			return DEFAULT_TRUST_KEY;
+		}
+
+		String sTrustStorePath = Objects.requireNonNull(sslSocketTrustStoreVo.getTrustStorePath(), "신뢰할 수 있는 저장소 경로는 null일 수 없습니다.");
+		String sTrustStorePassword = Objects.requireNonNull(sslSocketTrustStoreVo.getTrustStorePassword(), "신뢰할 수 있는 저장소 비밀번호는 null일 수 없습니다.");
+
+		return sTrustStorePath + '\0' + digest(sTrustStorePassword);
+	}
+
+	/**
+	 * 캐시 비우기 (다음 요청에서 다시 생성)
+	 */
+	public static void clear() {
+		CACHE.clear();
+	}
+
+	/**
+	 * 비밀번호의 SHA-256 다이제스트 (16진수)
+	 * @param sPassword
+	 * @return
+	 * @throws NoSuchAlgorithmException
+	 */
+	private static String digest(String sPassword) throws NoSuchAlgorithmException {
+		byte[] hash = MessageDigest.getInstance("SHA-256").digest(sPassword.getBytes(StandardCharsets.UTF_8));
+
+		StringBuilder sb = new StringBuilder(hash.length * 2);
+		for (byte b : hash) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
+	private static SSLContext createSslContext(String sTrustStorePath, String sTrustStorePassword)
+			throws IOException, NoSuchAlgorithmException, KeyManagementException, KeyStoreException, CertificateException {
+
+		KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+		try ( InputStream trustStoreStream = new FileInputStream(sTrustStorePath) ) {
+			trustStore.load(trustStoreStream, sTrustStorePassword.toCharArray());
+		}
+
+		TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		tmf.init(trustStore);
+
+		SSLContext sslContext = SSLContext.getInstance("TLS");
+		sslContext.init(null, tmf.getTrustManagers(), null);
+		return sslContext;
+	}
+
+}
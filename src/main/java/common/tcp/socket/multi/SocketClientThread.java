@@ -8,6 +8,8 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -17,6 +19,8 @@ import javax.net.ssl.SSLSocketFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import common.tcp.codec.StreamingCharsetDecoder;
+
 /**
  * <pre>
  * 소켓 클라이언트
@@ -30,6 +34,8 @@ import org.slf4j.LoggerFactory;
  * 2018. 12. 23. 김대광	최초작성
  * 2021.  8. 14. 김대광	SonarLint 지시에 따른 주저리 주저리
  * 2025.  5. 28. 김대광	제미나이에 의한 코드 대폭 개선
+ * 2026. 10. 18. kdk	연결 동안 스트림 유지 (송수신 후 스트림을 닫으면서 소켓도 닫히던 문제 수정)
+ * 2026. 10. 18. kdk	문자열 디코더 재사용, 수신 경계에 걸친 미완성 멀티바이트 문자는 다음 수신 데이터와 이어서 변환, receiveBytes 추가
  * </pre>
  */
 public class SocketClientThread {
@@ -40,10 +46,15 @@ public class SocketClientThread {
 
 	private final String serverIp;
     private final int port;
-    private final String charsetName;
+    private final Charset charset;
     private final boolean useSsl;
 
     private Socket mSocket;
+    // 스트림을 닫으면 소켓도 닫히므로 연결 동안 유지
+    private volatile InputStream mInputStream;
+    private volatile OutputStream mOutputStream;
+    private final byte[] mReadBuffer = new byte[4096];
+    private final StreamingCharsetDecoder mDecoder;
     private final ExecutorService executorService = Executors.newCachedThreadPool(); // 비동기 작업을 위한 스레드 풀
 
     public SocketClientThread(final String serverIp, final int port, final String charsetName, final boolean useSsl) {
@@ -54,7 +65,8 @@ public class SocketClientThread {
         }
         this.port = port;
 
-        this.charsetName = Objects.requireNonNull(charsetName, "문자셋 이름은 null일 수 없습니다.");
+        this.charset = Charset.forName(Objects.requireNonNull(charsetName, "문자셋 이름은 null일 수 없습니다."));
+        this.mDecoder = new StreamingCharsetDecoder(charset);
         this.useSsl = useSsl;
     }
 
@@ -86,6 +98,9 @@ public class SocketClientThread {
                     mSocket.connect(socketAddr, TIMEOUT);
                     mSocket.setSoTimeout(TIMEOUT); // 데이터 읽기 타임아웃 설정
 
+                    mInputStream = new BufferedInputStream(mSocket.getInputStream());
+                    mOutputStream = new BufferedOutputStream(mSocket.getOutputStream());
+
                     logger.info("[연결 완료: {}]", mSocket.getInetAddress().getHostAddress());
 
                 } catch (IOException e) {
@@ -127,7 +142,8 @@ public class SocketClientThread {
      * @param bSendData 전송할 바이트 배열 데이터
      */
 	public void send(final byte[] bSendData) {
-		if ( mSocket == null || !mSocket.isConnected() ) {
+		final OutputStream os = mOutputStream;
+		if ( os == null || mSocket.isClosed() ) {
             logger.warn("소켓이 연결되어 있지 않아 데이터를 전송할 수 없습니다.");
             return;
         }
@@ -135,15 +151,16 @@ public class SocketClientThread {
         executorService.submit(new Runnable() {
             @Override
             public void run() {
-                try (
-                	OutputStream os = mSocket.getOutputStream();
-                    BufferedOutputStream bos = new BufferedOutputStream(os)
-                ) {
-                    bos.write(bSendData);
-                    bos.flush();
+                try {
+                	// 송신 작업이 서로 다른 스레드에서 실행될 수 있으므로 순서대로 씀
+                	synchronized (os) {
+                		os.write(bSendData);
+                		os.flush();
+                	}
 
-                    String sSendData = new String(bSendData, charsetName);
-                    logger.info("[보내기 완료: {}]", sSendData);
+                	if ( logger.isInfoEnabled() ) {
+                		logger.info("[보내기 완료: {}]", new String(bSendData, charset));
+                	}
 
                 } catch (IOException e) {
                     logger.error("데이터 전송 중 오류 발생", e);
@@ -156,50 +173,62 @@ public class SocketClientThread {
     /**
      * 서버로부터 데이터를 수신합니다.
      * 이 메서드는 데이터를 수신할 때까지 **블로킹**됩니다.
+     * 수신 데이터 끝에 걸친 미완성 멀티바이트 문자는 보관했다가 다음 수신 데이터와 이어서 변환합니다.
      *
      * @return 수신된 문자열 데이터. 오류 발생 시 null 반환.
      */
 	public String receive() {
-		if ( mSocket == null || !mSocket.isConnected() ) {
+		String sRecvData;
+		do {
+			byte[] bRecvData = read();
+			if (bRecvData == null) {
+				return null;
+			}
+
+			sRecvData = mDecoder.decode(bRecvData);
+		} while ( sRecvData.isEmpty() ); // 미완성 문자만 수신된 경우 이어서 수신
+
+		logger.info("[받기 완료: {}]", sRecvData);
+		return sRecvData;
+	}
+
+    /**
+     * 서버로부터 데이터를 문자열 변환 없이 수신합니다.
+     * 이 메서드는 데이터를 수신할 때까지 **블로킹**됩니다.
+     * 같은 연결에서 receive 와 섞어서 사용하지 않아야 합니다. (receive 가 보관 중인 미완성 문자와 이어지지 않음)
+     *
+     * @return 수신된 데이터. 오류 발생 시 null 반환.
+     */
+	public byte[] receiveBytes() {
+		byte[] bRecvData = read();
+		if (bRecvData != null) {
+			logger.info("[받기 완료: {} bytes]", bRecvData.length);
+		}
+		return bRecvData;
+	}
+
+	private byte[] read() {
+		final InputStream is = mInputStream;
+		if ( is == null || mSocket.isClosed() ) {
             logger.warn("소켓이 연결되어 있지 않아 데이터를 수신할 수 없습니다.");
             return null;
         }
 
-		StringBuilder sb = new StringBuilder();
-		try (
-			InputStream is = mSocket.getInputStream();
-			BufferedInputStream bis = new BufferedInputStream(is)
-		) {
-
-            byte[] buffer = new byte[4096];
-            int nRead;
-
+		try {
             // 데이터가 읽힐 때까지 블로킹
             // 주의: 레거시 서버의 경우, 특정 종료 문자나 고정 길이 프로토콜이 없다면
             // read() 메서드가 데이터를 계속 기다릴 수 있습니다.
             // 필요에 따라 프로토콜에 맞는 방식으로 데이터 수신 로직을 개선해야 합니다.
-            while ( (nRead = bis.read(buffer, 0, buffer.length)) != -1 ) {
-                sb.append(new String(buffer, 0, nRead, charsetName));
-
-                // 여기에 프로토콜에 따른 메시지 종료 조건 추가 필요
-                // 예: 만약 메시지 끝에 개행 문자가 있다면, 반복문 빠져나가게 처리
-                // 혹은 고정 길이 메시지라면 해당 길이만큼 읽은 후, 반복문 빠져나가게 처리
-
-                // 일단은 단일 read() 호출로 하나의 메시지를 받는다고 가정하고 바로 종료
-                // 이 부분을 실제 레거시 서버 프로토콜에 맞춰 조정해야 합니다.
-                break;
-            }
-
-            String sRecvData = sb.toString();
+            // 일단은 단일 read() 호출로 하나의 메시지를 받는다고 가정
+            int nRead = is.read(mReadBuffer, 0, mReadBuffer.length);
 
-            if ( sRecvData.isEmpty() ) {
+            if (nRead == -1) {
                 logger.warn("수신된 데이터가 없습니다. 서버에서 데이터가 오지 않았거나 연결이 끊어졌을 수 있습니다.");
                 // 데이터가 없는 경우에도 연결 종료를 고려할 수 있음
                 return null;
             }
 
-            logger.info("[받기 완료: {}]", sRecvData);
-            return sRecvData;
+            return Arrays.copyOf(mReadBuffer, nRead);
 
         } catch (IOException e) {
             logger.error("데이터 수신 중 오류 발생", e);
@@ -19,18 +19,37 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLServerSocket;
 import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocket;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import common.tcp.codec.FrameAccumulator;
+import common.tcp.codec.FrameCodec;
+import common.tcp.codec.RawFrameCodec;
+import common.tcp.codec.StreamingCharsetDecoder;
+import common.tcp.codec.StreamingCharsetEncoder;
+import common.tcp.metrics.HandshakeMetrics;
+import common.tcp.metrics.PayloadLogPolicy;
+import common.tcp.metrics.ServerMetrics;
+
 /**
  * <pre>
  * 소켓 서버
@@ -44,21 +63,110 @@ import org.slf4j.LoggerFactory;
  * 2018. 12. 23. 김대광	최초작성
  * 2021.  8. 14. 김대광	SonarLint 지시에 따른 주저리 주저리
  * 2025.  5. 28. 김대광	제미나이에 의한 코드 대폭 개선 (SSL 의무화에 따라 SSLServerSocket 으로만 처리)
+ * 2026. 10. 18. kdk	전문 프레이밍 코덱 적용 (FrameCodec), 연결 동안 스트림 유지
+ * 2026. 10. 18. kdk	수락 전용 스레드 분리, 연결 처리 스레드 풀을 탄력적(core ~ max)으로 변경, 최대 연결 수 제한
+ * 2026. 10. 18. kdk	SSL 세션 캐시 설정, 핸드쉐이크 통계
+ * 2026. 10. 18. kdk	서버 지표 추가 (조회 API + MBean), 요청/응답 데이터 로그를 전체/샘플링/끄기 중 선택 (PayloadLogPolicy)
+ * 2026. 10. 18. kdk	연결별 문자열 디코더/인코더 재사용 (RawFrameCodec 은 미완성 멀티바이트 문자를 다음 수신 데이터와 이어서 변환)
+ * 2026. 10. 18. kdk	업무 처리 지정 (MessageHandler, 기본값 Echo), handler 지연 시간은 실제 업무 처리 호출을 측정
+ * 2026. 10. 18. kdk	스레드 풀의 빈 스레드 판단을 getActiveCount 대신 제출 후 끝나지 않은 작업 수로 변경 (연결이 몰릴 때 큐에 쌓이던 문제)
+ * 2026. 10. 18. kdk	세션 재사용 판단을 세션 ID 로 변경 (HandshakeMetrics)
+ * </pre>
+ *
+ * <pre>
+ * 스레드 구성
+ *  - SocketServer-Acceptor : 연결 수락 전용
+ *  - SocketServer-Handler-N : 연결 하나당 스레드 하나 (블로킹 읽기/쓰기)
+ *    core 개수까지는 유지, 연결이 늘면 max 개수까지 새 스레드 생성, max 에 도달하면 대기 큐에서 빈 스레드를 기다림
+ *  - 최대 연결 수(처리 중 + 대기) 초과 시 ConnectionRejectPolicy 에 따라 즉시 종료하거나 수락을 멈추고 대기
  * </pre>
  */
 public class SocketServerRunnable {
 
 	private static final Logger logger = LoggerFactory.getLogger(SocketServerRunnable.class);
 
-	private ExecutorService mExecutorService;
+	private static final int DEFAULT_MAX_HANDLER_THREADS = 1000;
+	private static final int DEFAULT_HANDLER_QUEUE_CAPACITY = 1000;
+	private static final long HANDLER_KEEP_ALIVE_SECONDS = 60;
+
+	// SSL 세션 캐시 (JDK 기본 크기와 동일, 유효 시간은 1시간)
+	private static final int DEFAULT_SESSION_CACHE_SIZE = 20480;
+	private static final int DEFAULT_SESSION_TIMEOUT_SECONDS = 60 * 60;
+
+	/**
+	 * 전문 단위 업무 처리
+	 *  - 연결 처리 스레드에서 호출되므로 응답을 반환할 때까지 해당 연결의 다음 요청을 읽지 않음
+	 *  - 응답이 없으면 null 반환
+	 *  - 예외 발생 시 해당 연결을 종료
+	 */
+	public interface MessageHandler {
+		String onMessage(String remoteAddress, String message) throws Exception;
+	}
+
+	/**
+	 * 기본 업무 처리 : 받은 데이터를 그대로 응답
+	 */
+	public static final MessageHandler ECHO_HANDLER = new MessageHandler() {
+		@Override
+		public String onMessage(String remoteAddress, String message) {
+			return message;
+		}
+	};
+
+	/**
+	 * 최대 연결 수 초과 시 처리 방법
+	 */
+	public enum ConnectionRejectPolicy {
+		/** 수락 후 즉시 종료 */
+		CLOSE,
+		/** 여유가 생길 때까지 수락을 멈춤 (대기 연결은 OS 의 backlog 에 쌓임) */
+		BLOCK
+	}
+
+	private ThreadPoolExecutor mExecutorService;
+	private Thread mAcceptThread;
 	private SSLServerSocket mServerSocket;
 	private final Set<ClientHandler> mConnections = Collections.synchronizedSet(new HashSet<>()); // 동기화된 Set 사용
 
 	private int mPort;
-	private String mCharsetName;
+	private final Charset mCharset;
 	private String mKeyStorePath;
     private char[] mKeyStorePassword;
 
+    private FrameCodec mFrameCodec = new RawFrameCodec();
+    private MessageHandler mMessageHandler = ECHO_HANDLER;
+
+    private int mCoreHandlerThreads = Runtime.getRuntime().availableProcessors();
+    private int mMaxHandlerThreads = DEFAULT_MAX_HANDLER_THREADS;
+    private int mHandlerQueueCapacity = DEFAULT_HANDLER_QUEUE_CAPACITY;
+    private int mMaxConnections = DEFAULT_MAX_HANDLER_THREADS + DEFAULT_HANDLER_QUEUE_CAPACITY;
+    private ConnectionRejectPolicy mRejectPolicy = ConnectionRejectPolicy.CLOSE;
+
+    private Semaphore mConnectionPermits;
+    private final AtomicLong mRejectedConnections = new AtomicLong();
+
+    private int mSessionCacheSize = DEFAULT_SESSION_CACHE_SIZE;
+    private int mSessionTimeoutSeconds = DEFAULT_SESSION_TIMEOUT_SECONDS;
+    private final HandshakeMetrics mHandshakeMetrics = new HandshakeMetrics();
+
+    // 지표 (요청/응답 데이터 로그 정책은 시스템 속성 또는 MBean 으로 변경)
+    private final ServerMetrics mMetrics = new ServerMetrics(
+    		new IntSupplier() {
+    			@Override
+    			public int getAsInt() {
+    				return getConnectionCount();
+    			}
+    		},
+    		new LongSupplier() {
+    			@Override
+    			public long getAsLong() {
+    				// 응답을 연결 처리 스레드에서 바로 쓰므로 송신 대기 큐가 없음
+    				return 0;
+    			}
+    		},
+    		mHandshakeMetrics, PayloadLogPolicy.fromSystemProperties());
+    private boolean mMBeanEnabled = true;
+
     public SocketServerRunnable(String keyStorePath, String keyStorePassword, int nPort, String sCharsetName) {
     	Objects.requireNonNull(keyStorePath, "키 저장소 경로를 지정해야 합니다.");
     	Objects.requireNonNull(keyStorePassword, "키 저장소 비밀번호를 지정해야 합니다.");
@@ -72,12 +180,254 @@ public class SocketServerRunnable {
     	this.mKeyStorePath = keyStorePath;
     	this.mKeyStorePassword = keyStorePassword.toCharArray();
     	this.mPort = nPort;
-    	this.mCharsetName = sCharsetName;
+    	this.mCharset = Charset.forName(sCharsetName);
     }
 
+	/**
+	 * 전문 프레이밍 코덱 지정 (startServer 전에 호출)
+	 *  - 기본값 RawFrameCodec : 수신된 만큼을 하나의 메시지로 처리
+	 * @param frameCodec
+	 */
+	public void setFrameCodec(FrameCodec frameCodec) {
+		this.mFrameCodec = Objects.requireNonNull(frameCodec, "frameCodec 은 null일 수 없습니다.");
+	}
+
+	/**
+	 * 업무 처리 지정 (startServer 전에 호출)
+	 *  - 기본값 ECHO_HANDLER : 받은 데이터를 그대로 응답
+	 * @param messageHandler
+	 */
+	public void setMessageHandler(MessageHandler messageHandler) {
+		this.mMessageHandler = Objects.requireNonNull(messageHandler, "messageHandler 는 null일 수 없습니다.");
+	}
+
+	/**
+	 * 연결 처리 스레드 풀 크기 지정 (startServer 전에 호출)
+	 * @param nCoreThreadCount 유지할 스레드 개수 (기본값: CPU 코어 수)
+	 * @param nMaxThreadCount 최대 스레드 개수 = 동시에 처리할 수 있는 최대 연결 수 (기본값: 1000)
+	 * @param nQueueCapacity 스레드가 모두 사용 중일 때 빈 스레드를 기다릴 수 있는 연결 수 (기본값: 1000)
+	 */
+	public void setHandlerPoolSize(int nCoreThreadCount, int nMaxThreadCount, int nQueueCapacity) {
+		if ( nCoreThreadCount < 0 || nMaxThreadCount <= 0 || nMaxThreadCount < nCoreThreadCount ) {
+			throw new IllegalArgumentException("유효하지 않은 스레드 개수: core=" + nCoreThreadCount + ", max=" + nMaxThreadCount + ". 0 <= core <= max, max >= 1 이어야 합니다.");
+		}
+
+		if (nQueueCapacity < 0) {
+			throw new IllegalArgumentException("유효하지 않은 대기 큐 크기: " + nQueueCapacity + ". 0 이상이어야 합니다.");
+		}
+
+		this.mCoreHandlerThreads = nCoreThreadCount;
+		this.mMaxHandlerThreads = nMaxThreadCount;
+		this.mHandlerQueueCapacity = nQueueCapacity;
+	}
+
+	/**
+	 * 최대 연결 수(처리 중 + 대기) 및 초과 시 처리 방법 지정 (startServer 전에 호출)
+	 *  - 기본값: 최대 스레드 개수 + 대기 큐 크기, CLOSE
+	 * @param nMaxConnections
+	 * @param rejectPolicy
+	 */
+	public void setMaxConnections(int nMaxConnections, ConnectionRejectPolicy rejectPolicy) {
+		if (nMaxConnections <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 최대 연결 수: " + nMaxConnections + ". 1 이상이어야 합니다.");
+		}
+
+		this.mMaxConnections = nMaxConnections;
+		this.mRejectPolicy = Objects.requireNonNull(rejectPolicy, "rejectPolicy 는 null일 수 없습니다.");
+	}
+
+	/**
+	 * SSL 세션 캐시 지정 (startServer 전에 호출)
+	 *  - 캐시된 세션으로 재연결하는 클라이언트는 키 교환 없이 세션을 재사용 (Resumed 핸드쉐이크)
+	 * @param nCacheSize 최대 세션 수 (기본값: 20480, 0 이면 제한 없음)
+	 * @param nTimeoutSeconds 세션 유효 시간 (기본값: 3600초, 0 이면 제한 없음)
+	 */
+	public void setSessionCache(int nCacheSize, int nTimeoutSeconds) {
+		if ( nCacheSize < 0 || nTimeoutSeconds < 0 ) {
+			throw new IllegalArgumentException("유효하지 않은 세션 캐시 설정: size=" + nCacheSize + ", timeout=" + nTimeoutSeconds + ". 0 이상이어야 합니다.");
+		}
+
+		this.mSessionCacheSize = nCacheSize;
+		this.mSessionTimeoutSeconds = nTimeoutSeconds;
+	}
+
+	/**
+	 * 핸드쉐이크 통계 (Full / Resumed / 실패 횟수, 소요 시간 백분위)
+	 *  - SSLSocket 은 위임 작업을 핸드쉐이크하는 연결 처리 스레드에서 직접 실행하므로 별도의 대기 큐가 없음
+	 * @return
+	 */
+	public HandshakeMetrics getHandshakeMetrics() {
+		return mHandshakeMetrics;
+	}
+
+	/**
+	 * 서버 지표 (연결, 수신/송신량, 단계별 지연 시간, 핸드쉐이크 실패)
+	 *  - 같은 값을 MBean (common.tcp:type=SocketServerRunnable,port=포트) 으로도 조회 가능
+	 *  - 응답을 바로 쓰므로 송신 대기 응답 개수(OutboundQueueDepth)는 항상 0
+	 * @return
+	 */
+	public ServerMetrics getMetrics() {
+		return mMetrics;
+	}
+
+	/**
+	 * 요청/응답 데이터 로그 정책 (실행 중 변경 가능)
+	 *  - 기본값: 시스템 속성 common.tcp.payloadLog (full | sampled | off), 지정하지 않으면 full
+	 * @return
+	 */
+	public PayloadLogPolicy getPayloadLogPolicy() {
+		return mMetrics.getPayloadLogPolicy();
+	}
+
+	/**
+	 * 서버 시작 시 지표 MBean 등록 여부 (startServer 전에 호출, 기본값: true)
+	 * @param bEnabled
+	 */
+	public void setMBeanEnabled(boolean bEnabled) {
+		this.mMBeanEnabled = bEnabled;
+	}
+
+	/**
+	 * 현재 연결 개수 (처리 중 + 대기)
+	 * @return
+	 */
+	public int getConnectionCount() {
+		return mConnections.size();
+	}
+
+	/**
+	 * 연결을 처리 중인 스레드 개수
+	 * @return
+	 */
+	public int getActiveHandlerCount() {
+		return (mExecutorService == null) ? 0 : mExecutorService.getActiveCount();
+	}
+
+	/**
+	 * 빈 스레드를 기다리는 연결 개수
+	 * @return
+	 */
+	public int getQueuedHandlerCount() {
+		return (mExecutorService == null) ? 0 : mExecutorService.getQueue().size();
+	}
+
+	/**
+	 * 현재 스레드 풀 크기
+	 * @return
+	 */
+	public int getHandlerPoolSize() {
+		return (mExecutorService == null) ? 0 : mExecutorService.getPoolSize();
+	}
+
+	/**
+	 * 최대 연결 수 초과 등으로 거부한 연결 수 (누적)
+	 * @return
+	 */
+	public long getRejectedConnectionCount() {
+		return mRejectedConnections.get();
+	}
+
+	private ThreadPoolExecutor createHandlerExecutor() {
+		final AtomicInteger threadIndex = new AtomicInteger();
+
+		HandlerQueue queue = new HandlerQueue(mHandlerQueueCapacity);
+		HandlerExecutor executor = new HandlerExecutor(mCoreHandlerThreads, mMaxHandlerThreads, queue,
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "SocketServer-Handler-" + threadIndex.getAndIncrement());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		queue.setExecutor(executor);
+		return executor;
+	}
+
+	/**
+	 * 연결 처리 스레드 풀
+	 *  - 제출 후 아직 끝나지 않은 작업 수를 직접 셈 (execute 에서 증가, afterExecute 에서 감소)
+	 *  - getActiveCount 는 작업을 꺼내 실행을 시작한 스레드만 세므로, 연결이 몰리면
+	 *    방금 제출되어 아직 시작 전인 작업을 처리할 빈 스레드가 있는 것으로 잘못 판단함
+	 */
+	private static class HandlerExecutor extends ThreadPoolExecutor {
+		private final AtomicInteger submittedCount = new AtomicInteger();
+
+		HandlerExecutor(int nCoreThreadCount, int nMaxThreadCount, HandlerQueue queue, ThreadFactory threadFactory) {
+			super(nCoreThreadCount, nMaxThreadCount, HANDLER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue,
+					threadFactory, new ThreadPoolExecutor.AbortPolicy());
+		}
+
+		int getSubmittedCount() {
+			return submittedCount.get();
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			submittedCount.incrementAndGet();
+			try {
+				super.execute(command);
+			} catch (RejectedExecutionException e) {
+				// offer 후 다른 스레드가 먼저 max 까지 채운 경우 큐에 자리가 있으면 대기
+				if ( isShutdown() || !((HandlerQueue) getQueue()).force(command) ) {
+					submittedCount.decrementAndGet();
+					throw e;
+				}
+			}
+		}
+
+		@Override
+		protected void afterExecute(Runnable r, Throwable t) {
+			submittedCount.decrementAndGet();
+			super.afterExecute(r, t);
+		}
+	}
+
+	/**
+	 * 스레드 풀 대기 큐
+	 *  - ThreadPoolExecutor 는 큐가 가득 차야 core 이상으로 스레드를 늘리는데,
+	 *    연결 하나가 스레드 하나를 계속 점유하므로 큐에 넣으면 앞 연결이 끝날 때까지 처리되지 않음
+	 *  - 끝나지 않은 작업 수가 스레드 수 이하이면 빈 스레드가 있으므로 큐에 넣고,
+	 *    스레드가 max 개수 미만이면 큐에 넣지 않아서 새 스레드를 생성하게 함
+	 */
+	private static class HandlerQueue extends LinkedBlockingQueue<Runnable> {
+		private static final long serialVersionUID = 1L;
+
+		private transient HandlerExecutor executor;
+
+		HandlerQueue(int nCapacity) {
+			super(Math.max(1, nCapacity));
+		}
+
+		void setExecutor(HandlerExecutor executor) {
+			this.executor = executor;
+		}
+
+		/**
+		 * 스레드 생성 여부와 상관없이 큐에 넣음
+		 */
+		boolean force(Runnable task) {
+			return super.offer(task);
+		}
+
+		@Override
+		public boolean offer(Runnable task) {
+			int nPoolSize = executor.getPoolSize();
+
+			if ( executor.getSubmittedCount() <= nPoolSize ) {
+				return super.offer(task);
+			}
+			if ( nPoolSize < executor.getMaximumPoolSize() ) {
+				return false;
+			}
+			return super.offer(task);
+		}
+	}
+
 	public void startServer() {
-		// 스레드 풀 생성
-		mExecutorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		// 스레드 풀 생성 (수락 스레드는 별도)
+		mExecutorService = createHandlerExecutor();
+		mConnectionPermits = new Semaphore(mMaxConnections);
 
 		try {
 			SSLContext sslContext = createSSLContext();
@@ -86,23 +436,55 @@ public class SocketServerRunnable {
 
             logger.info("[서버 시작] 포트: {}", this.mPort);
 
+            if (mMBeanEnabled) {
+                mMetrics.registerMBean(SocketServerRunnable.class.getSimpleName(), this.mPort);
+            }
+
             // 람다 대신 익명 클래스 사용
-            mExecutorService.submit(new Runnable() {
+            mAcceptThread = new Thread(new Runnable() {
                 @Override
                 public void run() {
                     while (!mServerSocket.isClosed()) {
                         try {
-                            SSLSocket socket = (SSLSocket) mServerSocket.accept();
+                            if ( mRejectPolicy == ConnectionRejectPolicy.BLOCK ) {
+                                // 여유가 생길 때까지 수락하지 않음
+                                mConnectionPermits.acquire();
+                            }
+
+                            SSLSocket socket;
+                            try {
+                                socket = (SSLSocket) mServerSocket.accept();
+                            } catch (IOException e) {
+                                if ( mRejectPolicy == ConnectionRejectPolicy.BLOCK ) {
+                                    mConnectionPermits.release();
+                                }
+                                throw e;
+                            }
+
                             logger.info("[연결 수락: {} : {}]", socket.getInetAddress().getHostAddress(), Thread.currentThread().getName());
+                            mMetrics.recordAccept();
 
-                            ClientHandler client = new ClientHandler(socket, mCharsetName, mExecutorService);
+                            if ( mRejectPolicy == ConnectionRejectPolicy.CLOSE && !mConnectionPermits.tryAcquire() ) {
+                                rejectConnection(socket, "최대 연결 수 초과");
+                                continue;
+                            }
+
+                            ClientHandler client = new ClientHandler(socket, mCharset, mExecutorService);
                             mConnections.add(client);
-                            client.startHandling(new Runnable() {
-                                @Override
-                                public void run() {
-                                    removeClient(client);
-                                }
-                            });
+                            try {
+                                client.startHandling(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        removeClient(client);
+                                    }
+                                });
+                            } catch (RejectedExecutionException e) {
+                                // 최대 연결 수가 스레드 풀 (max + 대기 큐) 보다 크게 설정된 경우
+                                mConnections.remove(client);
+                                mConnectionPermits.release();
+                                rejectConnection(socket, "연결 처리 스레드 부족");
+                                continue;
+                            }
 
                             logger.info("[현재 연결 개수: {}]", mConnections.size());
 
@@ -113,11 +495,16 @@ public class SocketServerRunnable {
                             break;
                         } catch (IOException e) {
                             logger.error("클라이언트 연결 수락 중 오류 발생", e);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
                         }
                     }
                     logger.info("[서버 수락 루프 종료]");
                 }
-            });
+            }, "SocketServer-Acceptor");
+            mAcceptThread.setDaemon(true);
+            mAcceptThread.start();
 
         } catch (IOException | KeyStoreException | NoSuchAlgorithmException |
         		CertificateException | UnrecoverableKeyException | KeyManagementException e) {
@@ -146,9 +533,15 @@ public class SocketServerRunnable {
         } catch (IOException e) {
             logger.error("서버 소켓 닫는 중 오류 발생", e);
         } finally {
+            if ( mAcceptThread != null && mAcceptThread.isAlive() ) {
+                mAcceptThread.interrupt(); // BLOCK 정책으로 대기 중인 경우
+            }
+
             if ( mExecutorService != null && !mExecutorService.isShutdown() ) {
                 mExecutorService.shutdownNow();
             }
+
+            mMetrics.unregisterMBean();
             logger.info("[서버 종료 완료]");
         }
 	}
@@ -166,26 +559,56 @@ public class SocketServerRunnable {
 
         SSLContext sslContext = SSLContext.getInstance("TLS");
         sslContext.init(kmf.getKeyManagers(), null, null);
+
+        SSLSessionContext sessionContext = sslContext.getServerSessionContext();
+        sessionContext.setSessionCacheSize(mSessionCacheSize);
+        sessionContext.setSessionTimeout(mSessionTimeoutSeconds);
         return sslContext;
     }
 
     private void removeClient(ClientHandler client) {
         mConnections.remove(client);
+        mConnectionPermits.release();
         logger.info("[클라이언트 연결 종료: {}] 현재 연결 개수: {}", client.getRemoteAddress(), mConnections.size());
     }
 
+    private void rejectConnection(SSLSocket socket, String sReason) {
+        mRejectedConnections.incrementAndGet();
+        logger.warn("[연결 거부: {}] {} (현재 연결 개수: {})", socket.getInetAddress().getHostAddress(), sReason, mConnections.size());
+
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.error("거부한 소켓 닫는 중 오류 발생", e);
+        }
+    }
+
 	class ClientHandler implements Runnable {
 		private SSLSocket mmSocket;
         private String mmSremoteAddr;
-        private String mCharsetName;
         private ExecutorService mClientExecutorService;
         private volatile boolean isRunning = true; // 스레드 종료를 위한 플래그
         private Runnable onClientClosed; // 클라이언트 종료 시 호출될 콜백
 
-        public ClientHandler(SSLSocket sock, String charsetName, ExecutorService clientExecutorService) {
+        // 스트림을 닫으면 소켓도 닫히므로 연결 동안 유지
+        private InputStream mmInputStream;
+        private OutputStream mmOutputStream;
+        private final byte[] mmReadBuffer = new byte[4096];
+        private final FrameAccumulator mmFrameAccumulator = new FrameAccumulator(mFrameCodec);
+        // 전문 추출 시작 시각 (마지막 읽기 이후, decode 지연 시간용)
+        private long mmDecodeStartNanos;
+        // 연결 동안 재사용하는 문자열 변환 (RawFrameCodec 은 미완성 멀티바이트 문자를 다음 수신 데이터와 이어서 변환)
+        private final StreamingCharsetDecoder mmDecoder;
+        private final StreamingCharsetEncoder mmEncoder;
+
+        // 핸드쉐이크 통계용 연결 수락 시각
+        private final long mmAcceptedNanos = System.nanoTime();
+
+        public ClientHandler(SSLSocket sock, Charset charset, ExecutorService clientExecutorService) {
         	this.mmSocket = sock;
             this.mmSremoteAddr = sock.getInetAddress().getHostAddress();
-            this.mCharsetName = charsetName;
+            this.mmDecoder = new StreamingCharsetDecoder(charset);
+            this.mmEncoder = new StreamingCharsetEncoder(charset);
             this.mClientExecutorService = clientExecutorService;
         }
 
@@ -203,11 +626,20 @@ public class SocketServerRunnable {
 			logger.info("[클라이언트 핸들러 시작: {}]", mmSremoteAddr);
 			try {
 				// SSL 핸드쉐이크 수행 (필요한 경우)
-                mmSocket.startHandshake();
+                try {
+                    mmSocket.startHandshake();
+                } catch (IOException e) {
+                    mHandshakeMetrics.recordFailure();
+                    throw e;
+                }
+                mHandshakeMetrics.recordHandshake(mmSocket.getSession(), System.nanoTime() - mmAcceptedNanos);
                 logger.info("[SSL 핸드쉐이크 완료: {}]", mmSremoteAddr);
 
+                mmInputStream = new BufferedInputStream(mmSocket.getInputStream());
+                mmOutputStream = new BufferedOutputStream(mmSocket.getOutputStream());
+
                 while ( isRunning && !mmSocket.isClosed() ) {
-                	boolean isSuccess = processClientRequest(mmSremoteAddr, mCharsetName);
+                	boolean isSuccess = processClientRequest(mmSremoteAddr);
 					if (!isSuccess) {
 						break;
 					}
@@ -226,26 +658,52 @@ public class SocketServerRunnable {
 	    /**
 	     * 클라이언트로부터 데이터를 수신하고 처리하며, 통신 오류 발생 시 false를 반환합니다.
 	     * @param remoteAddress 클라이언트의 원격 주소
-	     * @param charsetName 사용할 문자셋 이름
 	     * @return 요청 처리가 성공했으면 true, 통신 오류나 연결 종료 감지 시 false
 	     */
-	    private boolean processClientRequest(String remoteAddress, String charsetName) {
-	        String receivedData = null;
-
+	    private boolean processClientRequest(String remoteAddress) {
 	        try {
-	            receivedData = receive();
+	            byte[] frame = receive();
 
-	            if ( receivedData == null || receivedData.isEmpty() ) {
+	            if (frame == null) {
 	                logger.info("[클라이언트 {} 연결 종료 감지]", remoteAddress);
 	                return false; // 연결 종료 감지 시 false 반환
 	            } else {
-	                logger.info("[요청 처리: {}]", remoteAddress);
-	                logger.info("[요청 데이터: {}]", receivedData);
-
-	                String responseMsg = receivedData;
-	                logger.info("[응답 데이터: {}]", responseMsg);
-
-	                send(responseMsg.getBytes(Charset.forName(charsetName))); // send() 메소드는 현재 클래스에 있다고 가정
+	            	String receivedData = (mFrameCodec instanceof RawFrameCodec) ? mmDecoder.decode(frame) : mmDecoder.decodeFrame(frame);
+	            	mMetrics.recordDecode(System.nanoTime() - mmDecodeStartNanos);
+
+	            	if ( receivedData.isEmpty() && frame.length > 0 ) {
+	            		// 수신 데이터가 모두 미완성 문자인 경우 다음 수신 데이터와 이어서 처리
+	            		return true;
+	            	}
+	            	mMetrics.recordMessageIn();
+
+	            	boolean bLogPayload = logger.isInfoEnabled() && mMetrics.getPayloadLogPolicy().shouldLog();
+	            	if (bLogPayload) {
+	            		logger.info("[요청 처리: {}]", remoteAddress);
+	            		logger.info("[요청 데이터: {}]", receivedData);
+	            	}
+
+	            	long lHandlerStart = System.nanoTime();
+	                String responseMsg;
+	                try {
+	                	responseMsg = mMessageHandler.onMessage(remoteAddress, receivedData);
+	                } finally {
+	                	mMetrics.recordHandler(System.nanoTime() - lHandlerStart);
+	                }
+
+	                if (responseMsg == null) {
+	                	return true;
+	                }
+
+	                if (bLogPayload) {
+	                	logger.info("[응답 데이터: {}]", responseMsg);
+	                }
+
+	                long lEncodeStart = System.nanoTime();
+	                byte[] bSendData = mFrameCodec.encode(mmEncoder.encode(responseMsg));
+	                mMetrics.recordEncode(System.nanoTime() - lEncodeStart);
+
+	                send(bSendData);
 	                return true; // 성공적으로 처리 완료 시 true 반환
 	            }
 	        } catch (SocketException se) {
@@ -260,33 +718,36 @@ public class SocketServerRunnable {
 	        }
 	    }
 
-        private String receive() throws IOException {
-            StringBuilder sb = new StringBuilder();
-            try (
-            		InputStream is = mmSocket.getInputStream();
-            		BufferedInputStream bis = new BufferedInputStream(is)
-            ) {
-
-                byte[] buffer = new byte[4096];
-                int nRead = bis.read(buffer); // read(byte[])는 EOF에 도달하면 -1 반환
-                if (nRead == -1) { // 클라이언트가 연결을 정상적으로 닫음
-                    return null;
-                }
-                if (nRead > 0) {
-                    sb.append(new String(buffer, 0, nRead, mCharsetName));
-                }
-            }
-            return sb.toString();
+	    /**
+	     * 전문 하나가 완성될 때까지 읽음
+	     *  - 이전 읽기에서 남은 데이터(다음 전문의 일부)는 누적 버퍼에 유지됨
+	     * @return 전문, 연결이 종료되면 null
+	     * @throws IOException
+	     */
+        private byte[] receive() throws IOException {
+        	byte[] frame;
+        	mmDecodeStartNanos = System.nanoTime();
+        	while ( (frame = mmFrameAccumulator.next()) == null ) {
+        		int nRead = mmInputStream.read(mmReadBuffer); // read(byte[])는 EOF에 도달하면 -1 반환
+        		if (nRead == -1) { // 클라이언트가 연결을 정상적으로 닫음
+        			if (mmFrameAccumulator.pending() > 0) {
+        				logger.warn("[클라이언트 {} 미완성 전문 {} 바이트 폐기]", mmSremoteAddr, mmFrameAccumulator.pending());
+        			}
+        			return null;
+        		}
+        		mMetrics.recordBytesIn(nRead);
+        		mmFrameAccumulator.append(mmReadBuffer, 0, nRead);
+        		mmDecodeStartNanos = System.nanoTime();
+        	}
+        	return frame;
         }
 
         private void send(byte[] bSendData) throws IOException {
-            try (
-            		OutputStream os = mmSocket.getOutputStream();
-            		BufferedOutputStream bos = new BufferedOutputStream(os)
-            ) {
-                bos.write(bSendData);
-                bos.flush();
-            }
+        	mmOutputStream.write(bSendData);
+        	mmOutputStream.flush();
+
+        	mMetrics.recordBytesOut(bSendData.length);
+        	mMetrics.recordMessageOut();
         }
 
         public void close() {
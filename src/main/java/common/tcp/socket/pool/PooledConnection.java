@@ -0,0 +1,141 @@
+package common.tcp.socket.pool;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <pre>
+ * 커넥션 풀에서 빌린 연결
+ *  - 스트림은 연결 동안 유지되므로 getInputStream/getOutputStream 으로만 읽고 씀 (소켓 스트림을 닫으면 연결이 닫힘)
+ *  - close() 는 연결을 닫지 않고 풀에 반납 (try-with-resources 사용 권장)
+ *  - 통신 오류, 응답을 끝까지 읽지 못한 경우 등 재사용하면 안 되는 연결은 반납 전에 invalidate() 호출
+ *
+ * 스레드 안전하지 않음 (빌린 스레드에서만 사용)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class PooledConnection implements Closeable {
+
+	private final SocketConnectionPool pool;
+	private final SocketConnectionPool.Key key;
+	private final Socket socket;
+	private final BufferedInputStream inputStream;
+	private final BufferedOutputStream outputStream;
+	private final int soTimeout;
+
+	private final AtomicBoolean borrowed = new AtomicBoolean();
+	private volatile boolean broken;
+	private volatile long lastUsedNanos = System.nanoTime();
+
+	PooledConnection(SocketConnectionPool pool, SocketConnectionPool.Key key, Socket socket) throws IOException {
+		this.pool = pool;
+		this.key = key;
+		this.socket = socket;
+		this.inputStream = new BufferedInputStream(socket.getInputStream());
+		this.outputStream = new BufferedOutputStream(socket.getOutputStream());
+		this.soTimeout = socket.getSoTimeout();
+	}
+
+	public Socket getSocket() {
+		return socket;
+	}
+
+	public BufferedInputStream getInputStream() {
+		return inputStream;
+	}
+
+	public BufferedOutputStream getOutputStream() {
+		return outputStream;
+	}
+
+	/**
+	 * 재사용하지 않고 반납 시 연결 종료
+	 */
+	public void invalidate() {
+		this.broken = true;
+	}
+
+	public boolean isBroken() {
+		return broken;
+	}
+
+	/**
+	 * 풀에 반납 (여러 번 호출해도 한 번만 반납)
+	 */
+	@Override
+	public void close() {
+		if ( borrowed.compareAndSet(true, false) ) {
+			lastUsedNanos = System.nanoTime();
+			pool.release(this);
+		}
+	}
+
+	SocketConnectionPool.Key getKey() {
+		return key;
+	}
+
+	void markBorrowed() {
+		borrowed.set(true);
+	}
+
+	long getIdleMillis(long nowNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nowNanos - lastUsedNanos);
+	}
+
+	/**
+	 * 연결 유효성 검사
+	 *  - 소켓 상태, 읽지 않은 (이전 응답의) 데이터 여부
+	 *  - 1ms 동안 읽기를 시도하여 상대방이 연결을 끊었는지(EOF) 확인 (시간 초과면 정상)
+	 * @return
+	 */
+	boolean validate() {
+		if ( broken || socket.isClosed() || !socket.isConnected() || socket.isInputShutdown() || socket.isOutputShutdown() ) {
+			return false;
+		}
+
+		try {
+			if (inputStream.available() > 0) {
+				return false;
+			}
+
+			socket.setSoTimeout(1);
+			try {
+				// EOF(-1) 이거나, 데이터가 읽히면 요청하지 않은 데이터이므로 재사용 불가
+				inputStream.read();
+				return false;
+			} catch (SocketTimeoutException e) {
+				return true;
+			} finally {
+				socket.setSoTimeout(soTimeout);
+			}
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	void closeSocket() {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// 닫는 중 오류는 무시
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PooledConnection [" + key + ", local=" + socket.getLocalSocketAddress() + "]";
+	}
+
+}
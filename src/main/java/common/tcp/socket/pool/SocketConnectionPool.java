@@ -0,0 +1,550 @@
+package common.tcp.socket.pool;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import common.tcp.socket.SslContextCache;
+import common.tcp.socket.SslSocketTrustStoreVo;
+
+/**
+ * <pre>
+ * 소켓 커넥션 풀 (서버 host:port, SSL 여부, 신뢰 저장소 별)
+ *  - 연결, SSL 핸드쉐이크를 요청마다 하지 않고 맺어 둔 연결을 재사용
+ *  - SSLContext 는 SslContextCache 로 재사용
+ *  - 신뢰 저장소는 SslContextCache 와 같은 키 (경로 + 비밀번호의 SHA-256 다이제스트) 로 구분하고 비밀번호 원문은 보관하지 않음
+ *    (minIdle 연결 미리 생성에는 마지막으로 대여할 때 받은 SSLContext 를 사용)
+ *  - 대여 시 유효성 검사 (최근 500ms 이내에 사용한 연결은 생략), 실패하면 닫고 다른 연결 대여
+ *  - 최대 연결 수에 도달하면 반납될 때까지 borrowTimeout 만큼 대기 (초과 시 SocketTimeoutException)
+ *  - 유휴 연결 정리 스레드 (SocketConnectionPool-Evictor) : idleTimeout 을 넘긴 유휴 연결 종료 (minIdle 개는 유지),
+ *    한 번이라도 사용한 키는 유휴 연결을 minIdle 개까지 미리 생성
+ *
+ * 사용 예)
+ *  try ( PooledConnection conn = pool.borrow(host, port, true, null) ) {
+ *      conn.getOutputStream().write(...); conn.getOutputStream().flush();
+ *      ... conn.getInputStream() 으로 응답 전문을 끝까지 읽음 (오류 시 conn.invalidate())
+ *  }
+ *
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	풀 키에 신뢰 저장소 비밀번호 원문 대신 SslContextCache 키 사용
+ * </pre>
+ */
+public class SocketConnectionPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(SocketConnectionPool.class);
+
+	private static final int TIMEOUT = 15*1000;		// 15초
+
+	private static final int DEFAULT_MIN_IDLE = 0;
+	private static final int DEFAULT_MAX_IDLE = 8;
+	private static final int DEFAULT_MAX_TOTAL = 8;
+	private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60 * 1000L;
+	private static final long DEFAULT_EVICTION_INTERVAL_MILLIS = 30 * 1000L;
+
+	// 최근에 사용한 연결은 유효성 검사 생략
+	private static final long VALIDATION_BYPASS_MILLIS = 500;
+
+	private int minIdle = DEFAULT_MIN_IDLE;
+	private int maxIdle = DEFAULT_MAX_IDLE;
+	private int maxTotal = DEFAULT_MAX_TOTAL;
+	private long borrowTimeoutMillis = TIMEOUT;
+	private long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+	private boolean testOnBorrow = true;
+	private int connectTimeoutMillis = TIMEOUT;
+	private int readTimeoutMillis = TIMEOUT;
+
+	private final Map<Key, KeyedPool> pools = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService evictor;
+	private volatile boolean closed;
+
+	public SocketConnectionPool() {
+		this(DEFAULT_EVICTION_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * @param lEvictionIntervalMillis 유휴 연결 정리 주기
+	 */
+	public SocketConnectionPool(long lEvictionIntervalMillis) {
+		if (lEvictionIntervalMillis <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 정리 주기: " + lEvictionIntervalMillis + ". 1 이상이어야 합니다.");
+		}
+
+		this.evictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "SocketConnectionPool-Evictor");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.evictor.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				evict();
+			}
+		}, lEvictionIntervalMillis, lEvictionIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 키 별 연결 수 지정
+	 * @param nMinIdle 유지할 최소 유휴 연결 수 (기본값: 0)
+	 * @param nMaxIdle 반납 시 보관할 최대 유휴 연결 수, 초과분은 닫음 (기본값: 8)
+	 * @param nMaxTotal 최대 연결 수 (사용 중 + 유휴, 기본값: 8)
+	 */
+	public void setPoolSize(int nMinIdle, int nMaxIdle, int nMaxTotal) {
+		if ( nMinIdle < 0 || nMaxIdle < nMinIdle || nMaxTotal <= 0 || nMaxTotal < nMaxIdle ) {
+			throw new IllegalArgumentException("유효하지 않은 풀 크기: minIdle=" + nMinIdle + ", maxIdle=" + nMaxIdle + ", maxTotal=" + nMaxTotal
+					+ ". 0 <= minIdle <= maxIdle <= maxTotal, maxTotal >= 1 이어야 합니다.");
+		}
+
+		this.minIdle = nMinIdle;
+		this.maxIdle = nMaxIdle;
+		this.maxTotal = nMaxTotal;
+	}
+
+	/**
+	 * 대여 대기 시간 지정 (기본값: 15초)
+	 * @param lTimeout
+	 * @param unit
+	 */
+	public void setBorrowTimeout(long lTimeout, TimeUnit unit) {
+		if (lTimeout < 0) {
+			throw new IllegalArgumentException("유효하지 않은 대여 대기 시간: " + lTimeout + ". 0 이상이어야 합니다.");
+		}
+
+		this.borrowTimeoutMillis = Objects.requireNonNull(unit, "unit 은 null일 수 없습니다.").toMillis(lTimeout);
+	}
+
+	/**
+	 * 유휴 연결 유지 시간 지정 (기본값: 60초, 0 이면 정리하지 않음)
+	 *  - 서버의 유휴 연결 종료 시간보다 짧게 지정
+	 * @param lTimeout
+	 * @param unit
+	 */
+	public void setIdleTimeout(long lTimeout, TimeUnit unit) {
+		if (lTimeout < 0) {
+			throw new IllegalArgumentException("유효하지 않은 유휴 시간: " + lTimeout + ". 0 이상이어야 합니다.");
+		}
+
+		this.idleTimeoutMillis = Objects.requireNonNull(unit, "unit 은 null일 수 없습니다.").toMillis(lTimeout);
+	}
+
+	/**
+	 * 대여 시 유효성 검사 여부 (기본값: true)
+	 * @param testOnBorrow
+	 */
+	public void setTestOnBorrow(boolean testOnBorrow) {
+		this.testOnBorrow = testOnBorrow;
+	}
+
+	/**
+	 * 새 연결의 연결/읽기 제한 시간 지정 (기본값: 15초)
+	 * @param nConnectTimeoutMillis
+	 * @param nReadTimeoutMillis
+	 */
+	public void setSocketTimeout(int nConnectTimeoutMillis, int nReadTimeoutMillis) {
+		if ( nConnectTimeoutMillis < 0 || nReadTimeoutMillis < 0 ) {
+			throw new IllegalArgumentException("유효하지 않은 제한 시간: connect=" + nConnectTimeoutMillis + ", read=" + nReadTimeoutMillis + ". 0 이상이어야 합니다.");
+		}
+
+		this.connectTimeoutMillis = nConnectTimeoutMillis;
+		this.readTimeoutMillis = nReadTimeoutMillis;
+	}
+
+	/**
+	 * 연결 대여
+	 * @param sServerIp
+	 * @param nPort
+	 * @param isSsl
+	 * @param sslSocketTrustStoreVo null 이면 JVM 기본 신뢰 저장소
+	 * @return
+	 * @throws IOException 연결 실패, 대기 시간 초과 (SocketTimeoutException), 인터럽트 (InterruptedIOException)
+	 */
+	public PooledConnection borrow(String sServerIp, int nPort, boolean isSsl, SslSocketTrustStoreVo sslSocketTrustStoreVo) throws IOException {
+		Objects.requireNonNull(sServerIp, "서버 IP는 null일 수 없습니다.");
+
+		if (nPort <= 0 || nPort > 65535) {
+			throw new IllegalArgumentException("유효하지 않은 포트 번호: " + nPort + ". 포트 번호는 1에서 65535 사이여야 합니다.");
+		}
+
+		if (closed) {
+			throw new IllegalStateException("종료된 커넥션 풀입니다.");
+		}
+
+		SslSocketTrustStoreVo trustStoreVo = isSsl ? sslSocketTrustStoreVo : null;
+		Key key;
+		try {
+			key = new Key(sServerIp, nPort, isSsl, trustStoreVo);
+		} catch (GeneralSecurityException e) {
+			throw new IOException("커넥션 풀 키 생성 중 오류 발생: " + e.getMessage(), e);
+		}
+
+		KeyedPool pool = pools.computeIfAbsent(key, KeyedPool::new);
+		return pool.borrow(trustStoreVo);
+	}
+
+	/**
+	 * 현재 연결 수 (사용 중 + 유휴)
+	 * @return
+	 */
+	public int getTotalCount() {
+		int nCount = 0;
+		for (KeyedPool pool : pools.values()) {
+			nCount += pool.getTotal();
+		}
+		return nCount;
+	}
+
+	/**
+	 * 현재 유휴 연결 수
+	 * @return
+	 */
+	public int getIdleCount() {
+		int nCount = 0;
+		for (KeyedPool pool : pools.values()) {
+			nCount += pool.getIdle();
+		}
+		return nCount;
+	}
+
+	/**
+	 * 풀 종료 (유휴 연결은 바로 닫고, 사용 중인 연결은 반납 시 닫음)
+	 */
+	public void close() {
+		closed = true;
+		evictor.shutdownNow();
+
+		for (KeyedPool pool : pools.values()) {
+			pool.closeIdle();
+		}
+	}
+
+	void release(PooledConnection conn) {
+		KeyedPool pool = pools.get(conn.getKey());
+		if (pool == null) {
+			conn.closeSocket();
+			return;
+		}
+		pool.release(conn);
+	}
+
+	private void evict() {
+		for (KeyedPool pool : pools.values()) {
+			try {
+				pool.evict();
+			} catch (Exception e) {
+				logger.error("유휴 연결 정리 중 오류 발생: {}", e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * @param sslContext SSL 이 아니면 null
+	 */
+	private PooledConnection createConnection(Key key, SSLContext sslContext) throws IOException {
+		Socket socket;
+
+		if (key.isSsl) {
+			socket = sslContext.getSocketFactory().createSocket();
+		} else {
+			socket = new Socket();
+		}
+
+		try {
+			socket.connect(new InetSocketAddress(key.host, key.port), connectTimeoutMillis);
+			socket.setSoTimeout(readTimeoutMillis);
+			socket.setTcpNoDelay(true);
+
+			if (key.isSsl) {
+				((SSLSocket) socket).startHandshake();
+			}
+
+			logger.info("[풀 연결 생성: {}]", key);
+			return new PooledConnection(this, key, socket);
+		} catch (IOException e) {
+			try {
+				socket.close();
+			} catch (IOException ignored) {
+				// 닫는 중 오류는 무시
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 커넥션 풀 키 (신뢰 저장소는 SslContextCache 키로 구분)
+	 */
+	static final class Key {
+		private final String host;
+		private final int port;
+		private final boolean isSsl;
+		private final String trustStorePath;
+		private final String trustStoreKey;
+
+		Key(String host, int port, boolean isSsl, SslSocketTrustStoreVo trustStoreVo) throws GeneralSecurityException {
+			this.host = host;
+			this.port = port;
+			this.isSsl = isSsl;
+			// 대여 후 VO 가 변경되어도 키가 바뀌지 않도록 값 복사
+			this.trustStorePath = (trustStoreVo == null) ? null : trustStoreVo.getTrustStorePath();
+			this.trustStoreKey = SslContextCache.keyOf(trustStoreVo);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if ( !(obj instanceof Key) ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return port == other.port && isSsl == other.isSsl && host.equals(other.host)
+					&& trustStoreKey.equals(other.trustStoreKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(host, port, isSsl, trustStoreKey);
+		}
+
+		@Override
+		public String toString() {
+			return host + ":" + port + (isSsl ? " (SSL" + (trustStorePath == null ? "" : ", " + trustStorePath) + ")" : "");
+		}
+	}
+
+	/**
+	 * 키 하나의 연결 목록
+	 *  - 유휴 연결은 최근 반납한 것부터 대여 (LIFO), 정리는 오래된 것부터
+	 */
+	private final class KeyedPool {
+		private final Key key;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition available = lock.newCondition();
+		private final ArrayDeque<PooledConnection> idle = new ArrayDeque<>();
+		private int total;
+		// 마지막으로 대여할 때 받은 SSLContext (minIdle 연결 미리 생성용)
+		private volatile SSLContext sslContext;
+
+		KeyedPool(Key key) {
+			this.key = key;
+		}
+
+		int getTotal() {
+			lock.lock();
+			try {
+				return total;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		int getIdle() {
+			lock.lock();
+			try {
+				return idle.size();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * @param trustStoreVo 새 연결을 만들 때 SSLContext 를 얻는 데만 사용 (보관하지 않음)
+		 */
+		PooledConnection borrow(SslSocketTrustStoreVo trustStoreVo) throws IOException {
+			long lDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+
+			while (true) {
+				PooledConnection conn = null;
+				boolean isCreate = false;
+
+				lock.lock();
+				try {
+					while ( idle.isEmpty() && total >= maxTotal ) {
+						long lRemain = lDeadline - System.nanoTime();
+						if (lRemain <= 0) {
+							throw new SocketTimeoutException("커넥션 풀 대여 시간 초과: " + key + " (최대 연결 수: " + maxTotal + ")");
+						}
+						try {
+							available.awaitNanos(lRemain);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new InterruptedIOException("커넥션 풀 대여 대기 중 인터럽트 발생: " + key);
+						}
+					}
+
+					if ( !idle.isEmpty() ) {
+						conn = idle.pollFirst();
+					} else {
+						total++;
+						isCreate = true;
+					}
+				} finally {
+					lock.unlock();
+				}
+
+				if (isCreate) {
+					try {
+						conn = createConnection(key, sslContext(trustStoreVo));
+					} catch (IOException | RuntimeException e) {
+						discard(null);
+						throw e;
+					}
+				} else if ( testOnBorrow && conn.getIdleMillis(System.nanoTime()) >= VALIDATION_BYPASS_MILLIS && !conn.validate() ) {
+					logger.info("[유효하지 않은 연결 종료: {}]", key);
+					discard(conn);
+					continue;
+				}
+
+				conn.markBorrowed();
+				return conn;
+			}
+		}
+
+		private SSLContext sslContext(SslSocketTrustStoreVo trustStoreVo) throws IOException {
+			if (!key.isSsl) {
+				return null;
+			}
+
+			try {
+				SSLContext context = SslContextCache.getSslContext(trustStoreVo);
+				this.sslContext = context;
+				return context;
+			} catch (GeneralSecurityException e) {
+				throw new IOException("SSLContext 생성 중 오류 발생: " + e.getMessage(), e);
+			}
+		}
+
+		void release(PooledConnection conn) {
+			if ( closed || conn.isBroken() || conn.getSocket().isClosed() ) {
+				discard(conn);
+				return;
+			}
+
+			lock.lock();
+			try {
+				if ( idle.size() < maxIdle ) {
+					idle.offerFirst(conn);
+					available.signal();
+					return;
+				}
+			} finally {
+				lock.unlock();
+			}
+
+			discard(conn);
+		}
+
+		/**
+		 * 연결을 닫고 연결 수 감소 (생성 실패 시 conn 은 null)
+		 */
+		private void discard(PooledConnection conn) {
+			if (conn != null) {
+				conn.closeSocket();
+			}
+
+			lock.lock();
+			try {
+				total--;
+				available.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void evict() {
+			List<PooledConnection> expired = new ArrayList<>();
+			int nCreate = 0;
+
+			lock.lock();
+			try {
+				if (idleTimeoutMillis > 0) {
+					long lNow = System.nanoTime();
+					Iterator<PooledConnection> it = idle.descendingIterator();
+					while ( it.hasNext() && idle.size() > minIdle ) {
+						PooledConnection conn = it.next();
+						if ( conn.getIdleMillis(lNow) >= idleTimeoutMillis ) {
+							it.remove();
+							expired.add(conn);
+						}
+					}
+				}
+
+				if (!closed) {
+					nCreate = Math.min(minIdle - idle.size(), maxTotal - (total - expired.size()));
+					if (nCreate > 0) {
+						total += nCreate;
+					}
+				}
+			} finally {
+				lock.unlock();
+			}
+
+			for (PooledConnection conn : expired) {
+				logger.debug("[유휴 연결 종료: {}]", key);
+				discard(conn);
+			}
+
+			for (int i = 0; i < nCreate; i++) {
+				try {
+					if ( key.isSsl && sslContext == null ) {
+						throw new IllegalStateException("SSLContext 가 없습니다.");
+					}
+					PooledConnection conn = createConnection(key, sslContext);
+					conn.markBorrowed();
+					conn.close();
+				} catch (IOException | RuntimeException e) {
+					logger.warn("[최소 유휴 연결 생성 실패: {}] {}", key, e.getMessage());
+					discard(null);
+				}
+			}
+		}
+
+		void closeIdle() {
+			List<PooledConnection> conns;
+
+			lock.lock();
+			try {
+				conns = new ArrayList<>(idle);
+				idle.clear();
+			} finally {
+				lock.unlock();
+			}
+
+			for (PooledConnection conn : conns) {
+				discard(conn);
+			}
+		}
+	}
+
+}
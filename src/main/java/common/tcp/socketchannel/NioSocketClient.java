@@ -1,6 +1,8 @@
 package common.tcp.socketchannel;
 
-import java.io.FileInputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
@@ -9,7 +11,6 @@ import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.Charset;
 import java.security.KeyManagementException;
-import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -18,13 +19,17 @@ import java.util.Objects;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.TrustManagerFactory;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import common.tcp.codec.FrameAccumulator;
+import common.tcp.codec.FrameCodec;
+import common.tcp.codec.StreamingCharsetDecoder;
+import common.tcp.socket.SslContextCache;
 import common.tcp.socket.SslSocketTrustStoreVo;
+import common.tcp.socket.pool.PooledConnection;
+import common.tcp.socket.pool.SocketConnectionPool;
 
 /**
  * <pre>
@@ -39,6 +44,8 @@ import common.tcp.socket.SslSocketTrustStoreVo;
  * 2018. 12. 22. 김대광	최초작성
  * 2021.  8. 14. 김대광	SonarLint 지시에 따른 수정
  * 2025.  5. 28. 김대광   제미나이에 의한 코드 대폭 개선
+ * 2026. 10. 18. kdk	SSLContext 캐시 (SslContextCache), 커넥션 풀 (SocketConnectionPool) 및 응답 전문 코덱 옵션 추가
+ * 2026. 10. 18. kdk	코덱 없이 풀을 사용하면 응답 후 연결을 반납하지 않고 종료 (남은 응답이 다음 요청에 섞이지 않도록), 멀티바이트 문자 이어서 변환
  * </pre>
  */
 public class NioSocketClient {
@@ -49,11 +56,36 @@ public class NioSocketClient {
 
     private String sRecvData;
     private String mScharsetName;
+    private StreamingCharsetDecoder mDecoder;
+
+    private SocketConnectionPool mConnectionPool;
+    private FrameCodec mFrameCodec;
 
 	public String getsRecvData() {
 		return sRecvData;
 	}
 
+	/**
+	 * 커넥션 풀 지정
+	 *  - 지정하면 요청마다 연결/핸드쉐이크 하지 않고 풀의 연결을 재사용
+	 *  - 연결을 재사용하려면 응답의 끝을 알 수 있어야 하므로 setFrameCodec 으로 응답 전문 코덱도 지정해야 함
+	 *    (지정하지 않으면 읽지 않은 응답이 다음 요청에 섞이지 않도록 응답 후 연결을 풀에 반납하지 않고 종료)
+	 * @param connectionPool
+	 */
+	public void setConnectionPool(SocketConnectionPool connectionPool) {
+		this.mConnectionPool = Objects.requireNonNull(connectionPool, "connectionPool 은 null일 수 없습니다.");
+	}
+
+	/**
+	 * 응답 전문 코덱 지정 (커넥션 풀 사용 시)
+	 *  - 지정하면 응답 전문 하나를 끝까지 읽음 (getsRecvData 는 코덱이 꺼낸 전문)
+	 *  - 지정하지 않으면 더 읽을 데이터가 없을 때까지 읽은 만큼을 응답으로 처리
+	 * @param frameCodec
+	 */
+	public void setFrameCodec(FrameCodec frameCodec) {
+		this.mFrameCodec = Objects.requireNonNull(frameCodec, "frameCodec 은 null일 수 없습니다.");
+	}
+
 	public void start(String sServerIp, int nPort, byte[] bSendData, String sCharsetName,
 			boolean isSsl, boolean isTrust, SslSocketTrustStoreVo sslSocketTrustStoreVo)
 					throws IOException, NoSuchAlgorithmException, KeyManagementException, KeyStoreException, CertificateException {
@@ -70,6 +102,24 @@ public class NioSocketClient {
             throw new IllegalArgumentException("문자셋 이름은 null이거나 비어 있을 수 없습니다.");
         }
 
+		if (mConnectionPool != null) {
+			if ( mDecoder == null || !sCharsetName.equals(mScharsetName) ) {
+				mDecoder = new StreamingCharsetDecoder(Charset.forName(sCharsetName));
+			}
+			mScharsetName = sCharsetName;
+
+			if (isTrust && sslSocketTrustStoreVo == null) {
+				throw new IllegalArgumentException("isTrust가 true인 경우, sslSocketTrustStoreVo 및 TrustStore 정보는 필수입니다.");
+			}
+
+			try {
+				this.exchangePooled(sServerIp, nPort, bSendData, isSsl, isTrust ? sslSocketTrustStoreVo : null);
+			} catch (IOException e) {
+				logger.error("", e);
+			}
+			return;
+		}
+
 		SocketAddress socketAddr = new InetSocketAddress(sServerIp, nPort);
 
 		try ( SocketChannel socketChannel = SocketChannel.open() ) {
@@ -104,6 +154,76 @@ public class NioSocketClient {
 		}
 	}
 
+	/**
+	 * 커넥션 풀의 연결로 요청/응답 처리 (오류 시 해당 연결은 재사용하지 않음)
+	 */
+	private void exchangePooled(String sServerIp, int nPort, byte[] bSendData, boolean isSsl, SslSocketTrustStoreVo trustStoreVo) throws IOException {
+		try ( PooledConnection conn = mConnectionPool.borrow(sServerIp, nPort, isSsl, trustStoreVo) ) {
+			try {
+				BufferedOutputStream bos = conn.getOutputStream();
+				bos.write(bSendData);
+				bos.flush();
+
+				logger.info("[보내기 완료 (Pool): {}]", new String(bSendData, mScharsetName));
+
+				this.receivedFromServer(conn.getInputStream());
+			} catch (IOException | RuntimeException e) {
+				conn.invalidate();
+				throw e;
+			}
+
+			if (mFrameCodec == null) {
+				// 응답의 끝을 알 수 없으므로 남은 데이터가 있을 수 있는 연결은 재사용하지 않음
+				conn.invalidate();
+			}
+		}
+	}
+
+	private void receivedFromServer(BufferedInputStream bis) throws IOException {
+		byte[] buffer = new byte[4096];
+
+		if (mFrameCodec == null) {
+			// read 경계에서 나뉜 멀티바이트 문자는 다음 read 와 이어서 변환
+			StringBuilder sb = new StringBuilder();
+			int bytesRead;
+
+			while ( (bytesRead = bis.read(buffer)) != -1 ) {
+				sb.append(mDecoder.decode(buffer, 0, bytesRead));
+				if ( bis.available() == 0 && mDecoder.pending() == 0 ) {
+					break;
+				}
+			}
+
+			if (bytesRead == -1) {
+				if ( sb.length() == 0 && mDecoder.pending() == 0 ) {
+					throw new EOFException("[받기 완료 (Pool): 서버에서 연결을 종료했습니다.]");
+				}
+				sb.append(mDecoder.flush());
+			}
+
+			this.sRecvData = sb.toString();
+		} else {
+			FrameAccumulator frameAccumulator = new FrameAccumulator(mFrameCodec);
+			byte[] frame;
+
+			while ( (frame = frameAccumulator.next()) == null ) {
+				int bytesRead = bis.read(buffer);
+				if (bytesRead == -1) {
+					throw new EOFException("응답 전문을 모두 받기 전에 연결이 종료되었습니다.");
+				}
+				frameAccumulator.append(buffer, 0, bytesRead);
+			}
+
+			if (frameAccumulator.pending() > 0) {
+				throw new IOException("응답 전문 뒤에 예상하지 못한 데이터가 있습니다: " + frameAccumulator.pending() + " bytes");
+			}
+
+			this.sRecvData = mDecoder.decodeFrame(frame);
+		}
+
+		logger.info("[받기 완료 (Pool): {}]", this.sRecvData);
+	}
+
 	private void sendToServer(SocketChannel socketChannel, byte[] bSendData) throws IOException  {
 		ByteBuffer buffer = ByteBuffer.wrap(bSendData);
 		socketChannel.write(buffer);
@@ -160,34 +280,16 @@ public class NioSocketClient {
     private SSLSocket createSslSocket(Socket socket, boolean isTrust, SslSocketTrustStoreVo sslSocketTrustStoreVo)
             throws NoSuchAlgorithmException, KeyStoreException, IOException, CertificateException, KeyManagementException {
 
-        SSLContext sslContext;
-        TrustManager[] trustManagers = null;
         if (isTrust) {
             if (sslSocketTrustStoreVo == null || sslSocketTrustStoreVo.getTrustStorePath() == null || sslSocketTrustStoreVo.getTrustStorePassword() == null) {
                 throw new IllegalArgumentException("isTrust가 true인 경우, sslSocketTrustStoreVo 및 TrustStore 정보는 필수입니다.");
             }
-
-            Objects.requireNonNull(sslSocketTrustStoreVo, "신뢰할 수 있는 저장소 정보는 null일 수 없습니다.");
-			Objects.requireNonNull(sslSocketTrustStoreVo.getTrustStorePath(), "신뢰할 수 있는 저장소 경로는 null일 수 없습니다.");
-			Objects.requireNonNull(sslSocketTrustStoreVo.getTrustStorePassword(), "신뢰할 수 있는 저장소 비밀번호는 null일 수 없습니다.");
-
-            KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
-            try ( FileInputStream fis = new FileInputStream(sslSocketTrustStoreVo.getTrustStorePath()) ) {
-                trustStore.load(fis, sslSocketTrustStoreVo.getTrustStorePassword().toCharArray());
-            }
-
-            TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-            tmf.init(trustStore);
-            trustManagers = tmf.getTrustManagers();
-        } else {
-			// 명시적으로 TrustManager를 설정하지 않으면 JVM의 기본 TrustManager가 사용됩니다.
-			// 이 기본 TrustManager는 JDK의 'cacerts' 파일에 있는 신뢰할 수 있는 CA 인증서를 기반으로 서버 인증서를 검증합니다.
-			// 이는 일반적으로 안전하고 권장되는 방법입니다.
-        	trustManagers = null;
         }
 
-        sslContext = SSLContext.getInstance("TLS"); // 또는 "TLSv1.2", "TLSv1.3"
-        sslContext.init(null, trustManagers, null);
+        // 명시적으로 TrustManager를 설정하지 않으면(isTrust == false) JVM의 기본 TrustManager가 사용됩니다.
+        // 이 기본 TrustManager는 JDK의 'cacerts' 파일에 있는 신뢰할 수 있는 CA 인증서를 기반으로 서버 인증서를 검증합니다.
+        // 신뢰 저장소별로 캐시된 SSLContext 사용 (요청마다 신뢰 저장소를 읽지 않음)
+        SSLContext sslContext = SslContextCache.getSslContext(isTrust ? sslSocketTrustStoreVo : null);
 
         SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
         return (SSLSocket) sslSocketFactory.createSocket(socket, socket.getInetAddress().getHostAddress(), socket.getPort(), true);
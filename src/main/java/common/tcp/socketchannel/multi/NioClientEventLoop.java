@@ -0,0 +1,216 @@
+package common.tcp.socketchannel.multi;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import common.tcp.timer.HashedTimingWheel;
+
+/**
+ * <pre>
+ * NIO 클라이언트 이벤트 루프 (셀렉터 스레드 1개)
+ *  - 연결, 핸드쉐이크, 읽기/쓰기, 타임아웃을 모두 이 스레드에서 처리
+ *  - 여러 NioSocketClientThread 가 하나의 이벤트 루프를 공유할 수 있음 (NioSocketClientThread.setEventLoop)
+ *  - 리스너 콜백도 이 스레드에서 호출되므로, 콜백에서 블로킹 작업을 하면 같은 루프의 다른 연결이 지연됨
+ *
+ * 공유하는 경우 모든 클라이언트를 종료한 뒤 shutdown() 호출 (남아 있는 연결은 종료됨)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class NioClientEventLoop {
+
+	private static final Logger logger = LoggerFactory.getLogger(NioClientEventLoop.class);
+
+	// 연결 타임아웃용 타이밍 휠 (100ms 틱 * 512 = 약 51초 주기)
+	private static final long TIMER_TICK_MILLIS = 100;
+	private static final int TIMER_TICKS_PER_WHEEL = 512;
+
+	private static final AtomicInteger LOOP_INDEX = new AtomicInteger();
+
+	/**
+	 * 셀렉터에 등록된 채널의 이벤트 처리 (이벤트 루프 스레드에서 호출)
+	 */
+	interface ChannelHandler {
+		void onSelected(SelectionKey selectionKey);
+
+		/**
+		 * 이벤트 루프 종료 시 연결 정리
+		 */
+		void onLoopShutdown();
+	}
+
+	private final Selector mSelector;
+	private final Thread mThread;
+	private final ConcurrentLinkedQueue<Runnable> mPendingTasks = new ConcurrentLinkedQueue<>();
+	private final HashedTimingWheel mTimer = new HashedTimingWheel(TIMER_TICK_MILLIS, TimeUnit.MILLISECONDS, TIMER_TICKS_PER_WHEEL);
+	private volatile boolean mShutdown;
+
+	public NioClientEventLoop() throws IOException {
+		this("NioClientEventLoop-" + LOOP_INDEX.getAndIncrement());
+	}
+
+	/**
+	 * 이벤트 루프 생성 및 스레드 시작
+	 * @param sThreadName
+	 * @throws IOException 셀렉터 생성 실패
+	 */
+	public NioClientEventLoop(String sThreadName) throws IOException {
+		this.mSelector = Selector.open();
+
+		this.mThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				runLoop();
+			}
+		}, sThreadName);
+		this.mThread.setDaemon(true);
+		this.mThread.start();
+	}
+
+	/**
+	 * 이벤트 루프 스레드에서 실행 (다른 스레드에서 채널, SSLEngine 에 접근하지 않도록)
+	 * @param task
+	 */
+	public void execute(Runnable task) {
+		mPendingTasks.offer(task);
+		mSelector.wakeup();
+	}
+
+	public boolean inEventLoop() {
+		return Thread.currentThread() == mThread;
+	}
+
+	public boolean isShutdown() {
+		return mShutdown;
+	}
+
+	/**
+	 * 등록된 채널 개수
+	 * @return
+	 */
+	public int getChannelCount() {
+		try {
+			return mSelector.keys().size();
+		} catch (ClosedSelectorException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * 이벤트 루프 종료 (등록된 연결은 모두 종료됨)
+	 */
+	public void shutdown() {
+		mShutdown = true;
+		mSelector.wakeup();
+	}
+
+	HashedTimingWheel getTimer() {
+		return mTimer;
+	}
+
+	/**
+	 * 채널 등록 (이벤트 루프 스레드에서만 호출)
+	 */
+	SelectionKey register(SelectableChannel channel, int nOps, ChannelHandler handler) throws ClosedChannelException {
+		return channel.register(mSelector, nOps, handler);
+	}
+
+	private void runLoop() {
+		while ( !mShutdown && mSelector.isOpen() ) {
+			try {
+				// 대기 중인 타임아웃이 있으면 다음 틱까지만 대기
+				if ( mTimer.pendingTimeouts() > 0 ) {
+					mSelector.select(mTimer.millisUntilNextTick(System.nanoTime()));
+				} else {
+					mSelector.select();
+				}
+
+				runPendingTasks();
+
+				Iterator<SelectionKey> it = mSelector.selectedKeys().iterator();
+				while (it.hasNext()) {
+					SelectionKey selectionKey = it.next();
+					it.remove();
+
+					if ( selectionKey.isValid() ) {
+						((ChannelHandler) selectionKey.attachment()).onSelected(selectionKey);
+					}
+				}
+
+				expireTimeouts();
+			} catch (IOException e) {
+				logger.error("클라이언트 셀렉터 작업 중 오류 발생: {}", e.getMessage(), e);
+				break;
+			} catch (ClosedSelectorException e) {
+				break;
+			}
+		}
+
+		closeAll();
+		logger.info("[클라이언트 이벤트 루프 종료: {}]", Thread.currentThread().getName());
+	}
+
+	private void runPendingTasks() {
+		Runnable task;
+		while ( (task = mPendingTasks.poll()) != null ) {
+			try {
+				task.run();
+			} catch (Exception e) {
+				logger.error("클라이언트 이벤트 루프 작업 처리 중 오류 발생: {}", e.getMessage(), e);
+			}
+		}
+	}
+
+	private void expireTimeouts() {
+		try {
+			mTimer.expireTimeouts(System.nanoTime());
+		} catch (Exception e) {
+			logger.error("클라이언트 타임아웃 처리 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
+
+	private void closeAll() {
+		mShutdown = true;
+
+		// 종료 전에 요청된 작업 (stopClient 등) 처리
+		runPendingTasks();
+
+		try {
+			List<SelectionKey> keys = new ArrayList<>(mSelector.keys());
+			for (SelectionKey selectionKey : keys) {
+				try {
+					((ChannelHandler) selectionKey.attachment()).onLoopShutdown();
+				} catch (Exception e) {
+					logger.error("클라이언트 연결 종료 중 오류 발생: {}", e.getMessage(), e);
+				}
+			}
+		} catch (ClosedSelectorException e) {
+			// 이미 닫힘
+		}
+
+		try {
+			mSelector.close();
+		} catch (IOException e) {
+			logger.error("클라이언트 셀렉터 종료 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
+
+}
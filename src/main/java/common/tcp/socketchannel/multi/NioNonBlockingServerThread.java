@@ -1,39 +1,69 @@
 package common.tcp.socketchannel.multi;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import common.tcp.buffer.PooledByteBufferAllocator;
+import common.tcp.codec.FrameAccumulator;
+import common.tcp.codec.FrameCodec;
+import common.tcp.codec.RawFrameCodec;
+import common.tcp.codec.StreamingCharsetDecoder;
+import common.tcp.codec.StreamingCharsetEncoder;
+import common.tcp.metrics.HandshakeMetrics;
+import common.tcp.metrics.PayloadLogPolicy;
+import common.tcp.metrics.ServerMetrics;
+import common.tcp.timer.HashedTimingWheel;
+
 /**
  * <pre>
  * NIO 소켓 서버 (Non Blocking Mode)
@@ -47,27 +77,192 @@ import org.slf4j.LoggerFactory;
  * 2018. 12. 23. 김대광	최초작성
  * 2021.  8. 14. 김대광	SonarLint 지시에 따른 주저리 주저리
  * 2025.  5. 29. 김대광	제미나이에 의한 코드 대폭 개선 (SSL 의무화에 따라 ServerSocketChannel 으로만 처리)
+ * 2026. 10. 18. kdk	멀티 리액터 모드 추가 (Acceptor 셀렉터 1개 + Worker 셀렉터 N개)
+ * 2026. 10. 18. kdk	전문 프레이밍 코덱 적용 (FrameCodec)
+ * 2026. 10. 18. kdk	MessageHandler 추가 (업무 처리를 셀렉터 스레드가 아닌 Handler 스레드 풀에서 수행)
+ * 2026. 10. 18. kdk	연결별 SSL 버퍼를 Direct 버퍼 풀에서 읽기/쓰기 처리 동안만 빌려 쓰도록 변경
+ * 2026. 10. 18. kdk	송신 시 여러 응답을 모아서 암호화/전송, 소켓 송신 버퍼가 가득 차면 OP_WRITE 로 대기
+ * 2026. 10. 18. kdk	송신 대기 바이트 기준 읽기 중지/재개 (연결별, 전체 워터마크)
+ * 2026. 10. 18. kdk	연결 목록을 연결 ID 기준 ConcurrentHashMap 으로 변경, 타이밍 휠로 핸드쉐이크/유휴 타임아웃 처리
+ * 2026. 10. 18. kdk	SSL 세션 캐시 설정, 핸드쉐이크 위임 작업 스레드 풀 크기 제한 (NEED_TASK 대기 중 반복 호출 제거), 핸드쉐이크 통계
+ * 2026. 10. 18. kdk	평문(Plaintext) 모드 추가 (SSL 을 앞단에서 종료하는 내부망 용), 파일 전송 추가 (평문: transferTo, SSL: 고정 크기 버퍼로 나누어 암호화)
+ * 2026. 10. 18. kdk	서버 지표 추가 (조회 API + MBean), 요청/응답 데이터 로그를 전체/샘플링/끄기 중 선택 (PayloadLogPolicy)
+ * 2026. 10. 18. kdk	연결별 문자열 디코더/인코더 재사용 (RawFrameCodec 은 미완성 멀티바이트 문자를 다음 수신 데이터와 이어서 변환), BinaryMessageHandler 추가
+ * 2026. 10. 18. kdk	서버 종료 시 Worker 루프 종료 후 연결 정리 작업(버퍼 반납, 파일 닫기)을 실행하고 셀렉터 종료, Worker 별 연결 개수 조회 추가
+ * 2026. 10. 18. kdk	전체 송신 대기량이 high 워터마크를 넘으면 모든 Worker 의 연결 읽기를 즉시 중지
+ * 2026. 10. 18. kdk	파일 전송 대상을 원격 주소 대신 연결 ID 로 지정 (Handler 에 연결 ID 전달)
+ * 2026. 10. 18. kdk	세션 재사용 판단을 세션 ID 로 변경 (HandshakeMetrics)
+ * </pre>
+ *
+ * <pre>
+ * 스레드 구성
+ *  - NioNonBlockingServer-Acceptor : 연결 수락 전용 셀렉터
+ *  - NioNonBlockingServer-Worker-N : 수락된 연결의 핸드쉐이크, 읽기/쓰기 처리 (기본값: CPU 코어 수)
+ *  - 각 연결은 하나의 Worker 에 고정되므로 연결 단위의 처리 순서는 보장됨
+ *  - NioNonBlockingServer-Handler-N : MessageHandler 실행 (크기 제한 스레드 풀)
+ *    같은 연결의 요청은 순서대로 실행되고 응답도 요청 순서대로 전송됨, 서로 다른 연결은 병렬 처리
+ *  - NioNonBlockingServer-Handshake-N : SSLEngine 위임 작업(키 교환, 인증서 처리 등) 실행 (기본값: CPU 코어 수)
+ *
+ * 평문 모드 (키 저장소 없이 생성)
+ *  - SSLEngine 을 사용하지 않고 수신 버퍼로 바로 읽고, 송신 큐의 응답을 gathering write 로 바로 전송
+ *  - 루프백, SSL 을 로드밸런서/사이드카에서 종료하는 내부망 구간 전용 (외부망에 노출하지 말 것)
+ *  - 핸드쉐이크 스레드 풀, 핸드쉐이크 타임아웃/통계는 사용하지 않음
  * </pre>
  */
 public class NioNonBlockingServerThread {
 
 	private static final Logger logger = LoggerFactory.getLogger(NioNonBlockingServerThread.class);
 
+	private static final int DEFAULT_HANDLER_QUEUE_CAPACITY = 1024;
+
+	private static final long DEFAULT_HANDSHAKE_TIMEOUT_MILLIS = 10 * 1000L;
+
+	private static final int DEFAULT_HANDSHAKE_TASK_QUEUE_CAPACITY = 1024;
+
+	// SSL 세션 캐시 (JDK 기본 크기와 동일, 유효 시간은 1시간)
+	private static final int DEFAULT_SESSION_CACHE_SIZE = 20480;
+	private static final int DEFAULT_SESSION_TIMEOUT_SECONDS = 60 * 60;
+
+	// Worker 별 타이밍 휠 (100ms 틱 * 512 = 약 51초 주기)
+	private static final long TIMER_TICK_MILLIS = 100;
+	private static final int TIMER_TICKS_PER_WHEEL = 512;
+
+	private static final int DEFAULT_WRITE_LOW_WATER_MARK = 32 * 1024;
+	private static final int DEFAULT_WRITE_HIGH_WATER_MARK = 64 * 1024;
+
+	private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+	// 한 번의 wrap 에 모을 최대 응답 개수
+	private static final int MAX_GATHER_BUFFERS = 16;
+	// 한 번의 write 로 보낼 최대 TLS 레코드 개수 (송신 버퍼 크기 = 패킷 버퍼 크기 * 이 값)
+	private static final int MAX_RECORDS_PER_WRITE = 4;
+
+	// 평문 모드의 수신 버퍼 크기
+	private static final int PLAIN_RECV_BUFFER_SIZE = 64 * 1024;
+
+	// 서버 종료 시 Worker 루프 종료 대기 시간
+	private static final long REACTOR_STOP_TIMEOUT_MILLIS = 5000;
+
+	/**
+	 * 전문 단위 업무 처리
+	 *  - Handler 스레드 풀에서 호출되므로 블로킹 작업을 해도 셀렉터에 영향 없음
+	 *  - 응답이 없으면 null 또는 null 로 완료되는 CompletionStage 반환
+	 *  - 예외 또는 실패한 CompletionStage 반환 시 응답 순서를 보장할 수 없으므로 해당 연결을 종료
+	 */
+	public interface MessageHandler {
+		CompletionStage<String> onMessage(String remoteAddress, String message);
+
+		/**
+		 * 연결 ID 를 함께 받는 업무 처리 (sendFile 등 연결을 지정하는 API 에 사용)
+		 *  - 기본 구현은 onMessage(remoteAddress, message) 호출
+		 * @param lConnectionId 연결 ID (연결 동안 고유)
+		 * @param remoteAddress
+		 * @param message
+		 * @return
+		 */
+		default CompletionStage<String> onMessage(long lConnectionId, String remoteAddress, String message) {
+			return onMessage(remoteAddress, message);
+		}
+	}
+
+	/**
+	 * 문자열 변환 없이 전문(byte[]) 단위로 업무 처리
+	 *  - 응답 byte[] 는 FrameCodec 으로 인코딩하여 전송 (null 이면 응답 없음)
+	 *  - 그 외는 MessageHandler 와 동일
+	 */
+	public interface BinaryMessageHandler {
+		CompletionStage<byte[]> onMessage(String remoteAddress, byte[] message);
+
+		/**
+		 * 연결 ID 를 함께 받는 업무 처리 (MessageHandler 와 동일)
+		 * @param lConnectionId
+		 * @param remoteAddress
+		 * @param message
+		 * @return
+		 */
+		default CompletionStage<byte[]> onMessage(long lConnectionId, String remoteAddress, byte[] message) {
+			return onMessage(remoteAddress, message);
+		}
+	}
+
 	private Selector mSelector;
     private ServerSocketChannel mServerSocketChannel;
 
-    private ExecutorService handshakeTaskExecutor = Executors.newCachedThreadPool();
-    private List<Client> mConnections = new CopyOnWriteArrayList<>(); // ArrayList는 멀티스레드 환경에서 안전하지 않습니다.
+    private ThreadPoolExecutor handshakeTaskExecutor;
+    private int mHandshakeTaskThreadCount = Runtime.getRuntime().availableProcessors();
+    private int mHandshakeTaskQueueCapacity = DEFAULT_HANDSHAKE_TASK_QUEUE_CAPACITY;
+    // 연결 ID 기준 (연결/종료 시 목록 전체를 복사하지 않음)
+    private final Map<Long, Client> mConnections = new ConcurrentHashMap<>();
+    private final AtomicLong mNextConnectionId = new AtomicLong();
 
     private Thread serverThread;
 
+    private Reactor[] mReactors;
+    private final AtomicInteger mNextReactorIndex = new AtomicInteger();
+
     private int mPort;
+    private int mWorkerCount;
+    private final boolean mUseSsl;
     private SSLContext mSslContext;
-    private String mCharsetName;
+    private final Charset mCharset;
     private String mKeyStorePath;
     private char[] mKeyStorePassword;
 
+    private FrameCodec mFrameCodec = new RawFrameCodec();
+
+    // 기본값: 단순 Echo 예시
+    private MessageHandler mMessageHandler = new MessageHandler() {
+    	@Override
+    	public CompletionStage<String> onMessage(String remoteAddress, String message) {
+    		return CompletableFuture.completedFuture(message);
+    	}
+    };
+    // 지정하면 MessageHandler 대신 사용
+    private BinaryMessageHandler mBinaryMessageHandler;
+    private int mHandlerThreadCount = Runtime.getRuntime().availableProcessors() * 2;
+    private int mHandlerQueueCapacity = DEFAULT_HANDLER_QUEUE_CAPACITY;
+    private ExecutorService mHandlerExecutor;
+
+    private PooledByteBufferAllocator mBufferAllocator;
+
+    private int mSessionCacheSize = DEFAULT_SESSION_CACHE_SIZE;
+    private int mSessionTimeoutSeconds = DEFAULT_SESSION_TIMEOUT_SECONDS;
+    private final HandshakeMetrics mHandshakeMetrics = new HandshakeMetrics();
+
+    // 타임아웃 (0 이면 사용 안함)
+    private long mHandshakeTimeoutMillis = DEFAULT_HANDSHAKE_TIMEOUT_MILLIS;
+    private long mReadIdleTimeoutMillis;
+    private long mWriteIdleTimeoutMillis;
+
+    // 송신 대기 바이트 워터마크 : high 이상이면 해당 연결의 읽기 중지, low 이하로 내려가면 재개
+    private int mWriteLowWaterMark = DEFAULT_WRITE_LOW_WATER_MARK;
+    private int mWriteHighWaterMark = DEFAULT_WRITE_HIGH_WATER_MARK;
+    // 전체 연결 합계 워터마크 : high 이상이면 모든 연결의 읽기 중지, low 이하로 내려가면 재개 (기본값: 최대 힙의 1/8, 1/4)
+    private long mGlobalWriteLowWaterMark = Runtime.getRuntime().maxMemory() / 8;
+    private long mGlobalWriteHighWaterMark = Runtime.getRuntime().maxMemory() / 4;
+
+    private final AtomicLong mPendingWriteBytes = new AtomicLong();
+    private final AtomicLong mPendingWriteMessages = new AtomicLong();
+    private final AtomicBoolean mGlobalWritePaused = new AtomicBoolean();
+    private final AtomicInteger mPausedConnections = new AtomicInteger();
+
+    // 지표 (요청/응답 데이터 로그 정책은 시스템 속성 또는 MBean 으로 변경)
+    private final ServerMetrics mMetrics = new ServerMetrics(this::getConnectionCount, this::getPendingWriteMessages,
+    		mHandshakeMetrics, PayloadLogPolicy.fromSystemProperties());
+    private boolean mMBeanEnabled = true;
+
     public NioNonBlockingServerThread(String keyStorePath, String keyStorePassword, int nPort, String sCharsetName) {
+    	this(keyStorePath, keyStorePassword, nPort, sCharsetName, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param keyStorePath
+     * @param keyStorePassword
+     * @param nPort
+     * @param sCharsetName
+     * @param nWorkerCount 연결을 나누어 처리할 Worker 셀렉터 개수 (1 이상)
+     */
+    public NioNonBlockingServerThread(String keyStorePath, String keyStorePassword, int nPort, String sCharsetName, int nWorkerCount) {
     	Objects.requireNonNull(keyStorePath, "키 저장소 경로를 지정해야 합니다.");
     	Objects.requireNonNull(keyStorePassword, "키 저장소 비밀번호를 지정해야 합니다.");
 
@@ -77,15 +272,434 @@ public class NioNonBlockingServerThread {
 
     	Objects.requireNonNull(sCharsetName, "문자셋 이름은 null일 수 없습니다.");
 
+    	if (nWorkerCount <= 0) {
+    		throw new IllegalArgumentException("유효하지 않은 Worker 개수: " + nWorkerCount + ". 1 이상이어야 합니다.");
+    	}
+
     	this.mKeyStorePath = keyStorePath;
     	this.mKeyStorePassword = keyStorePassword.toCharArray();
     	this.mPort = nPort;
-    	this.mCharsetName = sCharsetName;
+    	this.mCharset = Charset.forName(sCharsetName);
+    	this.mWorkerCount = nWorkerCount;
+    	this.mUseSsl = true;
+    }
+
+    /**
+     * 평문 모드 (SSL 미사용)
+     *  - 루프백, SSL 을 앞단에서 종료하는 내부망 구간에서만 사용
+     * @param nPort
+     * @param sCharsetName
+     * @param nWorkerCount 연결을 나누어 처리할 Worker 셀렉터 개수 (1 이상)
+     */
+    public NioNonBlockingServerThread(int nPort, String sCharsetName, int nWorkerCount) {
+    	if (nPort <= 0 || nPort > 65535) {
+    		throw new IllegalArgumentException("유효하지 않은 포트 번호: " + nPort + ". 포트 번호는 1에서 65535 사이여야 합니다.");
+        }
+
+    	Objects.requireNonNull(sCharsetName, "문자셋 이름은 null일 수 없습니다.");
+
+    	if (nWorkerCount <= 0) {
+    		throw new IllegalArgumentException("유효하지 않은 Worker 개수: " + nWorkerCount + ". 1 이상이어야 합니다.");
+    	}
+
+    	this.mPort = nPort;
+    	this.mCharset = Charset.forName(sCharsetName);
+    	this.mWorkerCount = nWorkerCount;
+    	this.mUseSsl = false;
     }
 
+    /**
+     * SSL 사용 여부 (평문 모드이면 false)
+     * @return
+     */
+    public boolean isSsl() {
+    	return mUseSsl;
+    }
+
+	/**
+	 * 전문 프레이밍 코덱 지정 (startServer 전에 호출)
+	 *  - 기본값 RawFrameCodec : 수신된 만큼을 하나의 메시지로 처리
+	 * @param frameCodec
+	 */
+	public void setFrameCodec(FrameCodec frameCodec) {
+		this.mFrameCodec = Objects.requireNonNull(frameCodec, "frameCodec 은 null일 수 없습니다.");
+	}
+
+	/**
+	 * 업무 처리 핸들러 지정 (startServer 전에 호출)
+	 * @param messageHandler
+	 */
+	public void setMessageHandler(MessageHandler messageHandler) {
+		this.mMessageHandler = Objects.requireNonNull(messageHandler, "messageHandler 는 null일 수 없습니다.");
+		this.mBinaryMessageHandler = null;
+	}
+
+	/**
+	 * 문자열 변환 없이 byte[] 로 처리하는 업무 처리 핸들러 지정 (startServer 전에 호출)
+	 *  - 지정하면 MessageHandler 는 사용하지 않음
+	 * @param binaryMessageHandler
+	 */
+	public void setBinaryMessageHandler(BinaryMessageHandler binaryMessageHandler) {
+		this.mBinaryMessageHandler = Objects.requireNonNull(binaryMessageHandler, "binaryMessageHandler 는 null일 수 없습니다.");
+	}
+
+	/**
+	 * Handler 스레드 풀 크기 지정 (startServer 전에 호출)
+	 *  - 대기 큐가 가득 차면 해당 요청의 연결을 종료 (과부하 시 셀렉터가 막히지 않도록)
+	 * @param nThreadCount Handler 스레드 개수 (기본값: CPU 코어 수 * 2)
+	 * @param nQueueCapacity 대기 큐 크기 (기본값: 1024)
+	 */
+	public void setHandlerPoolSize(int nThreadCount, int nQueueCapacity) {
+		if (nThreadCount <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 Handler 스레드 개수: " + nThreadCount + ". 1 이상이어야 합니다.");
+		}
+
+		if (nQueueCapacity <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 Handler 대기 큐 크기: " + nQueueCapacity + ". 1 이상이어야 합니다.");
+		}
+
+		this.mHandlerThreadCount = nThreadCount;
+		this.mHandlerQueueCapacity = nQueueCapacity;
+	}
+
+	/**
+	 * 핸드쉐이크 위임 작업 스레드 풀 크기 지정 (startServer 전에 호출)
+	 *  - 대기 큐가 가득 차면 Worker 스레드에서 직접 실행 (핸드쉐이크가 몰리면 새 연결 처리 속도를 늦춤)
+	 * @param nThreadCount 스레드 개수 (기본값: CPU 코어 수)
+	 * @param nQueueCapacity 대기 큐 크기 (기본값: 1024)
+	 */
+	public void setHandshakeTaskPoolSize(int nThreadCount, int nQueueCapacity) {
+		if (nThreadCount <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 핸드쉐이크 스레드 개수: " + nThreadCount + ". 1 이상이어야 합니다.");
+		}
+
+		if (nQueueCapacity <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 핸드쉐이크 대기 큐 크기: " + nQueueCapacity + ". 1 이상이어야 합니다.");
+		}
+
+		this.mHandshakeTaskThreadCount = nThreadCount;
+		this.mHandshakeTaskQueueCapacity = nQueueCapacity;
+	}
+
+	/**
+	 * SSL 세션 캐시 지정 (startServer 전에 호출)
+	 *  - 캐시된 세션으로 재연결하는 클라이언트는 키 교환 없이 세션을 재사용 (Resumed 핸드쉐이크)
+	 * @param nCacheSize 최대 세션 수 (기본값: 20480, 0 이면 제한 없음)
+	 * @param nTimeoutSeconds 세션 유효 시간 (기본값: 3600초, 0 이면 제한 없음)
+	 */
+	public void setSessionCache(int nCacheSize, int nTimeoutSeconds) {
+		if ( nCacheSize < 0 || nTimeoutSeconds < 0 ) {
+			throw new IllegalArgumentException("유효하지 않은 세션 캐시 설정: size=" + nCacheSize + ", timeout=" + nTimeoutSeconds + ". 0 이상이어야 합니다.");
+		}
+
+		this.mSessionCacheSize = nCacheSize;
+		this.mSessionTimeoutSeconds = nTimeoutSeconds;
+	}
+
+	/**
+	 * 핸드쉐이크 통계 (Full / Resumed / 실패 횟수, 소요 시간 백분위)
+	 * @return
+	 */
+	public HandshakeMetrics getHandshakeMetrics() {
+		return mHandshakeMetrics;
+	}
+
+	/**
+	 * 서버 지표 (연결, 수신/송신량, 단계별 지연 시간, 송신 대기, 핸드쉐이크 실패)
+	 *  - 같은 값을 MBean (common.tcp:type=NioNonBlockingServerThread,port=포트) 으로도 조회 가능
+	 * @return
+	 */
+	public ServerMetrics getMetrics() {
+		return mMetrics;
+	}
+
+	/**
+	 * 요청/응답 데이터 로그 정책 (실행 중 변경 가능)
+	 *  - 기본값: 시스템 속성 common.tcp.payloadLog (full | sampled | off), 지정하지 않으면 full
+	 * @return
+	 */
+	public PayloadLogPolicy getPayloadLogPolicy() {
+		return mMetrics.getPayloadLogPolicy();
+	}
+
+	/**
+	 * 서버 시작 시 지표 MBean 등록 여부 (startServer 전에 호출, 기본값: true)
+	 * @param bEnabled
+	 */
+	public void setMBeanEnabled(boolean bEnabled) {
+		this.mMBeanEnabled = bEnabled;
+	}
+
+	/**
+	 * 실행을 기다리는 핸드쉐이크 위임 작업 개수
+	 * @return
+	 */
+	public int getHandshakeTaskQueueDepth() {
+		return (handshakeTaskExecutor == null) ? 0 : handshakeTaskExecutor.getQueue().size();
+	}
+
+	/**
+	 * 실행 중인 핸드쉐이크 위임 작업 개수
+	 * @return
+	 */
+	public int getActiveHandshakeTaskCount() {
+		return (handshakeTaskExecutor == null) ? 0 : handshakeTaskExecutor.getActiveCount();
+	}
+
+	/**
+	 * 연결별 SSL 버퍼 및 수신 누적 버퍼용 풀 지정 (startServer 전에 호출)
+	 *  - 지정하지 않으면 SSL 세션의 버퍼 크기에 맞춘 Direct 버퍼 풀을 생성
+	 * @param bufferAllocator
+	 */
+	public void setBufferAllocator(PooledByteBufferAllocator bufferAllocator) {
+		this.mBufferAllocator = Objects.requireNonNull(bufferAllocator, "bufferAllocator 는 null일 수 없습니다.");
+	}
+
+	/**
+	 * 버퍼 풀 점유 현황 (startServer 이후)
+	 * @return
+	 */
+	public PooledByteBufferAllocator.Stats getBufferPoolStats() {
+		return (mBufferAllocator == null) ? null : mBufferAllocator.getStats();
+	}
+
+	/**
+	 * 핸드쉐이크 제한 시간 지정 (startServer 전에 호출)
+	 *  - 연결 후 제한 시간 내에 핸드쉐이크를 마치지 못하면 연결 종료 (기본값: 10초, 0 이면 사용 안함)
+	 * @param lTimeout
+	 * @param unit
+	 */
+	public void setHandshakeTimeout(long lTimeout, TimeUnit unit) {
+		if (lTimeout < 0) {
+			throw new IllegalArgumentException("유효하지 않은 핸드쉐이크 제한 시간: " + lTimeout + ". 0 이상이어야 합니다.");
+		}
+
+		this.mHandshakeTimeoutMillis = Objects.requireNonNull(unit, "unit 은 null일 수 없습니다.").toMillis(lTimeout);
+	}
+
+	/**
+	 * 유휴 제한 시간 지정 (startServer 전에 호출, 0 이면 사용 안함, 기본값: 사용 안함)
+	 *  - 읽기 유휴 : 제한 시간 동안 수신 데이터가 없으면 연결 종료 (송신 대기량 때문에 읽기를 중지한 동안은 제외)
+	 *  - 쓰기 유휴 : 보낼 데이터가 있는데 제한 시간 동안 전송이 진행되지 않으면 연결 종료 (응답을 읽지 않는 클라이언트)
+	 * @param lReadIdleTimeout
+	 * @param lWriteIdleTimeout
+	 * @param unit
+	 */
+	public void setIdleTimeout(long lReadIdleTimeout, long lWriteIdleTimeout, TimeUnit unit) {
+		if ( lReadIdleTimeout < 0 || lWriteIdleTimeout < 0 ) {
+			throw new IllegalArgumentException("유효하지 않은 유휴 제한 시간: read=" + lReadIdleTimeout + ", write=" + lWriteIdleTimeout + ". 0 이상이어야 합니다.");
+		}
+
+		Objects.requireNonNull(unit, "unit 은 null일 수 없습니다.");
+		this.mReadIdleTimeoutMillis = unit.toMillis(lReadIdleTimeout);
+		this.mWriteIdleTimeoutMillis = unit.toMillis(lWriteIdleTimeout);
+	}
+
+	/**
+	 * 현재 연결 개수
+	 * @return
+	 */
+	public int getConnectionCount() {
+		return mConnections.size();
+	}
+
+	/**
+	 * Worker 별 연결 개수 (startServer 이후, Worker 순서)
+	 * @return
+	 */
+	public int[] getWorkerConnectionCounts() {
+		if (mReactors == null) {
+			return new int[0];
+		}
+
+		int[] counts = new int[mReactors.length];
+		for (int i = 0; i < mReactors.length; i++) {
+			counts[i] = (mReactors[i] == null) ? 0 : mReactors[i].getConnections().size();
+		}
+		return counts;
+	}
+
+	/**
+	 * 파일 전송 (메모리에 읽어 들이지 않고 전송)
+	 *  - 평문 모드 : FileChannel.transferTo 로 페이지 캐시에서 소켓으로 바로 전송
+	 *  - SSL 모드 : 고정 크기 버퍼(SSL 애플리케이션 버퍼 크기)로 나누어 읽고 암호화하여 전송
+	 *  - 파일 내용은 FrameCodec 을 거치지 않고 그대로 전송 (길이 헤더 등이 필요하면 header 로 지정)
+	 *  - 이미 송신 큐에 있는 응답 다음에 전송하며, 전송 중에 추가된 응답은 파일 전송 후 전송
+	 *    (MessageHandler 에서 호출하면 해당 요청의 응답보다 먼저 전송됨)
+	 *  - 파일 크기는 송신 대기 바이트(워터마크)에 포함하지 않음
+	 * @param lConnectionId MessageHandler.onMessage(long, String, String) 로 전달된 연결 ID
+	 * @param file
+	 * @param header 파일 앞에 그대로 전송할 데이터 (없으면 null)
+	 * @return 전송한 파일 바이트 수로 완료 (Worker 스레드에서 완료), 연결이 없거나 종료되면 IOException 으로 실패
+	 */
+	public CompletableFuture<Long> sendFile(long lConnectionId, File file, byte[] header) {
+		Objects.requireNonNull(file, "file 은 null일 수 없습니다.");
+
+		Client client = mConnections.get(lConnectionId);
+		if (client == null) {
+			CompletableFuture<Long> failed = new CompletableFuture<>();
+			failed.completeExceptionally(new IOException("연결을 찾을 수 없습니다: " + lConnectionId));
+			return failed;
+		}
+		return client.sendFile(file, header);
+	}
+
+	public CompletableFuture<Long> sendFile(long lConnectionId, File file) {
+		return sendFile(lConnectionId, file, null);
+	}
+
+	/**
+	 * 연결별 송신 대기 바이트 워터마크 지정 (startServer 전에 호출)
+	 *  - 응답을 읽어가지 않는 클라이언트 때문에 송신 큐가 무한정 쌓이지 않도록,
+	 *    high 이상이면 해당 연결의 읽기(OP_READ)를 중지하고 low 이하로 내려가면 재개
+	 * @param nLowWaterMark 기본값: 32K
+	 * @param nHighWaterMark 기본값: 64K
+	 */
+	public void setWriteBufferWaterMark(int nLowWaterMark, int nHighWaterMark) {
+		if ( nLowWaterMark < 0 || nHighWaterMark <= nLowWaterMark ) {
+			throw new IllegalArgumentException("유효하지 않은 워터마크: low=" + nLowWaterMark + ", high=" + nHighWaterMark + ". 0 <= low < high 이어야 합니다.");
+		}
+
+		this.mWriteLowWaterMark = nLowWaterMark;
+		this.mWriteHighWaterMark = nHighWaterMark;
+	}
+
+	/**
+	 * 전체 연결의 송신 대기 바이트 합계 워터마크 지정 (startServer 전에 호출)
+	 *  - high 이상이면 모든 연결의 읽기를 중지하고 low 이하로 내려가면 재개
+	 * @param lLowWaterMark 기본값: 최대 힙의 1/8
+	 * @param lHighWaterMark 기본값: 최대 힙의 1/4
+	 */
+	public void setGlobalWriteBufferWaterMark(long lLowWaterMark, long lHighWaterMark) {
+		if ( lLowWaterMark < 0 || lHighWaterMark <= lLowWaterMark ) {
+			throw new IllegalArgumentException("유효하지 않은 워터마크: low=" + lLowWaterMark + ", high=" + lHighWaterMark + ". 0 <= low < high 이어야 합니다.");
+		}
+
+		this.mGlobalWriteLowWaterMark = lLowWaterMark;
+		this.mGlobalWriteHighWaterMark = lHighWaterMark;
+	}
+
+	/**
+	 * 전체 연결의 송신 대기 바이트 (암호화 전 응답 기준)
+	 * @return
+	 */
+	public long getPendingWriteBytes() {
+		return mPendingWriteBytes.get();
+	}
+
+	/**
+	 * 전체 연결의 송신 대기 응답 개수
+	 * @return
+	 */
+	public long getPendingWriteMessages() {
+		return mPendingWriteMessages.get();
+	}
+
+	/**
+	 * 송신 대기량 때문에 읽기가 중지된 연결 개수
+	 * @return
+	 */
+	public int getPausedConnectionCount() {
+		return mPausedConnections.get();
+	}
+
+	/**
+	 * 전체 송신 대기량이 high 워터마크 이상이라 모든 연결의 읽기가 중지된 상태인지 여부
+	 * @return
+	 */
+	public boolean isGlobalWritePaused() {
+		return mGlobalWritePaused.get();
+	}
+
+	/**
+	 * 전체 송신 대기량 증감 (Handler, Worker 스레드에서 호출)
+	 * @param nBytes
+	 * @param nMessages
+	 */
+	private void addPendingWrite(long nBytes, int nMessages) {
+		long lTotal = mPendingWriteBytes.addAndGet(nBytes);
+		mPendingWriteMessages.addAndGet(nMessages);
+
+		if ( nBytes > 0 && lTotal >= mGlobalWriteHighWaterMark && mGlobalWritePaused.compareAndSet(false, true) ) {
+			logger.warn("[전체 송신 대기량 초과, 모든 연결 읽기 중지: {} bytes]", lTotal);
+
+			// 응답을 기다리지 않고 읽기만 하는 연결도 중지되도록 모든 Worker 에 전달
+			for (Reactor reactor : mReactors) {
+				reactor.execute(reactor::pauseAllClients);
+			}
+		} else if ( nBytes < 0 && lTotal <= mGlobalWriteLowWaterMark && mGlobalWritePaused.compareAndSet(true, false) ) {
+			logger.info("[전체 송신 대기량 해소, 읽기 재개: {} bytes]", lTotal);
+
+			for (Reactor reactor : mReactors) {
+				reactor.execute(reactor::resumePausedClients);
+			}
+		}
+	}
+
+	private PooledByteBufferAllocator createBufferAllocator() {
+		if (!mUseSsl) {
+			// 수신 누적 버퍼(4K), 수신 버퍼
+			int[] sizeClasses = { 4096, PLAIN_RECV_BUFFER_SIZE };
+			return new PooledByteBufferAllocator(sizeClasses, PooledByteBufferAllocator.DEFAULT_MAX_POOLED_PER_CLASS, true);
+		}
+
+		SSLSession session = mSslContext.createSSLEngine().getSession();
+		int appBufferSize = session.getApplicationBufferSize();
+		int netBufferSize = session.getPacketBufferSize();
+
+		// 수신 누적 버퍼(4K), SSL 버퍼, BUFFER_OVERFLOW 등으로 확장된 SSL 버퍼, 송신 버퍼
+		int[] sizeClasses = { 4096, appBufferSize, netBufferSize, appBufferSize * 2, netBufferSize * 2, netBufferSize * MAX_RECORDS_PER_WRITE };
+		return new PooledByteBufferAllocator(sizeClasses, PooledByteBufferAllocator.DEFAULT_MAX_POOLED_PER_CLASS, true);
+	}
+
+	private ExecutorService createHandlerExecutor() {
+		final AtomicInteger threadIndex = new AtomicInteger();
+
+		return new ThreadPoolExecutor(mHandlerThreadCount, mHandlerThreadCount, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(mHandlerQueueCapacity),
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "NioNonBlockingServer-Handler-" + threadIndex.getAndIncrement());
+						thread.setDaemon(true);
+						return thread;
+					}
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	private ThreadPoolExecutor createHandshakeTaskExecutor() {
+		final AtomicInteger threadIndex = new AtomicInteger();
+
+		return new ThreadPoolExecutor(mHandshakeTaskThreadCount, mHandshakeTaskThreadCount, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(mHandshakeTaskQueueCapacity),
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "NioNonBlockingServer-Handshake-" + threadIndex.getAndIncrement());
+						thread.setDaemon(true);
+						return thread;
+					}
+				},
+				new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
 	public void startServer() {
 		try {
-			mSslContext = createSSLContext();
+			if (mUseSsl) {
+				mSslContext = createSSLContext();
+				handshakeTaskExecutor = createHandshakeTaskExecutor();
+			}
+			mHandlerExecutor = createHandlerExecutor();
+
+			if (mBufferAllocator == null) {
+				mBufferAllocator = createBufferAllocator();
+			}
+
+			mReactors = new Reactor[mWorkerCount];
+			for (int i = 0; i < mWorkerCount; i++) {
+				mReactors[i] = new Reactor(i);
+			}
 
 			mSelector = Selector.open();
 			mServerSocketChannel = ServerSocketChannel.open();
@@ -97,12 +711,21 @@ public class NioNonBlockingServerThread {
         		CertificateException | UnrecoverableKeyException | KeyManagementException e) {
             logger.error("서버 시작 중 치명적인 오류 발생: {}", e.getMessage(), e);
             stopServer();
+            return;
         }
 
+		if (mMBeanEnabled) {
+			mMetrics.registerMBean(NioNonBlockingServerThread.class.getSimpleName(), mPort);
+		}
+
+		for (Reactor reactor : mReactors) {
+			reactor.start();
+		}
+
 		serverThread = new Thread(new Runnable() {
             @Override
             public void run() {
-                logger.info("[서버 시작]");
+                logger.info("[서버 시작] Worker 개수: {}, SSL: {}", mWorkerCount, mUseSsl);
 
                 while ( !Thread.currentThread().isInterrupted() ) { // 스레드 인터럽트 여부 확인
                 	boolean terminateOuterLoop = true;
@@ -118,7 +741,7 @@ public class NioNonBlockingServerThread {
                         		SelectionKey selectionKey = it.next();
                         		it.remove(); // 처리된 키는 즉시 제거
 
-                        		boolean isSuccess = processSelectionKey(selectionKey);
+                        		boolean isSuccess = processAcceptKey(selectionKey);
                         		if (!isSuccess) {
                         			break;
                         		}
@@ -129,6 +752,9 @@ public class NioNonBlockingServerThread {
                         logger.error("셀렉터 작업 중 오류 발생: {}", e.getMessage(), e);
                         stopServer();
                         terminateOuterLoop = false;
+                    } catch (ClosedSelectorException e) {
+                    	// stopServer() 에 의해 셀렉터가 닫힌 경우
+                    	terminateOuterLoop = false;
                     }
 
                     if (!terminateOuterLoop) {
@@ -139,41 +765,50 @@ public class NioNonBlockingServerThread {
             }
         });
 
-		serverThread.setName("NioNonBlockingServer-Thread");
+		serverThread.setName("NioNonBlockingServer-Acceptor");
 		serverThread.setDaemon(true); // 애플리케이션 종료 시 함께 종료되도록 데몬 스레드로 설정
 		serverThread.start();
 	}
 
-	private boolean processSelectionKey(SelectionKey selectionKey) {
+	private boolean processAcceptKey(SelectionKey selectionKey) {
+		try {
+			if ( selectionKey.isValid() && selectionKey.isAcceptable() ) {
+				accept(selectionKey);
+			}
+		} catch (IOException e) {
+			// accept 실패 시 서버 전체 종료를 고려 (예: 포트 충돌 등)
+			logger.error("연결 수락 중 치명적인 오류 발생. 서버 종료를 시도합니다.", e);
+			stopServer();
+			return false;
+		}
+
+		return true;
+	}
+
+	private void processSelectionKey(SelectionKey selectionKey) {
+        Client client = (Client) selectionKey.attachment();
+
         try {
-            if (selectionKey.isAcceptable()) {
-                accept(selectionKey);
-            } else if (selectionKey.isReadable()) {
-                Client client = (Client) selectionKey.attachment();
+        	client.acquireBuffers();
+
+        	if ( !client.isHandshakeDone() ) {
+        		client.doHandshake(selectionKey);
+        	} else if (selectionKey.isReadable()) {
                 client.receive(selectionKey);
             } else if (selectionKey.isWritable()) {
-                Client client = (Client) selectionKey.attachment();
                 client.send(selectionKey);
             }
 
+            client.releaseIdleBuffers();
+
         } catch (Exception e) {
             logger.error("클라이언트 처리 중 오류 발생: {}", e.getMessage(), e);
             if (selectionKey.isValid()) {
                 selectionKey.cancel(); // 유효한 키만 취소
             }
 
-            if (selectionKey.attachment() instanceof Client) {
-                Client client = (Client) selectionKey.attachment();
-                client.closeClient(); // 클라이언트 자원 정리 (내부에서 mConnections.remove 처리)
-            } else if (selectionKey.isAcceptable()) {
-                // accept 실패 시 서버 전체 종료를 고려 (예: 포트 충돌 등)
-                logger.error("연결 수락 중 치명적인 오류 발생. 서버 종료를 시도합니다.", e);
-                stopServer();
-                return false;
-            }
+            client.closeClient(); // 클라이언트 자원 정리 (내부에서 mConnections.remove 처리)
         }
-
-        return true;
     }
 
 	public void stopServer() {
@@ -181,7 +816,7 @@ public class NioNonBlockingServerThread {
 
 		try {
 	        // 모든 연결된 클라이언트 종료
-	        for (Client client : mConnections) { // for-each 루프 사용
+	        for (Client client : mConnections.values()) { // for-each 루프 사용
 	        	closeClientSafely(client);
 	        }
             mConnections.clear();	// 혹시 남아있을 수 있는 요소 정리
@@ -198,10 +833,24 @@ public class NioNonBlockingServerThread {
 				serverThread.interrupt(); // 스레드 인터럽트
 			}
 
+			if (mReactors != null) {
+				for (Reactor reactor : mReactors) {
+					if (reactor != null) {
+						reactor.stop();
+					}
+				}
+			}
+
 	        if (handshakeTaskExecutor != null) {
 	        	shutdownAndAwaitTermination(handshakeTaskExecutor, 5, TimeUnit.SECONDS);
 	        }
 
+	        if (mHandlerExecutor != null) {
+	        	shutdownAndAwaitTermination(mHandlerExecutor, 5, TimeUnit.SECONDS);
+	        }
+
+	        mMetrics.unregisterMBean();
+
 	        mKeyStorePath = null;
 	        mKeyStorePassword = null;
 
@@ -263,35 +912,307 @@ public class NioNonBlockingServerThread {
 
 	    SSLContext sslContext = SSLContext.getInstance("TLS");
 	    sslContext.init(kmf.getKeyManagers(), null, null);
+
+	    SSLSessionContext sessionContext = sslContext.getServerSessionContext();
+	    sessionContext.setSessionCacheSize(mSessionCacheSize);
+	    sessionContext.setSessionTimeout(mSessionTimeoutSeconds);
 	    return sslContext;
     }
 
+	/**
+	 * 연결을 수락하여 라운드 로빈으로 선택된 Worker 에 넘김
+	 *  - 서버 채널은 계속 수락해야 하므로 여기서 닫지 않음
+	 *  - Client 생성(SSLEngine, 셀렉터 등록)은 해당 Worker 스레드에서 수행
+	 * @param selectionKey
+	 * @throws IOException
+	 */
 	void accept(SelectionKey selectionKey) throws IOException {
-        try (
-        		ServerSocketChannel serverSocketChannel = (ServerSocketChannel) selectionKey.channel();
-                SocketChannel socketChannel = serverSocketChannel.accept()
-        ) {
+		ServerSocketChannel serverSocketChannel = (ServerSocketChannel) selectionKey.channel();
 
-           if (socketChannel != null) {
-               logger.info("[연결 수락: {} : {}]", socketChannel.getRemoteAddress(), Thread.currentThread().getName());
+		SocketChannel socketChannel;
+		while ( (socketChannel = serverSocketChannel.accept()) != null ) {
+			logger.info("[연결 수락: {} : {}]", socketChannel.getRemoteAddress(), Thread.currentThread().getName());
+			mMetrics.recordAccept();
 
-               Client client = new Client(socketChannel); // Client 생성자에서 SSL 핸드쉐이크 시작
-               mConnections.add(client);
+			try {
+				socketChannel.configureBlocking(false);
+				nextReactor().register(socketChannel);
+			} catch (IOException e) {
+				logger.error("수락된 연결 초기화 중 오류 발생: {}", e.getMessage(), e);
+				socketChannel.close();
+			}
+		}
+	}
 
-               logger.info("[연결 개수: {}]", mConnections.size());
-           }
-       } catch (IOException e) {
-           // 여기서 예외를 다시 던지거나 (throws IOException),
-           // 해당 오류가 치명적이라고 판단되면 여기서 stopServer()를 직접 호출할 수도 있습니다.
-           // 현재는 상위 호출자인 startServer의 catch 블록에서 처리됩니다.
-           throw new IOException("클라이언트 연결 수락 중 오류가 발생했습니다. (포트: " + mPort + ")", e);
-       }
+	private Reactor nextReactor() {
+		int nIndex = (mNextReactorIndex.getAndIncrement() & Integer.MAX_VALUE) % mReactors.length;
+		return mReactors[nIndex];
+	}
+
+	/**
+	 * Worker 셀렉터 루프
+	 *  - 자신에게 할당된 연결만 처리하며, 각자의 Client 목록을 가짐
+	 */
+	class Reactor implements Runnable {
+		private final Selector mmSelector;
+		private final Thread mmThread;
+		private final ConcurrentLinkedQueue<SocketChannel> mmPendingChannels = new ConcurrentLinkedQueue<>();
+		private final ConcurrentLinkedQueue<Runnable> mmPendingTasks = new ConcurrentLinkedQueue<>();
+		private final Map<Long, Client> mmConnections = new ConcurrentHashMap<>();
+		// 핸드쉐이크/유휴 타임아웃 (Worker 스레드에서만 사용)
+		private final HashedTimingWheel mmTimer = new HashedTimingWheel(TIMER_TICK_MILLIS, TimeUnit.MILLISECONDS, TIMER_TICKS_PER_WHEEL);
+		// wrap 에 넘길 배열 (Worker 스레드에서만 사용하므로 연결마다 두지 않고 공유)
+		private final ByteBuffer[] mmGatherBuffers = new ByteBuffer[MAX_GATHER_BUFFERS];
+		// 송신 대기량 때문에 읽기가 중지된 연결 (Worker 스레드에서만 사용)
+		private final Set<Client> mmPausedClients = new HashSet<>();
+		// 루프 종료 후 (이후 등록된 작업은 호출 스레드에서 실행)
+		private volatile boolean mmTerminated;
+
+		Reactor(int nIndex) throws IOException {
+			this.mmSelector = Selector.open();
+			this.mmThread = new Thread(this, "NioNonBlockingServer-Worker-" + nIndex);
+			this.mmThread.setDaemon(true);
+		}
+
+		void start() {
+			mmThread.start();
+		}
+
+		/**
+		 * Acceptor 스레드에서 호출. 실제 셀렉터 등록은 Worker 스레드에서 처리
+		 * (다른 스레드에서 select() 중인 셀렉터에 register 하면 블로킹될 수 있음)
+		 */
+		void register(SocketChannel socketChannel) {
+			mmPendingChannels.offer(socketChannel);
+			mmSelector.wakeup();
+		}
+
+		/**
+		 * Worker 스레드에서 실행할 작업 등록 (Handler 스레드 등 다른 스레드에서 호출)
+		 *  - interestOps 변경 등 셀렉터 관련 작업은 Worker 스레드에서만 수행
+		 */
+		void execute(Runnable task) {
+			mmPendingTasks.offer(task);
+
+			if (mmTerminated) {
+				// 서버 종료 후 늦게 끝난 Handler 의 연결 정리 요청 등 (실행할 Worker 스레드가 없음)
+				runTerminatedTasks();
+			} else {
+				mmSelector.wakeup();
+			}
+		}
+
+		Selector getSelector() {
+			return mmSelector;
+		}
+
+		Map<Long, Client> getConnections() {
+			return mmConnections;
+		}
+
+		HashedTimingWheel getTimer() {
+			return mmTimer;
+		}
+
+		ByteBuffer[] getGatherBuffers() {
+			return mmGatherBuffers;
+		}
+
+		boolean inEventLoop() {
+			return Thread.currentThread() == mmThread;
+		}
+
+		Set<Client> getPausedClients() {
+			return mmPausedClients;
+		}
+
+		/**
+		 * 전체 송신 대기량이 high 워터마크 이상이 되었을 때, 이 Worker 의 모든 연결 읽기 중지
+		 */
+		void pauseAllClients() {
+			if ( !mGlobalWritePaused.get() ) {
+				// 전달되는 사이에 이미 해소된 경우
+				return;
+			}
+
+			for (Client client : mmConnections.values()) {
+				client.updateReadInterest();
+			}
+		}
+
+		/**
+		 * 전체 송신 대기량이 low 워터마크 이하로 내려갔을 때, 중지된 연결의 읽기 재개 여부를 다시 판단
+		 */
+		void resumePausedClients() {
+			for (Client client : new ArrayList<>(mmPausedClients)) {
+				client.updateReadInterest();
+			}
+		}
+
+		@Override
+		public void run() {
+			while ( !Thread.currentThread().isInterrupted() && mmSelector.isOpen() ) {
+				try {
+					// 대기 중인 타임아웃이 있으면 다음 틱까지만 대기
+					if ( mmTimer.pendingTimeouts() > 0 ) {
+						mmSelector.select(mmTimer.millisUntilNextTick(System.nanoTime()));
+					} else {
+						mmSelector.select();
+					}
+
+					registerPendingChannels();
+					runPendingTasks();
+
+					Iterator<SelectionKey> it = mmSelector.selectedKeys().iterator();
+					while (it.hasNext()) {
+						SelectionKey selectionKey = it.next();
+						it.remove();
+
+						if ( selectionKey.isValid() ) {
+							processSelectionKey(selectionKey);
+						}
+					}
+
+					expireTimeouts();
+				} catch (IOException e) {
+					logger.error("Worker 셀렉터 작업 중 오류 발생: {}", e.getMessage(), e);
+					break;
+				} catch (ClosedSelectorException e) {
+					break;
+				}
+			}
+			logger.info("[Worker 루프 종료: {}]", Thread.currentThread().getName());
+		}
+
+		private void registerPendingChannels() {
+			SocketChannel socketChannel;
+			while ( (socketChannel = mmPendingChannels.poll()) != null ) {
+				try {
+					Client client = new Client(socketChannel, this); // Client 생성자에서 SSL 핸드쉐이크 시작
+					mmConnections.put(client.getConnectionId(), client);
+					mConnections.put(client.getConnectionId(), client);
+
+					logger.info("[연결 개수: {} (Worker: {})]", mConnections.size(), mmConnections.size());
+				} catch (IOException e) {
+					logger.error("클라이언트 등록 중 오류 발생: {}", e.getMessage(), e);
+					closeChannelQuietly(socketChannel);
+				}
+			}
+		}
+
+		private void expireTimeouts() {
+			try {
+				mmTimer.expireTimeouts(System.nanoTime());
+			} catch (Exception e) {
+				logger.error("Worker 타임아웃 처리 중 오류 발생: {}", e.getMessage(), e);
+			}
+		}
+
+		private void runPendingTasks() {
+			Runnable task;
+			while ( (task = mmPendingTasks.poll()) != null ) {
+				try {
+					task.run();
+				} catch (Exception e) {
+					logger.error("Worker 작업 처리 중 오류 발생: {}", e.getMessage(), e);
+				}
+			}
+		}
+
+		/**
+		 * 루프 종료 후 남은 작업 실행 (여러 스레드에서 호출될 수 있으므로 하나씩 실행)
+		 */
+		private synchronized void runTerminatedTasks() {
+			runPendingTasks();
+		}
+
+		/**
+		 * Worker 종료
+		 *  - 루프를 먼저 끝낸 뒤 연결을 닫고, 연결 종료 시 예약된 정리 작업(버퍼 반납, 파일 닫기)을 이 스레드에서 실행한 후 셀렉터 종료
+		 */
+		void stop() {
+			mmThread.interrupt();
+			mmSelector.wakeup();
+
+			if ( !inEventLoop() ) {
+				try {
+					mmThread.join(REACTOR_STOP_TIMEOUT_MILLIS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+
+				if ( mmThread.isAlive() ) {
+					logger.warn("[Worker 루프가 {} ms 내에 종료되지 않았습니다: {}]", REACTOR_STOP_TIMEOUT_MILLIS, mmThread.getName());
+				}
+			}
+
+			SocketChannel socketChannel;
+			while ( (socketChannel = mmPendingChannels.poll()) != null ) {
+				closeChannelQuietly(socketChannel);
+			}
+
+			for (Client client : mmConnections.values()) {
+				closeClientSafely(client);
+			}
+			mmConnections.clear();
+
+			mmTerminated = true;
+			runTerminatedTasks();
+
+			try {
+				mmSelector.close();
+			} catch (IOException e) {
+				logger.error("Worker 셀렉터 종료 중 오류 발생: {}", e.getMessage(), e);
+			}
+		}
+	}
+
+	private void closeChannelQuietly(SocketChannel socketChannel) {
+		try {
+			socketChannel.close();
+		} catch (IOException e) {
+			logger.error("채널 종료 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 송신 큐에서 순서를 지키며 전송할 파일
+	 *  - 송신 큐에는 표식(빈 버퍼)을 넣고, 표식이 큐의 맨 앞에 오면 파일을 전송
+	 */
+	private static class FileTransfer {
+		private final ByteBuffer marker = ByteBuffer.allocate(0);
+		private final CompletableFuture<Long> future = new CompletableFuture<>();
+		private final FileChannel fileChannel;
+		private final long count;
+		private long position;
+		// SSL 모드에서 파일을 나누어 읽는 버퍼 (읽기 모드, Worker 스레드에서만 사용)
+		private ByteBuffer chunkBuffer;
+
+		FileTransfer(FileChannel fileChannel) throws IOException {
+			this.fileChannel = fileChannel;
+			this.count = fileChannel.size();
+		}
+
+		long remaining() {
+			return count - position;
+		}
 	}
 
 	class Client {
+		private final long mmConnectionId = mNextConnectionId.incrementAndGet();
 		private SocketChannel mmSocketChannel;
         private String mmSremoteAddr;
         private SSLEngine mmSslEngine;
+        private Reactor mmReactor;
+        private Selector mmSelector;
+        private boolean mmHandshakeDone;
+        // 위임 작업 실행 중 (Worker 스레드에서만 사용)
+        private boolean mmDelegatedTaskRunning;
+        private final long mmHandshakeStartNanos = System.nanoTime();
+
+        // 버퍼는 읽기/쓰기 처리 동안만 풀에서 빌리고, 남은 데이터가 없으면 반납 (유휴 상태에서는 null)
+        private final int mmAppBufferSize;
+        private final int mmNetBufferSize;
 
         // 암호화되지 않은 데이터를 저장하는 버퍼
         private ByteBuffer mmAppRecvBuffer;
@@ -301,10 +1222,51 @@ public class NioNonBlockingServerThread {
         private ByteBuffer mmNetRecvBuffer;
 
         private ConcurrentLinkedQueue<ByteBuffer> mOutgoingDataQueue = new ConcurrentLinkedQueue<>();
-
-		public Client(SocketChannel socketChannel) throws IOException {
+        // 송신 큐의 표식 순서대로 전송할 파일 (표식과 함께 넣음)
+        private final ConcurrentLinkedQueue<FileTransfer> mmFileTransfers = new ConcurrentLinkedQueue<>();
+
+        // 복호화된 데이터를 전문 단위로 나누기 위한 누적 버퍼
+        private FrameAccumulator mmFrameAccumulator = new FrameAccumulator(mFrameCodec, mBufferAllocator);
+
+        // 문자열 변환 (처음 사용할 때 생성, 디코더는 Worker 스레드, 인코더는 요청 순서대로 실행되는 Handler 스레드에서만 사용)
+        private StreamingCharsetDecoder mmDecoder;
+        private StreamingCharsetEncoder mmEncoder;
+
+        // 연결 단위 처리 순서 보장을 위한 체인 (이전 요청의 처리가 끝난 뒤 다음 요청 처리)
+        private CompletableFuture<Void> mmHandlerChain = CompletableFuture.completedFuture(null);
+        private final AtomicBoolean mmWriteScheduled = new AtomicBoolean();
+        private SelectionKey mmSelectionKey;
+
+        // 송신 대기 바이트 (큐에 넣을 때 증가, 암호화하여 큐에서 꺼낼 때 감소)
+        private final AtomicLong mmPendingWriteBytes = new AtomicLong();
+        // 송신 대기량 때문에 읽기를 중지한 상태 (Worker 스레드에서만 사용)
+        private boolean mmReadPaused;
+
+        // 타임아웃 (Worker 스레드에서만 사용)
+        private long mmLastReadNanos;
+        private long mmLastWriteNanos;
+        private HashedTimingWheel.Timeout mmHandshakeTimeout;
+        private HashedTimingWheel.Timeout mmReadIdleTimeout;
+        private HashedTimingWheel.Timeout mmWriteIdleTimeout;
+
+		public Client(SocketChannel socketChannel, Reactor reactor) throws IOException {
 			this.mmSocketChannel = socketChannel;
             this.mmSremoteAddr = socketChannel.getRemoteAddress().toString();
+            this.mmReactor = reactor;
+            this.mmSelector = reactor.getSelector();
+
+            if (!mUseSsl) {
+            	mmAppBufferSize = PLAIN_RECV_BUFFER_SIZE;
+            	mmNetBufferSize = 0;
+
+            	socketChannel.configureBlocking(false);
+            	this.mmSelectionKey = socketChannel.register(mmSelector, SelectionKey.OP_READ, this);
+
+            	logger.info("[평문 연결: {}]", mmSremoteAddr);
+            	mmHandshakeDone = true;
+            	onHandshakeDone();
+            	return;
+            }
 
             // SSLEngine 생성
             mmSslEngine = mSslContext.createSSLEngine(mmSocketChannel.socket().getInetAddress().getHostAddress(),
@@ -312,36 +1274,235 @@ public class NioNonBlockingServerThread {
             mmSslEngine.setUseClientMode(false); 	// 서버 모드로 설정
             mmSslEngine.setNeedClientAuth(false); 	// 클라이언트 인증 불필요 (필요시 true로 변경)
 
-            // 버퍼 초기화
-            int appBufferSize = mmSslEngine.getSession().getApplicationBufferSize();
-            int netBufferSize = mmSslEngine.getSession().getPacketBufferSize();
-
-            mmAppRecvBuffer = ByteBuffer.allocate(appBufferSize);
-            mmNetRecvBuffer = ByteBuffer.allocate(netBufferSize);
-            mmNetSendBuffer = ByteBuffer.allocate(netBufferSize);
+            // 버퍼 크기 (실제 버퍼는 처리 시점에 풀에서 빌림)
+            mmAppBufferSize = mmSslEngine.getSession().getApplicationBufferSize();
+            mmNetBufferSize = mmSslEngine.getSession().getPacketBufferSize();
 
             socketChannel.configureBlocking(false);
-            SelectionKey selectionKey = socketChannel.register(mSelector, SelectionKey.OP_READ);
+            SelectionKey selectionKey = socketChannel.register(mmSelector, SelectionKey.OP_READ);
             selectionKey.attach(this);
+            this.mmSelectionKey = selectionKey;
 
             // SSL 핸드쉐이크 시작
-            doHandshake(selectionKey);
+            logger.info("[핸드쉐이크 시작: {}]", mmSremoteAddr);
+            try {
+            	if (mHandshakeTimeoutMillis > 0) {
+            		mmHandshakeTimeout = reactor.getTimer().newTimeout(this::onHandshakeTimeout, mHandshakeTimeoutMillis, TimeUnit.MILLISECONDS);
+            	}
+
+            	acquireBuffers();
+            	mmSslEngine.beginHandshake();
+            	doHandshake(selectionKey);
+            	releaseIdleBuffers();
+            } catch (IOException e) {
+            	selectionKey.cancel();
+            	releaseBuffers();
+            	cancelTimeouts();
+            	mHandshakeMetrics.recordFailure();
+            	throw e;
+            }
 		}
 
 		public String getsRemoteAddr() {
 			return this.mmSremoteAddr;
 		}
 
-		private void doHandshake(SelectionKey selectionKey) throws IOException {
-            logger.info("[핸드쉐이크 시작: {}]", mmSremoteAddr);
-            mmSslEngine.beginHandshake();
+		long getConnectionId() {
+			return mmConnectionId;
+		}
+
+		private void onHandshakeTimeout() {
+			mmHandshakeTimeout = null;
+
+			if ( !mmHandshakeDone ) {
+				logger.warn("[핸드쉐이크 시간 초과: {}] {} ms", mmSremoteAddr, mHandshakeTimeoutMillis);
+				closeClient();
+			}
+		}
+
+		/**
+		 * 핸드쉐이크 완료 후 핸드쉐이크 타임아웃 취소, 유휴 타임아웃 시작 (평문 모드는 연결 직후)
+		 */
+		private void onHandshakeDone() {
+			if (mmSslEngine != null) {
+				mHandshakeMetrics.recordHandshake(mmSslEngine.getSession(), System.nanoTime() - mmHandshakeStartNanos);
+			}
+
+			if (mmHandshakeTimeout != null) {
+				mmHandshakeTimeout.cancel();
+				mmHandshakeTimeout = null;
+			}
+
+			long lNow = System.nanoTime();
+			mmLastReadNanos = lNow;
+			mmLastWriteNanos = lNow;
+
+			if (mReadIdleTimeoutMillis > 0) {
+				mmReadIdleTimeout = mmReactor.getTimer().newTimeout(this::checkReadIdle, mReadIdleTimeoutMillis, TimeUnit.MILLISECONDS);
+			}
+
+			if (mWriteIdleTimeoutMillis > 0) {
+				mmWriteIdleTimeout = mmReactor.getTimer().newTimeout(this::checkWriteIdle, mWriteIdleTimeoutMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		/**
+		 * 읽기 유휴 확인. 읽을 때마다 타임아웃을 다시 등록하지 않고, 만료 시 마지막 수신 시각을 보고 남은 시간만큼 다시 등록
+		 */
+		private void checkReadIdle() {
+			mmReadIdleTimeout = null;
+
+			if ( !mmSocketChannel.isOpen() ) {
+				return;
+			}
+
+			long lIdleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - mmLastReadNanos);
+
+			if ( !mmReadPaused && lIdleMillis >= mReadIdleTimeoutMillis ) {
+				logger.info("[읽기 유휴 시간 초과: {}] {} ms", mmSremoteAddr, lIdleMillis);
+				closeClient();
+				return;
+			}
+
+			long lDelay = mmReadPaused ? mReadIdleTimeoutMillis : mReadIdleTimeoutMillis - lIdleMillis;
+			mmReadIdleTimeout = mmReactor.getTimer().newTimeout(this::checkReadIdle, lDelay, TimeUnit.MILLISECONDS);
+		}
+
+		/**
+		 * 쓰기 유휴 확인. OP_WRITE 가 등록된 (보낼 데이터가 있는) 동안 전송이 진행되지 않은 시간 기준
+		 */
+		private void checkWriteIdle() {
+			mmWriteIdleTimeout = null;
+
+			if ( !mmSocketChannel.isOpen() || !mmSelectionKey.isValid() ) {
+				return;
+			}
+
+			boolean isWritePending = (mmSelectionKey.interestOps() & SelectionKey.OP_WRITE) != 0;
+			long lIdleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - mmLastWriteNanos);
+
+			if ( isWritePending && lIdleMillis >= mWriteIdleTimeoutMillis ) {
+				logger.warn("[쓰기 유휴 시간 초과: {}] {} ms, 송신 대기 {} bytes", mmSremoteAddr, lIdleMillis, mmPendingWriteBytes.get());
+				closeClient();
+				return;
+			}
 
+			long lDelay = isWritePending ? mWriteIdleTimeoutMillis - lIdleMillis : mWriteIdleTimeoutMillis;
+			mmWriteIdleTimeout = mmReactor.getTimer().newTimeout(this::checkWriteIdle, lDelay, TimeUnit.MILLISECONDS);
+		}
+
+		private void cancelTimeouts() {
+			if (mmHandshakeTimeout != null) {
+				mmHandshakeTimeout.cancel();
+				mmHandshakeTimeout = null;
+			}
+
+			if (mmReadIdleTimeout != null) {
+				mmReadIdleTimeout.cancel();
+				mmReadIdleTimeout = null;
+			}
+
+			if (mmWriteIdleTimeout != null) {
+				mmWriteIdleTimeout.cancel();
+				mmWriteIdleTimeout = null;
+			}
+		}
+
+		boolean isHandshakeDone() {
+			return mmHandshakeDone;
+		}
+
+		/**
+		 * 읽기/쓰기 처리 전에 풀에서 버퍼를 빌림 (이전 처리에서 데이터가 남아 반납하지 않은 버퍼는 그대로 사용)
+		 */
+		void acquireBuffers() {
+			if (mmAppRecvBuffer == null) {
+				mmAppRecvBuffer = mBufferAllocator.acquire(mmAppBufferSize);
+			}
+
+			if (mmSslEngine == null) {
+				return; // 평문 모드는 수신 버퍼만 사용
+			}
+
+			if (mmNetRecvBuffer == null) {
+				mmNetRecvBuffer = mBufferAllocator.acquire(mmNetBufferSize);
+			}
+
+			if (mmNetSendBuffer == null) {
+				mmNetSendBuffer = mBufferAllocator.acquire(mmNetBufferSize * MAX_RECORDS_PER_WRITE);
+				mmNetSendBuffer.limit(0); // 보낼 데이터 없음 (읽기 모드)
+			}
+		}
+
+		/**
+		 * 처리 후 남은 데이터가 없는 버퍼는 풀에 반납
+		 *  - mmNetRecvBuffer 에 레코드 일부가 남은 경우 등은 다음 처리까지 유지
+		 */
+		void releaseIdleBuffers() {
+			if ( mmAppRecvBuffer != null && mmAppRecvBuffer.position() == 0 ) {
+				mBufferAllocator.release(mmAppRecvBuffer);
+				mmAppRecvBuffer = null;
+			}
+
+			if ( mmNetRecvBuffer != null && mmNetRecvBuffer.position() == 0 ) {
+				mBufferAllocator.release(mmNetRecvBuffer);
+				mmNetRecvBuffer = null;
+			}
+
+			if ( mmNetSendBuffer != null && !mmNetSendBuffer.hasRemaining() ) {
+				mBufferAllocator.release(mmNetSendBuffer);
+				mmNetSendBuffer = null;
+			}
+		}
+
+		/**
+		 * 연결 종료 후 정리 (Worker 스레드에서만 호출)
+		 */
+		private void cleanup() {
+			if (!mmHandshakeDone) {
+				mHandshakeMetrics.recordFailure();
+			}
+
+			releaseBuffers();
+			discardOutgoing();
+			cancelTimeouts();
+
+			if (mmReadPaused) {
+				mmReadPaused = false;
+				mmReactor.getPausedClients().remove(this);
+				mPausedConnections.decrementAndGet();
+			}
+		}
+
+		/**
+		 * 연결 종료 시 모든 버퍼 반납 (Worker 스레드에서만 호출)
+		 */
+		private void releaseBuffers() {
+			mBufferAllocator.release(mmAppRecvBuffer);
+			mBufferAllocator.release(mmNetRecvBuffer);
+			mBufferAllocator.release(mmNetSendBuffer);
+			mmAppRecvBuffer = null;
+			mmNetRecvBuffer = null;
+			mmNetSendBuffer = null;
+
+			mmFrameAccumulator.release();
+		}
+
+		/**
+		 * 핸드쉐이크 진행
+		 *  - 데이터가 부족하면 반환하고, 다음 OP_READ 이벤트에서 이어서 진행
+		 * @param selectionKey
+		 * @throws IOException
+		 */
+		void doHandshake(SelectionKey selectionKey) throws IOException {
             SSLEngineResult result;
             int appBufferSize = mmSslEngine.getSession().getApplicationBufferSize();
             int netBufferSize = mmSslEngine.getSession().getPacketBufferSize();
 
-            mmNetRecvBuffer.clear();
-            mmNetSendBuffer.clear();
+            if (mmDelegatedTaskRunning) {
+            	// 위임 작업이 끝나면 resumeHandshake 에서 이어서 진행
+            	return;
+            }
 
             while (true) {
                 // 핸드쉐이크 상태에 따라 읽기/쓰기 필요
@@ -349,8 +1510,14 @@ public class NioNonBlockingServerThread {
                     case NOT_HANDSHAKING:
                     case FINISHED:
                         logger.info("[핸드쉐이크 완료: {}]", mmSremoteAddr);
+                        mmHandshakeDone = true;
                         selectionKey.interestOps(SelectionKey.OP_READ); // 핸드쉐이크 완료 후 읽기 모드로 전환
-                        mSelector.wakeup();
+                        onHandshakeDone();
+
+                        // 마지막 핸드쉐이크 레코드와 함께 도착한 애플리케이션 데이터 처리
+                        if ( mmNetRecvBuffer.position() > 0 ) {
+                        	unwrapReceived(selectionKey);
+                        }
                         return;
 
                     case NEED_UNWRAP:
@@ -360,9 +1527,8 @@ public class NioNonBlockingServerThread {
                             throw new IOException("소켓 채널이 닫혔습니다.");
                         }
                         if (bytesRead == 0 && mmNetRecvBuffer.position() == 0) {
-                            // 읽을 데이터가 없으면 잠시 대기
+                            // 읽을 데이터가 없으면 다음 OP_READ 이벤트까지 대기
                             selectionKey.interestOps(selectionKey.interestOps() | SelectionKey.OP_READ);
-                            mSelector.wakeup();
                             return;
                         }
 
@@ -379,7 +1545,6 @@ public class NioNonBlockingServerThread {
                             case BUFFER_UNDERFLOW:
                                 // 더 많은 데이터가 필요함, 읽기 대기
                                 selectionKey.interestOps(selectionKey.interestOps() | SelectionKey.OP_READ);
-                                mSelector.wakeup();
                                 return;
                             case CLOSED:
                                 throw new IOException("SSL 엔진이 닫혔습니다.");
@@ -389,7 +1554,7 @@ public class NioNonBlockingServerThread {
                     case NEED_WRAP:
                         // 클라이언트로 데이터 전송 (암호화된 데이터)
                         mmNetSendBuffer.clear();
-                        result = mmSslEngine.wrap(ByteBuffer.allocate(0), mmNetSendBuffer); // 빈 버퍼를 랩핑하여 핸드쉐이크 데이터 생성
+                        result = mmSslEngine.wrap(EMPTY_BUFFER, mmNetSendBuffer); // 빈 버퍼를 랩핑하여 핸드쉐이크 데이터 생성
                         mmNetSendBuffer.flip();
 
                         switch (result.getStatus()) {
@@ -413,120 +1578,444 @@ public class NioNonBlockingServerThread {
                         break;
 
                     case NEED_TASK:
-                        Runnable task;
-                        while ( (task = mmSslEngine.getDelegatedTask()) != null ) {
-                        	handshakeTaskExecutor.execute(task); // 스레드 풀 사용
-                        }
-                        break;
+                        // 위임 작업이 끝날 때까지 엔진 상태가 NEED_TASK 로 남으므로 반복하지 않고 반환
+                        // 그 동안 수신 데이터가 있어도 처리할 수 없으므로 셀렉터 이벤트를 받지 않음
+                        mmDelegatedTaskRunning = true;
+                        selectionKey.interestOps(0);
+                        runDelegatedTasks();
+                        return;
 
                     default:
                         // 다른 상태 (e.g., NEED_UNWRAP_AGAIN)는 루프를 통해 다시 처리
                         break;
                 }
-                mSelector.wakeup(); // 상태 변경을 즉시 반영
             }
         }
 
+        /**
+         * SSLEngine 위임 작업을 핸드쉐이크 스레드 풀에서 실행하고, 끝나면 Worker 스레드에서 핸드쉐이크 재개
+         */
+        private void runDelegatedTasks() {
+        	handshakeTaskExecutor.execute(new Runnable() {
+        		@Override
+        		public void run() {
+        			try {
+        				Runnable task;
+        				while ( (task = mmSslEngine.getDelegatedTask()) != null ) {
+        					task.run();
+        				}
+        			} catch (RuntimeException e) {
+        				// 엔진에 오류가 기록되므로 재개 시 예외가 발생하여 연결이 종료됨
+        				logger.error("[핸드쉐이크 위임 작업 오류: {}] {}", mmSremoteAddr, e.getMessage(), e);
+        			} finally {
+        				mmReactor.execute(Client.this::resumeHandshake);
+        			}
+        		}
+        	});
+        }
+
+        private void resumeHandshake() {
+        	mmDelegatedTaskRunning = false;
+
+        	if ( !mmSelectionKey.isValid() ) {
+        		return;
+        	}
+
+        	try {
+        		acquireBuffers();
+        		doHandshake(mmSelectionKey);
+        		releaseIdleBuffers();
+        	} catch (Exception e) {
+        		logger.error("핸드쉐이크 처리 중 오류 발생: {}", e.getMessage(), e);
+        		mmSelectionKey.cancel();
+        		closeClient();
+        	}
+        }
+
         private ByteBuffer enlargeBuffer(ByteBuffer buffer, int newSize) {
-            ByteBuffer newBuffer = ByteBuffer.allocate(newSize);
+            ByteBuffer newBuffer = mBufferAllocator.acquire(newSize);
             buffer.flip();
             newBuffer.put(buffer);
+            mBufferAllocator.release(buffer);
             return newBuffer;
         }
 
-		void receive(SelectionKey selectionKey) {
-			mmNetRecvBuffer.clear(); // 네트워크 버퍼 초기화
+        /**
+         * 읽기 모드(flip 된) 버퍼를 확장. 남은 데이터는 읽기 모드 그대로 유지
+         */
+        private ByteBuffer enlargeReadBuffer(ByteBuffer buffer, int newSize) {
+        	ByteBuffer newBuffer = mBufferAllocator.acquire(Math.max(newSize, buffer.capacity() * 2));
+        	newBuffer.put(buffer);
+        	newBuffer.flip();
+        	mBufferAllocator.release(buffer);
+        	return newBuffer;
+        }
 
+		void receive(SelectionKey selectionKey) {
 			try {
-				int nByteCnt = mmSocketChannel.read(mmNetRecvBuffer);
+				// 이전 읽기에서 남은 (레코드 일부) 데이터는 유지한 채 이어서 읽음
+				int nByteCnt = mmSocketChannel.read( (mmSslEngine == null) ? mmAppRecvBuffer : mmNetRecvBuffer );
 
                 if (nByteCnt == -1) {
                     throw new IOException("클라이언트 연결이 종료되었습니다.");
                 }
 
-                mmNetRecvBuffer.flip(); // 읽기 모드로 전환
+                if (nByteCnt > 0) {
+                	mmLastReadNanos = System.nanoTime();
+                }
+
+                if (mmSslEngine == null) {
+                	if ( mmAppRecvBuffer.position() > 0 ) {
+                		handleReceived(selectionKey);
+                	}
+                } else {
+                	unwrapReceived(selectionKey);
+                }
 
-                // SSL 엔진으로 데이터 복호화
-                SSLEngineResult result = mmSslEngine.unwrap(mmNetRecvBuffer, mmAppRecvBuffer);
-                mmNetRecvBuffer.compact(); // 사용된 데이터는 압축
+			} catch (IOException e) {
+				logger.error("데이터 수신 중 오류 발생: {}", e.getMessage(), e);
+                closeClient();
+			}
+		}
 
-                switch (result.getStatus()) {
-	                case OK:
-	                    mmAppRecvBuffer.flip(); // 복호화된 데이터 읽기 모드로 전환
+		/**
+		 * mmNetRecvBuffer 에 쌓인 암호화 데이터를 레코드 단위로 모두 복호화
+		 *  - 한 번의 read 에 여러 TLS 레코드가 올 수 있고, 레코드 일부만 올 수도 있음
+		 * @param selectionKey
+		 * @throws IOException
+		 */
+		private void unwrapReceived(SelectionKey selectionKey) throws IOException {
+			mmNetRecvBuffer.flip(); // 읽기 모드로 전환
 
-	                    Charset charset = Charset.forName(mCharsetName);
-	                    String sRecvData = charset.decode(mmAppRecvBuffer).toString();
-	                    mmAppRecvBuffer.clear(); // 사용된 데이터는 초기화
+			try {
+				while ( mmNetRecvBuffer.hasRemaining() ) {
+					// SSL 엔진으로 데이터 복호화
+					SSLEngineResult result = mmSslEngine.unwrap(mmNetRecvBuffer, mmAppRecvBuffer);
+
+					switch (result.getStatus()) {
+						case OK:
+							if ( mmAppRecvBuffer.position() > 0 ) {
+								handleReceived(selectionKey);
+							}
+							break;
+						case BUFFER_OVERFLOW:
+							// mmAppRecvBuffer가 작을 경우 확장
+							mmAppRecvBuffer = enlargeBuffer(mmAppRecvBuffer, mmAppRecvBuffer.capacity() + mmSslEngine.getSession().getApplicationBufferSize());
+							break;
+						case BUFFER_UNDERFLOW:
+							// 더 많은 암호화된 데이터가 필요함 (남은 데이터는 compact 후 다음 읽기에서 이어 붙임)
+							// 버퍼 전체가 미완성 레코드 하나인 경우에만 확장 (그 외에는 compact 로 공간 확보)
+							if ( mmNetRecvBuffer.remaining() == mmNetRecvBuffer.capacity() ) {
+								mmNetRecvBuffer = enlargeReadBuffer(mmNetRecvBuffer, mmSslEngine.getSession().getPacketBufferSize());
+							}
+							return;
+						case CLOSED:
+							throw new IOException("SSL 엔진이 닫혔습니다.");
+					}
+				}
+			} finally {
+				mmNetRecvBuffer.compact(); // 사용된 데이터는 압축
+			}
+		}
 
-	                    logger.info("[요청 처리: {} : {}]", mmSremoteAddr, Thread.currentThread().getName());
-	                    logger.info("[요청 데이터: {}]", sRecvData);
+		private void handleReceived(SelectionKey selectionKey) throws IOException {
+			mmAppRecvBuffer.flip(); // 복호화된 데이터 읽기 모드로 전환
+			mMetrics.recordBytesIn(mmAppRecvBuffer.remaining());
+			mmFrameAccumulator.append(mmAppRecvBuffer);
+			mmAppRecvBuffer.clear(); // 사용된 데이터는 초기화
+
+			byte[] frame;
+			long lDecodeStart = System.nanoTime();
+			while ( (frame = mmFrameAccumulator.next()) != null ) {
+				if (mBinaryMessageHandler != null) {
+					mMetrics.recordDecode(System.nanoTime() - lDecodeStart);
+					dispatch(frame);
+				} else {
+					String sRecvData = decode(frame);
+					mMetrics.recordDecode(System.nanoTime() - lDecodeStart);
+
+					if ( !sRecvData.isEmpty() || frame.length == 0 ) {
+						dispatch(sRecvData);
+					}
+				}
+				lDecodeStart = System.nanoTime();
+			}
+		}
 
-	                    // 받은 데이터에 따른 분기 처리 및 그에 따른 응답 값 정의
-	                    String sSendMsg = sRecvData; // 단순 Echo 예시
+		/**
+		 * 전문을 문자열로 변환 (Worker 스레드에서만 호출)
+		 *  - RawFrameCodec 은 수신된 만큼이 전문이므로 끝에 걸친 미완성 멀티바이트 문자는 다음 수신 데이터와 이어서 변환
+		 *    (수신 데이터가 모두 미완성 문자이면 빈 문자열)
+		 * @param frame
+		 * @return
+		 */
+		private String decode(byte[] frame) {
+			if (mmDecoder == null) {
+				mmDecoder = new StreamingCharsetDecoder(mCharset);
+			}
+			return (mFrameCodec instanceof RawFrameCodec) ? mmDecoder.decode(frame) : mmDecoder.decodeFrame(frame);
+		}
 
-	                    logger.info("[응답 데이터: {}]", sSendMsg);
+		/**
+		 * 문자열을 Handler 스레드 풀로 넘김 (셀렉터 스레드에서는 업무 처리를 하지 않음)
+		 *  - 요청 데이터 로그를 출력한 요청만 응답 데이터 로그도 출력
+		 * @param sRecvData
+		 */
+		private void dispatch(String sRecvData) {
+			final boolean bLogPayload = onDispatch();
+			if (bLogPayload) {
+				logger.info("[요청 데이터: {}]", sRecvData);
+			}
 
-	                    // 응답 데이터 큐에 추가
-	                    mOutgoingDataQueue.offer(ByteBuffer.wrap(sSendMsg.getBytes(mCharsetName)));
+			chainHandler(() -> mMessageHandler.onMessage(mmConnectionId, mmSremoteAddr, sRecvData),
+					sSendMsg -> enqueueResponse(sSendMsg, bLogPayload));
+		}
 
-	                    // 쓰기 준비 완료
-	                    selectionKey.interestOps(selectionKey.interestOps() | SelectionKey.OP_WRITE);
-	                    mSelector.wakeup();
-	                    break;
+		/**
+		 * 전문을 문자열 변환 없이 Handler 스레드 풀로 넘김 (BinaryMessageHandler)
+		 * @param frame
+		 */
+		private void dispatch(byte[] frame) {
+			final boolean bLogPayload = onDispatch();
+			if (bLogPayload) {
+				logger.info("[요청 데이터: {} bytes]", frame.length);
+			}
 
-	                case BUFFER_OVERFLOW:
-	                    // mmAppRecvBuffer가 작을 경우 확장
-	                    mmAppRecvBuffer = enlargeBuffer(mmAppRecvBuffer, mmSslEngine.getSession().getApplicationBufferSize());
-	                    break;
-	                case BUFFER_UNDERFLOW:
-	                    // 더 많은 암호화된 데이터가 필요함
-	                    break;
-	                case CLOSED:
-	                    throw new IOException("SSL 엔진이 닫혔습니다.");
-                }
+			chainHandler(() -> mBinaryMessageHandler.onMessage(mmConnectionId, mmSremoteAddr, frame),
+					bSendData -> enqueueResponse(bSendData, bLogPayload));
+		}
 
-			} catch (IOException e) {
-				logger.error("데이터 수신 중 오류 발생: {}", e.getMessage(), e);
-                closeClient();
+		/**
+		 * 수신 메시지 집계, 요청 데이터 로그 출력 여부 결정
+		 * @return
+		 */
+		private boolean onDispatch() {
+			mMetrics.recordMessageIn();
+
+			boolean bLogPayload = logger.isInfoEnabled() && mMetrics.getPayloadLogPolicy().shouldLog();
+			if (bLogPayload) {
+				logger.info("[요청 처리: {} : {}]", mmSremoteAddr, Thread.currentThread().getName());
+			}
+			return bLogPayload;
+		}
+
+		/**
+		 * 이전 요청의 처리가 끝난 뒤 Handler 스레드 풀에서 업무 처리, 완료되면 응답을 송신 큐에 넣음
+		 * @param handler
+		 * @param responder
+		 */
+		private <T> void chainHandler(Callable<CompletionStage<T>> handler, Consumer<T> responder) {
+			mmHandlerChain = mmHandlerChain
+					.thenComposeAsync(v -> invokeHandler(handler), mHandlerExecutor)
+					.thenAccept(responder)
+					.exceptionally(t -> {
+						logger.error("[요청 처리 중 오류 발생: {}] {}", mmSremoteAddr, t.getMessage(), t);
+						mmReactor.execute(this::closeClient);
+						return null;
+					});
+		}
+
+		private <T> CompletionStage<T> invokeHandler(Callable<CompletionStage<T>> handler) {
+			if ( !mmSocketChannel.isOpen() ) {
+				return CompletableFuture.completedFuture(null);
+			}
+
+			final long lStart = System.nanoTime();
+			CompletionStage<T> stage;
+			try {
+				stage = handler.call();
+				if (stage == null) {
+					stage = CompletableFuture.completedFuture(null);
+				}
+			} catch (Exception e) {
+				CompletableFuture<T> failed = new CompletableFuture<>();
+				failed.completeExceptionally(e);
+				stage = failed;
+			}
+			return stage.whenComplete((response, t) -> mMetrics.recordHandler(System.nanoTime() - lStart));
+		}
+
+		/**
+		 * 응답 문자열을 변환하여 송신 큐에 넣음 (Handler 스레드에서 연결의 요청 순서대로 호출)
+		 * @param sSendMsg
+		 * @param bLogPayload 응답 데이터 로그 출력 여부
+		 */
+		private void enqueueResponse(String sSendMsg, boolean bLogPayload) {
+			if ( sSendMsg == null || !mmSocketChannel.isOpen() ) {
+				return;
+			}
+
+			if (bLogPayload) {
+				logger.info("[응답 데이터: {}]", sSendMsg);
+			}
+
+			long lEncodeStart = System.nanoTime();
+			if (mmEncoder == null) {
+				mmEncoder = new StreamingCharsetEncoder(mCharset);
+			}
+			byte[] frame = mFrameCodec.encode(mmEncoder.encode(sSendMsg));
+			mMetrics.recordEncode(System.nanoTime() - lEncodeStart);
+
+			enqueueFrame(frame);
+		}
+
+		/**
+		 * 응답을 문자열 변환 없이 송신 큐에 넣음 (BinaryMessageHandler)
+		 * @param bSendData
+		 * @param bLogPayload 응답 데이터 로그 출력 여부
+		 */
+		private void enqueueResponse(byte[] bSendData, boolean bLogPayload) {
+			if ( bSendData == null || !mmSocketChannel.isOpen() ) {
+				return;
+			}
+
+			if (bLogPayload) {
+				logger.info("[응답 데이터: {} bytes]", bSendData.length);
+			}
+
+			long lEncodeStart = System.nanoTime();
+			byte[] frame = mFrameCodec.encode(bSendData);
+			mMetrics.recordEncode(System.nanoTime() - lEncodeStart);
+
+			enqueueFrame(frame);
+		}
+
+		/**
+		 * 전문을 송신 큐에 넣고, Worker 스레드에 OP_WRITE 등록을 요청 (Handler 스레드에서 호출)
+		 * @param frame
+		 */
+		private void enqueueFrame(byte[] frame) {
+			// 응답 데이터 큐에 추가
+			ByteBuffer appData = ByteBuffer.wrap(frame);
+			mmPendingWriteBytes.addAndGet(appData.capacity());
+			addPendingWrite(appData.capacity(), 1);
+			mOutgoingDataQueue.offer(appData);
+
+			if ( !mmSocketChannel.isOpen() ) {
+				// 큐에 넣는 사이 연결이 종료된 경우 송신 대기량 정리
+				mmReactor.execute(this::discardOutgoing);
+				return;
+			}
+
+			// 이미 OP_WRITE 등록이 예약되어 있으면 wakeup 을 반복하지 않음
+			if ( mmWriteScheduled.compareAndSet(false, true) ) {
+				mmReactor.execute(this::enableWrite);
 			}
 		}
 
+		private void enableWrite() {
+			mmWriteScheduled.set(false);
+
+			if ( mmSelectionKey.isValid() && !mOutgoingDataQueue.isEmpty() ) {
+				int nOps = mmSelectionKey.interestOps();
+				if ( (nOps & SelectionKey.OP_WRITE) == 0 ) {
+					mmLastWriteNanos = System.nanoTime(); // 쓰기 유휴는 보낼 데이터가 생긴 시점부터 계산
+					mmSelectionKey.interestOps(nOps | SelectionKey.OP_WRITE);
+				}
+				updateReadInterest();
+			}
+		}
+
+		/**
+		 * 송신 대기량에 따라 읽기(OP_READ) 중지/재개 (Worker 스레드에서만 호출)
+		 *  - 중지 : 연결의 송신 대기 바이트가 high 이상, 또는 전체 송신 대기량이 high 이상
+		 *  - 재개 : 연결의 송신 대기 바이트가 low 이하이고, 전체 송신 대기량도 low 이하
+		 */
+		void updateReadInterest() {
+			if ( !mmSelectionKey.isValid() || !mmHandshakeDone ) {
+				return;
+			}
+
+			long lPending = mmPendingWriteBytes.get();
+
+			if ( !mmReadPaused ) {
+				if ( lPending >= mWriteHighWaterMark || mGlobalWritePaused.get() ) {
+					mmReadPaused = true;
+					mmReactor.getPausedClients().add(this);
+					mPausedConnections.incrementAndGet();
+					mmSelectionKey.interestOps(mmSelectionKey.interestOps() & ~SelectionKey.OP_READ);
+
+					logger.debug("[읽기 중지: {}] 송신 대기 {} bytes", mmSremoteAddr, lPending);
+				}
+			} else if ( lPending <= mWriteLowWaterMark && !mGlobalWritePaused.get() ) {
+				mmReadPaused = false;
+				mmReactor.getPausedClients().remove(this);
+				mPausedConnections.decrementAndGet();
+				mmSelectionKey.interestOps(mmSelectionKey.interestOps() | SelectionKey.OP_READ);
+				mmLastReadNanos = System.nanoTime(); // 중지된 동안은 읽기 유휴로 보지 않음
+
+				logger.debug("[읽기 재개: {}] 송신 대기 {} bytes", mmSremoteAddr, lPending);
+			}
+		}
+
+		/**
+		 * 큐에서 꺼낸 응답만큼 송신 대기량 감소
+		 * @param appData
+		 */
+		private void onDequeued(ByteBuffer appData) {
+			mmPendingWriteBytes.addAndGet(-appData.capacity());
+			addPendingWrite(-appData.capacity(), -1);
+		}
+
+		/**
+		 * 종료된 연결의 송신 큐를 비우고 송신 대기량 정리 (Worker 스레드에서만 호출)
+		 */
+		private void discardOutgoing() {
+			ByteBuffer appData;
+			while ( (appData = mOutgoingDataQueue.poll()) != null ) {
+				onDequeued(appData);
+			}
+
+			FileTransfer fileTransfer;
+			while ( (fileTransfer = mmFileTransfers.poll()) != null ) {
+				closeFileTransfer(fileTransfer);
+				fileTransfer.future.completeExceptionally(new IOException("연결이 종료되어 파일을 전송하지 못했습니다: " + mmSremoteAddr));
+			}
+		}
+
+		/**
+		 * 송신 큐의 응답을 모아서 암호화 후 전송
+		 *  - 여러 응답을 SSLEngine.wrap(ByteBuffer[]) 한 번으로 하나의 TLS 레코드에 담고,
+		 *    여러 레코드를 송신 버퍼에 채운 뒤 write 한 번으로 전송 (작은 응답이 많을 때 레코드/시스템 콜 수 감소)
+		 *  - 소켓 송신 버퍼가 가득 차면 대기하지 않고 OP_WRITE 를 유지한 채 반환, 다음 OP_WRITE 이벤트에서 이어서 전송
+		 * @param selectionKey
+		 */
 		void send(SelectionKey selectionKey) {
             try {
-                // 전송할 데이터가 있을 경우에만 처리
-                while (!mOutgoingDataQueue.isEmpty()) {
-                    ByteBuffer appData = mOutgoingDataQueue.peek(); // 큐에서 데이터를 가져오되 제거하지 않음
-
-                    mmNetSendBuffer.clear(); // 네트워크 버퍼 초기화
-
-                    // SSL 엔진으로 데이터 암호화
-                    SSLEngineResult result = mmSslEngine.wrap(appData, mmNetSendBuffer);
-                    mmNetSendBuffer.flip(); // 쓰기 모드로 전환
-
-                    switch (result.getStatus()) {
-                        case OK:
-                            while (mmNetSendBuffer.hasRemaining()) {
-                                mmSocketChannel.write(mmNetSendBuffer);
-                            }
-                            if (!appData.hasRemaining()) {
-                                mOutgoingDataQueue.poll(); // 모든 데이터 전송 완료 시 큐에서 제거
-                            }
-                            break;
-                        case BUFFER_OVERFLOW:
-                            mmNetSendBuffer = enlargeBuffer(mmNetSendBuffer, mmSslEngine.getSession().getPacketBufferSize());
-                            // 다시 시도
-                            break;
-                        case BUFFER_UNDERFLOW:
-                            // 더 많은 애플리케이션 데이터가 필요하지만, 큐에 데이터가 더 없으므로 대기
+                if (mmSslEngine == null) {
+                	sendPlain(selectionKey);
+                	return;
+                }
+
+                while (true) {
+                    // 이전에 다 보내지 못한 암호화 데이터 먼저 전송
+                    if ( mmNetSendBuffer.hasRemaining() ) {
+                        if ( mmSocketChannel.write(mmNetSendBuffer) > 0 ) {
+                            mmLastWriteNanos = System.nanoTime();
+                        }
+
+                        if ( mmNetSendBuffer.hasRemaining() ) {
+                            selectionKey.interestOps(selectionKey.interestOps() | SelectionKey.OP_WRITE);
+                            updateReadInterest();
                             return;
-                        case CLOSED:
-                            throw new IOException("SSL 엔진이 닫혔습니다.");
+                        }
+                    }
+
+                    if ( mOutgoingDataQueue.isEmpty() ) {
+                        break;
+                    }
+
+                    FileTransfer fileTransfer = headFileTransfer();
+                    if (fileTransfer != null) {
+                    	wrapFile(fileTransfer);
+                    } else {
+                    	wrapOutgoing();
                     }
                 }
 
-                // 모든 데이터 전송 완료 시 쓰기 관심 OP 제거, 읽기 관심 OP 설정
-                selectionKey.interestOps(selectionKey.interestOps() & ~SelectionKey.OP_WRITE | SelectionKey.OP_READ);
-                mSelector.wakeup();
+                // 모든 데이터 전송 완료 시 쓰기 관심 OP 제거 (읽기 관심 OP 는 송신 대기량에 따라 설정)
+                selectionKey.interestOps(selectionKey.interestOps() & ~SelectionKey.OP_WRITE);
+                updateReadInterest();
 
             } catch (IOException e) {
                 logger.error("데이터 전송 중 오류 발생: {}", e.getMessage(), e);
@@ -534,15 +2023,317 @@ public class NioNonBlockingServerThread {
             }
 		}
 
+		/**
+		 * 송신 큐의 응답을 mmNetSendBuffer 가 찰 때까지 암호화 (완료 후 mmNetSendBuffer 는 읽기 모드)
+		 *  - 큐는 Worker 스레드에서만 꺼내므로, peek 한 버퍼를 모두 암호화한 뒤 poll 해도 안전
+		 * @throws IOException
+		 */
+		private void wrapOutgoing() throws IOException {
+			ByteBuffer[] gatherBuffers = mmReactor.getGatherBuffers();
+			int nPacketBufferSize = mmSslEngine.getSession().getPacketBufferSize();
+
+			mmNetSendBuffer.clear();
+
+			try {
+				while ( !mOutgoingDataQueue.isEmpty() && mmNetSendBuffer.remaining() >= nPacketBufferSize ) {
+					int nCount = gatherOutgoing(gatherBuffers);
+					if (nCount == 0) {
+						// 파일 전송 차례
+						return;
+					}
+
+					// SSL 엔진으로 데이터 암호화 (최대 1개 레코드 생성)
+					SSLEngineResult result = mmSslEngine.wrap(gatherBuffers, 0, nCount, mmNetSendBuffer);
+
+					// 모두 암호화된 응답은 큐에서 제거
+					pollConsumed();
+
+					switch (result.getStatus()) {
+						case OK:
+							break;
+						case BUFFER_OVERFLOW:
+							if (mmNetSendBuffer.position() > 0) {
+								// 채운 만큼 먼저 전송
+								return;
+							}
+							mmNetSendBuffer = enlargeBuffer(mmNetSendBuffer, mmNetSendBuffer.capacity() + nPacketBufferSize);
+							break;
+						case CLOSED:
+							throw new IOException("SSL 엔진이 닫혔습니다.");
+						default:
+							logger.warn("mmSslEngine.wrap()에서 예상치 못한 상태 발생: {}", result.getStatus());
+							return;
+					}
+				}
+			} finally {
+				Arrays.fill(gatherBuffers, null);
+				mmNetSendBuffer.flip(); // 쓰기 모드로 전환
+			}
+		}
+
+		/**
+		 * 파일 전송 요청 (어느 스레드에서나 호출 가능)
+		 * @param file
+		 * @param header
+		 * @return
+		 */
+		CompletableFuture<Long> sendFile(File file, byte[] header) {
+			FileTransfer fileTransfer;
+			try {
+				fileTransfer = new FileTransfer(FileChannel.open(file.toPath(), StandardOpenOption.READ));
+			} catch (IOException e) {
+				CompletableFuture<Long> failed = new CompletableFuture<>();
+				failed.completeExceptionally(e);
+				return failed;
+			}
+
+			if ( !mmSocketChannel.isOpen() ) {
+				closeFileTransfer(fileTransfer);
+				fileTransfer.future.completeExceptionally(new IOException("연결이 종료되었습니다: " + mmSremoteAddr));
+				return fileTransfer.future;
+			}
+
+			logger.info("[파일 전송 요청: {}] {} ({} bytes)", mmSremoteAddr, file.getName(), fileTransfer.count);
+
+			// 파일 목록과 송신 큐의 표식 순서가 같아야 하므로 함께 넣음
+			synchronized (mmFileTransfers) {
+				if (header != null) {
+					ByteBuffer headerData = ByteBuffer.wrap(header);
+					mmPendingWriteBytes.addAndGet(headerData.capacity());
+					addPendingWrite(headerData.capacity(), 1);
+					mOutgoingDataQueue.offer(headerData);
+				}
+
+				mmFileTransfers.offer(fileTransfer);
+				addPendingWrite(0, 1);
+				mOutgoingDataQueue.offer(fileTransfer.marker);
+			}
+
+			if ( !mmSocketChannel.isOpen() ) {
+				mmReactor.execute(this::discardOutgoing);
+			} else if ( mmWriteScheduled.compareAndSet(false, true) ) {
+				mmReactor.execute(this::enableWrite);
+			}
+
+			return fileTransfer.future;
+		}
+
+		/**
+		 * 송신 큐의 표식인지 여부 (표식은 파일 목록에 먼저 넣으므로, 표식이 보이면 해당 파일은 파일 목록의 맨 앞에 있음)
+		 */
+		private boolean isFileMarker(ByteBuffer buffer) {
+			if (buffer.capacity() != 0) {
+				return false;
+			}
+
+			FileTransfer fileTransfer = mmFileTransfers.peek();
+			return fileTransfer != null && fileTransfer.marker == buffer;
+		}
+
+		/**
+		 * 송신 큐의 맨 앞이 파일이면 해당 파일, 아니면 null
+		 */
+		private FileTransfer headFileTransfer() {
+			ByteBuffer head = mOutgoingDataQueue.peek();
+			return ( head != null && isFileMarker(head) ) ? mmFileTransfers.peek() : null;
+		}
+
+		/**
+		 * 송신 큐의 앞부분을 파일 표식 전까지 gatherBuffers 에 담음 (큐에서 꺼내지는 않음)
+		 * @return 담은 개수 (맨 앞이 파일이면 0)
+		 */
+		private int gatherOutgoing(ByteBuffer[] gatherBuffers) {
+			int nCount = 0;
+			Iterator<ByteBuffer> it = mOutgoingDataQueue.iterator();
+			while ( it.hasNext() && nCount < gatherBuffers.length ) {
+				ByteBuffer appData = it.next();
+				if ( isFileMarker(appData) ) {
+					break;
+				}
+				gatherBuffers[nCount++] = appData;
+			}
+			return nCount;
+		}
+
+		/**
+		 * 모두 전송(암호화)된 응답을 큐에서 제거 (파일 표식은 파일 전송이 끝날 때 제거)
+		 */
+		private void pollConsumed() {
+			ByteBuffer appData;
+			while ( (appData = mOutgoingDataQueue.peek()) != null && !appData.hasRemaining() && !isFileMarker(appData) ) {
+				mOutgoingDataQueue.poll();
+				onDequeued(appData);
+				mMetrics.recordBytesOut(appData.capacity());
+				mMetrics.recordMessageOut();
+			}
+		}
+
+		/**
+		 * 평문 모드 전송
+		 *  - 응답은 gathering write 로 모아서 전송, 파일은 transferTo 로 전송
+		 *  - 소켓 송신 버퍼가 가득 차면 OP_WRITE 를 유지한 채 반환
+		 * @param selectionKey
+		 * @throws IOException
+		 */
+		private void sendPlain(SelectionKey selectionKey) throws IOException {
+			ByteBuffer[] gatherBuffers = mmReactor.getGatherBuffers();
+
+			while ( !mOutgoingDataQueue.isEmpty() ) {
+				FileTransfer fileTransfer = headFileTransfer();
+				if (fileTransfer != null) {
+					if ( !transferFile(fileTransfer) ) {
+						selectionKey.interestOps(selectionKey.interestOps() | SelectionKey.OP_WRITE);
+						updateReadInterest();
+						return;
+					}
+					continue;
+				}
+
+				int nCount = gatherOutgoing(gatherBuffers);
+				try {
+					if ( mmSocketChannel.write(gatherBuffers, 0, nCount) > 0 ) {
+						mmLastWriteNanos = System.nanoTime();
+					}
+
+					boolean isFull = gatherBuffers[nCount - 1].hasRemaining();
+					pollConsumed();
+
+					if (isFull) {
+						selectionKey.interestOps(selectionKey.interestOps() | SelectionKey.OP_WRITE);
+						updateReadInterest();
+						return;
+					}
+				} finally {
+					Arrays.fill(gatherBuffers, null);
+				}
+			}
+
+			selectionKey.interestOps(selectionKey.interestOps() & ~SelectionKey.OP_WRITE);
+			updateReadInterest();
+		}
+
+		/**
+		 * 파일을 페이지 캐시에서 소켓으로 바로 전송 (평문 모드)
+		 * @return 모두 전송했으면 true, 소켓 송신 버퍼가 가득 찼으면 false
+		 * @throws IOException
+		 */
+		private boolean transferFile(FileTransfer fileTransfer) throws IOException {
+			while ( fileTransfer.remaining() > 0 ) {
+				long lWritten = fileTransfer.fileChannel.transferTo(fileTransfer.position, fileTransfer.remaining(), mmSocketChannel);
+
+				if (lWritten == 0) {
+					if ( fileTransfer.position >= fileTransfer.fileChannel.size() ) {
+						throw new IOException("전송 중에 파일 크기가 줄었습니다.");
+					}
+					return false;
+				}
+
+				fileTransfer.position += lWritten;
+				mmLastWriteNanos = System.nanoTime();
+			}
+
+			finishFileTransfer(fileTransfer);
+			return true;
+		}
+
+		/**
+		 * 파일을 고정 크기 버퍼로 나누어 읽고 mmNetSendBuffer 가 찰 때까지 암호화 (SSL 모드, 완료 후 mmNetSendBuffer 는 읽기 모드)
+		 * @throws IOException
+		 */
+		private void wrapFile(FileTransfer fileTransfer) throws IOException {
+			int nPacketBufferSize = mmSslEngine.getSession().getPacketBufferSize();
+
+			if (fileTransfer.chunkBuffer == null) {
+				fileTransfer.chunkBuffer = mBufferAllocator.acquire(mmAppBufferSize);
+				fileTransfer.chunkBuffer.limit(0);
+			}
+			ByteBuffer chunkBuffer = fileTransfer.chunkBuffer;
+
+			mmNetSendBuffer.clear();
+
+			try {
+				while ( mmNetSendBuffer.remaining() >= nPacketBufferSize ) {
+					if ( !chunkBuffer.hasRemaining() ) {
+						if ( fileTransfer.remaining() == 0 ) {
+							finishFileTransfer(fileTransfer);
+							return;
+						}
+
+						chunkBuffer.clear();
+						if ( chunkBuffer.remaining() > fileTransfer.remaining() ) {
+							chunkBuffer.limit((int) fileTransfer.remaining());
+						}
+
+						int nRead = fileTransfer.fileChannel.read(chunkBuffer, fileTransfer.position);
+						if (nRead < 0) {
+							throw new IOException("전송 중에 파일 크기가 줄었습니다.");
+						}
+						fileTransfer.position += nRead;
+						chunkBuffer.flip();
+					}
+
+					SSLEngineResult result = mmSslEngine.wrap(chunkBuffer, mmNetSendBuffer);
+
+					if ( result.getStatus() == SSLEngineResult.Status.CLOSED ) {
+						throw new IOException("SSL 엔진이 닫혔습니다.");
+					}
+
+					if ( result.getStatus() != SSLEngineResult.Status.OK ) {
+						// 채운 만큼 먼저 전송
+						return;
+					}
+				}
+			} finally {
+				mmNetSendBuffer.flip(); // 쓰기 모드로 전환
+			}
+		}
+
+		/**
+		 * 파일 전송 완료 (파일 표식을 큐에서 제거)
+		 */
+		private void finishFileTransfer(FileTransfer fileTransfer) {
+			mmFileTransfers.poll();
+			onDequeued(mOutgoingDataQueue.poll());
+			closeFileTransfer(fileTransfer);
+			mMetrics.recordBytesOut(fileTransfer.count);
+
+			logger.info("[파일 전송 완료: {}] {} bytes", mmSremoteAddr, fileTransfer.count);
+			fileTransfer.future.complete(fileTransfer.count);
+		}
+
+		private void closeFileTransfer(FileTransfer fileTransfer) {
+			mBufferAllocator.release(fileTransfer.chunkBuffer);
+			fileTransfer.chunkBuffer = null;
+
+			try {
+				fileTransfer.fileChannel.close();
+			} catch (IOException e) {
+				logger.error("파일 닫기 중 오류 발생: {}", e.getMessage(), e);
+			}
+		}
+
 		public void closeClient() {
             try {
                 if ( mmSocketChannel != null && mmSocketChannel.isOpen() ) {
                     logger.info("[클라이언트 연결 종료: {}]", mmSremoteAddr);
-                    mConnections.remove(this);
+                    mConnections.remove(mmConnectionId);
+                    mmReactor.getConnections().remove(mmConnectionId);
                     mmSocketChannel.close();
                     if (mmSslEngine != null) {
                         mmSslEngine.closeOutbound();
-                        mmSslEngine.closeInbound();
+                        try {
+                            mmSslEngine.closeInbound();
+                        } catch (SSLException e) {
+                            // 타임아웃 등 서버가 먼저 종료하는 경우 close_notify 를 받지 못하는 것은 정상
+                            logger.debug("[SSL 수신 종료: {}] {}", mmSremoteAddr, e.getMessage());
+                        }
+                    }
+
+                    // 버퍼, 송신 큐, 읽기 중지 상태는 Worker 스레드만 사용하므로 정리도 Worker 스레드에서 처리
+                    if ( mmReactor.inEventLoop() ) {
+                    	cleanup();
+                    } else {
+                    	mmReactor.execute(this::cleanup);
                     }
                 }
             } catch (IOException e) {
@@ -2,19 +2,34 @@ package common.tcp.socketchannel.multi;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.net.Socket;
-import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.Charset;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import javax.net.ssl.SSLSocket;
-import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import common.tcp.codec.FrameAccumulator;
+import common.tcp.codec.FrameCodec;
+import common.tcp.codec.RawFrameCodec;
+import common.tcp.codec.StreamingCharsetDecoder;
+import common.tcp.timer.HashedTimingWheel;
+
 /**
  * <pre>
  * NIO 소켓 클라이언트
@@ -28,6 +43,18 @@ import org.slf4j.LoggerFactory;
  * 2018. 12. 23. 김대광	최초작성
  * 2021.  8. 14. 김대광	SonarLint 지시에 따른 주저리 주저리
  * 2025.  5. 29. 김대광	제미나이에 의한 코드 대폭 개선
+ * 2026. 10. 18. kdk	셀렉터 기반으로 변경 (전송마다 스레드 생성, 블로킹 수신 스레드 제거), SSLEngine 으로 SSL 처리
+ * 2026. 10. 18. kdk	전문을 byte[] 로 받는 NioSocketClientFrameListener 추가
+ * 2026. 10. 18. kdk	문자열 디코더 재사용 (RawFrameCodec 은 미완성 멀티바이트 문자를 다음 수신 데이터와 이어서 변환)
+ * </pre>
+ *
+ * <pre>
+ * 스레드 구성
+ *  - 연결, SSL 핸드쉐이크, 읽기/쓰기는 NioClientEventLoop 스레드 하나에서 처리
+ *  - 기본값은 클라이언트마다 이벤트 루프 생성 (NioSocketClient-IO-N), setEventLoop 로 여러 클라이언트가 공유 가능
+ *  - send 는 어느 스레드에서나 호출 가능 (송신 큐에 넣고 바로 반환, 연결 전에 보낸 데이터는 연결 후 전송)
+ *  - 큐에 쌓인 데이터는 한 번의 write (SSL 은 한 번의 wrap) 로 모아서 전송
+ *  - 수신 데이터는 FrameCodec 으로 전문 단위로 나누어 NioSocketClientListener.onDataReceived 로 전달 (이벤트 루프 스레드에서 호출)
  * </pre>
  */
 public class NioSocketClientThread {
@@ -36,17 +63,39 @@ public class NioSocketClientThread {
 
 	private static final int TIMEOUT = 15*1000;		// 15초
 
+	private static final int BUFFER_SIZE = 16 * 1024;
+
+	// 한 번의 write/wrap 에 모을 최대 전송 데이터 개수
+	private static final int MAX_GATHER_BUFFERS = 16;
+	// 한 번의 write 로 보낼 최대 TLS 레코드 개수
+	private static final int MAX_RECORDS_PER_WRITE = 4;
+
+	private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+	private static final AtomicInteger CLIENT_INDEX = new AtomicInteger();
+
 	private final String serverIp;
     private final int port;
     private final String charsetName;
     private final boolean useSsl;
 
-	private SocketChannel mSocketChannel;
-    private NioSocketClientListener mListener; // 데이터 수신 콜백 리스너
-    private boolean mUseSsl;
-    private volatile boolean running = true;
+    private volatile NioSocketClientListener mListener; // 데이터 수신 콜백 리스너
+    private volatile NioSocketClientFrameListener mFrameListener;
+    private FrameCodec mFrameCodec = new RawFrameCodec();
+    private SSLContext mSslContext;
 
-    private String sRecvData;
+    private NioClientEventLoop mEventLoop;
+    private boolean mOwnEventLoop;
+    private Connection mConnection;
+
+    private final AtomicBoolean mStarted = new AtomicBoolean();
+    private final AtomicBoolean mClosed = new AtomicBoolean();
+
+    // 송신 큐 (어느 스레드에서나 추가, 이벤트 루프 스레드에서만 꺼냄)
+    private final ConcurrentLinkedQueue<ByteBuffer> mOutboundQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean mFlushScheduled = new AtomicBoolean();
+
+    private volatile String sRecvData;
 
     // 데이터 수신을 위한 콜백 인터페이스
     public interface NioSocketClientListener {
@@ -59,6 +108,18 @@ public class NioSocketClientThread {
         this.mListener = listener;
     }
 
+    /**
+     * 전문을 문자열로 변환하지 않고 byte[] 그대로 받는 콜백 (이벤트 루프 스레드에서 호출)
+     *  - 지정하면 NioSocketClientListener.onDataReceived 는 호출하지 않음 (onDisconnected, onError 는 그대로 호출)
+     */
+    public interface NioSocketClientFrameListener {
+    	void onFrameReceived(byte[] frame);
+    }
+
+    public void setFrameListener(NioSocketClientFrameListener frameListener) {
+    	this.mFrameListener = frameListener;
+    }
+
     public NioSocketClientThread(final String serverIp, final int port, final String charsetName, final boolean useSsl) {
     	this.serverIp = Objects.requireNonNull(serverIp, "서버 IP는 null일 수 없습니다.");
 
@@ -71,194 +132,588 @@ public class NioSocketClientThread {
         this.useSsl = useSsl;
     }
 
-	public void startClient() {
-		Thread thread = new Thread() {
-
-			@Override
-			public void run() {
-				mUseSsl = useSsl;
-				Socket socket = null;
-
-				try {
-					mSocketChannel = SocketChannel.open();
-                    SocketAddress socketAddr = new InetSocketAddress(serverIp, port);
-
-                    if (mUseSsl) {
-                    	SSLSocketFactory sslSocketFactory = (SSLSocketFactory) SSLSocketFactory.getDefault();
-                        socket = sslSocketFactory.createSocket(mSocketChannel.socket(), serverIp, port, true);
-                        ((SSLSocket) socket).startHandshake(); // SSL 핸드셰이크 시작
-                        logger.info("[SSL 연결 완료: {}]", socket.getRemoteSocketAddress());
-                    } else {
-                    	socket = mSocketChannel.socket();
-                        socket.connect(socketAddr, TIMEOUT);
-                        logger.info("[일반 연결 완료: {}]", socket.getRemoteSocketAddress());
-                    }
-
-                    socket.setSoTimeout(TIMEOUT); // 소켓 읽기/쓰기 타임아웃 설정
-
-                    // 연결 성공 후 데이터 수신 스레드 시작
-                    startReceivingData();
-				} catch (IOException e) {
-					logger.error("클라이언트 연결 중 오류 발생", e);
-                    if (mSocketChannel != null && mSocketChannel.isOpen()) {
-                        stopClient();
-                    }
-                    if (mListener != null) {
-                        mListener.onError(e);
-                    }
-				} finally {
-					if ( socket != null && !socket.isClosed() ) {
-						try {
-							socket.close();
-						} catch (IOException e) {
-							logger.error("소켓 종료 중 오류 발생", e);
-						}
-					}
-				}
-			}
-		};
-		thread.start();
-	}
+    /**
+     * 전문 프레이밍 코덱 지정 (startClient 전에 호출)
+     *  - 기본값 RawFrameCodec : 수신된 만큼을 하나의 메시지로 처리
+     * @param frameCodec
+     */
+    public void setFrameCodec(FrameCodec frameCodec) {
+    	this.mFrameCodec = Objects.requireNonNull(frameCodec, "frameCodec 은 null일 수 없습니다.");
+    }
 
-	public void stopClient() {
-		if ( mSocketChannel == null ) {
-            return;
-        }
+    /**
+     * SSL 컨텍스트 지정 (startClient 전에 호출)
+     *  - 기본값 SSLContext.getDefault() : javax.net.ssl.trustStore 시스템 프로퍼티의 신뢰 저장소 사용
+     * @param sslContext
+     */
+    public void setSslContext(SSLContext sslContext) {
+    	this.mSslContext = Objects.requireNonNull(sslContext, "sslContext 는 null일 수 없습니다.");
+    }
 
-		try {
-			mSocketChannel.close();
+    /**
+     * 공유 이벤트 루프 지정 (startClient 전에 호출)
+     *  - 지정하지 않으면 클라이언트 전용 이벤트 루프를 생성하고, 연결 종료 시 함께 종료
+     *  - 지정한 이벤트 루프는 연결 종료 시 종료하지 않음 (소유자가 shutdown 호출)
+     * @param eventLoop
+     */
+    public void setEventLoop(NioClientEventLoop eventLoop) {
+    	this.mEventLoop = Objects.requireNonNull(eventLoop, "eventLoop 는 null일 수 없습니다.");
+    	this.mOwnEventLoop = false;
+    }
 
-			logger.info("[연결 끊음]");
+	public void startClient() {
+		if ( !mStarted.compareAndSet(false, true) ) {
+			throw new IllegalStateException("이미 시작된 클라이언트입니다.");
+		}
 
-			if ( mListener != null ) {
-                mListener.onDisconnected();
-            }
+		try {
+			if (mEventLoop == null) {
+				mEventLoop = new NioClientEventLoop("NioSocketClient-IO-" + CLIENT_INDEX.getAndIncrement());
+				mOwnEventLoop = true;
+			} else if ( mEventLoop.isShutdown() ) {
+				throw new IllegalStateException("종료된 이벤트 루프입니다.");
+			}
+
+			if ( useSsl && mSslContext == null ) {
+				mSslContext = SSLContext.getDefault();
+			}
 
-		} catch (IOException e) {
-			logger.error("클라이언트 종료 중 오류 발생", e);
+			mConnection = new Connection();
+			mEventLoop.execute(mConnection::connect);
 
+		} catch (IOException | NoSuchAlgorithmException e) {
+			logger.error("클라이언트 연결 중 오류 발생", e);
+			mClosed.set(true);
+			if (mOwnEventLoop && mEventLoop != null) {
+				mEventLoop.shutdown();
+			}
             if (mListener != null) {
                 mListener.onError(e);
             }
-		} finally {
-			mSocketChannel = null; // 채널 참조 해제
 		}
 	}
 
+	public void stopClient() {
+		if ( mConnection == null || mClosed.get() ) {
+            return;
+        }
+
+		if ( mEventLoop.inEventLoop() ) {
+			mConnection.close();
+		} else {
+			mEventLoop.execute(mConnection::close);
+		}
+	}
+
+	/**
+	 * 데이터 전송 (송신 큐에 넣고 바로 반환)
+	 *  - 전송한 배열은 실제로 전송될 때까지 변경하면 안 됨
+	 * @param bSendData
+	 */
 	public void send(byte[] bSendData) {
-		if ( mSocketChannel == null || !mSocketChannel.isConnected() ) {
+		if ( mConnection == null || mClosed.get() ) {
             logger.warn("클라이언트가 연결되지 않아 데이터를 보낼 수 없습니다.");
             return;
         }
 
-		Thread thread = new Thread(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    ByteBuffer byteBuffer = ByteBuffer.wrap(bSendData);
-                    mSocketChannel.write(byteBuffer);
-
-                    String sSendData = new String(bSendData, charsetName);
-                    logger.info("[보내기 완료: {}]", sSendData);
-
-                } catch (IOException e) {
-                    logger.error("데이터 전송 중 오류 발생", e);
-                    stopClient();
-                    if ( mListener != null ) {
-                        mListener.onError(e);
-                    }
-                }
-            }
-        });
-        thread.start();
+		mOutboundQueue.offer(ByteBuffer.wrap(bSendData));
+
+		// 이미 예약된 flush 가 있으면 그 때 함께 전송
+		if ( mFlushScheduled.compareAndSet(false, true) ) {
+			mEventLoop.execute(mConnection::flush);
+		}
 	}
 
-	// 데이터 수신을 위한 내부 스레드
-    private void startReceivingData() {
-        Thread receiveThread = new Thread(new Runnable() {
-            @Override
-            public void run() {
-                while ( running && mSocketChannel != null && mSocketChannel.isConnected() ) {
-                    try {
-                        ByteBuffer byteBuffer = ByteBuffer.allocate(4096);
-                        int nByteCnt = mSocketChannel.read(byteBuffer);
-
-                        if (nByteCnt == -1) {
-                            // 스트림의 끝 (상대방이 연결을 끊음)
-                            logger.warn("상대방이 연결을 끊었습니다.");
-                            throw new IOException("스트림의 끝 도달");
-                        } else if (nByteCnt == 0) {
-                            // 읽을 데이터가 없음 (블로킹 모드가 아니거나, 일시적으로 데이터 없음)
-                            // 바쁜 대기를 피하기 위해 잠시 대기
-
-                        	// 안전하게 대기하는 메서드 호출
-                            boolean wasInterrupted = sleepSafely(100);
-                            if (wasInterrupted) {
-                            	running = false;
-                            }
-                        } else {
-                        	byteBuffer.flip(); // 쓰기 모드에서 읽기 모드로 전환
-
-                        	// mCharsetName이 유효한지 확인하고 기본 Charset 대신 사용
-                        	Charset charset = (charsetName != null && !charsetName.isEmpty()) ?
-                        			Charset.forName(charsetName) : Charset.defaultCharset();
-                        	sRecvData = charset.decode(byteBuffer).toString();
-
-                        	logger.info("[받기 완료: {}]", sRecvData);
-
-                        	if (mListener != null) {
-                        		mListener.onDataReceived(sRecvData);
-                        	}
-                        }
-                    } catch (IOException e) {
-                        logger.error("데이터 수신 중 IO 오류 발생", e);
-                        stopClient();
-                        if (mListener != null) {
-                            mListener.onError(e);
-                        }
-                        running = false;
-                    } catch (Exception e) {
-                        logger.error("데이터 수신 중 예상치 못한 오류 발생", e);
-                        stopClient();
-                        if (mListener != null) {
-                            mListener.onError(e);
-                        }
-                        running = false;
-                    }
-
-                    if (!running) {
-                        break;
-                    }
-                }
-                logger.info("데이터 수신 스레드 종료.");
-            }
-        });
-        receiveThread.setName("NioSocketClient-ReceiveThread");
-        receiveThread.start();
+	/**
+	 * 마지막으로 수신한 전문
+	 * @return
+	 */
+    public String receive() {
+    	return (sRecvData == null || sRecvData.isEmpty()) ? null : sRecvData;
     }
 
     /**
-     * 주어진 시간만큼 스레드를 안전하게 대기시킵니다.
-     * 인터럽트 발생 시 현재 스레드의 인터럽트 상태를 복원하고 경고를 로깅합니다.
-     *
-     * @param millis 대기할 시간 (밀리초)
-     * @return 대기 중 인터럽트가 발생했으면 true, 아니면 false
+     * 연결 하나의 상태 (이벤트 루프 스레드에서만 사용)
      */
-    private boolean sleepSafely(long millis) {
-        try {
-            Thread.sleep(millis);
-            return false; // 인터럽트 없이 정상적으로 대기 완료
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // 인터럽트 상태 복원
-            logger.warn("수신 스레드 대기 중 인터럽트 발생", e);
-            // running = false; // 만약 running 변수가 이 메서드 외부의 루프를 제어한다면
-                              // 여기서 바로 변경하기보다는, 반환 값을 통해 호출자에게 알리는 것이 좋습니다.
-            return true; // 인터럽트 발생
-        }
-    }
-
-    public String receive() {
-    	return sRecvData.isEmpty() ? null : sRecvData;
+    private class Connection implements NioClientEventLoop.ChannelHandler {
+    	private SocketChannel mmSocketChannel;
+    	private SelectionKey mmSelectionKey;
+    	private HashedTimingWheel.Timeout mmConnectTimeout;
+    	private boolean mmReady;
+
+    	// RawFrameCodec 은 수신된 만큼이 전문이므로 끝에 걸친 미완성 멀티바이트 문자는 다음 수신 데이터와 이어서 변환
+    	private final StreamingCharsetDecoder mmDecoder = new StreamingCharsetDecoder(Charset.forName(charsetName));
+    	private final FrameAccumulator mmFrameAccumulator = new FrameAccumulator(mFrameCodec);
+    	private final ByteBuffer[] mmGatherBuffers = new ByteBuffer[MAX_GATHER_BUFFERS];
+
+    	private SSLEngine mmSslEngine;
+    	private ByteBuffer mmAppRecvBuffer;
+    	// 암호화된 수신 데이터 (쓰기 모드), 암호화된 송신 데이터 (읽기 모드)
+    	private ByteBuffer mmNetRecvBuffer;
+    	private ByteBuffer mmNetSendBuffer;
+
+    	void connect() {
+    		try {
+    			mmSocketChannel = SocketChannel.open();
+    			mmSocketChannel.configureBlocking(false);
+    			mmSocketChannel.socket().setTcpNoDelay(true);
+
+    			mmConnectTimeout = mEventLoop.getTimer().newTimeout(this::onConnectTimeout, TIMEOUT, TimeUnit.MILLISECONDS);
+
+    			if ( mmSocketChannel.connect(new InetSocketAddress(serverIp, port)) ) {
+    				mmSelectionKey = mEventLoop.register(mmSocketChannel, SelectionKey.OP_READ, this);
+    				onConnected();
+    			} else {
+    				mmSelectionKey = mEventLoop.register(mmSocketChannel, SelectionKey.OP_CONNECT, this);
+    			}
+    		} catch (IOException e) {
+    			fail("클라이언트 연결 중 오류 발생", e);
+    		}
+    	}
+
+    	private void onConnectTimeout() {
+    		mmConnectTimeout = null;
+
+    		if (!mmReady) {
+    			fail("클라이언트 연결 중 오류 발생", new SocketTimeoutException("연결 시간 초과: " + TIMEOUT + " ms"));
+    		}
+    	}
+
+    	private void onConnected() throws IOException {
+    		mmSelectionKey.interestOps(SelectionKey.OP_READ);
+
+    		if (useSsl) {
+    			mmSslEngine = mSslContext.createSSLEngine(serverIp, port);
+    			mmSslEngine.setUseClientMode(true);
+
+    			mmAppRecvBuffer = ByteBuffer.allocate(mmSslEngine.getSession().getApplicationBufferSize());
+    			mmNetRecvBuffer = ByteBuffer.allocate(mmSslEngine.getSession().getPacketBufferSize());
+    			mmNetSendBuffer = ByteBuffer.allocate(mmSslEngine.getSession().getPacketBufferSize() * MAX_RECORDS_PER_WRITE);
+    			mmNetSendBuffer.flip();
+
+    			mmSslEngine.beginHandshake();
+    			doHandshake();
+    		} else {
+    			mmAppRecvBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    			logger.info("[일반 연결 완료: {}]", mmSocketChannel.getRemoteAddress());
+    			onReady();
+    		}
+    	}
+
+    	private void onReady() throws IOException {
+    		mmReady = true;
+
+    		if (mmConnectTimeout != null) {
+    			mmConnectTimeout.cancel();
+    			mmConnectTimeout = null;
+    		}
+
+    		// 핸드쉐이크와 함께 도착한 데이터, 연결 전에 요청된 전송 처리
+    		if ( useSsl && mmNetRecvBuffer.position() > 0 ) {
+    			unwrapReceived();
+    		}
+    		deliverFrames();
+    		writeOutbound();
+    	}
+
+    	@Override
+    	public void onSelected(SelectionKey selectionKey) {
+    		try {
+    			if ( selectionKey.isConnectable() ) {
+    				mmSocketChannel.finishConnect();
+    				onConnected();
+    				return;
+    			}
+
+    			if ( useSsl && !mmReady ) {
+    				if ( flushNetSendBuffer() ) {
+    					doHandshake();
+    				}
+    				return;
+    			}
+
+    			if ( selectionKey.isReadable() ) {
+    				receive();
+    			}
+
+    			if ( selectionKey.isValid() && selectionKey.isWritable() ) {
+    				writeOutbound();
+    			}
+    		} catch (Exception e) {
+    			fail("데이터 처리 중 오류 발생", e);
+    		}
+    	}
+
+    	@Override
+    	public void onLoopShutdown() {
+    		close();
+    	}
+
+    	/**
+    	 * 핸드쉐이크 진행
+    	 *  - 데이터가 부족하거나 소켓 송신 버퍼가 가득 차면 반환하고, 다음 이벤트에서 이어서 진행
+    	 *  - 위임 작업은 이벤트 루프 스레드에서 바로 실행 (클라이언트는 연결 수가 적으므로)
+    	 */
+    	private void doHandshake() throws IOException {
+    		SSLEngineResult result;
+
+    		while (true) {
+    			switch (mmSslEngine.getHandshakeStatus()) {
+    				case NOT_HANDSHAKING:
+    				case FINISHED:
+    					if (!mmReady) {
+    						logger.info("[SSL 연결 완료: {}]", mmSocketChannel.getRemoteAddress());
+    						onReady();
+    					}
+    					return;
+
+    				case NEED_TASK:
+    					Runnable task;
+    					while ( (task = mmSslEngine.getDelegatedTask()) != null ) {
+    						task.run();
+    					}
+    					break;
+
+    				case NEED_WRAP:
+    					mmNetSendBuffer.compact();
+    					result = mmSslEngine.wrap(EMPTY_BUFFER, mmNetSendBuffer);
+    					mmNetSendBuffer.flip();
+
+    					if ( result.getStatus() == SSLEngineResult.Status.CLOSED ) {
+    						throw new IOException("SSL 엔진이 닫혔습니다.");
+    					}
+
+    					if ( !flushNetSendBuffer() ) {
+    						return;
+    					}
+    					break;
+
+    				default:
+    					// NEED_UNWRAP (Java 9 이상의 NEED_UNWRAP_AGAIN 포함)
+    					mmNetRecvBuffer.flip();
+    					result = mmSslEngine.unwrap(mmNetRecvBuffer, mmAppRecvBuffer);
+    					mmNetRecvBuffer.compact();
+
+    					switch (result.getStatus()) {
+    						case OK:
+    							break;
+    						case BUFFER_OVERFLOW:
+    							drainAppRecvBuffer();
+    							break;
+    						case BUFFER_UNDERFLOW:
+    							ensureNetRecvCapacity();
+    							int nByteCnt = mmSocketChannel.read(mmNetRecvBuffer);
+    							if (nByteCnt == -1) {
+    								throw new IOException("핸드쉐이크 중 서버가 연결을 끊었습니다.");
+    							}
+    							if (nByteCnt == 0) {
+    								return; // 다음 OP_READ 이벤트까지 대기
+    							}
+    							break;
+    						case CLOSED:
+    							throw new IOException("SSL 엔진이 닫혔습니다.");
+    					}
+    					break;
+    			}
+    		}
+    	}
+
+    	private void receive() throws IOException {
+    		int nByteCnt = mmSocketChannel.read(useSsl ? mmNetRecvBuffer : mmAppRecvBuffer);
+
+    		if (useSsl) {
+    			unwrapReceived();
+    		}
+    		deliverFrames();
+
+    		if (nByteCnt == -1) {
+    			// 스트림의 끝 (상대방이 연결을 끊음)
+    			logger.warn("상대방이 연결을 끊었습니다.");
+    			close();
+    		}
+    	}
+
+    	/**
+    	 * 수신한 TLS 레코드를 모두 복호화 (레코드 일부만 온 경우 다음 수신까지 남겨 둠)
+    	 */
+    	private void unwrapReceived() throws IOException {
+    		boolean needHandshake = false;
+
+    		mmNetRecvBuffer.flip();
+    		try {
+    			while ( mmNetRecvBuffer.hasRemaining() ) {
+    				SSLEngineResult result = mmSslEngine.unwrap(mmNetRecvBuffer, mmAppRecvBuffer);
+
+    				if ( result.getStatus() == SSLEngineResult.Status.BUFFER_OVERFLOW ) {
+    					drainAppRecvBuffer();
+    					continue;
+    				}
+
+    				if ( result.getStatus() == SSLEngineResult.Status.BUFFER_UNDERFLOW ) {
+    					break;
+    				}
+
+    				if ( result.getStatus() == SSLEngineResult.Status.CLOSED ) {
+    					throw new IOException("서버가 SSL 연결을 종료했습니다.");
+    				}
+
+    				// 재협상, 키 갱신 등
+    				SSLEngineResult.HandshakeStatus handshakeStatus = result.getHandshakeStatus();
+    				if ( handshakeStatus == SSLEngineResult.HandshakeStatus.NEED_TASK
+    						|| handshakeStatus == SSLEngineResult.HandshakeStatus.NEED_WRAP ) {
+    					needHandshake = true;
+    					break;
+    				}
+    			}
+    		} finally {
+    			mmNetRecvBuffer.compact();
+    		}
+
+    		ensureNetRecvCapacity();
+
+    		if (needHandshake) {
+    			doHandshake();
+    		}
+    	}
+
+    	/**
+    	 * 레코드 하나가 버퍼보다 크면 확장
+    	 */
+    	private void ensureNetRecvCapacity() {
+    		int nPacketSize = mmSslEngine.getSession().getPacketBufferSize();
+
+    		if ( !mmNetRecvBuffer.hasRemaining() && mmNetRecvBuffer.capacity() < nPacketSize * 2 ) {
+    			ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(nPacketSize, mmNetRecvBuffer.capacity() * 2));
+    			mmNetRecvBuffer.flip();
+    			newBuffer.put(mmNetRecvBuffer);
+    			mmNetRecvBuffer = newBuffer;
+    		}
+    	}
+
+    	/**
+    	 * 복호화된 데이터를 누적 버퍼로 옮김
+    	 */
+    	private void drainAppRecvBuffer() {
+    		mmAppRecvBuffer.flip();
+    		mmFrameAccumulator.append(mmAppRecvBuffer);
+    		mmAppRecvBuffer.clear();
+    	}
+
+    	private void deliverFrames() throws IOException {
+    		drainAppRecvBuffer();
+
+    		byte[] frame;
+    		while ( (frame = mmFrameAccumulator.next()) != null ) {
+    			logger.debug("[받기 완료: {} bytes]", frame.length);
+
+    			NioSocketClientFrameListener frameListener = mFrameListener;
+    			if (frameListener != null) {
+    				frameListener.onFrameReceived(frame);
+    				continue;
+    			}
+
+    			String sData = (mFrameCodec instanceof RawFrameCodec) ? mmDecoder.decode(frame) : mmDecoder.decodeFrame(frame);
+    			if ( sData.isEmpty() && frame.length > 0 ) {
+    				continue; // 미완성 문자만 수신된 경우
+    			}
+
+    			sRecvData = sData;
+    			if (mListener != null) {
+    				mListener.onDataReceived(sRecvData);
+    			}
+    		}
+    	}
+
+    	void flush() {
+    		mFlushScheduled.set(false);
+
+    		if ( !mmReady || mClosed.get() ) {
+    			return; // 연결 완료 후 onReady 에서 전송
+    		}
+
+    		try {
+    			writeOutbound();
+    		} catch (IOException e) {
+    			fail("데이터 전송 중 오류 발생", e);
+    		}
+    	}
+
+    	/**
+    	 * 송신 큐의 데이터를 모아서 전송, 소켓 송신 버퍼가 가득 차면 OP_WRITE 로 대기
+    	 */
+    	private void writeOutbound() throws IOException {
+    		boolean isDone = useSsl ? writeSsl() : writePlain();
+
+    		int nOps = mmSelectionKey.interestOps();
+    		int nNewOps = isDone ? (nOps & ~SelectionKey.OP_WRITE) : (nOps | SelectionKey.OP_WRITE);
+    		if (nOps != nNewOps) {
+    			mmSelectionKey.interestOps(nNewOps);
+    		}
+    	}
+
+    	private boolean writePlain() throws IOException {
+    		while (true) {
+    			int nCount = gatherOutbound();
+    			if (nCount == 0) {
+    				return true;
+    			}
+
+    			try {
+    				long lWritten = mmSocketChannel.write(mmGatherBuffers, 0, nCount);
+    				logger.debug("[보내기 완료: {} bytes]", lWritten);
+
+    				if ( mmGatherBuffers[nCount - 1].hasRemaining() ) {
+    					return false;
+    				}
+    			} finally {
+    				pollConsumed();
+    				Arrays.fill(mmGatherBuffers, null);
+    			}
+    		}
+    	}
+
+    	private boolean writeSsl() throws IOException {
+    		int nPacketSize = mmSslEngine.getSession().getPacketBufferSize();
+
+    		while (true) {
+    			if ( !flushNetSendBuffer() ) {
+    				return false;
+    			}
+
+    			int nCount = gatherOutbound();
+    			if (nCount == 0) {
+    				return true;
+    			}
+
+    			// 여러 전송 데이터를 레코드 단위로 모아서 암호화
+    			mmNetSendBuffer.clear();
+    			try {
+    				while ( nCount > 0 && mmNetSendBuffer.remaining() >= nPacketSize ) {
+    					SSLEngineResult result = mmSslEngine.wrap(mmGatherBuffers, 0, nCount, mmNetSendBuffer);
+
+    					if ( result.getStatus() == SSLEngineResult.Status.CLOSED ) {
+    						throw new IOException("SSL 엔진이 닫혔습니다.");
+    					}
+
+    					if ( result.getStatus() != SSLEngineResult.Status.OK || result.bytesConsumed() == 0 ) {
+    						break;
+    					}
+
+    					pollConsumed();
+    					Arrays.fill(mmGatherBuffers, null);
+    					nCount = gatherOutbound();
+    				}
+    			} finally {
+    				Arrays.fill(mmGatherBuffers, null);
+    				mmNetSendBuffer.flip();
+    			}
+    		}
+    	}
+
+    	/**
+    	 * 큐의 앞부분을 mmGatherBuffers 에 담음 (큐에서 꺼내지는 않음)
+    	 */
+    	private int gatherOutbound() {
+    		int nCount = 0;
+    		Iterator<ByteBuffer> it = mOutboundQueue.iterator();
+    		while ( nCount < MAX_GATHER_BUFFERS && it.hasNext() ) {
+    			mmGatherBuffers[nCount++] = it.next();
+    		}
+    		return nCount;
+    	}
+
+    	/**
+    	 * 모두 전송(암호화)된 데이터를 큐에서 꺼냄
+    	 */
+    	private void pollConsumed() {
+    		ByteBuffer head;
+    		while ( (head = mOutboundQueue.peek()) != null && !head.hasRemaining() ) {
+    			mOutboundQueue.poll();
+    		}
+    	}
+
+    	/**
+    	 * 암호화된 송신 데이터 전송
+    	 * @return 모두 전송했으면 true, 소켓 송신 버퍼가 가득 찼으면 false (OP_WRITE 등록)
+    	 */
+    	private boolean flushNetSendBuffer() throws IOException {
+    		while ( mmNetSendBuffer.hasRemaining() ) {
+    			if ( mmSocketChannel.write(mmNetSendBuffer) == 0 ) {
+    				mmSelectionKey.interestOps(mmSelectionKey.interestOps() | SelectionKey.OP_WRITE);
+    				return false;
+    			}
+    		}
+
+    		if ( !mmReady && (mmSelectionKey.interestOps() & SelectionKey.OP_WRITE) != 0 ) {
+    			mmSelectionKey.interestOps(mmSelectionKey.interestOps() & ~SelectionKey.OP_WRITE);
+    		}
+    		return true;
+    	}
+
+    	private void fail(String sMessage, Exception e) {
+    		logger.error(sMessage, e);
+    		close();
+    		if (mListener != null) {
+    			mListener.onError(e);
+    		}
+    	}
+
+    	void close() {
+    		if ( !mClosed.compareAndSet(false, true) ) {
+    			return;
+    		}
+
+    		if (mmConnectTimeout != null) {
+    			mmConnectTimeout.cancel();
+    			mmConnectTimeout = null;
+    		}
+
+    		if (mmSelectionKey != null) {
+    			mmSelectionKey.cancel();
+    		}
+
+    		if (mmSocketChannel != null) {
+    			closeSsl();
+
+    			try {
+    				mmSocketChannel.close();
+    			} catch (IOException e) {
+    				logger.error("클라이언트 종료 중 오류 발생", e);
+    			}
+    		}
+
+    		mOutboundQueue.clear();
+    		mmFrameAccumulator.release();
+
+    		logger.info("[연결 끊음]");
+
+    		if ( mListener != null ) {
+    			mListener.onDisconnected();
+    		}
+
+    		if (mOwnEventLoop) {
+    			mEventLoop.shutdown();
+    		}
+    	}
+
+    	/**
+    	 * close_notify 전송 (실패해도 무시)
+    	 */
+    	private void closeSsl() {
+    		if ( mmSslEngine == null || !mmSocketChannel.isConnected() ) {
+    			return;
+    		}
+
+    		try {
+    			mmSslEngine.closeOutbound();
+    			mmNetSendBuffer.clear();
+    			mmSslEngine.wrap(EMPTY_BUFFER, mmNetSendBuffer);
+    			mmNetSendBuffer.flip();
+    			mmSocketChannel.write(mmNetSendBuffer);
+    		} catch (IOException e) {
+    			logger.debug("[SSL 종료 알림 전송 실패] {}", e.getMessage());
+    		}
+    	}
     }
 
 }
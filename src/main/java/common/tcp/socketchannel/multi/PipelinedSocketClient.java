@@ -0,0 +1,447 @@
+package common.tcp.socketchannel.multi;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import common.tcp.codec.CorrelationIdField;
+import common.tcp.codec.FrameCodec;
+import common.tcp.timer.HashedTimingWheel;
+
+/**
+ * <pre>
+ * 요청/응답 다중화 클라이언트 (연결 하나에 여러 요청을 응답을 기다리지 않고 연속 전송)
+ *  - 요청 전문의 식별 번호 필드(CorrelationIdField)에 요청마다 고유 번호를 써서 전송하고,
+ *    응답 전문의 같은 필드 값으로 요청의 CompletableFuture 를 완료 (응답 순서는 요청 순서와 달라도 됨)
+ *  - 서버는 요청 전문의 식별 번호를 응답 전문의 같은 위치에 그대로 돌려주어야 함
+ *  - 요청별 타임아웃 : 시간 내에 응답이 없으면 SocketTimeoutException 으로 실패 (이벤트 루프의 타이밍 휠 사용, 정밀도 100ms)
+ *  - 동시 요청 수 제한 : 응답 대기 중인 요청이 maxInFlight 개면 새 요청은 inFlightWaitTimeout 동안 호출 스레드에서 기다리고,
+ *    그래도 허가를 얻지 못하면 RejectedExecutionException 으로 실패 (기본값은 기다리지 않음)
+ *  - 타임아웃, 취소된 요청의 식별 번호는 늦은 응답이 오거나 번호가 한 바퀴 돌 때까지 재사용하지 않음
+ *    (늦은 응답이 같은 번호의 새 요청에 잘못 전달되지 않도록, 늦은 응답은 버림)
+ *  - 연결이 끊어지면 응답 대기 중인 요청은 모두 IOException 으로 실패 (재연결하지 않음)
+ *
+ * 스레드 안전 (request 는 어느 스레드에서나 호출 가능)
+ * CompletableFuture 는 이벤트 루프 스레드에서 완료되므로, 오래 걸리는 후속 처리는 thenApplyAsync 등 *Async 메소드 사용
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	타임아웃된 요청의 식별 번호 재사용 보류, 동시 요청 수 초과 시 대기 시간 지정 추가
+ * </pre>
+ *
+ * <pre>
+ * 사용 예
+ *  PipelinedSocketClient client = new PipelinedSocketClient("127.0.0.1", 9000, true,
+ *  		new AsciiLengthFieldFrameCodec(4), new CorrelationIdField(0, 8, true));
+ *  client.connect();
+ *  CompletableFuture&lt;byte[]&gt; response = client.request(bMessage);
+ *  ...
+ *  client.close();
+ * </pre>
+ */
+public class PipelinedSocketClient {
+
+	private static final Logger logger = LoggerFactory.getLogger(PipelinedSocketClient.class);
+
+	private static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+	private static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 15*1000;	// 15초
+
+	private static final AtomicInteger CLIENT_INDEX = new AtomicInteger();
+
+	private final NioSocketClientThread mClient;
+	private final FrameCodec mFrameCodec;
+	private final CorrelationIdField mIdField;
+
+	private NioClientEventLoop mEventLoop;
+	private boolean mOwnEventLoop;
+
+	private int mMaxInFlight = DEFAULT_MAX_IN_FLIGHT;
+	private long mRequestTimeoutMillis = DEFAULT_REQUEST_TIMEOUT_MILLIS;
+	private long mInFlightWaitMillis;
+
+	private Semaphore mInFlightPermits;
+	private int mInFlightLimit;
+	// 응답 대기 중인 요청, 재사용을 보류한 식별 번호는 RETIRED
+	private final ConcurrentHashMap<Long, PendingRequest> mPendingRequests = new ConcurrentHashMap<>();
+	private final AtomicLong mNextId = new AtomicLong();
+
+	// 타이밍 휠은 이벤트 루프 스레드에서만 사용하므로, 타임아웃 등록은 큐에 모아서 이벤트 루프에서 처리
+	private final ConcurrentLinkedQueue<PendingRequest> mTimeoutQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean mTimeoutScheduled = new AtomicBoolean();
+
+	private final AtomicBoolean mStarted = new AtomicBoolean();
+	private volatile boolean mClosed;
+
+	/**
+	 * 응답 대기 중인 요청
+	 */
+	private static class PendingRequest {
+		private final long id;
+		private final CompletableFuture<byte[]> future = new CompletableFuture<>();
+		private HashedTimingWheel.Timeout timeout;	// 이벤트 루프 스레드에서만 사용
+
+		PendingRequest(long id) {
+			this.id = id;
+		}
+	}
+
+	/**
+	 * 타임아웃, 취소된 요청의 식별 번호 표시 (늦은 응답을 받거나 번호 할당이 한 바퀴 돌아올 때까지 유지)
+	 */
+	private static final PendingRequest RETIRED = new PendingRequest(-1);
+
+	/**
+	 * @param serverIp
+	 * @param port
+	 * @param useSsl
+	 * @param frameCodec 전문 프레이밍 코덱 (요청은 encode, 응답은 decode)
+	 * @param idField 식별 번호 필드 (decode 된 전문 기준 위치)
+	 */
+	public PipelinedSocketClient(String serverIp, int port, boolean useSsl, FrameCodec frameCodec, CorrelationIdField idField) {
+		this.mFrameCodec = Objects.requireNonNull(frameCodec, "frameCodec 은 null일 수 없습니다.");
+		this.mIdField = Objects.requireNonNull(idField, "idField 는 null일 수 없습니다.");
+
+		// 문자열 변환은 하지 않으므로 문자셋은 사용되지 않음
+		this.mClient = new NioSocketClientThread(serverIp, port, "UTF-8", useSsl);
+		this.mClient.setFrameCodec(frameCodec);
+		this.mClient.setFrameListener(this::onResponse);
+		this.mClient.setListener(new NioSocketClientThread.NioSocketClientListener() {
+			@Override
+			public void onDataReceived(String data) {
+				// setFrameListener 를 지정했으므로 호출되지 않음
+			}
+
+			@Override
+			public void onDisconnected() {
+				onConnectionClosed(new IOException("연결이 끊어졌습니다."));
+			}
+
+			@Override
+			public void onError(Exception e) {
+				onConnectionClosed(new IOException("연결 오류로 요청이 실패했습니다.", e));
+			}
+		});
+	}
+
+	/**
+	 * SSL 컨텍스트 지정 (connect 전에 호출)
+	 * @param sslContext
+	 */
+	public void setSslContext(SSLContext sslContext) {
+		mClient.setSslContext(sslContext);
+	}
+
+	/**
+	 * 공유 이벤트 루프 지정 (connect 전에 호출)
+	 *  - 지정하지 않으면 전용 이벤트 루프를 생성하고, close 시 함께 종료
+	 * @param eventLoop
+	 */
+	public void setEventLoop(NioClientEventLoop eventLoop) {
+		this.mEventLoop = Objects.requireNonNull(eventLoop, "eventLoop 는 null일 수 없습니다.");
+		this.mOwnEventLoop = false;
+	}
+
+	/**
+	 * 응답 대기 중인 요청의 최대 개수 (connect 전에 호출)
+	 *  - 기본값 1024, 식별 번호 필드로 표현할 수 있는 개수를 넘을 수 없음
+	 * @param nMaxInFlight
+	 */
+	public void setMaxInFlight(int nMaxInFlight) {
+		if (nMaxInFlight <= 0) {
+			throw new IllegalArgumentException("maxInFlight 는 1 이상이어야 합니다: " + nMaxInFlight);
+		}
+
+		if ( mIdField.getMaxValue() < Long.MAX_VALUE && nMaxInFlight > mIdField.getMaxValue() + 1 ) {
+			throw new IllegalArgumentException("maxInFlight 가 식별 번호 필드로 표현할 수 있는 개수(" + (mIdField.getMaxValue() + 1) + ")보다 큽니다: " + nMaxInFlight);
+		}
+
+		this.mMaxInFlight = nMaxInFlight;
+	}
+
+	/**
+	 * 요청별 응답 대기 시간 (connect 전에 호출)
+	 *  - 기본값 15초
+	 * @param timeout
+	 * @param unit
+	 */
+	public void setRequestTimeout(long timeout, TimeUnit unit) {
+		if (timeout <= 0) {
+			throw new IllegalArgumentException("timeout 은 1 이상이어야 합니다: " + timeout);
+		}
+
+		this.mRequestTimeoutMillis = unit.toMillis(timeout);
+	}
+
+	/**
+	 * 동시 요청 수가 maxInFlight 일 때 request 호출 스레드가 허가를 기다릴 시간 (connect 전에 호출)
+	 *  - 기본값 0 : 기다리지 않고 RejectedExecutionException 으로 바로 실패
+	 *  - 이벤트 루프 스레드 (응답 후속 처리 등) 에서 호출한 request 는 응답 처리가 멈추므로 기다리지 않음
+	 * @param timeout
+	 * @param unit
+	 */
+	public void setInFlightWaitTimeout(long timeout, TimeUnit unit) {
+		if (timeout < 0) {
+			throw new IllegalArgumentException("timeout 은 0 이상이어야 합니다: " + timeout);
+		}
+
+		this.mInFlightWaitMillis = unit.toMillis(timeout);
+	}
+
+	/**
+	 * 연결 시작 (연결 완료를 기다리지 않음, 연결 전에 요청한 전문은 연결 후 전송)
+	 * @throws IOException 이벤트 루프 생성 실패
+	 */
+	public void connect() throws IOException {
+		if ( !mStarted.compareAndSet(false, true) ) {
+			throw new IllegalStateException("이미 시작된 클라이언트입니다.");
+		}
+
+		// 기본값이 식별 번호 개수보다 큰 경우 (예: ASCII 2자리)
+		int nIdCount = (mIdField.getMaxValue() >= Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) (mIdField.getMaxValue() + 1);
+		mInFlightLimit = Math.min(mMaxInFlight, nIdCount);
+		mInFlightPermits = new Semaphore(mInFlightLimit);
+
+		if (mEventLoop == null) {
+			mEventLoop = new NioClientEventLoop("PipelinedSocketClient-IO-" + CLIENT_INDEX.getAndIncrement());
+			mOwnEventLoop = true;
+		}
+
+		mClient.setEventLoop(mEventLoop);
+		mClient.startClient();
+	}
+
+	/**
+	 * 요청 전송
+	 *  - 전달한 배열은 변경하지 않음 (복사본의 식별 번호 필드에 번호를 씀)
+	 * @param bMessage 식별 번호 필드 자리가 포함된 전문 (프레이밍 헤더 제외)
+	 * @return 응답 전문 (프레이밍 헤더 제외). 타임아웃이면 SocketTimeoutException,
+	 *         동시 요청 수 초과 (inFlightWaitTimeout 동안 기다린 후) 면 RejectedExecutionException, 연결 종료면 IOException 으로 실패
+	 */
+	public CompletableFuture<byte[]> request(byte[] bMessage) {
+		Objects.requireNonNull(bMessage, "bMessage 는 null일 수 없습니다.");
+
+		if ( !mStarted.get() ) {
+			throw new IllegalStateException("connect 를 먼저 호출해야 합니다.");
+		}
+
+		if (mClosed) {
+			return failedFuture(new IOException("연결이 종료된 클라이언트입니다."));
+		}
+
+		if ( !acquirePermit() ) {
+			return failedFuture(new RejectedExecutionException("응답 대기 중인 요청이 최대 개수(" + mInFlightLimit + ")에 도달했습니다."));
+		}
+
+		PendingRequest pendingRequest = register();
+
+		// 사용자가 cancel 하거나 직접 완료한 경우에도 대기 목록에서 제거 (늦은 응답이 올 수 있으므로 번호 재사용 보류)
+		pendingRequest.future.whenComplete((response, e) -> retire(pendingRequest));
+
+		byte[] bRequest;
+		try {
+			bRequest = bMessage.clone();
+			mIdField.write(bRequest, pendingRequest.id);
+			bRequest = mFrameCodec.encode(bRequest);
+		} catch (RuntimeException e) {
+			pendingRequest.future.completeExceptionally(e);
+			return pendingRequest.future;
+		}
+
+		// register 와 연결 종료 처리가 겹친 경우
+		if (mClosed) {
+			pendingRequest.future.completeExceptionally(new IOException("연결이 종료된 클라이언트입니다."));
+			return pendingRequest.future;
+		}
+
+		mTimeoutQueue.offer(pendingRequest);
+		if ( mTimeoutScheduled.compareAndSet(false, true) ) {
+			mEventLoop.execute(this::scheduleTimeouts);
+		}
+
+		mClient.send(bRequest);
+		return pendingRequest.future;
+	}
+
+	/**
+	 * 응답 대기 중인 요청 개수
+	 * @return
+	 */
+	public int getInFlightCount() {
+		return (mInFlightPermits == null) ? 0 : mInFlightLimit - mInFlightPermits.availablePermits();
+	}
+
+	/**
+	 * 연결 종료 (응답 대기 중인 요청은 IOException 으로 실패)
+	 */
+	public void close() {
+		if (mClosed) {
+			return;
+		}
+
+		mClient.stopClient();
+		onConnectionClosed(new IOException("클라이언트가 종료되었습니다."));
+
+		if ( mOwnEventLoop && mEventLoop != null ) {
+			mEventLoop.shutdown();
+		}
+	}
+
+	private boolean acquirePermit() {
+		if ( mInFlightWaitMillis == 0 || mEventLoop.inEventLoop() ) {
+			return mInFlightPermits.tryAcquire();
+		}
+
+		try {
+			return mInFlightPermits.tryAcquire(mInFlightWaitMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * 사용하지 않는 식별 번호 할당 (허가를 얻은 뒤 호출하므로 사용 중인 번호는 maxInFlight 개 미만)
+	 *  - 재사용을 보류한 번호는 한 번 건너뛰고 보류를 해제 (다음 바퀴부터 사용)
+	 */
+	private PendingRequest register() {
+		long lIdCount = (mIdField.getMaxValue() == Long.MAX_VALUE) ? Long.MAX_VALUE : mIdField.getMaxValue() + 1;
+
+		while (true) {
+			long id = (mNextId.getAndIncrement() & Long.MAX_VALUE) % lIdCount;
+
+			PendingRequest pendingRequest = new PendingRequest(id);
+			PendingRequest existing = mPendingRequests.putIfAbsent(id, pendingRequest);
+			if (existing == null) {
+				return pendingRequest;
+			}
+
+			if (existing == RETIRED) {
+				mPendingRequests.remove(id, RETIRED);
+			}
+		}
+	}
+
+	/**
+	 * 대기 목록에서 제거하고 허가 반환 (여러 번 호출해도 한 번만 반환)
+	 */
+	private boolean remove(PendingRequest pendingRequest) {
+		if ( mPendingRequests.remove(pendingRequest.id, pendingRequest) ) {
+			mInFlightPermits.release();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 응답을 받지 못한 요청을 대기 목록에서 제거하고 허가 반환, 식별 번호는 재사용 보류 (여러 번 호출해도 한 번만 반환)
+	 */
+	private boolean retire(PendingRequest pendingRequest) {
+		if ( mPendingRequests.replace(pendingRequest.id, pendingRequest, RETIRED) ) {
+			mInFlightPermits.release();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 타임아웃 등록 (이벤트 루프 스레드)
+	 */
+	private void scheduleTimeouts() {
+		mTimeoutScheduled.set(false);
+
+		HashedTimingWheel timer = mEventLoop.getTimer();
+
+		PendingRequest pendingRequest;
+		while ( (pendingRequest = mTimeoutQueue.poll()) != null ) {
+			// 이미 응답을 받은 요청
+			if ( pendingRequest.future.isDone() ) {
+				continue;
+			}
+
+			final PendingRequest request = pendingRequest;
+			request.timeout = timer.newTimeout(() -> onTimeout(request), mRequestTimeoutMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void onTimeout(PendingRequest pendingRequest) {
+		pendingRequest.timeout = null;
+
+		if ( retire(pendingRequest) ) {
+			pendingRequest.future.completeExceptionally(
+					new SocketTimeoutException("응답 대기 시간 초과: " + mRequestTimeoutMillis + " ms (id=" + pendingRequest.id + ")"));
+		}
+	}
+
+	/**
+	 * 응답 수신 (이벤트 루프 스레드)
+	 */
+	private void onResponse(byte[] frame) {
+		long id;
+		try {
+			id = mIdField.read(frame);
+		} catch (IOException e) {
+			logger.warn("[응답 식별 번호 오류] {}", e.getMessage());
+			return;
+		}
+
+		PendingRequest pendingRequest = mPendingRequests.get(id);
+		if ( pendingRequest == RETIRED && mPendingRequests.remove(id, RETIRED) ) {
+			// 타임아웃, 취소된 요청의 늦은 응답은 버리고 번호 보류 해제
+			logger.warn("[타임아웃 또는 취소된 요청의 늦은 응답 폐기: id={}]", id);
+			return;
+		}
+
+		if ( pendingRequest == null || pendingRequest == RETIRED || !remove(pendingRequest) ) {
+			logger.warn("[대기 중인 요청이 없는 응답: id={}]", id);
+			return;
+		}
+
+		if (pendingRequest.timeout != null) {
+			pendingRequest.timeout.cancel();
+			pendingRequest.timeout = null;
+		}
+
+		pendingRequest.future.complete(frame);
+	}
+
+	/**
+	 * 응답 대기 중인 요청을 모두 실패 처리
+	 */
+	private void onConnectionClosed(IOException e) {
+		mClosed = true;
+
+		List<PendingRequest> pendingRequests = new ArrayList<>(mPendingRequests.values());
+		for (PendingRequest pendingRequest : pendingRequests) {
+			if ( pendingRequest != RETIRED && remove(pendingRequest) ) {
+				pendingRequest.future.completeExceptionally(e);
+			}
+		}
+	}
+
+	private static <T> CompletableFuture<T> failedFuture(Throwable e) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		future.completeExceptionally(e);
+		return future;
+	}
+
+}
@@ -0,0 +1,251 @@
+package common.tcp.timer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * 해시 타이밍 휠 (Hashed Timing Wheel)
+ *  - 타임아웃 등록/취소 O(1), 만료 처리는 틱마다 해당 버킷만 확인
+ *  - 연결마다 스케줄러 스레드나 ScheduledFuture 를 두지 않고, 셀렉터 루프에서 expireTimeouts 를 주기적으로 호출하여 사용
+ *  - 정밀도는 틱 간격 (만료 시각은 최대 틱 간격 1개만큼 늦어질 수 있음)
+ *
+ * 스레드 안전하지 않음 (셀렉터 루프 스레드 하나에서만 사용)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	작업에서 예외가 발생해도 같은 버킷의 나머지 타임아웃을 계속 처리
+ * </pre>
+ */
+public class HashedTimingWheel {
+
+	private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+	private final long tickDurationNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+	private final long startTime;
+
+	// 다음에 처리할 틱 (틱 t 는 startTime + (t + 1) * tickDuration 이후에 처리)
+	private long tick;
+	private int pendingTimeouts;
+
+	/**
+	 * @param tickDuration 틱 간격
+	 * @param unit
+	 * @param ticksPerWheel 휠 크기 (2의 거듭제곱으로 올림)
+	 */
+	public HashedTimingWheel(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+		if (tickDuration <= 0) {
+			throw new IllegalArgumentException("tickDuration 은 1 이상이어야 합니다: " + tickDuration);
+		}
+
+		if ( ticksPerWheel <= 0 || ticksPerWheel > (1 << 30) ) {
+			throw new IllegalArgumentException("ticksPerWheel 은 1 이상 2^30 이하여야 합니다: " + ticksPerWheel);
+		}
+
+		int nSize = 1;
+		while (nSize < ticksPerWheel) {
+			nSize <<= 1;
+		}
+
+		this.tickDurationNanos = unit.toNanos(tickDuration);
+		this.wheel = new Bucket[nSize];
+		for (int i = 0; i < nSize; i++) {
+			this.wheel[i] = new Bucket();
+		}
+		this.mask = nSize - 1;
+		this.startTime = System.nanoTime();
+	}
+
+	/**
+	 * 타임아웃 등록
+	 * @param task 만료 시 실행할 작업 (expireTimeouts 를 호출한 스레드에서 실행, 예외는 로그만 남김)
+	 * @param delay
+	 * @param unit
+	 * @return 취소용 핸들
+	 */
+	public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+		if (task == null) {
+			throw new IllegalArgumentException("task 는 null일 수 없습니다.");
+		}
+
+		long lNow = System.nanoTime() - startTime;
+		if (pendingTimeouts == 0) {
+			// 대기 중인 타임아웃이 없는 동안 지나간 틱은 확인할 필요가 없으므로 건너뜀
+			tick = Math.max(tick, lNow / tickDurationNanos);
+		}
+
+		long lDeadline = lNow + Math.max(0, unit.toNanos(delay));
+		// 틱 t 의 처리 시각 (t + 1) * tickDuration 이 deadline 이후가 되는 첫 틱
+		long lTargetTick = Math.max(tick, (lDeadline + tickDurationNanos - 1) / tickDurationNanos - 1);
+
+		Timeout timeout = new Timeout(this, task, (lTargetTick - tick) / wheel.length);
+		wheel[(int) (lTargetTick & mask)].add(timeout);
+		pendingTimeouts++;
+		return timeout;
+	}
+
+	/**
+	 * 지나간 틱의 버킷을 확인하여 만료된 타임아웃 실행
+	 * @param nowNanos System.nanoTime()
+	 * @return 실행한 작업 수
+	 */
+	public int expireTimeouts(long nowNanos) {
+		int nExpired = 0;
+
+		while ( nowNanos - startTime >= (tick + 1) * tickDurationNanos ) {
+			Bucket bucket = wheel[(int) (tick & mask)];
+			Timeout timeout = bucket.detach();
+
+			// 작업에서 새로 등록하는 타임아웃이 현재 버킷에 들어가지 않도록 먼저 증가
+			tick++;
+
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				timeout.next = null;
+				timeout.prev = null;
+
+				if (timeout.state == Timeout.ST_CANCELLED) {
+					// 분리된 뒤 취소됨
+				} else if (timeout.remainingRounds <= 0) {
+					timeout.state = Timeout.ST_EXPIRED;
+					pendingTimeouts--;
+					nExpired++;
+					try {
+						timeout.task.run();
+					} catch (RuntimeException e) {
+						// 나머지 타임아웃이 분리된 채로 유실되지 않도록 계속 진행
+						logger.warn("타임아웃 작업 실행 중 오류 발생", e);
+					}
+				} else {
+					timeout.remainingRounds--;
+					bucket.add(timeout);
+				}
+
+				timeout = next;
+			}
+		}
+
+		return nExpired;
+	}
+
+	/**
+	 * 대기 중인 타임아웃 개수
+	 * @return
+	 */
+	public int pendingTimeouts() {
+		return pendingTimeouts;
+	}
+
+	/**
+	 * 다음 틱 처리 시각까지 남은 시간 (셀렉터 대기 시간으로 사용)
+	 * @param nowNanos System.nanoTime()
+	 * @return 밀리초 (최소 1)
+	 */
+	public long millisUntilNextTick(long nowNanos) {
+		long lRemaining = startTime + (tick + 1) * tickDurationNanos - nowNanos;
+		return Math.max(1, TimeUnit.NANOSECONDS.toMillis(lRemaining + 999_999));
+	}
+
+	public static final class Timeout {
+		private static final int ST_PENDING = 0;
+		private static final int ST_CANCELLED = 1;
+		private static final int ST_EXPIRED = 2;
+
+		private final HashedTimingWheel timer;
+		private final Runnable task;
+		private long remainingRounds;
+		private int state = ST_PENDING;
+
+		private Bucket bucket;
+		private Timeout prev;
+		private Timeout next;
+
+		Timeout(HashedTimingWheel timer, Runnable task, long remainingRounds) {
+			this.timer = timer;
+			this.task = task;
+			this.remainingRounds = remainingRounds;
+		}
+
+		/**
+		 * 취소 (이미 만료되었거나 취소된 경우 false)
+		 * @return
+		 */
+		public boolean cancel() {
+			if (state != ST_PENDING) {
+				return false;
+			}
+
+			state = ST_CANCELLED;
+			timer.pendingTimeouts--;
+
+			if (bucket != null) {
+				bucket.remove(this);
+			}
+			return true;
+		}
+
+		public boolean isCancelled() {
+			return state == ST_CANCELLED;
+		}
+
+		public boolean isExpired() {
+			return state == ST_EXPIRED;
+		}
+	}
+
+	private static final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			if (timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			} else {
+				head = timeout.next;
+			}
+
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			} else {
+				tail = timeout.prev;
+			}
+
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+
+		/**
+		 * 버킷의 목록 전체를 분리하여 반환 (분리된 타임아웃은 취소 시 버킷에서 제거하지 않음)
+		 */
+		Timeout detach() {
+			Timeout first = head;
+			for (Timeout timeout = first; timeout != null; timeout = timeout.next) {
+				timeout.bucket = null;
+			}
+			head = tail = null;
+			return first;
+		}
+	}
+
+}
@@ -0,0 +1,315 @@
+package common.util.http;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * HTTP 비동기 호출 실행기
+ *  - 블로킹 호출을 고정 크기 스레드 풀에서 실행하고 CompletableFuture 로 결과 반환
+ *  - 대기 큐 크기 제한 : 큐가 가득 차면 RejectedExecutionException 으로 바로 실패 (호출 스레드를 막지 않음)
+ *  - 호출별 타임아웃 : 시간 내에 끝나지 않으면 TimeoutException 으로 실패하고 onCancel (예: HttpGet.abort) 실행
+ *    사용자가 cancel 한 경우에도 onCancel 실행
+ *  - fanOut : 여러 호출을 동시 실행 개수 제한 안에서 병렬로 실행하고 결과를 요청 순서대로 모음
+ *    (전체 지연 시간이 호출 시간의 합이 아니라 가장 느린 호출 시간에 가까워짐)
+ *
+ * 스레드 안전
+ * CompletableFuture 는 작업 스레드 또는 타이머 스레드에서 완료되므로, 오래 걸리는 후속 처리는 *Async 메소드 사용
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ *
+ * <pre>
+ * 사용 예
+ *  List&lt;Supplier&lt;CompletableFuture&lt;Map&lt;String, Object&gt;&gt;&gt;&gt; calls = new ArrayList&lt;&gt;();
+ *  for (String url : urls) {
+ *  	calls.add(() -&gt; HttpClientUtil.AsyncRequest.getAsync(false, url, null, 3000));
+ *  }
+ *  List&lt;Map&lt;String, Object&gt;&gt; results = HttpClientUtil.getAsyncExecutor().fanOut(calls, 8, e -&gt; new HashMap&lt;&gt;()).join();
+ * </pre>
+ */
+public class HttpAsyncExecutor implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpAsyncExecutor.class);
+
+	private static final int DEFAULT_THREADS = 32;
+	private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	private static final AtomicInteger EXECUTOR_INDEX = new AtomicInteger();
+
+	private final ThreadPoolExecutor workers;
+	private final ScheduledThreadPoolExecutor timer;
+
+	public HttpAsyncExecutor() {
+		this(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * @param nThreads 동시에 실행하는 최대 호출 수 (HttpClientPool 의 경로 별 최대 연결 수와 맞추는 것을 권장)
+	 * @param nQueueCapacity 실행을 기다리는 최대 호출 수
+	 */
+	public HttpAsyncExecutor(int nThreads, int nQueueCapacity) {
+		if (nThreads <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 스레드 수: " + nThreads + ". 1 이상이어야 합니다.");
+		}
+
+		if (nQueueCapacity <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 큐 크기: " + nQueueCapacity + ". 1 이상이어야 합니다.");
+		}
+
+		final String sPrefix = "HttpAsync-" + EXECUTOR_INDEX.getAndIncrement();
+		final AtomicInteger threadIndex = new AtomicInteger();
+
+		this.workers = new ThreadPoolExecutor(nThreads, nThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(nQueueCapacity), r -> {
+			Thread thread = new Thread(r, sPrefix + "-" + threadIndex.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.AbortPolicy());
+		// 한동안 호출이 없으면 스레드 정리
+		this.workers.allowCoreThreadTimeOut(true);
+
+		this.timer = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread thread = new Thread(r, sPrefix + "-Timer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// 정상 완료된 호출의 타임아웃 작업이 큐에 쌓이지 않도록 취소 시 바로 제거
+		this.timer.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * 블로킹 호출을 비동기로 실행
+	 * @param task
+	 * @param lTimeoutMillis 0 이하면 타임아웃 없음
+	 * @param onCancel 타임아웃 또는 취소 시 실행 (null 가능, 예: 진행 중인 요청 중단)
+	 * @return 대기 큐가 가득 차면 RejectedExecutionException, 타임아웃이면 TimeoutException 으로 실패
+	 */
+	public <T> CompletableFuture<T> submit(Callable<T> task, long lTimeoutMillis, Runnable onCancel) {
+		Objects.requireNonNull(task, "task 는 null일 수 없습니다.");
+
+		final CompletableFuture<T> future = new CompletableFuture<>();
+
+		final Future<?> work;
+		try {
+			work = workers.submit(() -> {
+				if ( future.isDone() ) {
+					// 큐에서 기다리는 동안 타임아웃 또는 취소된 경우
+					return;
+				}
+
+				try {
+					future.complete(task.call());
+				} catch (Exception e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+			return future;
+		}
+
+		if (lTimeoutMillis > 0) {
+			final ScheduledFuture<?> timeout = timer.schedule(() -> {
+				future.completeExceptionally(new TimeoutException(lTimeoutMillis + "ms 안에 호출이 끝나지 않았습니다."));
+			}, lTimeoutMillis, TimeUnit.MILLISECONDS);
+
+			future.whenComplete((result, e) -> timeout.cancel(false));
+		}
+
+		future.whenComplete((result, e) -> {
+			if ( e instanceof TimeoutException || future.isCancelled() ) {
+				runOnCancel(onCancel);
+				work.cancel(true);
+			}
+		});
+
+		return future;
+	}
+
+	/**
+	 * 여러 호출을 병렬로 실행하고 결과를 요청 순서대로 모음 (하나라도 실패하면 전체 실패)
+	 * @param calls 호출을 시작하는 함수 (동시 실행 개수 제한 때문에 fanOut 이 호출 시점을 정함)
+	 * @param nMaxConcurrency 동시에 진행하는 최대 호출 수
+	 * @return
+	 */
+	public <T> CompletableFuture<List<T>> fanOut(List<? extends Supplier<CompletableFuture<T>>> calls, int nMaxConcurrency) {
+		return fanOut(calls, nMaxConcurrency, null);
+	}
+
+	/**
+	 * 여러 호출을 병렬로 실행하고 결과를 요청 순서대로 모음
+	 * @param calls 호출을 시작하는 함수 (동시 실행 개수 제한 때문에 fanOut 이 호출 시점을 정함)
+	 * @param nMaxConcurrency 동시에 진행하는 최대 호출 수
+	 * @param fallback 실패한 호출의 결과 값 (null 이면 하나라도 실패할 때 전체 실패)
+	 * @return
+	 */
+	public <T> CompletableFuture<List<T>> fanOut(List<? extends Supplier<CompletableFuture<T>>> calls, int nMaxConcurrency,
+			Function<Throwable, ? extends T> fallback) {
+
+		Objects.requireNonNull(calls, "calls 는 null일 수 없습니다.");
+
+		if (nMaxConcurrency <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 동시 실행 수: " + nMaxConcurrency + ". 1 이상이어야 합니다.");
+		}
+
+		FanOut<T> fanOut = new FanOut<>(calls, fallback);
+		if ( calls.isEmpty() ) {
+			fanOut.result.complete(Collections.<T>emptyList());
+			return fanOut.result;
+		}
+
+		int nInitial = Math.min(nMaxConcurrency, calls.size());
+		for (int i = 0; i < nInitial; i++) {
+			fanOut.startNext();
+		}
+		return fanOut.result;
+	}
+
+	/**
+	 * 실행 중인 호출 수
+	 * @return
+	 */
+	public int getActiveCount() {
+		return workers.getActiveCount();
+	}
+
+	/**
+	 * 실행을 기다리는 호출 수
+	 * @return
+	 */
+	public int getQueueSize() {
+		return workers.getQueue().size();
+	}
+
+	/**
+	 * 실행기 종료 (실행 중인 호출은 인터럽트)
+	 */
+	@Override
+	public void close() {
+		workers.shutdownNow();
+		timer.shutdownNow();
+	}
+
+	public boolean isClosed() {
+		return workers.isShutdown();
+	}
+
+	private static void runOnCancel(Runnable onCancel) {
+		if (onCancel == null) {
+			return;
+		}
+
+		try {
+			onCancel.run();
+		} catch (RuntimeException e) {
+			logger.warn("호출 취소 처리 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * fanOut 진행 상태
+	 *  - 호출 하나가 끝날 때마다 다음 호출을 시작하므로 진행 중인 호출 수가 제한을 넘지 않음
+	 *  - 이미 완료된 호출이 이어지면 완료 콜백이 호출 스레드에서 바로 실행되므로,
+	 *    다음 호출 시작은 재귀 대신 먼저 시작 중인 스레드의 반복문에서 처리 (호출 수와 무관하게 스택 깊이 일정)
+	 */
+	private static class FanOut<T> {
+		private final List<? extends Supplier<CompletableFuture<T>>> calls;
+		private final Function<Throwable, ? extends T> fallback;
+		private final List<T> results;
+		private final AtomicInteger nextIndex = new AtomicInteger();
+		private final AtomicInteger remaining;
+		private final AtomicInteger pendingStarts = new AtomicInteger();
+		private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+		FanOut(List<? extends Supplier<CompletableFuture<T>>> calls, Function<Throwable, ? extends T> fallback) {
+			this.calls = calls;
+			this.fallback = fallback;
+			this.results = new ArrayList<>(Collections.<T>nCopies(calls.size(), null));
+			this.remaining = new AtomicInteger(calls.size());
+		}
+
+		/**
+		 * 다음 호출 시작 (다른 스레드 또는 바깥 프레임이 시작 중이면 요청만 남기고 반환)
+		 */
+		void startNext() {
+			if (pendingStarts.getAndIncrement() > 0) {
+				return;
+			}
+
+			do {
+				startOne();
+			} while (pendingStarts.decrementAndGet() > 0);
+		}
+
+		private void startOne() {
+			if ( result.isDone() ) {
+				return;
+			}
+
+			final int index = nextIndex.getAndIncrement();
+			if ( index >= calls.size() ) {
+				return;
+			}
+
+			CompletableFuture<T> call;
+			try {
+				call = calls.get(index).get();
+				Objects.requireNonNull(call, "호출 결과 CompletableFuture 가 null 입니다.");
+			} catch (RuntimeException e) {
+				onComplete(index, null, e);
+				return;
+			}
+
+			call.whenComplete((value, e) -> onComplete(index, value, e));
+		}
+
+		private void onComplete(int index, T value, Throwable e) {
+			if (e != null) {
+				Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+				if (fallback == null) {
+					result.completeExceptionally(cause);
+					return;
+				}
+				value = fallback.apply(cause);
+			}
+
+			synchronized (results) {
+				results.set(index, value);
+			}
+
+			if (remaining.decrementAndGet() == 0) {
+				synchronized (results) {
+					result.complete(new ArrayList<>(results));
+				}
+			} else {
+				startNext();
+			}
+		}
+	}
+
+}
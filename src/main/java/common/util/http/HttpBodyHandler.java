@@ -0,0 +1,32 @@
+package common.util.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <pre>
+ * 응답 본문 스트림 처리 (HttpClientUtil.StreamRequest, HttpConnectionUtil.StreamRequest)
+ *  - 본문을 String 으로 모으지 않고 스트림에서 바로 읽으므로 응답 크기와 관계없이 메모리 사용량이 일정
+ *  - 스트림은 handle 이 끝나면 닫히므로 handle 밖으로 넘기지 않아야 함
+ *  - 다 읽지 않고 반환하면 남은 본문은 버림 (HttpClient 는 연결 재사용을 위해 끝까지 읽음)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+@FunctionalInterface
+public interface HttpBodyHandler<T> {
+
+	/**
+	 * @param nStatus 응답 상태 코드
+	 * @param body 응답 본문 (본문이 없으면 빈 스트림, 오류 응답이면 오류 본문)
+	 * @return
+	 * @throws IOException
+	 */
+	T handle(int nStatus, InputStream body) throws IOException;
+
+}
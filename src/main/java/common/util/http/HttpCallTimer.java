@@ -0,0 +1,155 @@
+package common.util.http;
+
+import java.net.URI;
+
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * 호출 하나의 구간 시간 측정 (HttpContext 속성으로 HttpClientPool 의 소켓 팩토리, 요청 실행기에 전달)
+ *  - 호출 스레드에서만 사용 (스레드 안전하지 않음)
+ *  - 계측을 사용하지 않으면 NOOP (context 가 null 이므로 HttpClient 에 아무것도 전달하지 않음)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+class HttpCallTimer {
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpCallTimer.class);
+
+	private static final String CONTEXT_ATTRIBUTE = HttpCallTimer.class.getName();
+
+	private static final HttpCallTimer NOOP = new HttpCallTimer(null, null, null);
+
+	private final HttpMetrics metrics;
+	private final URI uri;
+	private final String method;
+	private final long startNanos;
+
+	private long connectNanos;
+	private long tlsNanos;
+	private boolean isSending;
+	private long sendStartNanos;
+	private long ttfbNanos = -1;
+	private boolean isFinished;
+
+	private HttpCallTimer(HttpMetrics metrics, URI uri, String sMethod) {
+		this.metrics = metrics;
+		this.uri = uri;
+		this.method = sMethod;
+		this.startNanos = System.nanoTime();
+	}
+
+	/**
+	 * 측정 시작
+	 * @param metrics null 이면 NOOP
+	 * @param uri
+	 * @param sMethod
+	 * @return
+	 */
+	static HttpCallTimer start(HttpMetrics metrics, URI uri, String sMethod) {
+		if (metrics == null) {
+			return NOOP;
+		}
+
+		HttpCallTimer timer = new HttpCallTimer(metrics, uri, sMethod);
+		try {
+			metrics.onRequestStart(uri, sMethod);
+		} catch (RuntimeException e) {
+			logger.warn("HttpMetrics.onRequestStart 오류: {}", e.getMessage(), e);
+		}
+		return timer;
+	}
+
+	/**
+	 * HttpClient.execute 에 전달할 context (NOOP 이면 null)
+	 * @return
+	 */
+	HttpContext context() {
+		if (metrics == null) {
+			return null;
+		}
+
+		HttpClientContext context = HttpClientContext.create();
+		context.setAttribute(CONTEXT_ATTRIBUTE, this);
+		return context;
+	}
+
+	/**
+	 * context 의 측정 객체
+	 * @param context
+	 * @return 없으면 null
+	 */
+	static HttpCallTimer of(HttpContext context) {
+		Object timer = (context != null) ? context.getAttribute(CONTEXT_ATTRIBUTE) : null;
+		return (timer instanceof HttpCallTimer) ? (HttpCallTimer) timer : null;
+	}
+
+	void onConnected(long lNanos) {
+		connectNanos += lNanos;
+	}
+
+	void onTlsHandshake(long lNanos) {
+		tlsNanos += lNanos;
+	}
+
+	void onRequestSending() {
+		// 리다이렉트 등으로 여러 번 전송하면 처음 전송 기준
+		if (!isSending) {
+			isSending = true;
+			sendStartNanos = System.nanoTime();
+		}
+	}
+
+	void onResponseHeaders() {
+		if ( isSending && ttfbNanos < 0 ) {
+			ttfbNanos = System.nanoTime() - sendStartNanos;
+		}
+	}
+
+	/**
+	 * 측정 종료 (여러 번 호출해도 한 번만 기록)
+	 * @param nStatus 응답 상태 코드 (응답 전에 실패하면 HttpMetrics.STATUS_IO_ERROR)
+	 */
+	void finish(int nStatus) {
+		if ( metrics == null || isFinished ) {
+			return;
+		}
+		isFinished = true;
+
+		long lTotalNanos = System.nanoTime() - startNanos;
+		try {
+			if (isSending) {
+				long lLeaseNanos = sendStartNanos - startNanos - connectNanos - tlsNanos;
+				metrics.onPhase(uri, method, HttpMetrics.Phase.LEASE, Math.max(0, lLeaseNanos));
+			}
+			if (connectNanos > 0) {
+				metrics.onPhase(uri, method, HttpMetrics.Phase.CONNECT, connectNanos);
+			}
+			if (tlsNanos > 0) {
+				metrics.onPhase(uri, method, HttpMetrics.Phase.TLS, tlsNanos);
+			}
+			if (ttfbNanos >= 0) {
+				metrics.onPhase(uri, method, HttpMetrics.Phase.TTFB, ttfbNanos);
+			}
+			metrics.onPhase(uri, method, HttpMetrics.Phase.TOTAL, lTotalNanos);
+		} catch (RuntimeException e) {
+			logger.warn("HttpMetrics.onPhase 오류: {}", e.getMessage(), e);
+		} finally {
+			try {
+				metrics.onRequestEnd(uri, method, nStatus);
+			} catch (RuntimeException e) {
+				logger.warn("HttpMetrics.onRequestEnd 오류: {}", e.getMessage(), e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,294 @@
+package common.util.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * 호스트 하나의 서킷 브레이커 (HttpResilience 가 호스트마다 생성)
+ *  - CLOSED : 최근 windowSize 개 호출의 실패율 또는 느린 호출 비율이 기준 이상이면 OPEN (minimumCalls 개 이상 기록된 후)
+ *  - OPEN : 호출을 바로 거절, openWaitMillis 가 지나면 HALF_OPEN
+ *  - HALF_OPEN : halfOpenCalls 개만 시험 호출을 허용하고, 모두 끝나면 같은 기준으로 CLOSED 또는 다시 OPEN
+ *  - 허용한 호출에는 상태 세대를 부여하고, 상태가 바뀐 뒤에 끝난 이전 세대 호출의 결과는 무시
+ *    (예: CLOSED 에서 시작한 느린 호출이 HALF_OPEN 의 시험 호출 결과로 기록되지 않음)
+ *
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	허용한 호출에 상태 세대 부여, 이전 세대 호출의 결과 무시
+ * </pre>
+ */
+public class HttpCircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	/**
+	 * tryAcquirePermission 거절 값
+	 */
+	public static final long NOT_PERMITTED = -1;
+
+	/**
+	 * 상태 변경 알림 (락 밖에서 호출)
+	 */
+	@FunctionalInterface
+	public interface StateListener {
+		void onStateChange(State from, State to);
+	}
+
+	private final int windowSize;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final long slowCallNanos;
+	private final double slowCallRateThreshold;
+	private final long openWaitNanos;
+	private final int halfOpenCalls;
+	private final StateListener listener;
+
+	// 최근 호출 결과 (원형 버퍼, this 로 동기화)
+	private final boolean[] failures;
+	private final boolean[] slows;
+	private int index;
+	private int recorded;
+	private int failureCount;
+	private int slowCount;
+
+	private State state = State.CLOSED;
+	// 상태가 바뀔 때마다 증가
+	private long generation;
+	private long openedAt;
+	private int halfOpenStarted;
+	private int halfOpenCompleted;
+	private int halfOpenFailures;
+	private int halfOpenSlows;
+
+	/**
+	 * @param nWindowSize 실패율을 계산할 최근 호출 수
+	 * @param nMinimumCalls 실패율을 판단하기 전 최소 기록 수
+	 * @param dFailureRateThreshold 실패율 기준 (%, 0 ~ 100)
+	 * @param lSlowCallMillis 이 시간 이상 걸리면 느린 호출
+	 * @param dSlowCallRateThreshold 느린 호출 비율 기준 (%, 0 ~ 100, 100 초과면 사용 안 함)
+	 * @param lOpenWaitMillis OPEN 상태 유지 시간
+	 * @param nHalfOpenCalls HALF_OPEN 상태에서 허용할 시험 호출 수
+	 * @param listener 상태 변경 알림 (null 가능)
+	 */
+	public HttpCircuitBreaker(int nWindowSize, int nMinimumCalls, double dFailureRateThreshold, long lSlowCallMillis,
+			double dSlowCallRateThreshold, long lOpenWaitMillis, int nHalfOpenCalls, StateListener listener) {
+
+		if ( nWindowSize <= 0 || nMinimumCalls <= 0 || nMinimumCalls > nWindowSize ) {
+			throw new IllegalArgumentException("유효하지 않은 윈도우 크기: windowSize=" + nWindowSize + ", minimumCalls=" + nMinimumCalls
+					+ ". 1 <= minimumCalls <= windowSize 이어야 합니다.");
+		}
+
+		if (nHalfOpenCalls <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 시험 호출 수: " + nHalfOpenCalls + ". 1 이상이어야 합니다.");
+		}
+
+		this.windowSize = nWindowSize;
+		this.minimumCalls = nMinimumCalls;
+		this.failureRateThreshold = dFailureRateThreshold;
+		this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(lSlowCallMillis);
+		this.slowCallRateThreshold = dSlowCallRateThreshold;
+		this.openWaitNanos = TimeUnit.MILLISECONDS.toNanos(lOpenWaitMillis);
+		this.halfOpenCalls = nHalfOpenCalls;
+		this.listener = listener;
+
+		this.failures = new boolean[nWindowSize];
+		this.slows = new boolean[nWindowSize];
+	}
+
+	/**
+	 * 호출 허용 여부 (허용하면 반드시 onResult 호출)
+	 * @return 허용하면 onResult 에 전달할 상태 세대 (0 이상), 거절하면 NOT_PERMITTED
+	 */
+	public long tryAcquirePermission() {
+		State from;
+		boolean isPermitted;
+		long lGeneration;
+
+		synchronized (this) {
+			from = state;
+
+			if ( state == State.OPEN && System.nanoTime() - openedAt >= openWaitNanos ) {
+				toHalfOpen();
+			}
+
+			switch (state) {
+				case CLOSED:
+					isPermitted = true;
+					break;
+				case HALF_OPEN:
+					isPermitted = halfOpenStarted < halfOpenCalls;
+					if (isPermitted) {
+						halfOpenStarted++;
+					}
+					break;
+				default:
+					isPermitted = false;
+					break;
+			}
+			lGeneration = generation;
+		}
+
+		notifyIfChanged(from);
+		return isPermitted ? lGeneration : NOT_PERMITTED;
+	}
+
+	/**
+	 * 허용된 호출의 결과 기록
+	 * @param lGeneration tryAcquirePermission 이 반환한 상태 세대 (현재 세대가 아니면 무시)
+	 * @param isFailure
+	 * @param lDurationNanos
+	 */
+	public void onResult(long lGeneration, boolean isFailure, long lDurationNanos) {
+		boolean isSlow = lDurationNanos >= slowCallNanos;
+		State from;
+
+		synchronized (this) {
+			from = state;
+
+			if (lGeneration != generation) {
+				// 상태가 바뀌기 전에 시작한 호출
+				return;
+			}
+
+			if (state == State.CLOSED) {
+				record(isFailure, isSlow);
+				if ( recorded >= minimumCalls && isOverThreshold(failureCount, slowCount, recorded) ) {
+					toOpen();
+				}
+			} else if (state == State.HALF_OPEN) {
+				halfOpenCompleted++;
+				if (isFailure) {
+					halfOpenFailures++;
+				}
+				if (isSlow) {
+					halfOpenSlows++;
+				}
+
+				if (halfOpenCompleted >= halfOpenCalls) {
+					if ( isOverThreshold(halfOpenFailures, halfOpenSlows, halfOpenCompleted) ) {
+						toOpen();
+					} else {
+						toClosed();
+					}
+				}
+			}
+		}
+
+		notifyIfChanged(from);
+	}
+
+	public synchronized State getState() {
+		// 대기 시간이 지난 OPEN 은 다음 호출에서 HALF_OPEN 으로 바뀜
+		return state;
+	}
+
+	/**
+	 * 최근 호출 실패율 (%, CLOSED 상태 기준)
+	 * @return
+	 */
+	public synchronized double getFailureRate() {
+		return (recorded == 0) ? 0 : failureCount * 100.0 / recorded;
+	}
+
+	/**
+	 * 최근 느린 호출 비율 (%, CLOSED 상태 기준)
+	 * @return
+	 */
+	public synchronized double getSlowCallRate() {
+		return (recorded == 0) ? 0 : slowCount * 100.0 / recorded;
+	}
+
+	/**
+	 * CLOSED 로 초기화
+	 */
+	public void reset() {
+		State from;
+		synchronized (this) {
+			from = state;
+			toClosed();
+		}
+		notifyIfChanged(from);
+	}
+
+	private boolean isOverThreshold(int nFailures, int nSlows, int nTotal) {
+		return nFailures * 100.0 / nTotal >= failureRateThreshold
+				|| nSlows * 100.0 / nTotal >= slowCallRateThreshold;
+	}
+
+	private void record(boolean isFailure, boolean isSlow) {
+		if (recorded == windowSize) {
+			// 가장 오래된 결과를 밀어냄
+			if (failures[index]) {
+				failureCount--;
+			}
+			if (slows[index]) {
+				slowCount--;
+			}
+		} else {
+			recorded++;
+		}
+
+		failures[index] = isFailure;
+		slows[index] = isSlow;
+		if (isFailure) {
+			failureCount++;
+		}
+		if (isSlow) {
+			slowCount++;
+		}
+		index = (index + 1) % windowSize;
+	}
+
+	private void toOpen() {
+		state = State.OPEN;
+		generation++;
+		openedAt = System.nanoTime();
+	}
+
+	private void toHalfOpen() {
+		state = State.HALF_OPEN;
+		generation++;
+		halfOpenStarted = 0;
+		halfOpenCompleted = 0;
+		halfOpenFailures = 0;
+		halfOpenSlows = 0;
+	}
+
+	private void toClosed() {
+		state = State.CLOSED;
+		generation++;
+		index = 0;
+		recorded = 0;
+		failureCount = 0;
+		slowCount = 0;
+		for (int i = 0; i < windowSize; i++) {
+			failures[i] = false;
+			slows[i] = false;
+		}
+	}
+
+	private void notifyIfChanged(State from) {
+		State to;
+		synchronized (this) {
+			to = state;
+		}
+
+		if ( from != to && listener != null ) {
+			listener.onStateChange(from, to);
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "HttpCircuitBreaker [state=" + state + ", failureRate=" + String.format("%.1f", getFailureRate())
+				+ "%, slowCallRate=" + String.format("%.1f", getSlowCallRate()) + "%, recorded=" + recorded + "]";
+	}
+
+}
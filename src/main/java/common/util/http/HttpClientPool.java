@@ -0,0 +1,471 @@
+package common.util.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * 공유 HttpClient (PoolingHttpClientConnectionManager)
+ *  - 요청마다 HttpClient, SSLContext 를 만들고 닫지 않고 TCP/TLS 연결을 재사용
+ *  - 일반 클라이언트, SSL 클라이언트(자체 서명 인증서 신뢰)를 각각의 커넥션 풀로 분리
+ *  - 최대 연결 수 (전체, 경로(host:port) 별, 특정 경로 지정 가능)
+ *  - Keep-Alive : 서버의 Keep-Alive timeout 헤더를 따르되 keepAlive 시간을 넘지 않음 (헤더가 없으면 keepAlive 시간)
+ *  - 연결 정리 스레드 (HttpClientPool-Evictor) : 만료된 연결, idleTimeout 을 넘긴 유휴 연결 종료
+ *  - 쿠키는 저장하지 않음 (여러 호출자가 클라이언트를 공유하므로)
+ *  - 계측 : HttpContext 에 HttpCallTimer 가 있으면 연결, TLS 핸드셰이크, 첫 바이트까지의 시간 측정 (없으면 그대로 위임)
+ *
+ * 클라이언트는 처음 사용할 때 생성, 설정 변경은 생성된 커넥션 풀에도 바로 적용
+ * 응답은 반드시 끝까지 읽거나 닫아야 연결이 풀에 반납됨
+ *
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	연결, TLS, TTFB 계측 소켓 팩토리 / 요청 실행기 추가
+ * </pre>
+ */
+public class HttpClientPool implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpClientPool.class);
+
+	private static final int DEFAULT_MAX_TOTAL = 200;
+	private static final int DEFAULT_MAX_PER_ROUTE = 20;
+	private static final long DEFAULT_KEEP_ALIVE_MILLIS = 30 * 1000L;
+	private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60 * 1000L;
+	private static final long DEFAULT_EVICTION_INTERVAL_MILLIS = 10 * 1000L;
+	private static final int DEFAULT_TIMEOUT_MILLIS = 5000;
+
+	// 이 시간 동안 사용하지 않은 연결은 대여 시 끊어졌는지 확인
+	private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+	private volatile int maxTotal = DEFAULT_MAX_TOTAL;
+	private volatile int maxPerRoute = DEFAULT_MAX_PER_ROUTE;
+	private volatile long keepAliveMillis = DEFAULT_KEEP_ALIVE_MILLIS;
+	private volatile long idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+	private final Map<HttpRoute, Integer> routeMaxPerRoute = new ConcurrentHashMap<>();
+
+	private final ScheduledExecutorService evictor;
+
+	private PoolingHttpClientConnectionManager plainManager;
+	private PoolingHttpClientConnectionManager sslManager;
+	private volatile CloseableHttpClient plainClient;
+	private volatile CloseableHttpClient sslClient;
+	private volatile boolean closed;
+
+	public HttpClientPool() {
+		this(DEFAULT_EVICTION_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * @param lEvictionIntervalMillis 연결 정리 주기
+	 */
+	public HttpClientPool(long lEvictionIntervalMillis) {
+		if (lEvictionIntervalMillis <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 정리 주기: " + lEvictionIntervalMillis + ". 1 이상이어야 합니다.");
+		}
+
+		this.evictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "HttpClientPool-Evictor");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.evictor.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				evict();
+			}
+		}, lEvictionIntervalMillis, lEvictionIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 최대 연결 수 지정 (일반, SSL 커넥션 풀 각각에 적용)
+	 * @param nMaxTotal 전체 최대 연결 수 (기본값: 200)
+	 * @param nMaxPerRoute 경로(host:port) 별 최대 연결 수 (기본값: 20)
+	 */
+	public synchronized void setPoolSize(int nMaxTotal, int nMaxPerRoute) {
+		if ( nMaxPerRoute <= 0 || nMaxTotal < nMaxPerRoute ) {
+			throw new IllegalArgumentException("유효하지 않은 풀 크기: maxTotal=" + nMaxTotal + ", maxPerRoute=" + nMaxPerRoute
+					+ ". 1 <= maxPerRoute <= maxTotal 이어야 합니다.");
+		}
+
+		this.maxTotal = nMaxTotal;
+		this.maxPerRoute = nMaxPerRoute;
+
+		for (PoolingHttpClientConnectionManager manager : managers()) {
+			manager.setMaxTotal(nMaxTotal);
+			manager.setDefaultMaxPerRoute(nMaxPerRoute);
+		}
+	}
+
+	/**
+	 * 특정 경로의 최대 연결 수 지정 (경로 별 기본값 대신 적용)
+	 * @param sHost
+	 * @param nPort
+	 * @param isHttps URL 이 https 인지 여부
+	 * @param nMax
+	 */
+	public synchronized void setMaxPerRoute(String sHost, int nPort, boolean isHttps, int nMax) {
+		Objects.requireNonNull(sHost, "host 는 null일 수 없습니다.");
+
+		if (nPort <= 0 || nPort > 65535) {
+			throw new IllegalArgumentException("유효하지 않은 포트 번호: " + nPort + ". 포트 번호는 1에서 65535 사이여야 합니다.");
+		}
+
+		if (nMax <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 최대 연결 수: " + nMax + ". 1 이상이어야 합니다.");
+		}
+
+		HttpRoute route = new HttpRoute(new HttpHost(sHost, nPort, isHttps ? "https" : "http"), null, isHttps);
+		routeMaxPerRoute.put(route, nMax);
+
+		for (PoolingHttpClientConnectionManager manager : managers()) {
+			manager.setMaxPerRoute(route, nMax);
+		}
+	}
+
+	/**
+	 * Keep-Alive 최대 시간 지정 (기본값: 30초)
+	 *  - 서버의 유휴 연결 종료 시간보다 짧게 지정
+	 * @param lTimeout
+	 * @param unit
+	 */
+	public void setKeepAlive(long lTimeout, TimeUnit unit) {
+		if (lTimeout <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 Keep-Alive 시간: " + lTimeout + ". 1 이상이어야 합니다.");
+		}
+
+		this.keepAliveMillis = Objects.requireNonNull(unit, "unit 은 null일 수 없습니다.").toMillis(lTimeout);
+	}
+
+	/**
+	 * 유휴 연결 유지 시간 지정 (기본값: 60초, 0 이면 만료된 연결만 정리)
+	 * @param lTimeout
+	 * @param unit
+	 */
+	public void setIdleTimeout(long lTimeout, TimeUnit unit) {
+		if (lTimeout < 0) {
+			throw new IllegalArgumentException("유효하지 않은 유휴 시간: " + lTimeout + ". 0 이상이어야 합니다.");
+		}
+
+		this.idleTimeoutMillis = Objects.requireNonNull(unit, "unit 은 null일 수 없습니다.").toMillis(lTimeout);
+	}
+
+	/**
+	 * 공유 클라이언트 반환 (닫지 않음)
+	 * @param isSSL SSL 지원 HttpClient가 필요한 경우 true
+	 * @return SSL 컨텍스트 생성 실패 시 null
+	 */
+	public CloseableHttpClient getClient(boolean isSSL) {
+		CloseableHttpClient client = isSSL ? sslClient : plainClient;
+		if (client != null) {
+			return client;
+		}
+
+		synchronized (this) {
+			if (closed) {
+				throw new IllegalStateException("종료된 HttpClient 풀입니다.");
+			}
+
+			if (isSSL) {
+				if (sslClient == null) {
+					SSLConnectionSocketFactory sslsf = newTrustSelfSignedSocketFactory();
+					if (sslsf == null) {
+						return null;
+					}
+					sslManager = newConnectionManager(sslsf);
+					sslClient = newClient(sslManager);
+				}
+				return sslClient;
+			}
+
+			if (plainClient == null) {
+				plainManager = newConnectionManager(SSLConnectionSocketFactory.getSocketFactory());
+				plainClient = newClient(plainManager);
+			}
+			return plainClient;
+		}
+	}
+
+	/**
+	 * 커넥션 풀 현황
+	 * @param isSSL
+	 * @return 클라이언트를 생성하지 않았으면 null
+	 */
+	public synchronized PoolStats getTotalStats(boolean isSSL) {
+		PoolingHttpClientConnectionManager manager = isSSL ? sslManager : plainManager;
+		return (manager == null) ? null : manager.getTotalStats();
+	}
+
+	/**
+	 * 만료된 연결, 유휴 연결 정리
+	 */
+	private void evict() {
+		try {
+			long lIdleTimeoutMillis = idleTimeoutMillis;
+			for (PoolingHttpClientConnectionManager manager : managers()) {
+				manager.closeExpiredConnections();
+				if (lIdleTimeoutMillis > 0) {
+					manager.closeIdleConnections(lIdleTimeoutMillis, TimeUnit.MILLISECONDS);
+				}
+			}
+		} catch (Exception e) {
+			logger.error("유휴 연결 정리 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 클라이언트, 커넥션 풀 종료 (사용 중인 연결도 닫음)
+	 */
+	@Override
+	public void close() {
+		CloseableHttpClient[] clients;
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			clients = new CloseableHttpClient[] { plainClient, sslClient };
+		}
+
+		evictor.shutdownNow();
+
+		for (CloseableHttpClient client : clients) {
+			if (client != null) {
+				try {
+					client.close();
+				} catch (IOException e) {
+					logger.error("HttpClient 종료 중 오류 발생: {}", e.getMessage(), e);
+				}
+			}
+		}
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	private synchronized PoolingHttpClientConnectionManager[] managers() {
+		if (plainManager == null && sslManager == null) {
+			return new PoolingHttpClientConnectionManager[0];
+		}
+		if (plainManager == null || sslManager == null) {
+			return new PoolingHttpClientConnectionManager[] { plainManager != null ? plainManager : sslManager };
+		}
+		return new PoolingHttpClientConnectionManager[] { plainManager, sslManager };
+	}
+
+	private PoolingHttpClientConnectionManager newConnectionManager(SSLConnectionSocketFactory sslsf) {
+		Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", new TimedPlainSocketFactory())
+				.register("https", new TimedSslSocketFactory(sslsf))
+				.build();
+
+		PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(registry);
+		manager.setMaxTotal(maxTotal);
+		manager.setDefaultMaxPerRoute(maxPerRoute);
+		manager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+		for (Map.Entry<HttpRoute, Integer> entry : routeMaxPerRoute.entrySet()) {
+			manager.setMaxPerRoute(entry.getKey(), entry.getValue());
+		}
+		return manager;
+	}
+
+	private CloseableHttpClient newClient(PoolingHttpClientConnectionManager manager) {
+		RequestConfig defaultConfig = RequestConfig.custom()
+				.setSocketTimeout(DEFAULT_TIMEOUT_MILLIS)
+				.setConnectTimeout(DEFAULT_TIMEOUT_MILLIS)
+				.setConnectionRequestTimeout(DEFAULT_TIMEOUT_MILLIS)
+				.build();
+
+		return HttpClients.custom()
+				.setConnectionManager(manager)
+				.setKeepAliveStrategy(new ConnectionKeepAliveStrategy() {
+					@Override
+					public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+						long lDuration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+						long lMax = keepAliveMillis;
+						return (lDuration > 0 && lDuration < lMax) ? lDuration : lMax;
+					}
+				})
+				.setDefaultRequestConfig(defaultConfig)
+				.setRequestExecutor(new TimedRequestExecutor())
+				.disableCookieManagement()
+				// 클라이언트 인증서 등 연결 상태와 무관하게 연결 재사용
+				.disableConnectionState()
+				.build();
+	}
+
+	private static SSLConnectionSocketFactory newTrustSelfSignedSocketFactory() {
+		try {
+			SSLContextBuilder builder = new SSLContextBuilder();
+			// 자체 서명된 인증서 신뢰. 프로덕션 환경에서는 특정 TrustStore 사용을 고려해야 합니다.
+			builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
+			SSLContext sslContext = builder.build();
+			return new SSLConnectionSocketFactory(sslContext);
+		} catch (NoSuchAlgorithmException | KeyManagementException | KeyStoreException e) {
+			logger.error("SSL HttpClient 생성 실패", e);
+			return null;
+		}
+	}
+
+	/**
+	 * TCP 연결 시간 측정
+	 */
+	private static class TimedPlainSocketFactory implements ConnectionSocketFactory {
+
+		private final ConnectionSocketFactory delegate = PlainConnectionSocketFactory.getSocketFactory();
+
+		@Override
+		public Socket createSocket(HttpContext context) throws IOException {
+			return delegate.createSocket(context);
+		}
+
+		@Override
+		public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+				InetSocketAddress localAddress, HttpContext context) throws IOException {
+			HttpCallTimer timer = HttpCallTimer.of(context);
+			long lStart = System.nanoTime();
+			Socket sock = delegate.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+			if (timer != null) {
+				timer.onConnected(System.nanoTime() - lStart);
+			}
+			return sock;
+		}
+	}
+
+	/**
+	 * TCP 연결, TLS 핸드셰이크 시간을 나눠 측정
+	 *  - SSLConnectionSocketFactory.connectSocket 과 같은 순서로 연결 후 createLayeredSocket 으로 핸드셰이크
+	 */
+	private static class TimedSslSocketFactory implements LayeredConnectionSocketFactory {
+
+		private final LayeredConnectionSocketFactory delegate;
+
+		TimedSslSocketFactory(LayeredConnectionSocketFactory delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Socket createSocket(HttpContext context) throws IOException {
+			return delegate.createSocket(context);
+		}
+
+		@Override
+		public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+				InetSocketAddress localAddress, HttpContext context) throws IOException {
+			HttpCallTimer timer = HttpCallTimer.of(context);
+			Socket sock = (socket != null) ? socket : delegate.createSocket(context);
+			if ( timer == null || sock instanceof SSLSocket ) {
+				return delegate.connectSocket(connectTimeout, sock, host, remoteAddress, localAddress, context);
+			}
+
+			if (localAddress != null) {
+				sock.bind(localAddress);
+			}
+
+			long lStart = System.nanoTime();
+			try {
+				if ( connectTimeout > 0 && sock.getSoTimeout() == 0 ) {
+					sock.setSoTimeout(connectTimeout);
+				}
+				sock.connect(remoteAddress, connectTimeout);
+			} catch (IOException e) {
+				try {
+					sock.close();
+				} catch (IOException ignore) {
+					// 무시
+				}
+				throw e;
+			}
+			timer.onConnected(System.nanoTime() - lStart);
+
+			return createLayeredSocket(sock, host.getHostName(), remoteAddress.getPort(), context);
+		}
+
+		@Override
+		public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+			HttpCallTimer timer = HttpCallTimer.of(context);
+			long lStart = System.nanoTime();
+			Socket sock = delegate.createLayeredSocket(socket, target, port, context);
+			if (timer != null) {
+				timer.onTlsHandshake(System.nanoTime() - lStart);
+			}
+			return sock;
+		}
+	}
+
+	/**
+	 * 요청 전송 시작, 응답 헤더 수신 시점 기록
+	 */
+	private static class TimedRequestExecutor extends HttpRequestExecutor {
+
+		@Override
+		public HttpResponse execute(HttpRequest request, HttpClientConnection conn, HttpContext context)
+				throws IOException, HttpException {
+			HttpCallTimer timer = HttpCallTimer.of(context);
+			if (timer == null) {
+				return super.execute(request, conn, context);
+			}
+
+			timer.onRequestSending();
+			HttpResponse response = super.execute(request, conn, context);
+			timer.onResponseHeaders();
+			return response;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "HttpClientPool [maxTotal=" + maxTotal + ", maxPerRoute=" + maxPerRoute + ", keepAliveMillis=" + keepAliveMillis
+				+ ", idleTimeoutMillis=" + idleTimeoutMillis + ", plain=" + getTotalStats(false) + ", ssl=" + getTotalStats(true) + "]";
+	}
+
+}
@@ -1,45 +1,59 @@
 package common.util.http;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-
-import javax.net.ssl.SSLContext;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.NameValuePair;
+import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.entity.GzipCompressingEntity;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.ConnectTimeoutException;
 import org.apache.http.entity.ContentType;
+import org.apache.http.entity.EntityTemplate;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.entity.mime.HttpMultipartMode;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.entity.mime.content.FileBody;
 import org.apache.http.entity.mime.content.StringBody;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import common.util.json.JacksonUtil;
+
 /**
  * <pre>
  * 개정이력
@@ -47,6 +61,16 @@ import org.slf4j.LoggerFactory;
  * 2021. 8.  6. 김대광	Javadoc 작성
  * 2021. 8. 13. 김대광	SonarLint 지시에 따른 주저리 주저리
  * 2025. 5. 30. 김대광	제미나이에 의한 코드 개선
+ * 2026. 10. 18. kdk	요청마다 HttpClient 를 생성/종료하지 않고 공유 HttpClientPool 사용
+ * 2026. 10. 18. kdk	CompletableFuture 비동기 호출 (AsyncRequest), 병렬 호출 (fanOut) 추가
+ * 2026. 10. 18. kdk	응답 본문을 String 으로 모으지 않는 스트리밍 호출 (StreamRequest) 추가
+ * 2026. 10. 18. kdk	GetRequest 조건부 GET 응답 캐시 (setResponseCache) 추가
+ * 2026. 10. 18. kdk	호스트 별 서킷 브레이커, 재시도, 벌크헤드 (setResilience) 추가
+ * 2026. 10. 18. kdk	RawRequest 요청 본문 gzip 압축 (setRequestCompressionThreshold) 추가
+ * 2026. 10. 18. kdk	StreamRequest 객체를 JSON 스트림으로 보내고 받는 postJson 추가
+ * 2026. 10. 18. kdk	구간 별 지연 시간 계측 (setMetrics) 추가, 요청마다 남기던 INFO 로그를 샘플링한 DEBUG 로그로 변경
+ * 2026. 10. 18. kdk	StreamRequest 서킷 브레이커 결과를 응답 헤더 수신 시점에 기록
+ * 2026. 10. 18. kdk	StreamRequest.getToFile 2xx 가 아닌 응답은 파일에 쓰지 않음
  * </pre>
  *
  * <pre>
@@ -78,8 +102,10 @@ public class HttpClientUtil {
 	public static final String STATUS_KEY = "status";
 	public static final String BODY_KEY = "body";
 	public static final String HEADERS_KEY = "headers";
+	public static final String BODY_LENGTH_KEY = "bodyLength";
 
 	private static final int DEFAULT_TIMEOUT_MS = 5000;
+	private static final int STREAM_BUFFER_SIZE = 8192;
 
 	private HttpClientUtil() {
 		super();
@@ -102,28 +128,195 @@ public class HttpClientUtil {
 	private static final String PAYLOAD_NOT_BE_NULL = ExceptionMessage.isNull("payload");
 	private static final String FILE_PARAM_KEY_NOT_BE_NULL = ExceptionMessage.isNull("fileParamKey");
 
+	private static volatile HttpClientPool clientPool;
+	private static volatile HttpAsyncExecutor asyncExecutor;
+	private static volatile HttpResponseCache responseCache;
+	private static volatile HttpResilience resilience;
+	private static volatile int requestCompressionThreshold = -1;
+	private static volatile HttpMetrics metrics;
+
+	private static final int DEFAULT_LOG_SAMPLE_RATE = 100;
+	private static volatile int logSampleRate = DEFAULT_LOG_SAMPLE_RATE;
+	private static final AtomicLong logSequence = new AtomicLong();
+
+	/**
+	 * 공유 HttpClient 풀 반환 (처음 호출 시 기본 설정으로 생성)
+	 *  - 최대 연결 수, Keep-Alive, 유휴 시간 등은 반환된 풀에 지정
+	 * @return
+	 */
+	public static HttpClientPool getClientPool() {
+		HttpClientPool pool = clientPool;
+		if (pool == null || pool.isClosed()) {
+			synchronized (HttpClientUtil.class) {
+				pool = clientPool;
+				if (pool == null || pool.isClosed()) {
+					pool = new HttpClientPool();
+					clientPool = pool;
+				}
+			}
+		}
+		return pool;
+	}
+
+	/**
+	 * 공유 HttpClient 풀 교체 (기존 풀은 종료)
+	 * @param pool
+	 */
+	public static void setClientPool(HttpClientPool pool) {
+		Objects.requireNonNull(pool, "pool 은 null일 수 없습니다.");
+
+		HttpClientPool oldPool;
+		synchronized (HttpClientUtil.class) {
+			oldPool = clientPool;
+			clientPool = pool;
+		}
+
+		if (oldPool != null && oldPool != pool) {
+			oldPool.close();
+		}
+	}
+
+	/**
+	 * 비동기 호출 실행기 반환 (처음 호출 시 기본 설정으로 생성)
+	 * @return
+	 */
+	public static HttpAsyncExecutor getAsyncExecutor() {
+		HttpAsyncExecutor executor = asyncExecutor;
+		if (executor == null || executor.isClosed()) {
+			synchronized (HttpClientUtil.class) {
+				executor = asyncExecutor;
+				if (executor == null || executor.isClosed()) {
+					executor = new HttpAsyncExecutor();
+					asyncExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * 비동기 호출 실행기 교체 (기존 실행기는 종료)
+	 * @param executor
+	 */
+	public static void setAsyncExecutor(HttpAsyncExecutor executor) {
+		Objects.requireNonNull(executor, "executor 는 null일 수 없습니다.");
+
+		HttpAsyncExecutor oldExecutor;
+		synchronized (HttpClientUtil.class) {
+			oldExecutor = asyncExecutor;
+			asyncExecutor = executor;
+		}
+
+		if (oldExecutor != null && oldExecutor != executor) {
+			oldExecutor.close();
+		}
+	}
+
+	/**
+	 * GetRequest 응답 캐시 지정 (null 이면 캐시 사용 안 함, 기본값)
+	 * @param cache
+	 */
+	public static void setResponseCache(HttpResponseCache cache) {
+		responseCache = cache;
+	}
+
+	public static HttpResponseCache getResponseCache() {
+		return responseCache;
+	}
+
 	/**
-     * CloseableHttpClient 인스턴스를 생성하여 반환
+	 * 호스트 별 서킷 브레이커, 재시도, 벌크헤드 지정 (null 이면 사용 안 함, 기본값)
+	 *  - 거절된 호출은 다른 입출력 오류처럼 빈 Map 반환 (StreamRequest, AsyncRequest 는 HttpRejectedException)
+	 * @param resilience
+	 */
+	public static void setResilience(HttpResilience resilience) {
+		HttpClientUtil.resilience = resilience;
+	}
+
+	public static HttpResilience getResilience() {
+		return resilience;
+	}
+
+	/**
+	 * <pre>
+	 * RawRequest 요청 본문 gzip 압축 기준 (Content-Encoding: gzip, chunked 전송)
+	 *  - 본문이 nMinBytes 바이트 이상이면 압축, 음수면 사용 안 함 (기본값)
+	 *  - AsyncRequest, StreamRequest 의 JSON/XML 본문에도 적용
+	 *  - 압축된 요청 본문을 받는 서버에만 사용
+	 *  - 응답은 별도 설정 없이 Accept-Encoding: gzip,deflate 를 보내고 자동으로 해제 (HttpClient 기본 동작)
+	 * </pre>
+	 * @param nMinBytes
+	 */
+	public static void setRequestCompressionThreshold(int nMinBytes) {
+		requestCompressionThreshold = nMinBytes;
+	}
+
+	public static int getRequestCompressionThreshold() {
+		return requestCompressionThreshold;
+	}
+
+	/**
+	 * <pre>
+	 * 구간 (풀 대기, 연결, TLS, TTFB, 전체) 별 지연 시간, 응답 상태 계측 (null 이면 사용 안 함, 기본값)
+	 *  - 재시도하면 시도마다 기록
+	 *  - 메모리 집계는 InMemoryHttpMetrics
+	 * </pre>
+	 * @param metrics
+	 */
+	public static void setMetrics(HttpMetrics metrics) {
+		HttpClientUtil.metrics = metrics;
+	}
+
+	public static HttpMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * 응답 상태 DEBUG 로그 샘플링 비율 (nSampleRate 건마다 1건, 기본값: 100, 1 이면 모두)
+	 * @param nSampleRate
+	 */
+	public static void setLogSampleRate(int nSampleRate) {
+		if (nSampleRate <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 샘플링 비율: " + nSampleRate + ". 1 이상이어야 합니다.");
+		}
+
+		logSampleRate = nSampleRate;
+	}
+
+	public static int getLogSampleRate() {
+		return logSampleRate;
+	}
+
+	/**
+	 * 공유 HttpClient 풀, 비동기 호출 실행기 종료 (애플리케이션 종료 시, 이후 호출하면 새로 생성)
+	 */
+	public static void shutdown() {
+		HttpClientPool oldPool;
+		HttpAsyncExecutor oldExecutor;
+		synchronized (HttpClientUtil.class) {
+			oldPool = clientPool;
+			clientPool = null;
+			oldExecutor = asyncExecutor;
+			asyncExecutor = null;
+		}
+
+		if (oldExecutor != null) {
+			oldExecutor.close();
+		}
+
+		if (oldPool != null) {
+			oldPool.close();
+		}
+	}
+
+	/**
+     * 공유 CloseableHttpClient 반환 (요청마다 닫지 않음)
      *
      * @param isSSL SSL 지원 HttpClient가 필요한 경우 true
      * @return CloseableHttpClient SSL 컨텍스트 생성 실패 시 null
      */
     private static CloseableHttpClient getHttpClient(boolean isSSL) {
-        if (isSSL) {
-            try {
-                SSLContextBuilder builder = new SSLContextBuilder();
-                // 자체 서명된 인증서 신뢰. 프로덕션 환경에서는 특정 TrustStore 사용을 고려해야 합니다.
-                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                SSLContext sslContext = builder.build();
-                SSLConnectionSocketFactory sslsf = new SSLConnectionSocketFactory(sslContext);
-                return HttpClients.custom().setSSLSocketFactory(sslsf).build();
-            } catch (NoSuchAlgorithmException | KeyManagementException | KeyStoreException e) {
-                logger.error("SSL HttpClient 생성 실패", e);
-                return null;
-            }
-        } else {
-            return HttpClients.createDefault();
-        }
+        return getClientPool().getClient(isSSL);
     }
 
     /**
@@ -160,17 +353,146 @@ public class HttpClientUtil {
             EntityUtils.consume(entity);
         }
 
+        resMap.put(STATUS_KEY, nStatus);
+        resMap.put(BODY_KEY, sResponse);
+        resMap.put(HEADERS_KEY, extractResponseHeaders(response));
+
+        return resMap;
+    }
+
+    /**
+     * HttpResponse의 헤더를 Map으로 추출
+     * @param response
+     * @return
+     */
+    private static Map<String, Object> extractResponseHeaders(HttpResponse response) {
         Map<String, Object> resHeader = new HashMap<>();
-        Header[] headers = response.getAllHeaders();
-        for (Header h : headers) {
+        for (Header h : response.getAllHeaders()) {
             resHeader.put(h.getName(), h.getValue());
         }
+        return resHeader;
+    }
 
-        resMap.put(STATUS_KEY, nStatus);
-        resMap.put(BODY_KEY, sResponse);
-        resMap.put(HEADERS_KEY, resHeader);
+    private static void setHeaders(HttpRequestBase request, Map<String, String> header) {
+        if (header != null) {
+            for (Map.Entry<String, String> entry : header.entrySet()) {
+                request.setHeader(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+        }
+    }
 
-        return resMap;
+    /**
+     * 요청 본문 엔티티 생성 (압축 기준 이상이면 전송하면서 GZIPOutputStream 으로 압축)
+     *
+     * @param payload
+     * @param contentType
+     * @return
+     */
+    private static HttpEntity newPayloadEntity(String payload, String contentType) {
+        StringEntity entity = new StringEntity(payload, DEFAULT_CHARSET);
+        entity.setContentType(contentType);
+
+        int nThreshold = requestCompressionThreshold;
+        if ( nThreshold >= 0 && entity.getContentLength() >= nThreshold ) {
+            return new GzipCompressingEntity(entity);
+        }
+        return entity;
+    }
+
+    /**
+     * 지정된 HttpResilience 를 거쳐 호출 (없으면 바로 호출)
+     *
+     * @param request 호출할 요청 (호스트, 메소드 확인용)
+     * @param call
+     * @param isFailure 서킷 브레이커에 실패로 기록할 결과
+     * @return
+     * @throws IOException 호출 실패 또는 거절 (HttpRejectedException)
+     */
+    private static <T> T guarded(HttpRequestBase request, HttpResilience.Call<T> call, Predicate<? super T> isFailure) throws IOException {
+        return guarded(request, request.getMethod(), call, isFailure);
+    }
+
+    /**
+     * @param sMethod 재시도 판단용 HTTP 메소드 (null 이면 재시도하지 않음)
+     */
+    private static <T> T guarded(HttpRequestBase request, String sMethod, HttpResilience.Call<T> call, Predicate<? super T> isFailure)
+            throws IOException {
+
+        HttpResilience r = resilience;
+        if (r == null) {
+            return call.call();
+        }
+        return r.execute(request.getURI(), sMethod, call, isFailure);
+    }
+
+    /**
+     * 지정된 HttpResilience 를 거쳐 스트리밍 호출 (재시도하지 않고 응답 헤더를 받은 시점에 결과 기록, 없으면 바로 호출)
+     *
+     * @param request 호출할 요청 (호스트 확인용)
+     * @param call
+     * @return
+     * @throws IOException 호출 실패 또는 거절 (HttpRejectedException)
+     */
+    private static <T> T guardedStream(HttpRequestBase request, HttpResilience.StreamCall<T> call) throws IOException {
+        HttpResilience r = resilience;
+        if (r == null) {
+            return call.call(nStatus -> { });
+        }
+        return r.executeStream(request.getURI(), call);
+    }
+
+    private interface ResponseReader<T> {
+        T read(CloseableHttpResponse response) throws IOException;
+    }
+
+    /**
+     * 요청 실행 (계측, 응답 상태 로그 포함)
+     *
+     * @param httpClient
+     * @param request
+     * @param sLabel 로그에 남길 요청 종류
+     * @param reader
+     * @return
+     * @throws IOException
+     */
+    private static <T> T doExecute(CloseableHttpClient httpClient, HttpRequestBase request, String sLabel, ResponseReader<T> reader)
+            throws IOException {
+
+        HttpCallTimer timer = HttpCallTimer.start(metrics, request.getURI(), request.getMethod());
+        int nStatus = HttpMetrics.STATUS_IO_ERROR;
+        try ( CloseableHttpResponse response = httpClient.execute(request, timer.context()) ) {
+            nStatus = response.getStatusLine().getStatusCode();
+            logStatus(sLabel, request, nStatus);
+            return reader.read(response);
+        } finally {
+            timer.finish(nStatus);
+        }
+    }
+
+    /**
+     * 응답 상태 로그 (DEBUG, logSampleRate 건마다 1건)
+     */
+    private static void logStatus(String sLabel, HttpRequestBase request, int nStatus) {
+        if ( logger.isDebugEnabled() && logSequence.getAndIncrement() % logSampleRate == 0 ) {
+            logger.debug("{} Status for {}: {}", sLabel, request.getURI(), nStatus);
+        }
+    }
+
+    /**
+     * 요청을 실행하고 응답 데이터를 Map 으로 추출 (5xx, 429 응답은 실패로 기록)
+     *
+     * @param httpClient
+     * @param request
+     * @param charset
+     * @param sLabel 로그에 남길 요청 종류
+     * @return
+     * @throws IOException
+     */
+    private static Map<String, Object> executeMap(CloseableHttpClient httpClient, HttpRequestBase request, Charset charset,
+            String sLabel) throws IOException {
+
+        return guarded(request, () -> doExecute(httpClient, request, sLabel, response -> extractResponseData(response, charset)),
+                resMap -> HttpResilience.isFailureStatus((Integer) resMap.get(STATUS_KEY)));
     }
 
 	public static class GetRequest {
@@ -199,11 +521,17 @@ public class HttpClientUtil {
 
 			Map<String, Object> resMap = new HashMap<>();
 
-			try ( CloseableHttpClient httpClient = getHttpClient(isSSL) ) {
-				if (httpClient == null) {
-					return resMap;
-				}
+			CloseableHttpClient httpClient = getHttpClient(isSSL);
+			if (httpClient == null) {
+				return resMap;
+			}
 
+			HttpResponseCache cache = responseCache;
+			if (cache != null) {
+				return cachedGetMap(cache, httpClient, url, header, timeoutMs);
+			}
+
+			try {
 				HttpGet httpGet = new HttpGet(url);
                 httpGet.setConfig(getConfigWithTimeout(timeoutMs));
 
@@ -217,9 +545,43 @@ public class HttpClientUtil {
 			        }
                 }
 
-                HttpResponse response = httpClient.execute(httpGet);
-                logger.info("GET Status for {}: {}", url, response.getStatusLine().getStatusCode());
-                resMap = extractResponseData(response, StandardCharsets.UTF_8);
+                resMap = executeMap(httpClient, httpGet, StandardCharsets.UTF_8, "GET");
+			} catch (IOException e) {
+				logger.error("Error during GET request to {}: {}", url, e.getMessage(), e);
+			}
+			return resMap;
+		}
+
+		/**
+		 * 응답 캐시를 거친 GET (캐시 적중, 304 재검증이면 캐시된 본문)
+		 */
+		private static Map<String, Object> cachedGetMap(HttpResponseCache cache, CloseableHttpClient httpClient, String url,
+				Map<String, String> header, int timeoutMs) {
+
+			Map<String, Object> resMap = new HashMap<>();
+
+			try {
+				HttpResponseCache.Response cached = cache.get(url, header, conditionalHeaders -> {
+					HttpGet httpGet = new HttpGet(url);
+					httpGet.setConfig(getConfigWithTimeout(timeoutMs));
+					setHeaders(httpGet, header);
+					setHeaders(httpGet, conditionalHeaders);
+
+					return guarded(httpGet, () -> doExecute(httpClient, httpGet, "GET", response -> {
+						HttpEntity entity = response.getEntity();
+						String sResponse = (entity != null) ? EntityUtils.toString(entity, DEFAULT_CHARSET) : "";
+
+						Map<String, String> resHeader = new LinkedHashMap<>();
+						for (Header h : response.getAllHeaders()) {
+							resHeader.merge(h.getName(), h.getValue(), (a, b) -> a + ", " + b);
+						}
+						return new HttpResponseCache.Response(response.getStatusLine().getStatusCode(), sResponse, resHeader);
+					}), res -> HttpResilience.isFailureStatus(res.getStatus()));
+				});
+
+				resMap.put(STATUS_KEY, cached.getStatus());
+				resMap.put(BODY_KEY, cached.getBody());
+				resMap.put(HEADERS_KEY, new HashMap<String, Object>(cached.getHeaders()));
 			} catch (IOException e) {
 				logger.error("Error during GET request to {}: {}", url, e.getMessage(), e);
 			}
@@ -326,11 +688,12 @@ public class HttpClientUtil {
 
 			Map<String, Object> resMap = new HashMap<>();
 
-			try ( CloseableHttpClient httpClient = getHttpClient(isSSL) ) {
-				if (httpClient == null) {
-                    return resMap;
-                }
+			CloseableHttpClient httpClient = getHttpClient(isSSL);
+			if (httpClient == null) {
+				return resMap;
+			}
 
+			try {
 				HttpPost httpPost = new HttpPost(url);
                 httpPost.setConfig(getConfigWithTimeout(timeoutMs));
 
@@ -350,9 +713,7 @@ public class HttpClientUtil {
                     httpPost.setEntity(entity);
                 }
 
-                HttpResponse response = httpClient.execute(httpPost);
-                logger.info("POST Status for {}: {}", url, response.getStatusLine().getStatusCode());
-                resMap = extractResponseData(response, StandardCharsets.UTF_8);
+                resMap = executeMap(httpClient, httpPost, StandardCharsets.UTF_8, "POST");
 			} catch (IOException e) {
                 logger.error("Error during POST request to {}: {}", url, e.getMessage(), e);
             }
@@ -487,11 +848,12 @@ public class HttpClientUtil {
 
 			Map<String, Object> resMap = new HashMap<>();
 
-			try ( CloseableHttpClient httpClient = getHttpClient(isSSL) ) {
-				if (httpClient == null) {
-                    return resMap;
-                }
+			CloseableHttpClient httpClient = getHttpClient(isSSL);
+			if (httpClient == null) {
+				return resMap;
+			}
 
+			try {
 				String contentType = isJson ? "application/json" : "application/xml";
                 HttpPost httpPost = new HttpPost(url);
                 httpPost.setConfig(getConfigWithTimeout(timeoutMs));
@@ -506,13 +868,9 @@ public class HttpClientUtil {
 			        }
                 }
 
-                StringEntity entity = new StringEntity(payload, DEFAULT_CHARSET);
-                entity.setContentType(contentType);
-                httpPost.setEntity(entity);
+                httpPost.setEntity(newPayloadEntity(payload, contentType));
 
-                HttpResponse response = httpClient.execute(httpPost);
-                logger.info("POST Raw Status for {}: {}", url, response.getStatusLine().getStatusCode());
-                resMap = extractResponseData(response, DEFAULT_CHARSET);
+                resMap = executeMap(httpClient, httpPost, DEFAULT_CHARSET, "POST Raw");
 			} catch (IOException e) {
                 logger.error("Error during Raw POST request to {}: {}", url, e.getMessage(), e);
             }
@@ -663,11 +1021,12 @@ public class HttpClientUtil {
 
 			Map<String, Object> resMap = new HashMap<>();
 
-			try ( CloseableHttpClient httpClient = getHttpClient(isSSL) ) {
-				if (httpClient == null) {
-                    return resMap;
-                }
+			CloseableHttpClient httpClient = getHttpClient(isSSL);
+			if (httpClient == null) {
+				return resMap;
+			}
 
+			try {
 				HttpPost httpPost = new HttpPost(url);
 	            httpPost.setConfig(getConfigWithTimeout(timeoutMs));
 
@@ -700,9 +1059,7 @@ public class HttpClientUtil {
 	            HttpEntity entity = builder.build();
 	            httpPost.setEntity(entity);
 
-	            HttpResponse response = httpClient.execute(httpPost);
-	            logger.info("POST Multipart Status for {}: {}", url, response.getStatusLine().getStatusCode());
-	            resMap = extractResponseData(response, DEFAULT_CHARSET);
+	            resMap = executeMap(httpClient, httpPost, DEFAULT_CHARSET, "POST Multipart");
 			} catch (IOException e) {
 				logger.error("Error during Multipart POST request to {}: {}", url, e.getMessage(), e);
             }
@@ -827,4 +1184,492 @@ public class HttpClientUtil {
 		}
 	}
 
+
+	public static class AsyncRequest {
+		private AsyncRequest() {
+			super();
+		}
+
+		/**
+		 * <pre>
+		 * GET 비동기 호출
+		 * StatusCode, Body, Headers
+		 *  - 키 : HttpClientUtil.STATUS_KEY, HttpClientUtil.BODY_KEY, HttpClientUtil.HEADERS_KEY
+		 * </pre>
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param timeoutMs 호출 타임아웃 (밀리초, 연결 대기/연결/응답 읽기를 합친 전체 시간)
+		 * @return 오류 시 IOException, 타임아웃이면 TimeoutException 으로 실패 (동기 호출처럼 빈 Map 을 반환하지 않음)
+		 */
+		public static CompletableFuture<Map<String, Object>> getAsync(boolean isSSL, String url, Map<String, String> header, int timeoutMs) {
+			Objects.requireNonNull(url, URL_NOT_BE_NULL);
+			if ( url.trim().isEmpty() ) {
+			    throw new IllegalArgumentException(URL_NOT_BE_NULL);
+			}
+
+			HttpGet httpGet = new HttpGet(url);
+			setHeaders(httpGet, header);
+
+			return execute(isSSL, httpGet, timeoutMs, DEFAULT_CHARSET);
+		}
+
+		public static CompletableFuture<Map<String, Object>> getAsync(boolean isSSL, String url) {
+			return getAsync(isSSL, url, null, DEFAULT_TIMEOUT_MS);
+		}
+
+		/**
+		 * <pre>
+		 * POST (application/x-www-form-urlencoded) 비동기 호출
+		 * StatusCode, Body, Headers
+		 *  - 키 : HttpClientUtil.STATUS_KEY, HttpClientUtil.BODY_KEY, HttpClientUtil.HEADERS_KEY
+		 * </pre>
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param param
+		 * @param charset
+		 * @param timeoutMs 호출 타임아웃 (밀리초, 연결 대기/연결/응답 읽기를 합친 전체 시간)
+		 * @return 오류 시 IOException, 타임아웃이면 TimeoutException 으로 실패
+		 */
+		public static CompletableFuture<Map<String, Object>> postAsync(boolean isSSL, String url, Map<String, String> header,
+				Map<String, Object> param, Charset charset, int timeoutMs) {
+
+			Objects.requireNonNull(url, URL_NOT_BE_NULL);
+			if ( url.trim().isEmpty() ) {
+			    throw new IllegalArgumentException(URL_NOT_BE_NULL);
+			}
+
+			HttpPost httpPost = new HttpPost(url);
+			setHeaders(httpPost, header);
+
+			List<NameValuePair> listParam = PostRequest.convertParam(param);
+			if ( !listParam.isEmpty() ) {
+				httpPost.setEntity(new UrlEncodedFormEntity(listParam, charset != null ? charset : DEFAULT_CHARSET));
+			}
+
+			return execute(isSSL, httpPost, timeoutMs, DEFAULT_CHARSET);
+		}
+
+		/**
+		 * <pre>
+		 * JSON POST 비동기 호출
+		 * StatusCode, Body, Headers
+		 *  - 키 : HttpClientUtil.STATUS_KEY, HttpClientUtil.BODY_KEY, HttpClientUtil.HEADERS_KEY
+		 * </pre>
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param payload
+		 * @param timeoutMs 호출 타임아웃 (밀리초, 연결 대기/연결/응답 읽기를 합친 전체 시간)
+		 * @return 오류 시 IOException, 타임아웃이면 TimeoutException 으로 실패
+		 */
+		public static CompletableFuture<Map<String, Object>> jsonAsync(boolean isSSL, String url, Map<String, String> header, String payload, int timeoutMs) {
+			return rawAsync(true, isSSL, url, header, payload, timeoutMs);
+		}
+
+		/**
+		 * <pre>
+		 * XML POST 비동기 호출
+		 * StatusCode, Body, Headers
+		 *  - 키 : HttpClientUtil.STATUS_KEY, HttpClientUtil.BODY_KEY, HttpClientUtil.HEADERS_KEY
+		 * </pre>
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param payload
+		 * @param timeoutMs 호출 타임아웃 (밀리초, 연결 대기/연결/응답 읽기를 합친 전체 시간)
+		 * @return 오류 시 IOException, 타임아웃이면 TimeoutException 으로 실패
+		 */
+		public static CompletableFuture<Map<String, Object>> xmlAsync(boolean isSSL, String url, Map<String, String> header, String payload, int timeoutMs) {
+			return rawAsync(false, isSSL, url, header, payload, timeoutMs);
+		}
+
+		private static CompletableFuture<Map<String, Object>> rawAsync(boolean isJson, boolean isSSL, String url, Map<String, String> header,
+				String payload, int timeoutMs) {
+
+			Objects.requireNonNull(url, URL_NOT_BE_NULL);
+			if ( url.trim().isEmpty() ) {
+			    throw new IllegalArgumentException(URL_NOT_BE_NULL);
+			}
+
+			Objects.requireNonNull(payload, PAYLOAD_NOT_BE_NULL);
+			if ( payload.trim().isEmpty() ) {
+			    throw new IllegalArgumentException(PAYLOAD_NOT_BE_NULL);
+			}
+
+			HttpPost httpPost = new HttpPost(url);
+			setHeaders(httpPost, header);
+
+			httpPost.setEntity(newPayloadEntity(payload, isJson ? "application/json" : "application/xml"));
+
+			return execute(isSSL, httpPost, timeoutMs, DEFAULT_CHARSET);
+		}
+
+		/**
+		 * <pre>
+		 * 여러 URL 을 병렬로 GET 호출하고 결과를 URL 순서대로 모음
+		 *  - 실패하거나 타임아웃된 호출의 결과는 빈 Map (동기 호출과 같음)
+		 *  - 전체 지연 시간은 호출 시간의 합이 아니라 가장 느린 호출 시간에 가까움 (동시 실행 수 제한 안에서)
+		 * </pre>
+		 * @param isSSL
+		 * @param urls
+		 * @param header 모든 호출에 공통으로 지정할 헤더
+		 * @param timeoutMs 호출별 타임아웃 (밀리초)
+		 * @param nMaxConcurrency 동시에 진행하는 최대 호출 수
+		 * @return
+		 */
+		public static CompletableFuture<List<Map<String, Object>>> getAll(boolean isSSL, List<String> urls, Map<String, String> header,
+				int timeoutMs, int nMaxConcurrency) {
+
+			Objects.requireNonNull(urls, ExceptionMessage.isNull("urls"));
+
+			List<Supplier<CompletableFuture<Map<String, Object>>>> calls = new ArrayList<>(urls.size());
+			for (String url : urls) {
+				calls.add(() -> getAsync(isSSL, url, header, timeoutMs));
+			}
+
+			return fanOut(calls, nMaxConcurrency);
+		}
+
+		/**
+		 * <pre>
+		 * 여러 비동기 호출을 병렬로 실행하고 결과를 요청 순서대로 모음
+		 *  - 실패하거나 타임아웃된 호출의 결과는 빈 Map (동기 호출과 같음)
+		 * </pre>
+		 * @param calls 호출을 시작하는 함수 (예: () -&gt; AsyncRequest.jsonAsync(...))
+		 * @param nMaxConcurrency 동시에 진행하는 최대 호출 수
+		 * @return
+		 */
+		public static CompletableFuture<List<Map<String, Object>>> fanOut(List<? extends Supplier<CompletableFuture<Map<String, Object>>>> calls,
+				int nMaxConcurrency) {
+
+			return getAsyncExecutor().fanOut(calls, nMaxConcurrency, e -> {
+				logger.error("Error during async fan-out request: {}", e.getMessage());
+				return new HashMap<>();
+			});
+		}
+
+		private static CompletableFuture<Map<String, Object>> execute(boolean isSSL, HttpRequestBase request, int timeoutMs, Charset charset) {
+			if (timeoutMs <= 0) {
+				throw new IllegalArgumentException(TIMEOUT_NOT_BE_NULL);
+			}
+
+			request.setConfig(getConfigWithTimeout(timeoutMs));
+
+			CloseableHttpClient httpClient = getHttpClient(isSSL);
+			if (httpClient == null) {
+				CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+				future.completeExceptionally(new IOException("SSL HttpClient 생성 실패"));
+				return future;
+			}
+
+			// 타임아웃 또는 취소 시 진행 중인 요청을 중단하여 작업 스레드와 연결을 바로 반환
+			return getAsyncExecutor().submit(() -> {
+				try {
+					return guarded(request, () -> doExecute(httpClient, request, "Async " + request.getMethod(),
+							response -> extractResponseData(response, charset)), resMap -> HttpResilience.isFailureStatus((Integer) resMap.get(STATUS_KEY)));
+				} catch (SocketTimeoutException | ConnectTimeoutException e) {
+					// 연결/읽기 타임아웃도 호출 타임아웃과 같은 예외로 실패
+					TimeoutException te = new TimeoutException(timeoutMs + "ms 안에 호출이 끝나지 않았습니다: " + e.getMessage());
+					te.initCause(e);
+					throw te;
+				}
+			}, timeoutMs, request::abort);
+		}
+	}
+
+
+	/**
+	 * <pre>
+	 * 응답 본문을 String 으로 모으지 않는 스트리밍 호출 (대용량 다운로드, 큰 JSON 응답)
+	 *  - GetRequest, RawRequest 등의 String 본문은 작은 응답에만 사용
+	 *  - 본문은 고정 크기 버퍼로 복사하므로 응답 크기와 관계없이 메모리 사용량이 일정
+	 *  - 다른 호출과 달리 오류를 빈 Map 으로 감추지 않고 IOException 으로 던짐 (일부만 쓰인 출력을 알 수 있도록)
+	 *  - 상태 코드와 관계없이 본문을 전달 (오류 응답이면 오류 본문)
+	 * </pre>
+	 */
+	public static class StreamRequest {
+		private StreamRequest() {
+			super();
+		}
+
+		/**
+		 * 응답 본문 InputStream 을 handler 에 전달
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param timeoutMs 요청 타임아웃 (밀리초)
+		 * @param handler
+		 * @return handler 의 반환 값
+		 * @throws IOException
+		 */
+		public static <T> T get(boolean isSSL, String url, Map<String, String> header, int timeoutMs, HttpBodyHandler<T> handler) throws IOException {
+			Objects.requireNonNull(handler, ExceptionMessage.isNull("handler"));
+
+			HttpGet httpGet = new HttpGet(checkUrl(url));
+			setHeaders(httpGet, header);
+
+			return execute(isSSL, httpGet, timeoutMs, (response, body) -> handler.handle(response.getStatusLine().getStatusCode(), body));
+		}
+
+		/**
+		 * <pre>
+		 * 응답 본문을 OutputStream 에 씀 (OutputStream 은 닫지 않음)
+		 * StatusCode, Headers, 본문 바이트 수
+		 *  - 키 : HttpClientUtil.STATUS_KEY, HttpClientUtil.HEADERS_KEY, HttpClientUtil.BODY_LENGTH_KEY
+		 * </pre>
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param timeoutMs 요청 타임아웃 (밀리초)
+		 * @param out
+		 * @return
+		 * @throws IOException
+		 */
+		public static Map<String, Object> getToStream(boolean isSSL, String url, Map<String, String> header, int timeoutMs, OutputStream out) throws IOException {
+			Objects.requireNonNull(out, ExceptionMessage.isNull("out"));
+
+			HttpGet httpGet = new HttpGet(checkUrl(url));
+			setHeaders(httpGet, header);
+
+			return execute(isSSL, httpGet, timeoutMs, (response, body) -> {
+				long lLength = copy(body, out);
+				return streamResult(response, lLength);
+			});
+		}
+
+		/**
+		 * <pre>
+		 * 응답 본문을 파일에 씀
+		 *  - 같은 디렉토리의 임시 파일에 받은 뒤 이동하므로, 실패해도 기존 파일이 깨지거나 일부만 쓰인 파일이 남지 않음
+		 * StatusCode, Headers, 본문 바이트 수
+		 *  - 키 : HttpClientUtil.STATUS_KEY, HttpClientUtil.HEADERS_KEY, HttpClientUtil.BODY_LENGTH_KEY
+		 * </pre>
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param timeoutMs 요청 타임아웃 (밀리초, 소켓 읽기 간격 기준이므로 전체 다운로드 시간은 제한하지 않음)
+		 * @param path
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 HttpResponseException (파일은 그대로 둠)
+		 */
+		public static Map<String, Object> getToFile(boolean isSSL, String url, Map<String, String> header, int timeoutMs, Path path) throws IOException {
+			Objects.requireNonNull(path, ExceptionMessage.isNull("path"));
+
+			HttpGet httpGet = new HttpGet(checkUrl(url));
+			setHeaders(httpGet, header);
+
+			Path target = path.toAbsolutePath();
+			Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+			try {
+				Map<String, Object> resMap = execute(isSSL, httpGet, timeoutMs, (response, body) -> {
+					// 오류 응답 본문으로 기존 파일을 덮어쓰지 않음
+					checkSuccess(response.getStatusLine().getStatusCode(), url);
+					long lLength = Files.copy(body, temp, StandardCopyOption.REPLACE_EXISTING);
+					return streamResult(response, lLength);
+				});
+
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+				return resMap;
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+
+		/**
+		 * 응답 본문(JSON)을 String 으로 만들지 않고 스트림에서 바로 변환
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param timeoutMs 요청 타임아웃 (밀리초)
+		 * @param clazz
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 HttpResponseException
+		 */
+		public static <T> T getJson(boolean isSSL, String url, Map<String, String> header, int timeoutMs, Class<T> clazz) throws IOException {
+			Objects.requireNonNull(clazz, ExceptionMessage.isNull("clazz"));
+
+			return get(isSSL, url, header, timeoutMs, (nStatus, body) -> {
+				checkSuccess(nStatus, url);
+				return JacksonUtil.FromStream.converterStreamToClass(body, clazz);
+			});
+		}
+
+		/**
+		 * 응답 본문(JSON)을 String 으로 만들지 않고 스트림에서 바로 변환
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param timeoutMs 요청 타임아웃 (밀리초)
+		 * @param typeReference 제네릭 타입 (예: new TypeReference&lt;List&lt;Foo&gt;&gt;() {})
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 HttpResponseException
+		 */
+		public static <T> T getJson(boolean isSSL, String url, Map<String, String> header, int timeoutMs, TypeReference<T> typeReference) throws IOException {
+			Objects.requireNonNull(typeReference, ExceptionMessage.isNull("typeReference"));
+
+			return get(isSSL, url, header, timeoutMs, (nStatus, body) -> {
+				checkSuccess(nStatus, url);
+				return JacksonUtil.FromStream.converterStreamToType(body, typeReference);
+			});
+		}
+
+		public static <T> T getJson(boolean isSSL, String url, Class<T> clazz) throws IOException {
+			return getJson(isSSL, url, null, DEFAULT_TIMEOUT_MS, clazz);
+		}
+
+		/**
+		 * <pre>
+		 * 요청 객체를 String 으로 만들지 않고 요청 스트림에 바로 JSON 으로 쓰고, 응답 본문(JSON)도 스트림에서 바로 변환
+		 *  - 본문 길이를 미리 알 수 없으므로 chunked 전송 (압축 기준 setRequestCompressionThreshold 는 적용하지 않음)
+		 * </pre>
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param body JSON 으로 변환할 요청 객체
+		 * @param timeoutMs 요청 타임아웃 (밀리초)
+		 * @param clazz
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 HttpResponseException
+		 */
+		public static <T> T postJson(boolean isSSL, String url, Map<String, String> header, Object body, int timeoutMs, Class<T> clazz) throws IOException {
+			Objects.requireNonNull(clazz, ExceptionMessage.isNull("clazz"));
+
+			return postJson(isSSL, url, header, body, timeoutMs, (nStatus, is) -> {
+				checkSuccess(nStatus, url);
+				return JacksonUtil.FromStream.converterStreamToClass(is, clazz);
+			});
+		}
+
+		/**
+		 * 요청 객체를 요청 스트림에 바로 JSON 으로 쓰고, 응답 본문(JSON)도 스트림에서 바로 변환
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param body JSON 으로 변환할 요청 객체
+		 * @param timeoutMs 요청 타임아웃 (밀리초)
+		 * @param typeReference 제네릭 타입 (예: new TypeReference&lt;List&lt;Foo&gt;&gt;() {})
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 HttpResponseException
+		 */
+		public static <T> T postJson(boolean isSSL, String url, Map<String, String> header, Object body, int timeoutMs, TypeReference<T> typeReference) throws IOException {
+			Objects.requireNonNull(typeReference, ExceptionMessage.isNull("typeReference"));
+
+			return postJson(isSSL, url, header, body, timeoutMs, (nStatus, is) -> {
+				checkSuccess(nStatus, url);
+				return JacksonUtil.FromStream.converterStreamToType(is, typeReference);
+			});
+		}
+
+		public static <T> T postJson(boolean isSSL, String url, Object body, TypeReference<T> typeReference) throws IOException {
+			return postJson(isSSL, url, null, body, DEFAULT_TIMEOUT_MS, typeReference);
+		}
+
+		private static <T> T postJson(boolean isSSL, String url, Map<String, String> header, Object body, int timeoutMs, HttpBodyHandler<T> handler) throws IOException {
+			Objects.requireNonNull(body, ExceptionMessage.isNull("body"));
+
+			HttpPost httpPost = new HttpPost(checkUrl(url));
+			setHeaders(httpPost, header);
+
+			// 전송할 때 (재시도 시 다시) 연결의 출력 스트림에 바로 직렬화
+			EntityTemplate entity = new EntityTemplate(os -> JacksonUtil.ToStream.converterObjToStream(body, os));
+			entity.setContentType(ContentType.APPLICATION_JSON.toString());
+			httpPost.setEntity(entity);
+
+			return execute(isSSL, httpPost, timeoutMs, (response, is) -> handler.handle(response.getStatusLine().getStatusCode(), is));
+		}
+
+		/**
+		 * JSON POST 후 응답 본문 InputStream 을 handler 에 전달
+		 * @param isSSL
+		 * @param url
+		 * @param header
+		 * @param payload
+		 * @param timeoutMs 요청 타임아웃 (밀리초)
+		 * @param handler
+		 * @return handler 의 반환 값
+		 * @throws IOException
+		 */
+		public static <T> T json(boolean isSSL, String url, Map<String, String> header, String payload, int timeoutMs, HttpBodyHandler<T> handler) throws IOException {
+			Objects.requireNonNull(payload, PAYLOAD_NOT_BE_NULL);
+			Objects.requireNonNull(handler, ExceptionMessage.isNull("handler"));
+
+			HttpPost httpPost = new HttpPost(checkUrl(url));
+			setHeaders(httpPost, header);
+
+			httpPost.setEntity(newPayloadEntity(payload, "application/json"));
+
+			return execute(isSSL, httpPost, timeoutMs, (response, body) -> handler.handle(response.getStatusLine().getStatusCode(), body));
+		}
+
+		private static String checkUrl(String url) {
+			Objects.requireNonNull(url, URL_NOT_BE_NULL);
+			if ( url.trim().isEmpty() ) {
+			    throw new IllegalArgumentException(URL_NOT_BE_NULL);
+			}
+			return url;
+		}
+
+		private static void checkSuccess(int nStatus, String url) throws HttpResponseException {
+			if (nStatus < 200 || nStatus >= 300) {
+				throw new HttpResponseException(nStatus, "Unexpected status for " + url + ": " + nStatus);
+			}
+		}
+
+		private static Map<String, Object> streamResult(HttpResponse response, long lLength) {
+			Map<String, Object> resMap = new HashMap<>();
+			resMap.put(STATUS_KEY, response.getStatusLine().getStatusCode());
+			resMap.put(HEADERS_KEY, extractResponseHeaders(response));
+			resMap.put(BODY_LENGTH_KEY, lLength);
+			return resMap;
+		}
+
+		private static long copy(InputStream is, OutputStream os) throws IOException {
+			byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+			long lTotal = 0;
+			int n;
+			while ( (n = is.read(buffer)) != -1 ) {
+				os.write(buffer, 0, n);
+				lTotal += n;
+			}
+			return lTotal;
+		}
+
+		private interface ResponseCallback<T> {
+			T apply(HttpResponse response, InputStream body) throws IOException;
+		}
+
+		private static <T> T execute(boolean isSSL, HttpRequestBase request, int timeoutMs, ResponseCallback<T> callback) throws IOException {
+			if (timeoutMs <= 0) {
+				throw new IllegalArgumentException(TIMEOUT_NOT_BE_NULL);
+			}
+
+			request.setConfig(getConfigWithTimeout(timeoutMs));
+
+			CloseableHttpClient httpClient = getHttpClient(isSSL);
+			if (httpClient == null) {
+				throw new IOException("SSL HttpClient 생성 실패");
+			}
+
+			// 본문을 이미 넘겨받은 callback 이 다시 호출되지 않도록 재시도하지 않고, 응답 헤더를 받은 시점에 결과 기록
+			return guardedStream(request, recorder -> doExecute(httpClient, request, "Stream " + request.getMethod(), response -> {
+				recorder.onResponse(response.getStatusLine().getStatusCode());
+
+				HttpEntity entity = response.getEntity();
+				InputStream body = (entity != null) ? entity.getContent() : new ByteArrayInputStream(new byte[0]);
+				try {
+					T result = callback.apply(response, body);
+					// 남은 본문을 읽어야 연결이 풀에 반납됨
+					EntityUtils.consume(entity);
+					return result;
+				} catch (IOException | RuntimeException e) {
+					// 남은 본문(예: 대용량 다운로드)을 끝까지 읽지 않고 연결을 끊음
+					request.abort();
+					throw e;
+				}
+			}));
+		}
+	}
+
 }
@@ -1,10 +1,13 @@
 package common.util.http;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -13,16 +16,32 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import javax.net.ssl.HttpsURLConnection;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import common.util.json.JacksonUtil;
+
 /**
  * 성능 및 SSL 성공률이 다소 뒤처지므로 부득이한 경우가 아니면 Apache HttpClient 사용 권장
  */
@@ -32,6 +51,14 @@ import org.slf4j.LoggerFactory;
  * -----------------------------------
  * 2021. 8. 13. 김대광	SonarLint 지시에 따른 주저리 주저리 (Complexity 어쩔 수 없고, try-with-resources 로 바꾸기에는 좀 크다...)
  * 2024.10. 21. 김대광	Java 17 이상 deprecated 대응
+ * 2026. 10. 18. kdk	응답 본문을 String 으로 모으지 않는 스트리밍 호출 (StreamRequest) 추가
+ * 2026. 10. 18. kdk	GetRequest 조건부 GET 응답 캐시 (setResponseCache) 추가
+ * 2026. 10. 18. kdk	호스트 별 서킷 브레이커, 재시도, 벌크헤드 (setResilience) 추가
+ * 2026. 10. 18. kdk	gzip, deflate 응답 자동 해제, RawRequest 요청 본문 gzip 압축 (setRequestCompressionThreshold) 추가
+ * 2026. 10. 18. kdk	MultipartRequest 구현 (파일을 메모리에 모으지 않는 스트리밍 업로드, 여러 파일, 진행 알림)
+ * 2026. 10. 18. kdk	StreamRequest 객체를 JSON 스트림으로 보내고 받는 postJson 추가
+ * 2026. 10. 18. kdk	StreamRequest 서킷 브레이커 결과를 응답 헤더 수신 시점에 기록
+ * 2026. 10. 18. kdk	StreamRequest.getToFile 2xx 가 아닌 응답은 파일에 쓰지 않음
  * </pre>
  *
  *
@@ -50,12 +77,16 @@ public class HttpConnectionUtil {
 	public static final String STATUS_KEY = "status";
 	public static final String BODY_KEY = "body";
 	public static final String HEADERS_KEY = "headers";
+	public static final String BODY_LENGTH_KEY = "bodyLength";
 
 	private static final String GET_METHOD = "GET";
 	private static final String POST_METHOD = "POST";
 	private static final String CONTENT_TYPE = "Content-Type";
+	private static final String ACCEPT_ENCODING = "Accept-Encoding";
+	private static final String CONTENT_ENCODING = "Content-Encoding";
 
 	private static final int DEFAULT_TIMEOUT_MILLIS = 5000;
+	private static final int STREAM_BUFFER_SIZE = 8192;
 
 	private static final String LOG_INVALID_URL = "잘못된 URL 또는 URI: {}";
 	private static final String LOG_IO_EXCEPTION1 = "{} 에서 응답을 읽는 중 오류 발생: {}";
@@ -63,10 +94,58 @@ public class HttpConnectionUtil {
 	private static final String LOG_IO_EXCEPTION3 = "{} 에서 오류 스트림을 읽는 중 오류 발생: {}";
 
 
+	private static volatile HttpResponseCache responseCache;
+	private static volatile HttpResilience resilience;
+	private static volatile int requestCompressionThreshold = -1;
+
 	private HttpConnectionUtil() {
 		super();
 	}
 
+	/**
+	 * GetRequest 응답 캐시 지정 (null 이면 캐시 사용 안 함, 기본값)
+	 *  - HttpClientUtil 과 같은 캐시를 지정해도 됨 (캐시된 응답 헤더는 값이 하나인 List)
+	 * @param cache
+	 */
+	public static void setResponseCache(HttpResponseCache cache) {
+		responseCache = cache;
+	}
+
+	public static HttpResponseCache getResponseCache() {
+		return responseCache;
+	}
+
+	/**
+	 * 호스트 별 서킷 브레이커, 재시도, 벌크헤드 지정 (null 이면 사용 안 함, 기본값)
+	 *  - 거절된 호출은 다른 입출력 오류처럼 빈 Map 반환 (StreamRequest 는 HttpRejectedException)
+	 *  - HttpClientUtil 과 같은 HttpResilience 를 지정하면 호스트 상태를 함께 사용
+	 * @param resilience
+	 */
+	public static void setResilience(HttpResilience resilience) {
+		HttpConnectionUtil.resilience = resilience;
+	}
+
+	public static HttpResilience getResilience() {
+		return resilience;
+	}
+
+	/**
+	 * <pre>
+	 * RawRequest 요청 본문 gzip 압축 기준 (Content-Encoding: gzip, chunked 전송)
+	 *  - 본문이 nMinBytes 바이트 이상이면 압축, 음수면 사용 안 함 (기본값)
+	 *  - 압축된 요청 본문을 받는 서버에만 사용
+	 *  - 응답은 별도 설정 없이 Accept-Encoding: gzip, deflate 를 보내고 자동으로 해제
+	 * </pre>
+	 * @param nMinBytes
+	 */
+	public static void setRequestCompressionThreshold(int nMinBytes) {
+		requestCompressionThreshold = nMinBytes;
+	}
+
+	public static int getRequestCompressionThreshold() {
+		return requestCompressionThreshold;
+	}
+
 	private static class ExceptionMessage {
 
 		public static String isNull(String paramName) {
@@ -91,9 +170,132 @@ public class HttpConnectionUtil {
         URLConnection httpConn = url.openConnection();
         httpConn.setConnectTimeout(timeoutMillis); // 연결 타임아웃 설정
         httpConn.setReadTimeout(timeoutMillis);    // 읽기 타임아웃 설정
+        // 압축 응답 요청 (header 로 다시 지정 가능, 해제는 decodeBody)
+        httpConn.setRequestProperty(ACCEPT_ENCODING, "gzip, deflate");
         return httpConn;
     }
 
+    /**
+     * Content-Encoding 이 gzip, deflate 인 응답 본문을 해제하는 스트림으로 감쌈 (그 외에는 그대로)
+     * @param httpConn
+     * @param is null 이면 null 반환
+     * @return
+     * @throws IOException
+     */
+    private static InputStream decodeBody(HttpURLConnection httpConn, InputStream is) throws IOException {
+        String sEncoding = httpConn.getContentEncoding();
+        if ( is == null || sEncoding == null ) {
+            return is;
+        }
+
+        sEncoding = sEncoding.trim();
+        boolean isGzip = "gzip".equalsIgnoreCase(sEncoding) || "x-gzip".equalsIgnoreCase(sEncoding);
+        if ( !isGzip && !"deflate".equalsIgnoreCase(sEncoding) ) {
+            return is;
+        }
+
+        // 본문이 없는 응답 (HEAD, 204 등) 은 그대로
+        PushbackInputStream pis = new PushbackInputStream(is, 2);
+        int b0 = pis.read();
+        if (b0 < 0) {
+            return pis;
+        }
+
+        if (isGzip) {
+            pis.unread(b0);
+            return new GZIPInputStream(pis, STREAM_BUFFER_SIZE);
+        }
+
+        // deflate 는 zlib 헤더가 있는 형식이 표준이지만 헤더 없이 보내는 서버도 있음
+        int b1 = pis.read();
+        if (b1 >= 0) {
+            pis.unread(b1);
+        }
+        pis.unread(b0);
+
+        boolean isZlib = b1 >= 0 && (b0 & 0x0f) == 8 && ((b0 << 8) | b1) % 31 == 0;
+        return new InflaterBodyStream(pis, new Inflater(!isZlib));
+    }
+
+    /**
+     * 닫을 때 Inflater 의 네이티브 메모리도 바로 해제
+     */
+    private static class InflaterBodyStream extends InflaterInputStream {
+        InflaterBodyStream(InputStream is, Inflater inflater) {
+            super(is, inflater, STREAM_BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                inf.end();
+            }
+        }
+    }
+
+    /**
+     * 요청 본문 전송 (압축 기준 이상이면 GZIPOutputStream 으로 압축하면서 chunked 전송)
+     * @param httpConn
+     * @param body
+     * @throws IOException
+     */
+    private static void writeBody(HttpURLConnection httpConn, byte[] body) throws IOException {
+        int nThreshold = requestCompressionThreshold;
+        if ( nThreshold < 0 || body.length < nThreshold ) {
+            try ( OutputStream os = httpConn.getOutputStream() ) {
+                os.write(body);
+            }
+            return;
+        }
+
+        httpConn.setRequestProperty(CONTENT_ENCODING, "gzip");
+        httpConn.setChunkedStreamingMode(STREAM_BUFFER_SIZE);
+        try ( OutputStream os = new GZIPOutputStream(httpConn.getOutputStream(), STREAM_BUFFER_SIZE) ) {
+            os.write(body);
+        }
+    }
+
+    /**
+     * 지정된 HttpResilience 를 거쳐 호출 (없으면 바로 호출)
+     * @param sUrl 호스트 확인용 (URI 검증을 마친 URL)
+     * @param sMethod 재시도 판단용 HTTP 메소드 (null 이면 재시도하지 않음)
+     * @param call 재시도 시 다시 호출되므로 매번 새 연결을 사용
+     * @param isFailure 서킷 브레이커에 실패로 기록할 결과
+     * @return
+     * @throws IOException 호출 실패 또는 거절 (HttpRejectedException)
+     */
+    private static <T> T guarded(String sUrl, String sMethod, HttpResilience.Call<T> call, Predicate<? super T> isFailure) throws IOException {
+        HttpResilience r = resilience;
+        if (r == null) {
+            return call.call();
+        }
+        return r.execute(URI.create(sUrl), sMethod, call, isFailure);
+    }
+
+    /**
+     * 지정된 HttpResilience 를 거쳐 스트리밍 호출 (재시도하지 않고 응답 헤더를 받은 시점에 결과 기록, 없으면 바로 호출)
+     * @param sUrl 호스트 확인용 (URI 검증을 마친 URL)
+     * @param call
+     * @return
+     * @throws IOException 호출 실패 또는 거절 (HttpRejectedException)
+     */
+    private static <T> T guardedStream(String sUrl, HttpResilience.StreamCall<T> call) throws IOException {
+        HttpResilience r = resilience;
+        if (r == null) {
+            return call.call(nStatus -> { });
+        }
+        return r.executeStream(URI.create(sUrl), call);
+    }
+
+    /**
+     * STATUS_KEY 가 5xx, 429 인 응답 Map 을 실패로 기록
+     */
+    private static Map<String, Object> guardedMap(String sUrl, String sMethod, HttpResilience.Call<Map<String, Object>> call) throws IOException {
+        return guarded(sUrl, sMethod, call, resMap -> HttpResilience.isFailureStatus((Integer) resMap.get(STATUS_KEY)));
+    }
+
 	public static class GetRequest {
 		private GetRequest() {
 			super();
@@ -127,43 +329,116 @@ public class HttpConnectionUtil {
                 return resMap;
             }
 
-            // AutoCloseable 대상이 아님
-            HttpURLConnection httpConn = null;
-			try {
-				httpConn = (HttpURLConnection) getURLConnection(url, timeoutMillis);
+            HttpResponseCache cache = responseCache;
+            if (cache != null) {
+            	return cachedGetMap(cache, isSSL, url, sUrl, header, timeoutMillis);
+            }
 
-				httpConn.setRequestMethod(GET_METHOD);
+            URL connUrl = url;
+			try {
+				resMap = guardedMap(sUrl, GET_METHOD, () -> {
+					// AutoCloseable 대상이 아님
+					HttpURLConnection httpConn = (HttpURLConnection) getURLConnection(connUrl, timeoutMillis);
+					try {
+						httpConn.setRequestMethod(GET_METHOD);
+
+						if (isSSL) {
+							@SuppressWarnings("unused")
+							HttpsURLConnection httpsConn = (HttpsURLConnection) httpConn;
+						}
+
+						if (header != null) {
+							for ( Map.Entry<String, Object> entry : header.entrySet() ) {
+                                httpConn.setRequestProperty(entry.getKey(), String.valueOf(entry.getValue()));
+                            }
+						}
+
+						int nStatus = httpConn.getResponseCode();
+                        logger.info("{} 에 대한 GET 상태: {}", sUrl, nStatus);
+
+                        String sResponse = getResponseBody(sUrl, httpConn);
+
+                        Map<String, List<String>> resHeader = httpConn.getHeaderFields();
+
+                        Map<String, Object> map = new HashMap<>();
+                        map.put(STATUS_KEY, nStatus);
+                        map.put(BODY_KEY, sResponse);
+                        map.put(HEADERS_KEY, resHeader);
+                        return map;
+					} finally {
+						httpConn.disconnect();
+					}
+				});
+			} catch (IOException e) {
+				logger.error("{} 에 대한 GET 요청 중 IO 오류 발생: {}", sUrl, e.getMessage(), e);
+			}
 
-				if (isSSL) {
-					@SuppressWarnings("unused")
-					HttpsURLConnection httpsConn = (HttpsURLConnection) httpConn;
-				}
+			return resMap;
+		}
 
-				if (header != null) {
-					for ( Map.Entry<String, Object> entry : header.entrySet() ) {
-                        httpConn.setRequestProperty(entry.getKey(), String.valueOf(entry.getValue()));
-                    }
-				}
+		/**
+		 * 응답 캐시를 거친 GET (캐시 적중, 304 재검증이면 캐시된 본문)
+		 */
+		private static Map<String, Object> cachedGetMap(HttpResponseCache cache, boolean isSSL, URL url, String sUrl,
+				Map<String, Object> header, int timeoutMillis) {
 
-				int nStatus = httpConn.getResponseCode();
-                logger.info("{} 에 대한 GET 상태: {}", sUrl, nStatus);
+			Map<String, Object> resMap = new HashMap<>();
 
-                String sResponse = getResponseBody(sUrl, httpConn);
+			Map<String, String> reqHeader = new LinkedHashMap<>();
+			if (header != null) {
+				for ( Map.Entry<String, Object> entry : header.entrySet() ) {
+					reqHeader.put(entry.getKey(), String.valueOf(entry.getValue()));
+				}
+			}
 
-                Map<String, List<String>> resHeader = httpConn.getHeaderFields();
+			try {
+				HttpResponseCache.Response cached = cache.get(sUrl, reqHeader, conditionalHeaders -> guarded(sUrl, GET_METHOD, () -> {
+					HttpURLConnection httpConn = (HttpURLConnection) getURLConnection(url, timeoutMillis);
+					try {
+						httpConn.setRequestMethod(GET_METHOD);
+
+						if (isSSL) {
+							@SuppressWarnings("unused")
+							HttpsURLConnection httpsConn = (HttpsURLConnection) httpConn;
+						}
+
+						for ( Map.Entry<String, String> entry : reqHeader.entrySet() ) {
+							httpConn.setRequestProperty(entry.getKey(), entry.getValue());
+						}
+						for ( Map.Entry<String, String> entry : conditionalHeaders.entrySet() ) {
+							httpConn.setRequestProperty(entry.getKey(), entry.getValue());
+						}
+
+						int nStatus = httpConn.getResponseCode();
+						logger.info("{} 에 대한 GET 상태: {}", sUrl, nStatus);
+
+						// 304 는 본문이 없음
+						String sResponse = (nStatus == HttpURLConnection.HTTP_NOT_MODIFIED) ? "" : getResponseBody(sUrl, httpConn);
+
+						Map<String, String> resHeader = new LinkedHashMap<>();
+						for ( Map.Entry<String, List<String>> entry : httpConn.getHeaderFields().entrySet() ) {
+							// 상태 줄(키가 null)은 제외
+							if (entry.getKey() != null) {
+								resHeader.put(entry.getKey(), String.join(", ", entry.getValue()));
+							}
+						}
+						return new HttpResponseCache.Response(nStatus, sResponse, resHeader);
+					} finally {
+						httpConn.disconnect();
+					}
+				}, res -> HttpResilience.isFailureStatus(res.getStatus())));
 
-                resMap.put(STATUS_KEY, nStatus);
-                resMap.put(BODY_KEY, sResponse);
-                resMap.put(HEADERS_KEY, resHeader);
+				Map<String, List<String>> resHeader = new LinkedHashMap<>();
+				for ( Map.Entry<String, String> entry : cached.getHeaders().entrySet() ) {
+					resHeader.put(entry.getKey(), Collections.singletonList(entry.getValue()));
+				}
 
+				resMap.put(STATUS_KEY, cached.getStatus());
+				resMap.put(BODY_KEY, cached.getBody());
+				resMap.put(HEADERS_KEY, resHeader);
 			} catch (IOException e) {
 				logger.error("{} 에 대한 GET 요청 중 IO 오류 발생: {}", sUrl, e.getMessage(), e);
-			} finally {
-				if (httpConn != null) {
-                    httpConn.disconnect();
-                }
 			}
-
 			return resMap;
 		}
 
@@ -171,7 +446,7 @@ public class HttpConnectionUtil {
 			String sResponse = "";
 
 			try (
-            		InputStream is = httpConn.getInputStream();
+            		InputStream is = decodeBody(httpConn, httpConn.getInputStream());
                     InputStreamReader isr = new InputStreamReader(is, DEFAULT_CHARSET);
                     BufferedReader br = new BufferedReader(isr)
             ) {
@@ -188,7 +463,7 @@ public class HttpConnectionUtil {
 
 				// 오류 스트림이 있다면 읽어오기 시도
 				try (
-				   InputStream errorStream = httpConn.getErrorStream();
+				   InputStream errorStream = decodeBody(httpConn, httpConn.getErrorStream());
 				   InputStreamReader errorIsr = new InputStreamReader(errorStream, DEFAULT_CHARSET);
 				   BufferedReader errorBr = new BufferedReader(errorIsr)
 				) {
@@ -314,59 +589,61 @@ public class HttpConnectionUtil {
                 return resMap;
             }
 
-            HttpURLConnection httpConn = null;
+            URL connUrl = url;
             try {
-                httpConn = (HttpURLConnection) getURLConnection(url, timeoutMillis);
+                resMap = guardedMap(sUrl, POST_METHOD, () -> {
+                    HttpURLConnection httpConn = (HttpURLConnection) getURLConnection(connUrl, timeoutMillis);
+                    try {
+                        httpConn.setRequestMethod(POST_METHOD);
+
+                        if (isSSL) {
+							@SuppressWarnings("unused")
+							HttpsURLConnection httpsConn = (HttpsURLConnection) httpConn;
+						}
+
+                        // POST 요청의 기본 Content-Type 설정
+                        httpConn.setRequestProperty(CONTENT_TYPE, "application/x-www-form-urlencoded");
+                        httpConn.setDoOutput(true); // POST 요청을 위해 출력 스트림 활성화
+
+                        // 요청 헤더 설정
+                        if (header != null) {
+                            for (Map.Entry<String, Object> entry : header.entrySet()) {
+                                httpConn.setRequestProperty(entry.getKey(), String.valueOf(entry.getValue()));
+                            }
+                        }
 
-                httpConn.setRequestMethod(POST_METHOD);
+                        // 파라미터가 있다면 출력 스트림을 통해 전송
+                        if (param != null && !param.isEmpty()) {
+                            String sParam = convertParam(param);
+                            Charset effectiveCharset = (charset != null) ? charset : StandardCharsets.UTF_8; // 문자셋 선택
+                            // try-with-resources를 사용하여 OutputStream 자동 닫기
+                            try (OutputStream os = httpConn.getOutputStream()) {
+                                os.write(sParam.getBytes(effectiveCharset)); // 파라미터 바이트로 변환하여 쓰기
+                            }
+                        }
 
-                if (isSSL) {
-					@SuppressWarnings("unused")
-					HttpsURLConnection httpsConn = (HttpsURLConnection) httpConn;
-				}
+                        // 응답 상태 코드 가져오기
+                        int nStatus = httpConn.getResponseCode();
+                        logger.info("{} 에 대한 POST 상태: {}", sUrl, nStatus);
 
-                // POST 요청의 기본 Content-Type 설정
-                httpConn.setRequestProperty(CONTENT_TYPE, "application/x-www-form-urlencoded");
-                httpConn.setDoOutput(true); // POST 요청을 위해 출력 스트림 활성화
+                        String sResponse = postResponseBody(sUrl, httpConn);
 
-                // 요청 헤더 설정
-                if (header != null) {
-                    for (Map.Entry<String, Object> entry : header.entrySet()) {
-                        httpConn.setRequestProperty(entry.getKey(), String.valueOf(entry.getValue()));
-                    }
-                }
+                        // 응답 헤더 가져오기
+                        Map<String, List<String>> resHeader = httpConn.getHeaderFields();
 
-                // 파라미터가 있다면 출력 스트림을 통해 전송
-                if (param != null && !param.isEmpty()) {
-                    String sParam = convertParam(param);
-                    Charset effectiveCharset = (charset != null) ? charset : StandardCharsets.UTF_8; // 문자셋 선택
-                    // try-with-resources를 사용하여 OutputStream 자동 닫기
-                    try (OutputStream os = httpConn.getOutputStream()) {
-                        os.write(sParam.getBytes(effectiveCharset)); // 파라미터 바이트로 변환하여 쓰기
+                        // 결과 맵에 상태 코드, 본문, 헤더 추가
+                        Map<String, Object> map = new HashMap<>();
+                        map.put(STATUS_KEY, nStatus);
+                        map.put(BODY_KEY, sResponse);
+                        map.put(HEADERS_KEY, resHeader);
+                        return map;
+                    } finally {
+                        // HttpURLConnection 연결 해제
+                        httpConn.disconnect();
                     }
-                }
-
-                // 응답 상태 코드 가져오기
-                int nStatus = httpConn.getResponseCode();
-                logger.info("{} 에 대한 POST 상태: {}", sUrl, nStatus);
-
-                String sResponse = postResponseBody(sUrl, httpConn);
-
-                // 응답 헤더 가져오기
-                Map<String, List<String>> resHeader = httpConn.getHeaderFields();
-
-                // 결과 맵에 상태 코드, 본문, 헤더 추가
-                resMap.put(STATUS_KEY, nStatus);
-                resMap.put(BODY_KEY, sResponse);
-                resMap.put(HEADERS_KEY, resHeader);
-
+                });
             } catch (IOException e) {
                 logger.error("{} 에 대한 POST 요청 중 IO 오류 발생: {}", sUrl, e.getMessage(), e);
-            } finally {
-                // HttpURLConnection 연결 해제
-                if (httpConn != null) {
-                    httpConn.disconnect();
-                }
             }
             return resMap;
         }
@@ -375,7 +652,7 @@ public class HttpConnectionUtil {
 			String sResponse = "";
 
 			try (
-					InputStream is = httpConn.getInputStream();
+					InputStream is = decodeBody(httpConn, httpConn.getInputStream());
                     InputStreamReader isr = new InputStreamReader(is, DEFAULT_CHARSET);
                     BufferedReader br = new BufferedReader(isr)
 			) {
@@ -389,7 +666,7 @@ public class HttpConnectionUtil {
 			} catch (IOException e) {
                logger.error(LOG_IO_EXCEPTION1, sUrl, e);
                // 오류 스트림이 있다면 읽어오기 시도
-               try (InputStream errorStream = httpConn.getErrorStream();
+               try (InputStream errorStream = decodeBody(httpConn, httpConn.getErrorStream());
                     InputStreamReader errorIsr = new InputStreamReader(errorStream, DEFAULT_CHARSET);
                     BufferedReader errorBr = new BufferedReader(errorIsr)) {
                    StringBuilder errorResponseBuilder = new StringBuilder();
@@ -543,54 +820,55 @@ public class HttpConnectionUtil {
                 return resMap;
             }
 
-            HttpURLConnection httpConn = null;
+            URL connUrl = url;
 			try {
-				httpConn = (HttpURLConnection) getURLConnection(url, timeoutMillis);
-
-				httpConn.setRequestMethod(POST_METHOD);
-
-                if (isSSL) {
-					@SuppressWarnings("unused")
-					HttpsURLConnection httpsConn = (HttpsURLConnection) httpConn;
-				}
-
-				if (isJson) {
-                    httpConn.setRequestProperty(CONTENT_TYPE, "application/json");
-                } else {
-                    httpConn.setRequestProperty(CONTENT_TYPE, "application/xml");
-                }
+				resMap = guardedMap(sUrl, POST_METHOD, () -> {
+					HttpURLConnection httpConn = (HttpURLConnection) getURLConnection(connUrl, timeoutMillis);
+					try {
+						httpConn.setRequestMethod(POST_METHOD);
+
+                        if (isSSL) {
+							@SuppressWarnings("unused")
+							HttpsURLConnection httpsConn = (HttpsURLConnection) httpConn;
+						}
+
+						if (isJson) {
+                            httpConn.setRequestProperty(CONTENT_TYPE, "application/json");
+                        } else {
+                            httpConn.setRequestProperty(CONTENT_TYPE, "application/xml");
+                        }
 
-				// Default : Get - true, Post - false
-				httpConn.setDoOutput(true); // POST 요청을 위해 출력 스트림 활성화
+						// Default : Get - true, Post - false
+						httpConn.setDoOutput(true); // POST 요청을 위해 출력 스트림 활성화
 
-				if (header != null) {
-                    for (Map.Entry<String, Object> entry : header.entrySet()) {
-                        httpConn.setRequestProperty(entry.getKey(), String.valueOf(entry.getValue()));
-                    }
-                }
+						if (header != null) {
+                            for (Map.Entry<String, Object> entry : header.entrySet()) {
+                                httpConn.setRequestProperty(entry.getKey(), String.valueOf(entry.getValue()));
+                            }
+                        }
 
-				try ( OutputStream os = httpConn.getOutputStream() ) {
-                    os.write(payload.getBytes(DEFAULT_CHARSET)); // 페이로드 바이트로 변환하여 쓰기
-                }
+						writeBody(httpConn, payload.getBytes(DEFAULT_CHARSET)); // 페이로드 바이트로 변환하여 쓰기
 
-				int nStatus = httpConn.getResponseCode();
-				logger.info("{} 에 대한 Raw POST 상태: {}", sUrl, nStatus);
+						int nStatus = httpConn.getResponseCode();
+						logger.info("{} 에 대한 Raw POST 상태: {}", sUrl, nStatus);
 
-				String sResponse = rawResponseBody(sUrl, httpConn);
+						String sResponse = rawResponseBody(sUrl, httpConn);
 
-                // 응답 헤더 가져오기
-                Map<String, List<String>> resHeader = httpConn.getHeaderFields();
+                        // 응답 헤더 가져오기
+                        Map<String, List<String>> resHeader = httpConn.getHeaderFields();
 
-                // 결과 맵에 상태 코드, 본문, 헤더 추가
-                resMap.put(STATUS_KEY, nStatus);
-                resMap.put(BODY_KEY, sResponse);
-                resMap.put(HEADERS_KEY, resHeader);
+                        // 결과 맵에 상태 코드, 본문, 헤더 추가
+                        Map<String, Object> map = new HashMap<>();
+                        map.put(STATUS_KEY, nStatus);
+                        map.put(BODY_KEY, sResponse);
+                        map.put(HEADERS_KEY, resHeader);
+                        return map;
+					} finally {
+						httpConn.disconnect();
+					}
+				});
 			} catch (IOException e) {
 				logger.error("{} 에 대한 RAW POST 요청 중 IO 오류 발생: {}", sUrl, e.getMessage(), e);
-			} finally {
-				if (httpConn != null) {
-                    httpConn.disconnect();
-                }
 			}
 
 			return resMap;
@@ -600,7 +878,7 @@ public class HttpConnectionUtil {
 			String sResponse = "";
 
 			try (
-					InputStream is = httpConn.getInputStream();
+					InputStream is = decodeBody(httpConn, httpConn.getInputStream());
 					InputStreamReader isr = new InputStreamReader(is, DEFAULT_CHARSET);
 					BufferedReader br = new BufferedReader(isr)
 			) {
@@ -615,7 +893,7 @@ public class HttpConnectionUtil {
             } catch (IOException e) {
                 logger.error(LOG_IO_EXCEPTION1, sUrl, e);
                 // 오류 스트림이 있다면 읽어오기 시도
-                try (InputStream errorStream = httpConn.getErrorStream();
+                try (InputStream errorStream = decodeBody(httpConn, httpConn.getErrorStream());
                      InputStreamReader errorIsr = new InputStreamReader(errorStream, DEFAULT_CHARSET);
                      BufferedReader errorBr = new BufferedReader(errorIsr)) {
                     StringBuilder errorResponseBuilder = new StringBuilder();
@@ -719,15 +997,535 @@ public class HttpConnectionUtil {
 			super();
 		}
 
-		// XXX - https://blog.morizyun.com/blog/android-httpurlconnection-post-multipart/
-		// Multipart 요청 구현은 경계(boundary) 처리 및 파일 스트리밍 때문에 복잡합니다.
-        // 복잡한 Multipart 요청이 자주 필요하다면 Apache HttpClient 또는 OkHttp와 같은
-        // 전용 HTTP 클라이언트 라이브러리를 사용하는 것을 권장합니다.
-        // 수동 구현 시 다음을 포함합니다:
-        // 1. 고유한 경계 문자열 생성.
-        // 2. "Content-Type" 헤더를 "multipart/form-data; boundary=<경계>"로 설정.
-        // 3. 각 파트(폼 필드, 파일)를 OutputStream에 "--<경계>"로 시작하고 "\r\n"으로 끝내서 작성.
-        // 4. 요청을 "--<경계>--\r\n"으로 종료.
+		private static final String CRLF = "\r\n";
+
+		/**
+		 * 파트 하나 (file 이 null 이면 head 에 값까지 포함된 텍스트 파트)
+		 */
+		private static class Part {
+			private final byte[] head;
+			private final File file;
+			private final long fileLength;
+
+			Part(byte[] head, File file) {
+				this.head = head;
+				this.file = file;
+				this.fileLength = (file != null) ? file.length() : 0;
+			}
+
+			long length() {
+				// 파일 파트는 내용 뒤에 CRLF
+				return (file != null) ? head.length + fileLength + CRLF.length() : head.length;
+			}
+		}
+
+		/**
+		 * <pre>
+		 * StatusCode, Body, Headers
+		 *  - 키 : HttpConnectionUtil.STATUS_KEY, HttpConnectionUtil.BODY_KEY, HttpConnectionUtil.HEADERS_KEY
+		 * </pre>
+		 * @param isSSL
+		 * @param sUrl
+		 * @param header
+		 * @param param
+		 * @param fileParamKey
+		 * @param file
+		 * @param timeoutMillis
+		 * @return
+		 */
+		public static Map<String, Object> multipartMap(boolean isSSL, String sUrl, Map<String, Object> header, Map<String, Object> param,
+				String fileParamKey, File file, int timeoutMillis) {
+
+			if (file == null) {
+				throw new IllegalArgumentException("File cannot be null.");
+			}
+
+			return multipartMap(isSSL, sUrl, header, param, fileParamKey, Collections.singletonList(file), timeoutMillis, null);
+		}
+
+		/**
+		 * <pre>
+		 * 여러 파일을 같은 파라미터 이름으로 업로드
+		 *  - 본문 길이를 미리 계산하여 고정 길이로 전송 (HttpURLConnection 이 본문 전체를 메모리에 모으지 않음)
+		 *  - 파일은 고정 크기 버퍼로 복사하므로 파일 크기와 관계없이 메모리 사용량이 일정
+		 *  - 전송 중 파일 크기가 바뀌면 IOException (빈 Map 반환)
+		 * </pre>
+		 * @param isSSL
+		 * @param sUrl
+		 * @param header
+		 * @param param
+		 * @param fileParamKey
+		 * @param files
+		 * @param timeoutMillis
+		 * @param listener 진행 알림 (null 가능)
+		 * @return
+		 */
+		public static Map<String, Object> multipartMap(boolean isSSL, String sUrl, Map<String, Object> header, Map<String, Object> param,
+				String fileParamKey, List<File> files, int timeoutMillis, HttpProgressListener listener) {
+
+			Objects.requireNonNull(sUrl, URL_IS_NULL);
+			if ( sUrl.trim().isEmpty() ) {
+			    throw new IllegalArgumentException(URL_IS_NULL);
+			}
+
+			Objects.requireNonNull(fileParamKey, ExceptionMessage.isNull("fileParamKey"));
+			if ( fileParamKey.trim().isEmpty() ) {
+			    throw new IllegalArgumentException(ExceptionMessage.isNull("fileParamKey"));
+			}
+
+			if ( files == null || files.isEmpty() ) {
+				throw new IllegalArgumentException("Files cannot be null or empty.");
+			}
+
+			for (File file : files) {
+				if ( file == null || !file.exists() || !file.isFile() ) {
+					throw new IllegalArgumentException("File does not exist or is not a regular file: " + file);
+				}
+			}
+
+			Map<String, Object> resMap = new HashMap<>();
+            URL url = null;
+
+            try {
+                URI uri = new URI(sUrl);
+                url = uri.toURL();
+            } catch (URISyntaxException | MalformedURLException e) {
+                logger.error(LOG_INVALID_URL, sUrl, e);
+                return resMap;
+            }
+
+            String sBoundary = "----CommonJava" + UUID.randomUUID().toString().replace("-", "");
+            List<Part> parts = toParts(sBoundary, param, fileParamKey, files);
+            byte[] closing = ("--" + sBoundary + "--" + CRLF).getBytes(StandardCharsets.UTF_8);
+
+            long lContentLength = closing.length;
+            for (Part part : parts) {
+            	lContentLength += part.length();
+            }
+            long lTotal = lContentLength;
+
+            URL connUrl = url;
+			try {
+				resMap = guardedMap(sUrl, POST_METHOD, () -> {
+					HttpURLConnection httpConn = (HttpURLConnection) getURLConnection(connUrl, timeoutMillis);
+					try {
+						httpConn.setRequestMethod(POST_METHOD);
+
+						if (isSSL) {
+							@SuppressWarnings("unused")
+							HttpsURLConnection httpsConn = (HttpsURLConnection) httpConn;
+						}
+
+						httpConn.setRequestProperty(CONTENT_TYPE, "multipart/form-data; boundary=" + sBoundary);
+						httpConn.setDoOutput(true);
+
+						if (header != null) {
+							for (Map.Entry<String, Object> entry : header.entrySet()) {
+								httpConn.setRequestProperty(entry.getKey(), String.valueOf(entry.getValue()));
+							}
+						}
+
+						// 길이를 지정하지 않으면 HttpURLConnection 이 본문 전체를 메모리에 모은 뒤 전송
+						httpConn.setFixedLengthStreamingMode(lTotal);
+
+						try ( OutputStream os = httpConn.getOutputStream() ) {
+							writeParts(os, parts, closing, lTotal, listener);
+						}
+
+						int nStatus = httpConn.getResponseCode();
+						logger.info("{} 에 대한 Multipart POST 상태: {}", sUrl, nStatus);
+
+						String sResponse = PostRequest.postResponseBody(sUrl, httpConn);
+
+						Map<String, Object> map = new HashMap<>();
+						map.put(STATUS_KEY, nStatus);
+						map.put(BODY_KEY, sResponse);
+						map.put(HEADERS_KEY, httpConn.getHeaderFields());
+						return map;
+					} finally {
+						httpConn.disconnect();
+					}
+				});
+			} catch (IOException e) {
+				logger.error("{} 에 대한 Multipart POST 요청 중 IO 오류 발생: {}", sUrl, e.getMessage(), e);
+			}
+
+			return resMap;
+		}
+
+		public static String multipart(boolean isSSL, String sUrl, Map<String, Object> header, Map<String, Object> param,
+				String fileParamKey, File file, int timeoutMillis) {
+
+			Map<String, Object> resMap = multipartMap(isSSL, sUrl, header, param, fileParamKey, file, timeoutMillis);
+			return (resMap.isEmpty() || !resMap.containsKey(BODY_KEY)) ? "" : resMap.get(BODY_KEY).toString();
+		}
+
+		public static String multipart(boolean isSSL, String sUrl, Map<String, Object> header, Map<String, Object> param,
+				String fileParamKey, File file) {
+
+			return multipart(isSSL, sUrl, header, param, fileParamKey, file, DEFAULT_TIMEOUT_MILLIS);
+		}
+
+		private static List<Part> toParts(String sBoundary, Map<String, Object> param, String fileParamKey, List<File> files) {
+			List<Part> parts = new ArrayList<>();
+
+			if (param != null) {
+				for (Map.Entry<String, Object> entry : param.entrySet()) {
+					String sHead = "--" + sBoundary + CRLF
+							+ "Content-Disposition: form-data; name=\"" + quote(entry.getKey()) + "\"" + CRLF
+							+ "Content-Type: text/plain; charset=UTF-8" + CRLF
+							+ CRLF
+							+ entry.getValue() + CRLF;
+					parts.add(new Part(sHead.getBytes(StandardCharsets.UTF_8), null));
+				}
+			}
+
+			for (File file : files) {
+				String sHead = "--" + sBoundary + CRLF
+						+ "Content-Disposition: form-data; name=\"" + quote(fileParamKey) + "\"; filename=\"" + quote(file.getName()) + "\"" + CRLF
+						+ "Content-Type: application/octet-stream" + CRLF
+						+ CRLF;
+				parts.add(new Part(sHead.getBytes(StandardCharsets.UTF_8), file));
+			}
+
+			return parts;
+		}
+
+		/**
+		 * 헤더 값의 따옴표, 줄바꿈 처리 (브라우저와 같은 방식)
+		 */
+		private static String quote(String sValue) {
+			return sValue.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+		}
+
+		private static void writeParts(OutputStream os, List<Part> parts, byte[] closing, long lTotal, HttpProgressListener listener) throws IOException {
+			byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+			byte[] crlf = CRLF.getBytes(StandardCharsets.UTF_8);
+			long lSent = 0;
+
+			for (Part part : parts) {
+				os.write(part.head);
+				lSent += part.head.length;
+
+				if (part.file != null) {
+					long lFileSent = 0;
+					try ( InputStream is = Files.newInputStream(part.file.toPath()) ) {
+						int nRead;
+						while ( (nRead = is.read(buffer)) != -1 ) {
+							lFileSent += nRead;
+							if (lFileSent > part.fileLength) {
+								throw new IOException("전송 중 파일 크기가 바뀌었습니다: " + part.file);
+							}
+
+							os.write(buffer, 0, nRead);
+							lSent += nRead;
+							if (listener != null) {
+								listener.onProgress(lSent, lTotal);
+							}
+						}
+					}
+
+					if (lFileSent != part.fileLength) {
+						throw new IOException("전송 중 파일 크기가 바뀌었습니다: " + part.file);
+					}
+
+					os.write(crlf);
+					lSent += crlf.length;
+				}
+			}
+
+			os.write(closing);
+			lSent += closing.length;
+			if (listener != null) {
+				listener.onProgress(lSent, lTotal);
+			}
+		}
+	}
+
+
+	/**
+	 * <pre>
+	 * 응답 본문을 String 으로 모으지 않는 스트리밍 호출 (대용량 다운로드, 큰 JSON 응답)
+	 *  - GetRequest, RawRequest 등의 String 본문은 작은 응답에만 사용
+	 *  - 본문은 고정 크기 버퍼로 복사하므로 응답 크기와 관계없이 메모리 사용량이 일정
+	 *  - 다른 호출과 달리 오류를 빈 Map 으로 감추지 않고 IOException 으로 던짐 (일부만 쓰인 출력을 알 수 있도록)
+	 *  - 상태 코드와 관계없이 본문을 전달 (4xx, 5xx 이면 오류 스트림)
+	 *  - 본문을 끝까지 읽으면 연결을 끊지 않으므로 JDK Keep-Alive 캐시에서 재사용됨
+	 * </pre>
+	 */
+	public static class StreamRequest {
+		private StreamRequest() {
+			super();
+		}
+
+		/**
+		 * 응답 본문 InputStream 을 handler 에 전달
+		 * @param isSSL
+		 * @param sUrl
+		 * @param header
+		 * @param timeoutMillis
+		 * @param handler
+		 * @return handler 의 반환 값
+		 * @throws IOException
+		 */
+		public static <T> T get(boolean isSSL, String sUrl, Map<String, Object> header, int timeoutMillis, HttpBodyHandler<T> handler) throws IOException {
+			Objects.requireNonNull(handler, "handler 는 null일 수 없습니다.");
+
+			return execute(isSSL, sUrl, header, timeoutMillis, null, (httpConn, nStatus, body) -> handler.handle(nStatus, body));
+		}
+
+		/**
+		 * <pre>
+		 * 응답 본문을 OutputStream 에 씀 (OutputStream 은 닫지 않음)
+		 * StatusCode, Headers, 본문 바이트 수
+		 *  - 키 : HttpConnectionUtil.STATUS_KEY, HttpConnectionUtil.HEADERS_KEY, HttpConnectionUtil.BODY_LENGTH_KEY
+		 * </pre>
+		 * @param isSSL
+		 * @param sUrl
+		 * @param header
+		 * @param timeoutMillis
+		 * @param out
+		 * @return
+		 * @throws IOException
+		 */
+		public static Map<String, Object> getToStream(boolean isSSL, String sUrl, Map<String, Object> header, int timeoutMillis, OutputStream out) throws IOException {
+			Objects.requireNonNull(out, "out 은 null일 수 없습니다.");
+
+			return execute(isSSL, sUrl, header, timeoutMillis, null, (httpConn, nStatus, body) -> {
+				long lLength = copy(body, out);
+				return streamResult(httpConn, nStatus, lLength);
+			});
+		}
+
+		/**
+		 * <pre>
+		 * 응답 본문을 파일에 씀
+		 *  - 같은 디렉토리의 임시 파일에 받은 뒤 이동하므로, 실패해도 기존 파일이 깨지거나 일부만 쓰인 파일이 남지 않음
+		 * StatusCode, Headers, 본문 바이트 수
+		 *  - 키 : HttpConnectionUtil.STATUS_KEY, HttpConnectionUtil.HEADERS_KEY, HttpConnectionUtil.BODY_LENGTH_KEY
+		 * </pre>
+		 * @param isSSL
+		 * @param sUrl
+		 * @param header
+		 * @param timeoutMillis 읽기 간격 기준이므로 전체 다운로드 시간은 제한하지 않음
+		 * @param path
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 IOException (파일은 그대로 둠)
+		 */
+		public static Map<String, Object> getToFile(boolean isSSL, String sUrl, Map<String, Object> header, int timeoutMillis, Path path) throws IOException {
+			Objects.requireNonNull(path, "path 는 null일 수 없습니다.");
+
+			Path target = path.toAbsolutePath();
+			Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+			try {
+				Map<String, Object> resMap = execute(isSSL, sUrl, header, timeoutMillis, null, (httpConn, nStatus, body) -> {
+					// 오류 응답 본문으로 기존 파일을 덮어쓰지 않음
+					checkSuccess(nStatus, sUrl);
+					long lLength = Files.copy(body, temp, StandardCopyOption.REPLACE_EXISTING);
+					return streamResult(httpConn, nStatus, lLength);
+				});
+
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+				return resMap;
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+
+		/**
+		 * 응답 본문(JSON)을 String 으로 만들지 않고 스트림에서 바로 변환
+		 * @param isSSL
+		 * @param sUrl
+		 * @param header
+		 * @param timeoutMillis
+		 * @param clazz
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 IOException
+		 */
+		public static <T> T getJson(boolean isSSL, String sUrl, Map<String, Object> header, int timeoutMillis, Class<T> clazz) throws IOException {
+			Objects.requireNonNull(clazz, "clazz 는 null일 수 없습니다.");
+
+			return get(isSSL, sUrl, header, timeoutMillis, (nStatus, body) -> {
+				checkSuccess(nStatus, sUrl);
+				return JacksonUtil.FromStream.converterStreamToClass(body, clazz);
+			});
+		}
+
+		/**
+		 * 응답 본문(JSON)을 String 으로 만들지 않고 스트림에서 바로 변환
+		 * @param isSSL
+		 * @param sUrl
+		 * @param header
+		 * @param timeoutMillis
+		 * @param typeReference 제네릭 타입 (예: new TypeReference&lt;List&lt;Foo&gt;&gt;() {})
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 IOException
+		 */
+		public static <T> T getJson(boolean isSSL, String sUrl, Map<String, Object> header, int timeoutMillis, TypeReference<T> typeReference) throws IOException {
+			Objects.requireNonNull(typeReference, "typeReference 는 null일 수 없습니다.");
+
+			return get(isSSL, sUrl, header, timeoutMillis, (nStatus, body) -> {
+				checkSuccess(nStatus, sUrl);
+				return JacksonUtil.FromStream.converterStreamToType(body, typeReference);
+			});
+		}
+
+		public static <T> T getJson(boolean isSSL, String sUrl, Class<T> clazz) throws IOException {
+			return getJson(isSSL, sUrl, null, DEFAULT_TIMEOUT_MILLIS, clazz);
+		}
+
+		/**
+		 * <pre>
+		 * 요청 객체를 String 으로 만들지 않고 요청 스트림에 바로 JSON 으로 쓰고, 응답 본문(JSON)도 스트림에서 바로 변환
+		 *  - 본문 길이를 미리 알 수 없으므로 chunked 전송 (압축 기준 setRequestCompressionThreshold 는 적용하지 않음)
+		 * </pre>
+		 * @param isSSL
+		 * @param sUrl
+		 * @param header
+		 * @param body JSON 으로 변환할 요청 객체
+		 * @param timeoutMillis
+		 * @param clazz
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 IOException
+		 */
+		public static <T> T postJson(boolean isSSL, String sUrl, Map<String, Object> header, Object body, int timeoutMillis, Class<T> clazz) throws IOException {
+			Objects.requireNonNull(clazz, "clazz 는 null일 수 없습니다.");
+
+			return postJson(isSSL, sUrl, header, body, timeoutMillis, (nStatus, is) -> {
+				checkSuccess(nStatus, sUrl);
+				return JacksonUtil.FromStream.converterStreamToClass(is, clazz);
+			});
+		}
+
+		/**
+		 * 요청 객체를 요청 스트림에 바로 JSON 으로 쓰고, 응답 본문(JSON)도 스트림에서 바로 변환
+		 * @param isSSL
+		 * @param sUrl
+		 * @param header
+		 * @param body JSON 으로 변환할 요청 객체
+		 * @param timeoutMillis
+		 * @param typeReference 제네릭 타입 (예: new TypeReference&lt;List&lt;Foo&gt;&gt;() {})
+		 * @return
+		 * @throws IOException 2xx 가 아닌 응답이면 IOException
+		 */
+		public static <T> T postJson(boolean isSSL, String sUrl, Map<String, Object> header, Object body, int timeoutMillis, TypeReference<T> typeReference) throws IOException {
+			Objects.requireNonNull(typeReference, "typeReference 는 null일 수 없습니다.");
+
+			return postJson(isSSL, sUrl, header, body, timeoutMillis, (nStatus, is) -> {
+				checkSuccess(nStatus, sUrl);
+				return JacksonUtil.FromStream.converterStreamToType(is, typeReference);
+			});
+		}
+
+		public static <T> T postJson(boolean isSSL, String sUrl, Object body, TypeReference<T> typeReference) throws IOException {
+			return postJson(isSSL, sUrl, null, body, DEFAULT_TIMEOUT_MILLIS, typeReference);
+		}
+
+		private static <T> T postJson(boolean isSSL, String sUrl, Map<String, Object> header, Object body, int timeoutMillis, HttpBodyHandler<T> handler) throws IOException {
+			Objects.requireNonNull(body, "body 는 null일 수 없습니다.");
+
+			return execute(isSSL, sUrl, header, timeoutMillis, os -> JacksonUtil.ToStream.converterObjToStream(body, os),
+					(httpConn, nStatus, is) -> handler.handle(nStatus, is));
+		}
+
+		private static void checkSuccess(int nStatus, String sUrl) throws IOException {
+			if (nStatus < 200 || nStatus >= 300) {
+				throw new IOException(sUrl + " 에 대한 응답 상태가 올바르지 않습니다: " + nStatus);
+			}
+		}
+
+		private static Map<String, Object> streamResult(HttpURLConnection httpConn, int nStatus, long lLength) {
+			Map<String, Object> resMap = new HashMap<>();
+			resMap.put(STATUS_KEY, nStatus);
+			resMap.put(HEADERS_KEY, httpConn.getHeaderFields());
+			resMap.put(BODY_LENGTH_KEY, lLength);
+			return resMap;
+		}
+
+		private static long copy(InputStream is, OutputStream os) throws IOException {
+			byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+			long lTotal = 0;
+			int n;
+			while ( (n = is.read(buffer)) != -1 ) {
+				os.write(buffer, 0, n);
+				lTotal += n;
+			}
+			return lTotal;
+		}
+
+		private interface ResponseCallback<T> {
+			T apply(HttpURLConnection httpConn, int nStatus, InputStream body) throws IOException;
+		}
+
+		private interface BodyWriter {
+			void write(OutputStream os) throws IOException;
+		}
+
+		/**
+		 * @param writer 요청 본문 (null 이면 GET, 있으면 JSON POST)
+		 */
+		private static <T> T execute(boolean isSSL, String sUrl, Map<String, Object> header, int timeoutMillis, BodyWriter writer,
+				ResponseCallback<T> callback) throws IOException {
+			Objects.requireNonNull(sUrl, URL_IS_NULL);
+			if ( sUrl.trim().isEmpty() ) {
+			    throw new IllegalArgumentException(URL_IS_NULL);
+			}
+
+			URL url;
+			try {
+				url = new URI(sUrl).toURL();
+			} catch (URISyntaxException | IllegalArgumentException e) {
+				throw new MalformedURLException("잘못된 URL 또는 URI: " + sUrl);
+			}
+
+			// 본문을 이미 넘겨받은 callback 이 다시 호출되지 않도록 재시도하지 않고, 응답 헤더를 받은 시점에 결과 기록
+			return guardedStream(sUrl, recorder -> {
+				HttpURLConnection httpConn = (HttpURLConnection) getURLConnection(url, timeoutMillis);
+				boolean isCompleted = false;
+				try {
+					httpConn.setRequestMethod(writer == null ? GET_METHOD : POST_METHOD);
+
+					if ( isSSL && !(httpConn instanceof HttpsURLConnection) ) {
+						throw new IOException("https URL 이 아닙니다: " + sUrl);
+					}
+
+					if (writer != null) {
+						httpConn.setRequestProperty(CONTENT_TYPE, "application/json; charset=UTF-8");
+					}
+
+					if (header != null) {
+						for ( Map.Entry<String, Object> entry : header.entrySet() ) {
+							httpConn.setRequestProperty(entry.getKey(), String.valueOf(entry.getValue()));
+						}
+					}
+
+					if (writer != null) {
+						// 본문 전체를 HttpURLConnection 이 메모리에 모으지 않도록 chunked 전송
+						httpConn.setDoOutput(true);
+						httpConn.setChunkedStreamingMode(STREAM_BUFFER_SIZE);
+						try ( OutputStream os = httpConn.getOutputStream() ) {
+							writer.write(os);
+						}
+					}
+
+					int nStatus = httpConn.getResponseCode();
+					recorder.onResponse(nStatus);
+					logger.debug("{} 에 대한 스트리밍 {} 상태: {}", sUrl, httpConn.getRequestMethod(), nStatus);
+
+					InputStream is = decodeBody(httpConn, (nStatus >= 400) ? httpConn.getErrorStream() : httpConn.getInputStream());
+					try ( InputStream body = (is != null) ? is : new ByteArrayInputStream(new byte[0]) ) {
+						T result = callback.apply(httpConn, nStatus, body);
+						isCompleted = true;
+						return result;
+					}
+				} finally {
+					// 실패한 연결은 Keep-Alive 캐시에 남기지 않음
+					if (!isCompleted) {
+						httpConn.disconnect();
+					}
+				}
+			});
+		}
 	}
 
 }
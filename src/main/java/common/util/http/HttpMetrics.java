@@ -0,0 +1,48 @@
+package common.util.http;
+
+import java.net.URI;
+
+/**
+ * <pre>
+ * HTTP 호출 계측 SPI (HttpClientUtil.setMetrics 로 선택적으로 사용, 기본 구현은 InMemoryHttpMetrics)
+ *  - 호출마다 onRequestStart → onPhase (측정된 구간만) → onRequestEnd 순서로 호출
+ *  - 호출 스레드에서 바로 실행되므로 오래 걸리는 작업은 하지 않음 (예외는 기록만 하고 무시)
+ *
+ * 구간
+ *  - LEASE : 커넥션 풀에서 연결을 빌리기까지 기다린 시간 (새 연결 수립 시간 제외)
+ *  - CONNECT : TCP 연결 (새 연결일 때만)
+ *  - TLS : TLS 핸드셰이크 (새 HTTPS 연결일 때만)
+ *  - TTFB : 요청 전송 시작부터 응답 헤더 수신까지
+ *  - TOTAL : 호출 시작부터 응답 본문 처리 완료까지
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public interface HttpMetrics {
+
+	/**
+	 * 응답을 받기 전에 실패한 호출의 상태 값
+	 */
+	int STATUS_IO_ERROR = -1;
+
+	enum Phase {
+		LEASE, CONNECT, TLS, TTFB, TOTAL
+	}
+
+	void onRequestStart(URI uri, String sMethod);
+
+	void onPhase(URI uri, String sMethod, Phase phase, long lNanos);
+
+	/**
+	 * @param uri
+	 * @param sMethod
+	 * @param nStatus 응답 상태 코드 (응답 전에 실패하면 STATUS_IO_ERROR)
+	 */
+	void onRequestEnd(URI uri, String sMethod, int nStatus);
+
+}
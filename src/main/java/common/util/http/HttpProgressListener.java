@@ -0,0 +1,24 @@
+package common.util.http;
+
+/**
+ * <pre>
+ * 업로드 진행 알림 (전송 스레드에서 버퍼 단위로 호출되므로 오래 걸리는 작업은 하지 않음)
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+@FunctionalInterface
+public interface HttpProgressListener {
+
+	/**
+	 * @param lTransferred 지금까지 전송한 바이트
+	 * @param lTotal 전체 바이트 (알 수 없으면 -1)
+	 */
+	void onProgress(long lTransferred, long lTotal);
+
+}
@@ -0,0 +1,46 @@
+package common.util.http;
+
+import java.io.IOException;
+
+/**
+ * <pre>
+ * HttpResilience 가 호출하지 않고 거절한 경우
+ *  - IOException 이므로 HttpClientUtil, HttpConnectionUtil 의 기존 호출은 다른 입출력 오류처럼 빈 Map 을 반환
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class HttpRejectedException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	public enum Reason {
+		/** 서킷 브레이커가 OPEN (또는 HALF_OPEN 시험 호출 수 초과) */
+		CIRCUIT_OPEN,
+		/** 호스트 별 동시 호출 수 초과 */
+		BULKHEAD_FULL
+	}
+
+	private final String host;
+	private final Reason reason;
+
+	public HttpRejectedException(String host, Reason reason) {
+		super(host + " 호출 거절: " + reason);
+		this.host = host;
+		this.reason = reason;
+	}
+
+	public String getHost() {
+		return host;
+	}
+
+	public Reason getReason() {
+		return reason;
+	}
+
+}
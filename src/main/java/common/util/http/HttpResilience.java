@@ -0,0 +1,483 @@
+package common.util.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import javax.net.ssl.SSLException;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * 호스트(host:port) 별 장애 격리 (HttpClientUtil.setResilience, HttpConnectionUtil.setResilience 로 선택적으로 사용)
+ *  - 벌크헤드 : 호스트 별 동시 호출 수 제한, 초과하면 bulkheadWaitMillis 까지 기다린 뒤 거절
+ *  - 서킷 브레이커 : 실패율/느린 호출 비율이 기준을 넘으면 일정 시간 동안 바로 거절 (HttpCircuitBreaker)
+ *  - 재시도 : 멱등 메소드(GET, HEAD, PUT, DELETE, OPTIONS)만, 지수 백오프 + 지터 (0 ~ min(maxBackoff, baseBackoff * 2^n) 무작위)
+ *    연결 실패, 타임아웃, 5xx/429 응답은 재시도 / 호스트 이름 오류, SSL 오류, 중단(abort)된 요청, 거절은 재시도하지 않음
+ *  - 스트리밍 호출(executeStream)은 재시도하지 않고 응답 헤더를 받은 시점에 결과를 기록 (본문 처리 시간, 본문 처리 중 오류 제외)
+ *  - 거절은 HttpRejectedException (IOException) 으로 알림
+ *  - 상태 변경, 거절, 재시도는 Listener 와 카운터로 확인
+ *
+ * 설정은 처음 호출되는 호스트부터 적용 (이미 만들어진 호스트는 reset 후 적용)
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	스트리밍 호출은 응답 헤더 수신 시점에 결과 기록 (executeStream), 서킷 브레이커 상태 세대 전달
+ * </pre>
+ *
+ * <pre>
+ * 사용 예
+ *  HttpResilience resilience = new HttpResilience();
+ *  resilience.setBulkhead(20, 0);
+ *  resilience.setListener(new HttpResilience.Listener() { ... });
+ *  HttpClientUtil.setResilience(resilience);
+ * </pre>
+ */
+public class HttpResilience {
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpResilience.class);
+
+	/**
+	 * 호출
+	 */
+	@FunctionalInterface
+	public interface Call<T> {
+		T call() throws IOException;
+	}
+
+	/**
+	 * 응답 헤더를 받은 시점에 결과를 기록하는 호출 (스트리밍 응답)
+	 */
+	@FunctionalInterface
+	public interface StreamCall<T> {
+		/**
+		 * @param recorder 응답 헤더를 받으면 본문을 처리하기 전에 호출
+		 * @return
+		 * @throws IOException
+		 */
+		T call(ResponseRecorder recorder) throws IOException;
+	}
+
+	/**
+	 * 응답 헤더 수신 알림 (처음 한 번만 기록)
+	 */
+	@FunctionalInterface
+	public interface ResponseRecorder {
+		void onResponse(int nStatus);
+	}
+
+	/**
+	 * 상태 변경, 거절, 재시도 알림 (호출 스레드에서 실행되므로 오래 걸리는 작업은 하지 않음)
+	 */
+	public interface Listener {
+		default void onStateChange(String sHost, HttpCircuitBreaker.State from, HttpCircuitBreaker.State to) {
+		}
+
+		default void onRejected(String sHost, HttpRejectedException.Reason reason) {
+		}
+
+		default void onRetry(String sHost, int nAttempt, long lBackoffMillis, String sCause) {
+		}
+	}
+
+	private volatile int maxRetries = 2;
+	private volatile long baseBackoffMillis = 100;
+	private volatile long maxBackoffMillis = 2000;
+
+	private volatile int maxConcurrentCalls = 50;
+	private volatile long bulkheadWaitMillis = 0;
+
+	private volatile int windowSize = 50;
+	private volatile int minimumCalls = 20;
+	private volatile double failureRateThreshold = 50;
+	private volatile long slowCallMillis = 3000;
+	private volatile double slowCallRateThreshold = 80;
+	private volatile long openWaitMillis = 30 * 1000L;
+	private volatile int halfOpenCalls = 5;
+
+	private volatile Listener listener;
+
+	private final ConcurrentHashMap<String, HostGuard> guards = new ConcurrentHashMap<>();
+
+	private final LongAdder circuitRejections = new LongAdder();
+	private final LongAdder bulkheadRejections = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+
+	/**
+	 * 호스트 하나의 벌크헤드와 서킷 브레이커
+	 */
+	private final class HostGuard {
+		private final String host;
+		private final int maxCalls;
+		private final Semaphore bulkhead;
+		private final HttpCircuitBreaker breaker;
+
+		HostGuard(String host) {
+			this.host = host;
+			this.maxCalls = maxConcurrentCalls;
+			this.bulkhead = new Semaphore(maxCalls);
+			this.breaker = new HttpCircuitBreaker(windowSize, minimumCalls, failureRateThreshold, slowCallMillis,
+					slowCallRateThreshold, openWaitMillis, halfOpenCalls, (from, to) -> onStateChange(host, from, to));
+		}
+
+		<T> T execute(Call<T> call, Predicate<? super T> isFailure) throws IOException {
+			return run(attempt -> {
+				T result = call.call();
+				attempt.record(isFailure != null && isFailure.test(result));
+				return result;
+			});
+		}
+
+		<T> T execute(StreamCall<T> call) throws IOException {
+			return run(call::call);
+		}
+
+		private <T> T run(GuardedCall<T> call) throws IOException {
+			try {
+				if ( !bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS) ) {
+					bulkheadRejections.increment();
+					throw reject(host, HttpRejectedException.Reason.BULKHEAD_FULL);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException(host + " 호출 대기 중 인터럽트되었습니다.");
+			}
+
+			try {
+				long lGeneration = breaker.tryAcquirePermission();
+				if (lGeneration == HttpCircuitBreaker.NOT_PERMITTED) {
+					circuitRejections.increment();
+					throw reject(host, HttpRejectedException.Reason.CIRCUIT_OPEN);
+				}
+
+				Attempt attempt = new Attempt(breaker, lGeneration);
+				T result;
+				try {
+					result = call.call(attempt);
+				} catch (IOException | RuntimeException e) {
+					// 응답 헤더를 받기 전의 오류만 실패로 기록
+					attempt.record(true);
+					throw e;
+				}
+
+				attempt.record(false);
+				return result;
+			} finally {
+				// 스트리밍 호출은 본문 처리가 끝날 때까지 연결을 사용하므로 그때 반납
+				bulkhead.release();
+			}
+		}
+	}
+
+	private interface GuardedCall<T> {
+		T call(Attempt attempt) throws IOException;
+	}
+
+	/**
+	 * 허용된 호출 하나의 결과 기록 (처음 한 번만, 호출 스레드에서만 사용)
+	 */
+	private static final class Attempt implements ResponseRecorder {
+		private final HttpCircuitBreaker breaker;
+		private final long generation;
+		private final long startNanos = System.nanoTime();
+		private boolean isRecorded;
+
+		Attempt(HttpCircuitBreaker breaker, long lGeneration) {
+			this.breaker = breaker;
+			this.generation = lGeneration;
+		}
+
+		@Override
+		public void onResponse(int nStatus) {
+			record(isFailureStatus(nStatus));
+		}
+
+		void record(boolean isFailure) {
+			if (!isRecorded) {
+				isRecorded = true;
+				breaker.onResult(generation, isFailure, System.nanoTime() - startNanos);
+			}
+		}
+	}
+
+	/**
+	 * 호출 실행 (거절, 재시도, 결과 기록)
+	 * @param uri 호스트 판별용
+	 * @param sMethod HTTP 메소드 (멱등 메소드만 재시도, null 이면 재시도하지 않음)
+	 * @param call 재시도 시 다시 호출되므로 매번 새 요청을 보내야 함
+	 * @param isFailure 응답을 실패로 볼지 여부 (예: 5xx, null 이면 예외만 실패)
+	 * @return 재시도가 끝나도 실패 응답이면 마지막 응답
+	 * @throws IOException 거절이면 HttpRejectedException, 그 외 마지막 호출의 오류
+	 */
+	public <T> T execute(URI uri, String sMethod, Call<T> call, Predicate<? super T> isFailure) throws IOException {
+		Objects.requireNonNull(uri, "uri 는 null일 수 없습니다.");
+		Objects.requireNonNull(call, "call 은 null일 수 없습니다.");
+
+		String sHost = hostOf(uri);
+		HostGuard guard = guards.computeIfAbsent(sHost, HostGuard::new);
+		int nMaxAttempts = isIdempotent(sMethod) ? maxRetries + 1 : 1;
+
+		for (int nAttempt = 1; ; nAttempt++) {
+			String sCause;
+			try {
+				T result = guard.execute(call, isFailure);
+				if ( nAttempt >= nMaxAttempts || isFailure == null || !isFailure.test(result) ) {
+					return result;
+				}
+				sCause = "failure response";
+			} catch (IOException e) {
+				if ( nAttempt >= nMaxAttempts || !isRetryable(e) ) {
+					throw e;
+				}
+				sCause = e.toString();
+			}
+
+			long lBackoffMillis = backoffMillis(nAttempt);
+			retries.increment();
+			logger.debug("{} 재시도 {}/{} ({}ms 후): {}", sHost, nAttempt, nMaxAttempts - 1, lBackoffMillis, sCause);
+
+			Listener l = listener;
+			if (l != null) {
+				l.onRetry(sHost, nAttempt, lBackoffMillis, sCause);
+			}
+
+			try {
+				Thread.sleep(lBackoffMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException(sHost + " 재시도 대기 중 인터럽트되었습니다.");
+			}
+		}
+	}
+
+	/**
+	 * 스트리밍 호출 실행 (거절, 결과 기록, 본문을 이미 넘겨받았을 수 있으므로 재시도하지 않음)
+	 *  - recorder.onResponse 시점에 상태 코드로 결과를 기록하므로 본문 처리 시간과 본문 처리 중 오류는 반영하지 않음
+	 *  - onResponse 전에 실패하면 실패, onResponse 없이 끝나면 성공으로 기록
+	 *  - 벌크헤드는 본문 처리가 끝날 때까지 유지
+	 * @param uri 호스트 판별용
+	 * @param call
+	 * @return
+	 * @throws IOException 거절이면 HttpRejectedException, 그 외 호출의 오류
+	 */
+	public <T> T executeStream(URI uri, StreamCall<T> call) throws IOException {
+		Objects.requireNonNull(uri, "uri 는 null일 수 없습니다.");
+		Objects.requireNonNull(call, "call 은 null일 수 없습니다.");
+
+		return guards.computeIfAbsent(hostOf(uri), HostGuard::new).execute(call);
+	}
+
+	/**
+	 * 응답 상태 코드가 실패인지 (5xx, 429)
+	 * @param nStatus
+	 * @return
+	 */
+	public static boolean isFailureStatus(int nStatus) {
+		return nStatus >= 500 || nStatus == 429;
+	}
+
+	/**
+	 * 호스트의 서킷 브레이커 상태
+	 * @param sHost host:port
+	 * @return 아직 호출하지 않은 호스트면 CLOSED
+	 */
+	public HttpCircuitBreaker.State getState(String sHost) {
+		HostGuard guard = guards.get(sHost);
+		return (guard == null) ? HttpCircuitBreaker.State.CLOSED : guard.breaker.getState();
+	}
+
+	/**
+	 * 호스트의 진행 중인 호출 수
+	 * @param sHost host:port
+	 * @return
+	 */
+	public int getActiveCalls(String sHost) {
+		HostGuard guard = guards.get(sHost);
+		return (guard == null) ? 0 : guard.maxCalls - guard.bulkhead.availablePermits();
+	}
+
+	public long getCircuitRejectionCount() {
+		return circuitRejections.sum();
+	}
+
+	public long getBulkheadRejectionCount() {
+		return bulkheadRejections.sum();
+	}
+
+	public long getRetryCount() {
+		return retries.sum();
+	}
+
+	/**
+	 * 모든 호스트의 상태 제거 (바뀐 설정은 이후 호출부터 적용)
+	 */
+	public void reset() {
+		guards.clear();
+		circuitRejections.reset();
+		bulkheadRejections.reset();
+		retries.reset();
+	}
+
+	/**
+	 * 재시도 설정
+	 * @param nMaxRetries 최대 재시도 횟수 (기본값: 2, 0 이면 재시도 안 함)
+	 * @param lBaseBackoffMillis 첫 재시도 전 최대 대기 시간 (기본값: 100ms, 재시도마다 2배)
+	 * @param lMaxBackoffMillis 최대 대기 시간 (기본값: 2초)
+	 */
+	public void setRetry(int nMaxRetries, long lBaseBackoffMillis, long lMaxBackoffMillis) {
+		if ( nMaxRetries < 0 || lBaseBackoffMillis < 0 || lMaxBackoffMillis < lBaseBackoffMillis ) {
+			throw new IllegalArgumentException("유효하지 않은 재시도 설정: maxRetries=" + nMaxRetries + ", baseBackoffMillis=" + lBaseBackoffMillis
+					+ ", maxBackoffMillis=" + lMaxBackoffMillis);
+		}
+
+		this.maxRetries = nMaxRetries;
+		this.baseBackoffMillis = lBaseBackoffMillis;
+		this.maxBackoffMillis = lMaxBackoffMillis;
+	}
+
+	/**
+	 * 벌크헤드 설정
+	 * @param nMaxConcurrentCalls 호스트 별 최대 동시 호출 수 (기본값: 50, HttpClientPool 의 경로 별 최대 연결 수 이하 권장)
+	 * @param lWaitMillis 자리가 날 때까지 기다릴 시간 (기본값: 0, 바로 거절)
+	 */
+	public void setBulkhead(int nMaxConcurrentCalls, long lWaitMillis) {
+		if ( nMaxConcurrentCalls <= 0 || lWaitMillis < 0 ) {
+			throw new IllegalArgumentException("유효하지 않은 벌크헤드 설정: maxConcurrentCalls=" + nMaxConcurrentCalls + ", waitMillis=" + lWaitMillis);
+		}
+
+		this.maxConcurrentCalls = nMaxConcurrentCalls;
+		this.bulkheadWaitMillis = lWaitMillis;
+	}
+
+	/**
+	 * 서킷 브레이커 설정
+	 * @param nWindowSize 실패율을 계산할 최근 호출 수 (기본값: 50)
+	 * @param nMinimumCalls 실패율을 판단하기 전 최소 기록 수 (기본값: 20)
+	 * @param dFailureRateThreshold 실패율 기준 % (기본값: 50)
+	 * @param lSlowCallMillis 느린 호출 기준 (기본값: 3초)
+	 * @param dSlowCallRateThreshold 느린 호출 비율 기준 % (기본값: 80)
+	 * @param lOpenWaitMillis OPEN 유지 시간 (기본값: 30초)
+	 * @param nHalfOpenCalls HALF_OPEN 시험 호출 수 (기본값: 5)
+	 */
+	public void setCircuitBreaker(int nWindowSize, int nMinimumCalls, double dFailureRateThreshold, long lSlowCallMillis,
+			double dSlowCallRateThreshold, long lOpenWaitMillis, int nHalfOpenCalls) {
+
+		// 값 검증
+		new HttpCircuitBreaker(nWindowSize, nMinimumCalls, dFailureRateThreshold, lSlowCallMillis, dSlowCallRateThreshold,
+				lOpenWaitMillis, nHalfOpenCalls, null);
+
+		this.windowSize = nWindowSize;
+		this.minimumCalls = nMinimumCalls;
+		this.failureRateThreshold = dFailureRateThreshold;
+		this.slowCallMillis = lSlowCallMillis;
+		this.slowCallRateThreshold = dSlowCallRateThreshold;
+		this.openWaitMillis = lOpenWaitMillis;
+		this.halfOpenCalls = nHalfOpenCalls;
+	}
+
+	public void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	private long backoffMillis(int nAttempt) {
+		long lCap = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(nAttempt - 1, 30));
+		// 여러 호출자가 같은 시점에 다시 몰리지 않도록 전체 구간에서 무작위 (full jitter)
+		return (lCap <= 0) ? 0 : ThreadLocalRandom.current().nextLong(lCap + 1);
+	}
+
+	private void onStateChange(String sHost, HttpCircuitBreaker.State from, HttpCircuitBreaker.State to) {
+		logger.warn("{} 서킷 브레이커 상태 변경: {} -> {}", sHost, from, to);
+
+		Listener l = listener;
+		if (l != null) {
+			l.onStateChange(sHost, from, to);
+		}
+	}
+
+	private HttpRejectedException reject(String sHost, HttpRejectedException.Reason reason) {
+		Listener l = listener;
+		if (l != null) {
+			l.onRejected(sHost, reason);
+		}
+		return new HttpRejectedException(sHost, reason);
+	}
+
+	private static boolean isRetryable(IOException e) {
+		if ( e instanceof HttpRejectedException || e instanceof UnknownHostException || e instanceof SSLException ) {
+			return false;
+		}
+
+		// 연결/읽기 타임아웃은 재시도, 중단(abort)이나 인터럽트는 재시도하지 않음
+		if (e instanceof InterruptedIOException) {
+			return e instanceof SocketTimeoutException || e instanceof ConnectTimeoutException;
+		}
+		return true;
+	}
+
+	private static boolean isIdempotent(String sMethod) {
+		if (sMethod == null) {
+			return false;
+		}
+
+		switch (sMethod.toUpperCase()) {
+			case "GET":
+			case "HEAD":
+			case "PUT":
+			case "DELETE":
+			case "OPTIONS":
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * host:port (포트가 없으면 scheme 의 기본 포트)
+	 * @param uri
+	 * @return
+	 */
+	public static String hostOf(URI uri) {
+		int nPort = uri.getPort();
+		if (nPort < 0) {
+			nPort = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+		}
+		return uri.getHost() + ":" + nPort;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("HttpResilience [circuitRejections=").append(getCircuitRejectionCount())
+				.append(", bulkheadRejections=").append(getBulkheadRejectionCount())
+				.append(", retries=").append(getRetryCount())
+				.append(", hosts={");
+
+		boolean isFirst = true;
+		for (Map.Entry<String, HostGuard> entry : guards.entrySet()) {
+			if (!isFirst) {
+				sb.append(", ");
+			}
+			isFirst = false;
+			sb.append(entry.getKey()).append('=').append(entry.getValue().breaker.getState());
+		}
+		return sb.append("}]").toString();
+	}
+
+}
@@ -0,0 +1,932 @@
+package common.util.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * 조건부 GET 응답 캐시 (HttpClientUtil.GetRequest, HttpConnectionUtil.GetRequest 에서 선택적으로 사용)
+ *  - 키 : GET + URL, 응답에 Vary 헤더가 있으면 GET + URL + Vary 에 나열된 요청 헤더 값 (변형 별로 따로 저장)
+ *    기본 키에는 Vary 헤더 이름과 세대 ID 를 담은 표식을 저장하고 변형 키에 세대 ID 를 포함
+ *    (remove 등으로 표식이 바뀌면 이전 세대의 변형은 더 이상 찾지 않고 LRU 로 밀려남)
+ *  - 200 응답만 저장, Cache-Control: no-store, private 이면 저장하지 않음
+ *  - 유효 기간 : Cache-Control max-age (Age 헤더 차감) &gt; Expires &gt; Last-Modified 기반 추정 (경과 시간의 10%, 최대 24시간)
+ *    Cache-Control: no-cache 면 저장하되 매번 재검증
+ *  - 유효 기간이 지나면 If-None-Match / If-Modified-Since 로 재검증, 304 면 캐시된 본문 반환 (유효 기간 갱신)
+ *  - 요청에 Cache-Control: no-cache 가 있으면 재검증, no-store 면 캐시를 거치지 않음
+ *  - 요청에 Authorization, Cookie 헤더가 있으면 사용자마다 응답이 다를 수 있으므로 캐시를 거치지 않음 (공유 캐시)
+ *  - 같은 요청이 동시에 들어오면 한 번만 호출하고 결과를 공유 (single-flight)
+ *  - 메모리 : 항목 수, 본문 크기 합계 제한 LRU
+ *  - 디스크 (선택) : 저장 시 디스크에도 기록, 메모리에 없으면 디스크에서 읽어 메모리로 올림, 크기 합계 제한 LRU
+ *
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * 2026. 10. 18. kdk	인증 요청, Cache-Control: private 응답 제외, Vary 변형 별 저장, 디스크 저장소 읽기 시 LRU 순서 갱신
+ * 2026. 10. 18. kdk	재검증 실패 시 다른 Vary 변형은 유지
+ * </pre>
+ *
+ * <pre>
+ * 사용 예
+ *  HttpResponseCache cache = new HttpResponseCache(1000, 64 * 1024 * 1024);
+ *  cache.setDiskStore(Paths.get("/var/cache/app/http"), 512 * 1024 * 1024);
+ *  HttpClientUtil.setResponseCache(cache);
+ * </pre>
+ */
+public class HttpResponseCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpResponseCache.class);
+
+	private static final int DEFAULT_MAX_ENTRIES = 1000;
+	private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	private static final long MAX_HEURISTIC_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+	// Vary 응답의 기본 키에 저장하는 표식의 상태 값 (실제 응답은 변형 키에 저장)
+	private static final int VARY_MARKER_STATUS = 0;
+
+	private static final int DISK_MAGIC = 0x48524331;	// HRC1
+	private static final String DISK_SUFFIX = ".cache";
+
+	private static final String HTTP_DATE_PATTERN = "EEE, dd MMM yyyy HH:mm:ss zzz";
+
+	private final int maxEntries;
+	private final long maxBytes;
+
+	// 접근 순서 LinkedHashMap (this 로 동기화)
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long currentBytes;
+
+	private final ConcurrentHashMap<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+
+	private volatile DiskStore diskStore;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder revalidations = new LongAdder();
+	private final LongAdder notModified = new LongAdder();
+	private final LongAdder collapsed = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * 캐시할 응답 (본문은 작은 응답을 가정한 String)
+	 */
+	public static final class Response {
+		private final int status;
+		private final String body;
+		private final Map<String, String> headers;
+
+		/**
+		 * @param status
+		 * @param body
+		 * @param headers 응답 헤더 (여러 값이면 ", " 로 연결)
+		 */
+		public Response(int status, String body, Map<String, String> headers) {
+			this.status = status;
+			this.body = (body != null) ? body : "";
+			this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers != null ? headers : Collections.<String, String>emptyMap()));
+		}
+
+		public int getStatus() {
+			return status;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public Map<String, String> getHeaders() {
+			return headers;
+		}
+
+		/**
+		 * 헤더 값 (이름 대소문자 무시)
+		 * @param sName
+		 * @return 없으면 null
+		 */
+		public String getHeader(String sName) {
+			return findHeader(headers, sName);
+		}
+	}
+
+	/**
+	 * 실제 호출 (HttpClientUtil, HttpConnectionUtil 이 구현)
+	 */
+	@FunctionalInterface
+	public interface Fetcher {
+		/**
+		 * @param conditionalHeaders 재검증 시 추가할 헤더 (If-None-Match, If-Modified-Since), 없으면 빈 Map
+		 * @return
+		 * @throws IOException
+		 */
+		Response fetch(Map<String, String> conditionalHeaders) throws IOException;
+	}
+
+	/**
+	 * 캐시 항목 (변경하지 않음, 재검증 시 새 항목으로 교체)
+	 */
+	private static final class Entry {
+		private final String key;
+		private final Response response;
+		private final Map<String, String> varyValues;
+		private final long storedAt;
+		private final long freshMillis;
+
+		Entry(String key, Response response, Map<String, String> varyValues, long storedAt, long freshMillis) {
+			this.key = key;
+			this.response = response;
+			this.varyValues = varyValues;
+			this.storedAt = storedAt;
+			this.freshMillis = freshMillis;
+		}
+
+		boolean isFresh(long now) {
+			return now - storedAt < freshMillis;
+		}
+
+		boolean isVaryMarker() {
+			return response.getStatus() == VARY_MARKER_STATUS;
+		}
+
+		boolean hasValidator() {
+			return response.getHeader("ETag") != null || response.getHeader("Last-Modified") != null;
+		}
+
+		long weight() {
+			// char 당 2 바이트 + 헤더 대략치
+			long lWeight = (long) response.getBody().length() * 2 + key.length() * 2L;
+			for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+				lWeight += (header.getKey().length() + header.getValue().length()) * 2L;
+			}
+			return lWeight;
+		}
+	}
+
+	public HttpResponseCache() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * @param nMaxEntries 메모리에 유지할 최대 항목 수
+	 * @param lMaxBytes 메모리에 유지할 본문 크기 합계 (대략치)
+	 */
+	public HttpResponseCache(int nMaxEntries, long lMaxBytes) {
+		if (nMaxEntries <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 최대 항목 수: " + nMaxEntries + ". 1 이상이어야 합니다.");
+		}
+
+		if (lMaxBytes <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 최대 크기: " + lMaxBytes + ". 1 이상이어야 합니다.");
+		}
+
+		this.maxEntries = nMaxEntries;
+		this.maxBytes = lMaxBytes;
+	}
+
+	/**
+	 * 디스크 저장소 지정 (디렉토리에 있던 캐시 파일은 이어서 사용)
+	 * @param dir
+	 * @param lMaxDiskBytes 디스크에 유지할 파일 크기 합계
+	 * @throws IOException
+	 */
+	public void setDiskStore(Path dir, long lMaxDiskBytes) throws IOException {
+		Objects.requireNonNull(dir, "dir 은 null일 수 없습니다.");
+
+		if (lMaxDiskBytes <= 0) {
+			throw new IllegalArgumentException("유효하지 않은 최대 디스크 크기: " + lMaxDiskBytes + ". 1 이상이어야 합니다.");
+		}
+
+		this.diskStore = new DiskStore(dir, lMaxDiskBytes);
+	}
+
+	/**
+	 * 캐시를 거쳐 GET 호출
+	 * @param sUrl
+	 * @param requestHeaders 요청 헤더 (Vary 비교, Cache-Control 확인, null 가능)
+	 * @param fetcher
+	 * @return 캐시 적중 또는 304 재검증이면 캐시된 응답 (상태 200)
+	 * @throws IOException fetcher 오류
+	 */
+	public Response get(String sUrl, Map<String, String> requestHeaders, Fetcher fetcher) throws IOException {
+		Objects.requireNonNull(sUrl, "url 은 null일 수 없습니다.");
+		Objects.requireNonNull(fetcher, "fetcher 는 null일 수 없습니다.");
+
+		Map<String, String> reqHeaders = (requestHeaders != null) ? requestHeaders : Collections.<String, String>emptyMap();
+		String sRequestCacheControl = findHeader(reqHeaders, "Cache-Control");
+
+		if ( hasDirective(sRequestCacheControl, "no-store") || isPrivateRequest(reqHeaders) ) {
+			misses.increment();
+			return fetcher.fetch(Collections.<String, String>emptyMap());
+		}
+
+		String key = "GET " + sUrl;
+		boolean isForceRevalidate = hasDirective(sRequestCacheControl, "no-cache");
+
+		Entry entry = lookup(key, reqHeaders);
+		if ( entry != null && !isForceRevalidate && entry.isFresh(System.currentTimeMillis()) ) {
+			hits.increment();
+			return entry.response;
+		}
+
+		// 같은 요청 헤더의 동시 요청은 하나로 합침
+		String flightKey = key + " " + new TreeMap<>(reqHeaders);
+		CompletableFuture<Response> future = new CompletableFuture<>();
+		CompletableFuture<Response> existing = inFlight.putIfAbsent(flightKey, future);
+		if (existing != null) {
+			collapsed.increment();
+			return await(existing);
+		}
+
+		try {
+			Response response = load(key, sUrl, reqHeaders, entry, fetcher);
+			future.complete(response);
+			return response;
+		} catch (IOException | RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(flightKey, future);
+		}
+	}
+
+	private Response load(String key, String sUrl, Map<String, String> reqHeaders, Entry entry, Fetcher fetcher) throws IOException {
+		Map<String, String> conditionalHeaders = new LinkedHashMap<>();
+		if ( entry != null && entry.hasValidator() ) {
+			String sEtag = entry.response.getHeader("ETag");
+			String sLastModified = entry.response.getHeader("Last-Modified");
+			if (sEtag != null) {
+				conditionalHeaders.put("If-None-Match", sEtag);
+			}
+			if (sLastModified != null) {
+				conditionalHeaders.put("If-Modified-Since", sLastModified);
+			}
+			revalidations.increment();
+		} else {
+			misses.increment();
+		}
+
+		Response response = fetcher.fetch(conditionalHeaders);
+
+		if ( response.getStatus() == 304 && !conditionalHeaders.isEmpty() ) {
+			notModified.increment();
+
+			// 304 의 헤더로 캐시된 헤더 갱신 (본문 관련 헤더는 유지)
+			Map<String, String> mergedHeaders = new LinkedHashMap<>(entry.response.getHeaders());
+			for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+				if ( !"Content-Length".equalsIgnoreCase(header.getKey()) ) {
+					removeHeader(mergedHeaders, header.getKey());
+					mergedHeaders.put(header.getKey(), header.getValue());
+				}
+			}
+
+			Response merged = new Response(entry.response.getStatus(), entry.response.getBody(), mergedHeaders);
+			store(key, sUrl, reqHeaders, merged);
+			return merged;
+		}
+
+		if (response.getStatus() == 200) {
+			store(key, sUrl, reqHeaders, response);
+		} else if (entry != null) {
+			// 자원이 바뀌었거나 사라진 경우 (Vary 변형이면 재검증한 변형만 제거)
+			invalidate(entry.key);
+		}
+
+		return response;
+	}
+
+	private void store(String key, String sUrl, Map<String, String> reqHeaders, Response response) {
+		String sCacheControl = response.getHeader("Cache-Control");
+		String sVary = response.getHeader("Vary");
+
+		if ( hasDirective(sCacheControl, "no-store") || hasDirective(sCacheControl, "private") || "*".equals(trim(sVary)) ) {
+			invalidate(key);
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		long lFreshMillis = freshnessMillis(response, sCacheControl, now);
+
+		Map<String, String> varyValues = varyValues(sVary, reqHeaders);
+		Entry marker = (sVary != null) ? varyMarker(key, sVary, now) : null;
+		String entryKey = (marker != null) ? variantKey(marker, varyValues) : key;
+
+		Entry entry = new Entry(entryKey, response, varyValues, now, lFreshMillis);
+		if ( lFreshMillis <= 0 && !entry.hasValidator() ) {
+			// 재검증도 할 수 없으므로 저장해도 쓸 일이 없음
+			invalidate(entryKey);
+			return;
+		}
+
+		if ( entry.weight() > maxBytes ) {
+			invalidate(entryKey);
+			return;
+		}
+
+		put(entry);
+
+		logger.debug("캐시 저장: {} (유효 {}ms)", sUrl, lFreshMillis);
+	}
+
+	private Entry lookup(String key, Map<String, String> reqHeaders) {
+		Entry entry = find(key);
+
+		if ( entry != null && entry.isVaryMarker() ) {
+			entry = find(variantKey(entry, varyValues(entry.response.getHeader("Vary"), reqHeaders)));
+		}
+
+		if ( entry != null && !matchesVary(entry, reqHeaders) ) {
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * 메모리, 없으면 디스크에서 찾음 (디스크에서 읽으면 메모리로 올림)
+	 */
+	private Entry find(String key) {
+		Entry entry;
+		synchronized (this) {
+			entry = entries.get(key);
+		}
+
+		if (entry == null) {
+			DiskStore disk = diskStore;
+			if (disk != null) {
+				entry = disk.read(key);
+				if (entry != null) {
+					putMemory(entry);
+				}
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * 기본 키의 Vary 표식 (같은 Vary 의 표식이 있으면 그대로 사용하여 이미 저장된 변형을 계속 사용)
+	 *  - 없거나 Vary 가 바뀌었으면 새 세대 ID 의 표식을 저장
+	 * @return
+	 */
+	private Entry varyMarker(String key, String sVary, long now) {
+		Entry current = find(key);
+		if ( current != null && current.isVaryMarker() && sVary.equals(current.response.getHeader("Vary")) ) {
+			return current;
+		}
+
+		// 본문 : 세대 ID
+		Response response = new Response(VARY_MARKER_STATUS, UUID.randomUUID().toString(), Collections.singletonMap("Vary", sVary));
+		Entry marker = new Entry(key, response, Collections.<String, String>emptyMap(), now, 0);
+		put(marker);
+		return marker;
+	}
+
+	private void put(Entry entry) {
+		putMemory(entry);
+
+		DiskStore disk = diskStore;
+		if (disk != null) {
+			disk.write(entry);
+		}
+	}
+
+	private void putMemory(Entry entry) {
+		List<Entry> evicted = new ArrayList<>();
+
+		synchronized (this) {
+			Entry old = entries.put(entry.key, entry);
+			if (old != null) {
+				currentBytes -= old.weight();
+			}
+			currentBytes += entry.weight();
+
+			Iterator<Entry> it = entries.values().iterator();
+			while ( (entries.size() > maxEntries || currentBytes > maxBytes) && it.hasNext() ) {
+				Entry eldest = it.next();
+				if (eldest == entry) {
+					continue;
+				}
+				it.remove();
+				currentBytes -= eldest.weight();
+				evicted.add(eldest);
+			}
+		}
+
+		// 디스크에는 남아 있으므로 메모리에서만 제거
+		evictions.add(evicted.size());
+	}
+
+	/**
+	 * 캐시 항목 제거 (Vary 변형 포함, 변형은 더 이상 사용하지 않고 LRU 로 밀려남)
+	 * @param sUrl
+	 */
+	public void remove(String sUrl) {
+		invalidate("GET " + sUrl);
+	}
+
+	private void invalidate(String key) {
+		synchronized (this) {
+			Entry old = entries.remove(key);
+			if (old != null) {
+				currentBytes -= old.weight();
+			}
+		}
+
+		DiskStore disk = diskStore;
+		if (disk != null) {
+			disk.delete(key);
+		}
+	}
+
+	/**
+	 * 메모리 항목 모두 제거 (디스크 파일도 삭제)
+	 */
+	public void clear() {
+		synchronized (this) {
+			entries.clear();
+			currentBytes = 0;
+		}
+
+		DiskStore disk = diskStore;
+		if (disk != null) {
+			disk.clear();
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 유효 기간 안이라 호출하지 않고 반환한 횟수
+	 * @return
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * 캐시에 없어서(또는 재검증할 수 없어서) 호출한 횟수
+	 * @return
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * 조건부 요청으로 재검증한 횟수
+	 * @return
+	 */
+	public long getRevalidationCount() {
+		return revalidations.sum();
+	}
+
+	/**
+	 * 재검증 결과 304 로 캐시된 본문을 반환한 횟수
+	 * @return
+	 */
+	public long getNotModifiedCount() {
+		return notModified.sum();
+	}
+
+	/**
+	 * 진행 중인 같은 요청의 결과를 기다려 받은 횟수
+	 * @return
+	 */
+	public long getCollapsedCount() {
+		return collapsed.sum();
+	}
+
+	/**
+	 * 메모리에서 밀려난 항목 수
+	 * @return
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	public void resetStats() {
+		hits.reset();
+		misses.reset();
+		revalidations.reset();
+		notModified.reset();
+		collapsed.reset();
+		evictions.reset();
+	}
+
+	@Override
+	public String toString() {
+		long lHits = getHitCount();
+		long lNotModified = getNotModifiedCount();
+		long lTotal = lHits + getMissCount() + getRevalidationCount();
+		String sHitRatio = (lTotal == 0) ? "0" : String.format("%.1f", (lHits + lNotModified) * 100.0 / lTotal);
+
+		return "HttpResponseCache [size=" + size() + ", hits=" + lHits + ", misses=" + getMissCount()
+				+ ", revalidations=" + getRevalidationCount() + ", notModified=" + lNotModified
+				+ ", collapsed=" + getCollapsedCount() + ", evictions=" + getEvictionCount() + ", hitRatio=" + sHitRatio + "%]";
+	}
+
+	private static Response await(CompletableFuture<Response> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("캐시 응답 대기 중 인터럽트되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * 유효 기간 계산
+	 */
+	private static long freshnessMillis(Response response, String sCacheControl, long now) {
+		if ( hasDirective(sCacheControl, "no-cache") ) {
+			return 0;
+		}
+
+		long lAgeMillis = 0;
+		String sAge = trim(response.getHeader("Age"));
+		if (sAge != null) {
+			try {
+				lAgeMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(sAge));
+			} catch (NumberFormatException e) {
+				// 무시
+			}
+		}
+
+		long lMaxAge = directiveSeconds(sCacheControl, "max-age");
+		if (lMaxAge >= 0) {
+			return TimeUnit.SECONDS.toMillis(lMaxAge) - lAgeMillis;
+		}
+
+		long lDate = parseHttpDate(response.getHeader("Date"));
+		long lBase = (lDate > 0) ? lDate : now;
+
+		long lExpires = parseHttpDate(response.getHeader("Expires"));
+		String sExpires = response.getHeader("Expires");
+		if (sExpires != null) {
+			// 날짜 형식이 아니면 (예: 0) 이미 만료된 것으로 처리
+			return (lExpires > 0) ? lExpires - lBase - lAgeMillis : 0;
+		}
+
+		long lLastModified = parseHttpDate(response.getHeader("Last-Modified"));
+		if ( lLastModified > 0 && lLastModified < lBase ) {
+			return Math.min((lBase - lLastModified) / 10, MAX_HEURISTIC_MILLIS) - lAgeMillis;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * 인증 정보가 있는 요청 (사용자마다 응답이 다를 수 있음)
+	 */
+	private static boolean isPrivateRequest(Map<String, String> reqHeaders) {
+		return findHeader(reqHeaders, "Authorization") != null || findHeader(reqHeaders, "Cookie") != null;
+	}
+
+	/**
+	 * Vary 변형 키 (기본 키 + 표식의 세대 ID + 요청 헤더 값, 헤더 이름 대소문자 무시, 이름 순)
+	 */
+	private static String variantKey(Entry marker, Map<String, String> varyValues) {
+		StringBuilder sb = new StringBuilder(marker.key).append('\n').append(marker.response.getBody());
+		for (Map.Entry<String, String> vary : varyValues.entrySet()) {
+			sb.append('\n').append(vary.getKey().toLowerCase(Locale.ROOT)).append(": ").append(vary.getValue());
+		}
+		return sb.toString();
+	}
+
+	private static Map<String, String> varyValues(String sVary, Map<String, String> reqHeaders) {
+		if (sVary == null) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, String> values = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (String sName : sVary.split(",")) {
+			String sHeader = sName.trim();
+			if ( !sHeader.isEmpty() ) {
+				String sValue = findHeader(reqHeaders, sHeader);
+				values.put(sHeader, (sValue != null) ? sValue : "");
+			}
+		}
+		return values;
+	}
+
+	private static boolean matchesVary(Entry entry, Map<String, String> reqHeaders) {
+		for (Map.Entry<String, String> vary : entry.varyValues.entrySet()) {
+			String sValue = findHeader(reqHeaders, vary.getKey());
+			if ( !vary.getValue().equals(sValue != null ? sValue : "") ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasDirective(String sCacheControl, String sDirective) {
+		if (sCacheControl == null) {
+			return false;
+		}
+
+		for (String sPart : sCacheControl.split(",")) {
+			String sName = sPart.trim();
+			int nEq = sName.indexOf('=');
+			if (nEq >= 0) {
+				sName = sName.substring(0, nEq).trim();
+			}
+			if ( sName.equalsIgnoreCase(sDirective) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return 없거나 숫자가 아니면 -1
+	 */
+	private static long directiveSeconds(String sCacheControl, String sDirective) {
+		if (sCacheControl == null) {
+			return -1;
+		}
+
+		for (String sPart : sCacheControl.split(",")) {
+			int nEq = sPart.indexOf('=');
+			if ( nEq > 0 && sPart.substring(0, nEq).trim().equalsIgnoreCase(sDirective) ) {
+				String sValue = sPart.substring(nEq + 1).trim();
+				if ( sValue.startsWith("\"") && sValue.endsWith("\"") && sValue.length() >= 2 ) {
+					sValue = sValue.substring(1, sValue.length() - 1);
+				}
+				try {
+					return Math.max(0, Long.parseLong(sValue));
+				} catch (NumberFormatException e) {
+					return -1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return 없거나 형식이 잘못되면 -1
+	 */
+	private static long parseHttpDate(String sDate) {
+		if (sDate == null) {
+			return -1;
+		}
+
+		// SimpleDateFormat 은 스레드 안전하지 않으므로 매번 생성 (캐시 저장 시에만 호출)
+		SimpleDateFormat format = new SimpleDateFormat(HTTP_DATE_PATTERN, Locale.US);
+		format.setTimeZone(TimeZone.getTimeZone("GMT"));
+		try {
+			Date date = format.parse(sDate.trim());
+			return date.getTime();
+		} catch (ParseException e) {
+			return -1;
+		}
+	}
+
+	private static String findHeader(Map<String, String> headers, String sName) {
+		for (Map.Entry<String, String> header : headers.entrySet()) {
+			if ( sName.equalsIgnoreCase(header.getKey()) ) {
+				return header.getValue();
+			}
+		}
+		return null;
+	}
+
+	private static void removeHeader(Map<String, String> headers, String sName) {
+		headers.keySet().removeIf(sKey -> sKey != null && sKey.equalsIgnoreCase(sName));
+	}
+
+	private static String trim(String s) {
+		return (s != null) ? s.trim() : null;
+	}
+
+	/**
+	 * 디스크 저장소 (항목 하나당 파일 하나, 파일 이름은 키의 SHA-256)
+	 *  - 파일은 임시 파일에 쓴 뒤 이동하므로 읽는 쪽에서 일부만 쓰인 파일을 보지 않음
+	 *  - 입출력 오류는 로그만 남기고 캐시 미적중으로 처리
+	 */
+	private static final class DiskStore {
+		private final Path dir;
+		private final long maxBytes;
+
+		// 파일 이름 → 크기, 접근 순서 (this 로 동기화)
+		private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+		private long currentBytes;
+
+		DiskStore(Path dir, long maxBytes) throws IOException {
+			this.dir = dir;
+			this.maxBytes = maxBytes;
+
+			Files.createDirectories(dir);
+
+			// 기존 파일은 수정 시간 순서로 색인
+			List<Path> files = new ArrayList<>();
+			try ( DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + DISK_SUFFIX) ) {
+				for (Path file : stream) {
+					files.add(file);
+				}
+			}
+			files.sort((a, b) -> Long.compare(a.toFile().lastModified(), b.toFile().lastModified()));
+			for (Path file : files) {
+				long lSize = Files.size(file);
+				index.put(file.getFileName().toString(), lSize);
+				currentBytes += lSize;
+			}
+			trimToSize();
+		}
+
+		Entry read(String key) {
+			String sFileName = fileName(key);
+			synchronized (this) {
+				// 접근 순서 갱신 (containsKey 는 순서를 바꾸지 않음)
+				if ( index.get(sFileName) == null ) {
+					return null;
+				}
+			}
+
+			try ( DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(dir.resolve(sFileName)))) ) {
+				if ( in.readInt() != DISK_MAGIC ) {
+					delete(key);
+					return null;
+				}
+
+				String sKey = in.readUTF();
+				if ( !sKey.equals(key) ) {
+					// 해시 충돌
+					return null;
+				}
+
+				int nStatus = in.readInt();
+				long lStoredAt = in.readLong();
+				long lFreshMillis = in.readLong();
+				Map<String, String> varyValues = readMap(in, new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER));
+				Map<String, String> headers = readMap(in, new LinkedHashMap<String, String>());
+				byte[] body = new byte[in.readInt()];
+				in.readFully(body);
+
+				Response response = new Response(nStatus, new String(body, StandardCharsets.UTF_8), headers);
+				return new Entry(sKey, response, varyValues, lStoredAt, lFreshMillis);
+			} catch (IOException e) {
+				logger.warn("디스크 캐시 읽기 실패: {}", e.getMessage());
+				delete(key);
+				return null;
+			}
+		}
+
+		void write(Entry entry) {
+			String sFileName = fileName(entry.key);
+			Path file = dir.resolve(sFileName);
+			try {
+				Path temp = Files.createTempFile(dir, sFileName, ".tmp");
+				try {
+					try ( DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))) ) {
+						out.writeInt(DISK_MAGIC);
+						out.writeUTF(entry.key);
+						out.writeInt(entry.response.getStatus());
+						out.writeLong(entry.storedAt);
+						out.writeLong(entry.freshMillis);
+						writeMap(out, entry.varyValues);
+						writeMap(out, entry.response.getHeaders());
+						byte[] body = entry.response.getBody().getBytes(StandardCharsets.UTF_8);
+						out.writeInt(body.length);
+						out.write(body);
+					}
+
+					long lSize = Files.size(temp);
+					Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+
+					synchronized (this) {
+						Long old = index.put(sFileName, lSize);
+						currentBytes += lSize - ((old != null) ? old : 0);
+					}
+					trimToSize();
+				} finally {
+					Files.deleteIfExists(temp);
+				}
+			} catch (IOException e) {
+				logger.warn("디스크 캐시 쓰기 실패: {}", e.getMessage());
+			}
+		}
+
+		void delete(String key) {
+			String sFileName = fileName(key);
+			synchronized (this) {
+				Long old = index.remove(sFileName);
+				if (old != null) {
+					currentBytes -= old;
+				}
+			}
+			deleteFile(sFileName);
+		}
+
+		void clear() {
+			List<String> fileNames;
+			synchronized (this) {
+				fileNames = new ArrayList<>(index.keySet());
+				index.clear();
+				currentBytes = 0;
+			}
+			for (String sFileName : fileNames) {
+				deleteFile(sFileName);
+			}
+		}
+
+		private void trimToSize() {
+			List<String> removed = new ArrayList<>();
+			synchronized (this) {
+				Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator();
+				while ( currentBytes > maxBytes && it.hasNext() ) {
+					Map.Entry<String, Long> eldest = it.next();
+					it.remove();
+					currentBytes -= eldest.getValue();
+					removed.add(eldest.getKey());
+				}
+			}
+			for (String sFileName : removed) {
+				deleteFile(sFileName);
+			}
+		}
+
+		private void deleteFile(String sFileName) {
+			try {
+				Files.deleteIfExists(dir.resolve(sFileName));
+			} catch (IOException e) {
+				logger.warn("디스크 캐시 삭제 실패: {}", e.getMessage());
+			}
+		}
+
+		private static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+			out.writeInt(map.size());
+			for (Map.Entry<String, String> e : map.entrySet()) {
+				out.writeUTF(e.getKey());
+				out.writeUTF(e.getValue());
+			}
+		}
+
+		private static Map<String, String> readMap(DataInputStream in, Map<String, String> map) throws IOException {
+			int nSize = in.readInt();
+			for (int i = 0; i < nSize; i++) {
+				map.put(in.readUTF(), in.readUTF());
+			}
+			return map;
+		}
+
+		private static String fileName(String key) {
+			try {
+				MessageDigest digest = MessageDigest.getInstance("SHA-256");
+				byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+				StringBuilder sb = new StringBuilder(hash.length * 2 + DISK_SUFFIX.length());
+				for (byte b : hash) {
+					sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+				}
+				return sb.append(DISK_SUFFIX).toString();
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+}
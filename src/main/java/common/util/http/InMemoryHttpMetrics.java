@@ -0,0 +1,229 @@
+package common.util.http;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import common.tcp.metrics.LatencyHistogram;
+
+/**
+ * <pre>
+ * 메모리 HTTP 계측 (경로(host:port) 별 집계)
+ *  - 구간 별 지연 시간 히스토그램 (p50, p95, p99, 최대, 평균)
+ *  - 진행 중인 호출 수
+ *  - 응답 상태 코드 별 건수 (응답 전 실패는 HttpMetrics.STATUS_IO_ERROR)
+ *
+ * 사용 예
+ *  InMemoryHttpMetrics metrics = new InMemoryHttpMetrics();
+ *  HttpClientUtil.setMetrics(metrics);
+ *  ...
+ *  Map&lt;String, InMemoryHttpMetrics.RouteSnapshot&gt; snapshot = metrics.snapshot();
+ *
+ * 스레드 안전
+ * </pre>
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class InMemoryHttpMetrics implements HttpMetrics {
+
+	private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+	private static class RouteMetrics {
+		private final Map<Phase, LatencyHistogram> latencies = new EnumMap<>(Phase.class);
+		private final AtomicLong inFlight = new AtomicLong();
+		private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+		RouteMetrics() {
+			// 생성 후 변경하지 않으므로 EnumMap 을 여러 스레드에서 읽어도 안전
+			for (Phase phase : Phase.values()) {
+				latencies.put(phase, new LatencyHistogram());
+			}
+		}
+	}
+
+	@Override
+	public void onRequestStart(URI uri, String sMethod) {
+		route(uri).inFlight.incrementAndGet();
+	}
+
+	@Override
+	public void onPhase(URI uri, String sMethod, Phase phase, long lNanos) {
+		route(uri).latencies.get(phase).record(lNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void onRequestEnd(URI uri, String sMethod, int nStatus) {
+		RouteMetrics metrics = route(uri);
+		metrics.inFlight.decrementAndGet();
+		metrics.statusCounts.computeIfAbsent(nStatus, k -> new LongAdder()).increment();
+	}
+
+	private RouteMetrics route(URI uri) {
+		return routes.computeIfAbsent(HttpResilience.hostOf(uri), k -> new RouteMetrics());
+	}
+
+	/**
+	 * 경로 별 현황
+	 * @return 경로 순으로 정렬
+	 */
+	public Map<String, RouteSnapshot> snapshot() {
+		Map<String, RouteSnapshot> snapshot = new TreeMap<>();
+		for (Map.Entry<String, RouteMetrics> entry : routes.entrySet()) {
+			snapshot.put(entry.getKey(), new RouteSnapshot(entry.getKey(), entry.getValue()));
+		}
+		return Collections.unmodifiableMap(snapshot);
+	}
+
+	/**
+	 * 경로 현황
+	 * @param sRoute host:port
+	 * @return 기록이 없으면 null
+	 */
+	public RouteSnapshot snapshot(String sRoute) {
+		RouteMetrics metrics = routes.get(sRoute);
+		return (metrics == null) ? null : new RouteSnapshot(sRoute, metrics);
+	}
+
+	/**
+	 * 전체 진행 중인 호출 수
+	 * @return
+	 */
+	public long getInFlight() {
+		long lInFlight = 0;
+		for (RouteMetrics metrics : routes.values()) {
+			lInFlight += metrics.inFlight.get();
+		}
+		return lInFlight;
+	}
+
+	/**
+	 * 지연 시간, 응답 상태 건수 초기화 (진행 중인 호출 수는 유지)
+	 */
+	public void reset() {
+		for (RouteMetrics metrics : routes.values()) {
+			for (LatencyHistogram histogram : metrics.latencies.values()) {
+				histogram.reset();
+			}
+			metrics.statusCounts.clear();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "InMemoryHttpMetrics " + snapshot().values();
+	}
+
+	/**
+	 * 구간 지연 시간 (마이크로초)
+	 */
+	public static class Latency {
+		private final long count;
+		private final long p50;
+		private final long p95;
+		private final long p99;
+		private final long max;
+		private final double mean;
+
+		private Latency(LatencyHistogram histogram) {
+			this.count = histogram.getCount();
+			this.p50 = histogram.getPercentile(50, TimeUnit.MICROSECONDS);
+			this.p95 = histogram.getPercentile(95, TimeUnit.MICROSECONDS);
+			this.p99 = histogram.getPercentile(99, TimeUnit.MICROSECONDS);
+			this.max = histogram.getMax(TimeUnit.MICROSECONDS);
+			this.mean = histogram.getMean(TimeUnit.MICROSECONDS);
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getP50() {
+			return p50;
+		}
+
+		public long getP95() {
+			return p95;
+		}
+
+		public long getP99() {
+			return p99;
+		}
+
+		public long getMax() {
+			return max;
+		}
+
+		public double getMean() {
+			return mean;
+		}
+
+		@Override
+		public String toString() {
+			return "[count=" + count + ", p50=" + p50 + "us, p95=" + p95 + "us, p99=" + p99 + "us, max=" + max + "us, mean="
+					+ String.format("%.1f", mean) + "us]";
+		}
+	}
+
+	/**
+	 * 경로 현황
+	 */
+	public static class RouteSnapshot {
+		private final String route;
+		private final long inFlight;
+		private final Map<Phase, Latency> latencies = new EnumMap<>(Phase.class);
+		private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+		private RouteSnapshot(String sRoute, RouteMetrics metrics) {
+			this.route = sRoute;
+			this.inFlight = metrics.inFlight.get();
+			for (Map.Entry<Phase, LatencyHistogram> entry : metrics.latencies.entrySet()) {
+				latencies.put(entry.getKey(), new Latency(entry.getValue()));
+			}
+			for (Map.Entry<Integer, LongAdder> entry : metrics.statusCounts.entrySet()) {
+				statusCounts.put(entry.getKey(), entry.getValue().sum());
+			}
+		}
+
+		public String getRoute() {
+			return route;
+		}
+
+		public long getInFlight() {
+			return inFlight;
+		}
+
+		public Latency getLatency(Phase phase) {
+			return latencies.get(phase);
+		}
+
+		/**
+		 * @return 응답 상태 코드 순으로 정렬
+		 */
+		public Map<Integer, Long> getStatusCounts() {
+			return Collections.unmodifiableMap(statusCounts);
+		}
+
+		public long getStatusCount(int nStatus) {
+			Long lCount = statusCounts.get(nStatus);
+			return (lCount == null) ? 0 : lCount;
+		}
+
+		@Override
+		public String toString() {
+			return "RouteSnapshot [route=" + route + ", inFlight=" + inFlight + ", latencies=" + latencies + ", statusCounts="
+					+ statusCounts + "]";
+		}
+	}
+
+}
@@ -2,6 +2,8 @@ package common.util.json;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -12,6 +14,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -25,6 +29,8 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
  * -----------------------------------
  * 2025. 5. 21. kdk		정리
  * 2025. 5. 27. 김대광	제미나이에 의한 일부 코드 개선 (ObjectMapper static final로 처리)
+ * 2026. 10. 18. kdk	InputStream 에서 바로 변환 (FromStream) 추가
+ * 2026. 10. 18. kdk	OutputStream 에 바로 쓰기 (ToStream) 추가
  * </pre>
  *
  * 큰 파일 파싱에 유리
@@ -216,6 +222,69 @@ public class JacksonUtil {
 		}
 	}
 
+	/**
+	 * OutputStream 에 바로 JSON 으로 씀 (HTTP 요청 본문 등, 스트림은 닫지 않음)
+	 */
+	public static class ToStream {
+		private ToStream() {
+			super();
+		}
+
+		/**
+		 * 객체를 String 으로 만들지 않고 OutputStream 에 바로 UTF-8 JSON 으로 씀 (OutputStream 은 닫지 않음)
+		 * @param obj
+		 * @param os
+		 * @throws IOException
+		 */
+		public static void converterObjToStream(Object obj, OutputStream os) throws IOException {
+			Objects.requireNonNull(os, ExceptionMessage.isNull("os"));
+
+			MAPPER.writer()
+					.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+					.writeValue(os, obj);
+		}
+	}
+
+	/**
+	 * <pre>
+	 * InputStream 에서 바로 변환 (HTTP 응답 본문 등)
+	 *  - String 으로 모으지 않으므로 UTF-8 디코딩, 문자열 복사 비용이 없음
+	 *  - 다른 변환과 달리 오류를 null 로 감추지 않고 IOException 으로 던짐 (스트림은 다시 읽을 수 없으므로)
+	 *  - 스트림은 닫지 않음
+	 * </pre>
+	 */
+	public static class FromStream {
+		private FromStream() {
+			super();
+		}
+
+		public static <T> T converterStreamToClass(InputStream is, Class<T> clazz) throws IOException {
+			Objects.requireNonNull(is, ExceptionMessage.isNull("is"));
+			Objects.requireNonNull(clazz, ExceptionMessage.isNull("clazz"));
+
+			return MAPPER.readerFor(clazz)
+					.without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+					.readValue(is);
+		}
+
+		public static <T> T converterStreamToType(InputStream is, TypeReference<T> typeReference) throws IOException {
+			Objects.requireNonNull(is, ExceptionMessage.isNull("is"));
+			Objects.requireNonNull(typeReference, ExceptionMessage.isNull("typeReference"));
+
+			return MAPPER.readerFor(typeReference)
+					.without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+					.readValue(is);
+		}
+
+		public static JsonNode converterStreamToJsonNode(InputStream is) throws IOException {
+			Objects.requireNonNull(is, ExceptionMessage.isNull("is"));
+
+			return MAPPER.reader()
+					.without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+					.readTree(is);
+		}
+	}
+
 	public static class ReadJsonFile {
 		private ReadJsonFile() {
 			super();
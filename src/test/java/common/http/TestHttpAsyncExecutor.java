@@ -0,0 +1,161 @@
+package common.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import common.util.http.HttpAsyncExecutor;
+import common.util.http.HttpClientUtil;
+
+public class TestHttpAsyncExecutor {
+
+	private static final long DELAY_MILLIS = 300;
+
+	/**
+	 * 요청마다 DELAY_MILLIS 만큼 늦게 경로를 그대로 돌려주는 서버
+	 */
+	private static HttpServer startDelayServer() throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/", exchange -> {
+			try {
+				Thread.sleep(DELAY_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			byte[] body = exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try ( OutputStream os = exchange.getResponseBody() ) {
+				os.write(body);
+			}
+		});
+		server.start();
+		return server;
+	}
+
+	@Test
+	public void testGetAllInParallel() throws Exception {
+		HttpServer server = startDelayServer();
+		try {
+			String sBaseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+			List<String> urls = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				urls.add(sBaseUrl + "/" + i);
+			}
+
+			// 클래스 로딩, 스레드 생성 등 첫 호출 비용 제외
+			HttpClientUtil.AsyncRequest.getAll(false, urls, null, 3000, 8).get();
+
+			long lStart = System.nanoTime();
+			List<Map<String, Object>> results = HttpClientUtil.AsyncRequest.getAll(false, urls, null, 3000, 8).get();
+			long lElapsedMillis = (System.nanoTime() - lStart) / 1000000;
+
+			assertEquals(8, results.size());
+			for (int i = 0; i < 8; i++) {
+				assertEquals(200, results.get(i).get(HttpClientUtil.STATUS_KEY));
+				assertEquals("/" + i, results.get(i).get(HttpClientUtil.BODY_KEY));
+			}
+
+			// 순차 호출이면 8 * 300ms
+			assertTrue("elapsed=" + lElapsedMillis, lElapsedMillis < DELAY_MILLIS * 4);
+		} finally {
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		HttpServer server = startDelayServer();
+		try {
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/slow";
+
+			try {
+				HttpClientUtil.AsyncRequest.getAsync(false, sUrl, null, 100).get();
+				fail("타임아웃이 발생해야 합니다.");
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof TimeoutException);
+			}
+		} finally {
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void testFanOutConcurrencyLimit() throws Exception {
+		try ( HttpAsyncExecutor executor = new HttpAsyncExecutor(8, 64) ) {
+			final AtomicInteger active = new AtomicInteger();
+			final AtomicInteger maxActive = new AtomicInteger();
+
+			List<Supplier<CompletableFuture<Integer>>> calls = new ArrayList<>();
+			for (int i = 0; i < 12; i++) {
+				final int n = i;
+				calls.add(() -> executor.submit(() -> {
+					maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+					Thread.sleep(20);
+					active.decrementAndGet();
+					if (n == 5) {
+						throw new IOException("실패");
+					}
+					return n;
+				}, 1000, null));
+			}
+
+			List<Integer> results = executor.fanOut(calls, 3, e -> -1).get();
+
+			assertEquals(12, results.size());
+			assertEquals(Integer.valueOf(-1), results.get(5));
+			assertEquals(Integer.valueOf(11), results.get(11));
+			assertTrue("maxActive=" + maxActive.get(), maxActive.get() <= 3);
+		}
+	}
+
+	/**
+	 * 이미 완료된 호출이 많아도 다음 호출 시작이 재귀로 쌓이지 않음
+	 */
+	@Test
+	public void testFanOutCompletedCallsWithoutRecursion() throws Exception {
+		try ( HttpAsyncExecutor executor = new HttpAsyncExecutor(1, 1) ) {
+			List<Supplier<CompletableFuture<Integer>>> calls = new ArrayList<>();
+			for (int i = 0; i < 200000; i++) {
+				final int n = i;
+				if (n % 2 == 0) {
+					calls.add(() -> CompletableFuture.completedFuture(n));
+				} else {
+					calls.add(() -> {
+						throw new IllegalStateException("시작 실패");
+					});
+				}
+			}
+
+			List<Integer> results = executor.fanOut(calls, 2, e -> -1).get(10, TimeUnit.SECONDS);
+
+			assertEquals(200000, results.size());
+			assertEquals(Integer.valueOf(199998), results.get(199998));
+			assertEquals(Integer.valueOf(-1), results.get(199999));
+		}
+	}
+
+}
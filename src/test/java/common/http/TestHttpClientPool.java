@@ -0,0 +1,77 @@
+package common.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.http.pool.PoolStats;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import common.util.http.HttpClientPool;
+import common.util.http.HttpClientUtil;
+
+public class TestHttpClientPool {
+
+	@Test
+	public void testConnectionReuse() throws IOException {
+		final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				clientPorts.add(exchange.getRemoteAddress().getPort());
+
+				byte[] body = "OK".getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(200, body.length);
+				try ( OutputStream os = exchange.getResponseBody() ) {
+					os.write(body);
+				}
+			}
+		});
+		server.start();
+
+		HttpClientPool pool = new HttpClientPool();
+		HttpClientUtil.setClientPool(pool);
+		try {
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+
+			for (int i = 0; i < 20; i++) {
+				Map<String, Object> resMap = HttpClientUtil.GetRequest.getMap(false, sUrl, null, 3000);
+				assertEquals(200, resMap.get(HttpClientUtil.STATUS_KEY));
+				assertEquals("OK", resMap.get(HttpClientUtil.BODY_KEY));
+			}
+
+			// 하나의 연결을 재사용하고 응답을 읽은 뒤 풀에 반납
+			assertEquals(1, clientPorts.size());
+			PoolStats stats = pool.getTotalStats(false);
+			assertNotNull(stats);
+			assertEquals(0, stats.getLeased());
+			assertEquals(1, stats.getAvailable());
+			assertSame(pool.getClient(false), pool.getClient(false));
+		} finally {
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidPoolSize() {
+		try ( HttpClientPool pool = new HttpClientPool() ) {
+			pool.setPoolSize(10, 20);
+		}
+	}
+
+}
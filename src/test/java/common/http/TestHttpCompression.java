@@ -0,0 +1,140 @@
+package common.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import common.util.http.HttpClientUtil;
+import common.util.http.HttpConnectionUtil;
+
+public class TestHttpCompression {
+
+	private static final String BODY = String.join("", Collections.nCopies(500, "{\"name\":\"압축\",\"value\":12345},"));
+
+	/**
+	 * /gzip, /deflate, /raw-deflate : 압축 응답 / /echo : 요청 본문 (gzip 이면 해제) 을 그대로 응답
+	 */
+	private static HttpServer server(List<String> requestEncodings) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/gzip", exchange -> {
+			assertTrue( exchange.getRequestHeaders().getFirst("Accept-Encoding").contains("gzip") );
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try ( OutputStream os = new GZIPOutputStream(baos) ) {
+				os.write(BODY.getBytes(StandardCharsets.UTF_8));
+			}
+			send(exchange, "gzip", baos.toByteArray());
+		});
+		server.createContext("/deflate", exchange -> send(exchange, "deflate", deflate(false)));
+		server.createContext("/raw-deflate", exchange -> send(exchange, "deflate", deflate(true)));
+		server.createContext("/echo", exchange -> {
+			String sEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+			requestEncodings.add(String.valueOf(sEncoding));
+
+			InputStream is = exchange.getRequestBody();
+			if ( "gzip".equals(sEncoding) ) {
+				is = new GZIPInputStream(is);
+			}
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int nRead;
+			while ( (nRead = is.read(buffer)) != -1 ) {
+				baos.write(buffer, 0, nRead);
+			}
+			send(exchange, null, baos.toByteArray());
+		});
+		server.start();
+		return server;
+	}
+
+	private static byte[] deflate(boolean isRaw) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try ( OutputStream os = new DeflaterOutputStream(baos, new Deflater(Deflater.DEFAULT_COMPRESSION, isRaw)) ) {
+			os.write(BODY.getBytes(StandardCharsets.UTF_8));
+		}
+		return baos.toByteArray();
+	}
+
+	private static void send(HttpExchange exchange, String sEncoding, byte[] body) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+		if (sEncoding != null) {
+			exchange.getResponseHeaders().set("Content-Encoding", sEncoding);
+		}
+		exchange.sendResponseHeaders(200, body.length);
+		try ( OutputStream os = exchange.getResponseBody() ) {
+			os.write(body);
+		}
+	}
+
+	@Test
+	public void testHttpConnectionUtil() throws IOException {
+		List<String> requestEncodings = new CopyOnWriteArrayList<>();
+		HttpServer server = server(requestEncodings);
+		try {
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+			Map<String, Object> header = new HashMap<>(Collections.singletonMap("Accept", "application/json"));
+
+			assertEquals(BODY, HttpConnectionUtil.GetRequest.get(false, sUrl + "/gzip", header, 3000));
+			assertEquals(BODY, HttpConnectionUtil.GetRequest.get(false, sUrl + "/deflate", header, 3000));
+			assertEquals(BODY, HttpConnectionUtil.GetRequest.get(false, sUrl + "/raw-deflate", header, 3000));
+
+			assertEquals(BODY, HttpConnectionUtil.RawRequest.json(false, sUrl + "/echo", header, BODY, 3000));
+
+			HttpConnectionUtil.setRequestCompressionThreshold(1024);
+			assertEquals(BODY, HttpConnectionUtil.RawRequest.json(false, sUrl + "/echo", header, BODY, 3000));
+			assertEquals("{}", HttpConnectionUtil.RawRequest.json(false, sUrl + "/echo", header, "{}", 3000));
+
+			assertEquals("null", requestEncodings.get(0));
+			assertEquals("gzip", requestEncodings.get(1));
+			assertEquals("null", requestEncodings.get(2));
+		} finally {
+			HttpConnectionUtil.setRequestCompressionThreshold(-1);
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void testHttpClientUtil() throws IOException {
+		List<String> requestEncodings = new CopyOnWriteArrayList<>();
+		HttpServer server = server(requestEncodings);
+		try {
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+			Map<String, String> header = new HashMap<>(Collections.singletonMap("Accept", "application/json"));
+
+			assertEquals(BODY, HttpClientUtil.GetRequest.get(false, sUrl + "/gzip", header, 3000));
+			assertEquals(BODY, HttpClientUtil.GetRequest.get(false, sUrl + "/deflate", header, 3000));
+
+			HttpClientUtil.setRequestCompressionThreshold(1024);
+			assertEquals(BODY, HttpClientUtil.RawRequest.json(false, sUrl + "/echo", header, BODY, 3000));
+			assertEquals("{}", HttpClientUtil.RawRequest.json(false, sUrl + "/echo", header, "{}", 3000));
+
+			assertEquals("gzip", requestEncodings.get(0));
+			assertEquals("null", requestEncodings.get(1));
+		} finally {
+			HttpClientUtil.setRequestCompressionThreshold(-1);
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+}
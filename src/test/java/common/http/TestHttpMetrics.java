@@ -0,0 +1,137 @@
+package common.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import common.util.http.HttpClientUtil;
+import common.util.http.HttpMetrics;
+import common.util.http.InMemoryHttpMetrics;
+
+public class TestHttpMetrics {
+
+	private static final long DELAY_MILLIS = 50;
+
+	@Test
+	public void testLatencyAndStatus() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/slow", exchange -> {
+			try {
+				Thread.sleep(DELAY_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			send(exchange, 200);
+		});
+		server.createContext("/missing", exchange -> send(exchange, 404));
+		server.createContext("/hold", exchange -> {
+			entered.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			send(exchange, 200);
+		});
+		server.start();
+
+		InMemoryHttpMetrics metrics = new InMemoryHttpMetrics();
+		HttpClientUtil.setMetrics(metrics);
+		try {
+			String sRoute = "127.0.0.1:" + server.getAddress().getPort();
+			String sUrl = "http://" + sRoute;
+			Map<String, String> header = new HashMap<>(Collections.singletonMap("Accept", "text/plain"));
+
+			for (int i = 0; i < 3; i++) {
+				assertEquals(200, HttpClientUtil.GetRequest.getMap(false, sUrl + "/slow", header, 3000).get(HttpClientUtil.STATUS_KEY));
+			}
+			assertEquals(404, HttpClientUtil.GetRequest.getMap(false, sUrl + "/missing", header, 3000).get(HttpClientUtil.STATUS_KEY));
+
+			InMemoryHttpMetrics.RouteSnapshot snapshot = metrics.snapshot(sRoute);
+			assertEquals(4, snapshot.getLatency(HttpMetrics.Phase.TOTAL).getCount());
+			assertEquals(4, snapshot.getLatency(HttpMetrics.Phase.TTFB).getCount());
+			assertEquals(4, snapshot.getLatency(HttpMetrics.Phase.LEASE).getCount());
+			assertTrue(snapshot.getLatency(HttpMetrics.Phase.TTFB).getP99() >= TimeUnit.MILLISECONDS.toMicros(DELAY_MILLIS));
+			assertTrue(snapshot.getLatency(HttpMetrics.Phase.TOTAL).getMax() >= TimeUnit.MILLISECONDS.toMicros(DELAY_MILLIS));
+
+			// 연결 재사용 : 처음 한 번만 연결
+			assertEquals(1, snapshot.getLatency(HttpMetrics.Phase.CONNECT).getCount());
+			assertEquals(0, snapshot.getLatency(HttpMetrics.Phase.TLS).getCount());
+
+			assertEquals(3, snapshot.getStatusCount(200));
+			assertEquals(1, snapshot.getStatusCount(404));
+			assertEquals(0, snapshot.getInFlight());
+
+			// 진행 중인 호출
+			CompletableFuture<Map<String, Object>> future = HttpClientUtil.AsyncRequest.getAsync(false, sUrl + "/hold", header, 3000);
+			assertTrue(entered.await(3, TimeUnit.SECONDS));
+			assertEquals(1, metrics.snapshot(sRoute).getInFlight());
+			release.countDown();
+			assertEquals(200, future.get(3, TimeUnit.SECONDS).get(HttpClientUtil.STATUS_KEY));
+			assertEquals(0, metrics.getInFlight());
+
+			metrics.reset();
+			snapshot = metrics.snapshot(sRoute);
+			assertEquals(0, snapshot.getLatency(HttpMetrics.Phase.TOTAL).getCount());
+			assertTrue(snapshot.getStatusCounts().isEmpty());
+		} finally {
+			HttpClientUtil.setMetrics(null);
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void testConnectionFailure() throws IOException {
+		int nPort;
+		try ( ServerSocket socket = new ServerSocket(0) ) {
+			nPort = socket.getLocalPort();
+		}
+
+		InMemoryHttpMetrics metrics = new InMemoryHttpMetrics();
+		HttpClientUtil.setMetrics(metrics);
+		try {
+			String sRoute = "127.0.0.1:" + nPort;
+			Map<String, String> header = new HashMap<>(Collections.singletonMap("Accept", "text/plain"));
+
+			assertTrue(HttpClientUtil.GetRequest.getMap(false, "http://" + sRoute + "/", header, 1000).isEmpty());
+
+			InMemoryHttpMetrics.RouteSnapshot snapshot = metrics.snapshot(sRoute);
+			assertEquals(1, snapshot.getStatusCount(HttpMetrics.STATUS_IO_ERROR));
+			assertEquals(1, snapshot.getLatency(HttpMetrics.Phase.TOTAL).getCount());
+			assertEquals(0, snapshot.getLatency(HttpMetrics.Phase.TTFB).getCount());
+			assertEquals(0, snapshot.getInFlight());
+		} finally {
+			HttpClientUtil.setMetrics(null);
+			HttpClientUtil.shutdown();
+		}
+	}
+
+	private static void send(HttpExchange exchange, int nStatus) throws IOException {
+		byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(nStatus, body.length);
+		try ( OutputStream os = exchange.getResponseBody() ) {
+			os.write(body);
+		}
+	}
+
+}
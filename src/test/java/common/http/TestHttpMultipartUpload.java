@@ -0,0 +1,117 @@
+package common.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import common.util.http.HttpConnectionUtil;
+
+public class TestHttpMultipartUpload {
+
+	@Test
+	public void testMultiFileUpload() throws IOException {
+		AtomicReference<String> contentLength = new AtomicReference<>();
+		AtomicReference<String> transferEncoding = new AtomicReference<>();
+		AtomicReference<String> contentType = new AtomicReference<>();
+		AtomicReference<byte[]> received = new AtomicReference<>();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/upload", exchange -> {
+			contentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+			transferEncoding.set(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+			contentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try ( InputStream is = exchange.getRequestBody() ) {
+				byte[] buffer = new byte[8192];
+				int nRead;
+				while ( (nRead = is.read(buffer)) != -1 ) {
+					baos.write(buffer, 0, nRead);
+				}
+			}
+			received.set(baos.toByteArray());
+
+			byte[] body = "uploaded".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try ( OutputStream os = exchange.getResponseBody() ) {
+				os.write(body);
+			}
+		});
+		server.start();
+
+		File small = File.createTempFile("upload-small", ".txt");
+		File large = File.createTempFile("upload-large", ".bin");
+		try {
+			Files.write(small.toPath(), "작은 파일".getBytes(StandardCharsets.UTF_8));
+
+			byte[] largeContent = new byte[3 * 1024 * 1024 + 17];
+			for (int i = 0; i < largeContent.length; i++) {
+				largeContent[i] = (byte) (i % 251);
+			}
+			Files.write(large.toPath(), largeContent);
+
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/upload";
+			Map<String, Object> header = new HashMap<>(Collections.singletonMap("Accept", "text/plain"));
+			Map<String, Object> param = new HashMap<>(Collections.singletonMap("title", "첨부"));
+
+			AtomicLong lastTransferred = new AtomicLong();
+			AtomicLong lastTotal = new AtomicLong();
+			AtomicLong calls = new AtomicLong();
+
+			Map<String, Object> resMap = HttpConnectionUtil.MultipartRequest.multipartMap(false, sUrl, header, param, "files",
+					Arrays.asList(small, large), 5000, (lTransferred, lTotal) -> {
+						assertTrue(lTransferred >= lastTransferred.get());
+						lastTransferred.set(lTransferred);
+						lastTotal.set(lTotal);
+						calls.incrementAndGet();
+					});
+
+			assertEquals(200, resMap.get(HttpConnectionUtil.STATUS_KEY));
+			assertEquals("uploaded", resMap.get(HttpConnectionUtil.BODY_KEY));
+
+			// 고정 길이 전송
+			assertEquals(String.valueOf(received.get().length), contentLength.get());
+			assertEquals(null, transferEncoding.get());
+			assertEquals((long) received.get().length, lastTotal.get());
+			assertEquals(lastTotal.get(), lastTransferred.get());
+			assertTrue(calls.get() > 100);
+
+			String sBoundary = contentType.get().substring(contentType.get().indexOf("boundary=") + "boundary=".length());
+			String sBody = new String(received.get(), StandardCharsets.ISO_8859_1);
+			assertTrue(sBody.startsWith("--" + sBoundary + "\r\n"));
+			assertTrue(sBody.endsWith("--" + sBoundary + "--\r\n"));
+			assertTrue(sBody.contains("filename=\"" + small.getName() + "\""));
+			assertTrue(sBody.contains("filename=\"" + large.getName() + "\""));
+			assertTrue(sBody.contains(new String("첨부".getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1)));
+
+			int nLargeStart = sBody.indexOf("\r\n\r\n", sBody.indexOf("filename=\"" + large.getName() + "\"")) + 4;
+			assertTrue( Arrays.equals(largeContent, Arrays.copyOfRange(received.get(), nLargeStart, nLargeStart + largeContent.length)) );
+
+			// 단일 파일
+			assertEquals("uploaded", HttpConnectionUtil.MultipartRequest.multipart(false, sUrl, header, null, "file", small));
+		} finally {
+			Files.deleteIfExists(small.toPath());
+			Files.deleteIfExists(large.toPath());
+			server.stop(0);
+		}
+	}
+
+}
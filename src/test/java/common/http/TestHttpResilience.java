@@ -0,0 +1,303 @@
+package common.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import common.util.http.HttpCircuitBreaker;
+import common.util.http.HttpClientUtil;
+import common.util.http.HttpConnectionUtil;
+import common.util.http.HttpRejectedException;
+import common.util.http.HttpResilience;
+
+public class TestHttpResilience {
+
+	private static final URI HOST = URI.create("http://api.example.com/x");
+
+	private static HttpServer statusServer(AtomicInteger calls, int nStatus) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			calls.incrementAndGet();
+			byte[] body = "status".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(nStatus, body.length);
+			try ( OutputStream os = exchange.getResponseBody() ) {
+				os.write(body);
+			}
+		});
+		server.start();
+		return server;
+	}
+
+	@Test
+	public void testCircuitOpensAndHalfOpens() throws Exception {
+		List<String> transitions = new ArrayList<>();
+		AtomicInteger rejected = new AtomicInteger();
+
+		HttpResilience resilience = new HttpResilience();
+		resilience.setRetry(0, 0, 0);
+		resilience.setCircuitBreaker(4, 4, 50, 60_000, 101, 200, 1);
+		resilience.setListener(new HttpResilience.Listener() {
+			@Override
+			public void onStateChange(String sHost, HttpCircuitBreaker.State from, HttpCircuitBreaker.State to) {
+				transitions.add(from + "->" + to);
+			}
+
+			@Override
+			public void onRejected(String sHost, HttpRejectedException.Reason reason) {
+				rejected.incrementAndGet();
+			}
+		});
+
+		for (int i = 0; i < 4; i++) {
+			try {
+				resilience.execute(HOST, "GET", () -> {
+					throw new IOException("connection refused");
+				}, null);
+				fail();
+			} catch (IOException e) {
+				assertTrue( !(e instanceof HttpRejectedException) );
+			}
+		}
+		assertEquals(HttpCircuitBreaker.State.OPEN, resilience.getState("api.example.com:80"));
+
+		try {
+			resilience.execute(HOST, "GET", () -> "ok", null);
+			fail();
+		} catch (HttpRejectedException e) {
+			assertEquals(HttpRejectedException.Reason.CIRCUIT_OPEN, e.getReason());
+			assertEquals("api.example.com:80", e.getHost());
+		}
+		assertEquals(1, rejected.get());
+		assertEquals(1, resilience.getCircuitRejectionCount());
+
+		// 대기 시간이 지나면 시험 호출 1개로 CLOSED
+		Thread.sleep(250);
+		assertEquals("ok", resilience.execute(HOST, "GET", () -> "ok", null));
+		assertEquals(HttpCircuitBreaker.State.CLOSED, resilience.getState("api.example.com:80"));
+		assertEquals("CLOSED->OPEN", transitions.get(0));
+		assertEquals("OPEN->HALF_OPEN", transitions.get(1));
+		assertEquals("HALF_OPEN->CLOSED", transitions.get(2));
+	}
+
+	@Test
+	public void testRetryOnlyIdempotent() throws IOException {
+		HttpResilience resilience = new HttpResilience();
+		resilience.setRetry(2, 1, 5);
+
+		AtomicInteger calls = new AtomicInteger();
+		int nStatus = resilience.execute(HOST, "GET", () -> calls.incrementAndGet() < 3 ? 503 : 200, HttpResilience::isFailureStatus);
+		assertEquals(200, nStatus);
+		assertEquals(3, calls.get());
+		assertEquals(2, resilience.getRetryCount());
+
+		calls.set(0);
+		nStatus = resilience.execute(HOST, "POST", () -> calls.incrementAndGet() < 3 ? 503 : 200, HttpResilience::isFailureStatus);
+		assertEquals(503, nStatus);
+		assertEquals(1, calls.get());
+
+		// 호스트 이름 오류는 재시도하지 않음
+		calls.set(0);
+		try {
+			resilience.execute(HOST, "GET", () -> {
+				calls.incrementAndGet();
+				throw new UnknownHostException("api.example.com");
+			}, null);
+			fail();
+		} catch (UnknownHostException e) {
+			assertEquals(1, calls.get());
+		}
+	}
+
+	@Test
+	public void testBulkhead() throws Exception {
+		HttpResilience resilience = new HttpResilience();
+		resilience.setBulkhead(2, 0);
+
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			List<Future<String>> futures = new ArrayList<>();
+			for (int i = 0; i < 2; i++) {
+				futures.add(executor.submit(() -> resilience.execute(HOST, "GET", () -> {
+					started.countDown();
+					try {
+						release.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return "ok";
+				}, null)));
+			}
+
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			assertEquals(2, resilience.getActiveCalls("api.example.com:80"));
+
+			try {
+				resilience.execute(HOST, "GET", () -> "ok", null);
+				fail();
+			} catch (HttpRejectedException e) {
+				assertEquals(HttpRejectedException.Reason.BULKHEAD_FULL, e.getReason());
+			}
+
+			// 다른 호스트는 영향 없음
+			assertEquals("ok", resilience.execute(URI.create("https://other.example.com/"), "GET", () -> "ok", null));
+
+			release.countDown();
+			for (Future<String> future : futures) {
+				assertEquals("ok", future.get());
+			}
+			assertEquals(0, resilience.getActiveCalls("api.example.com:80"));
+			assertEquals(1, resilience.getBulkheadRejectionCount());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testHttpClientUtil() throws IOException {
+		AtomicInteger calls = new AtomicInteger();
+		HttpServer server = statusServer(calls, 503);
+
+		HttpResilience resilience = new HttpResilience();
+		resilience.setRetry(1, 1, 5);
+		resilience.setCircuitBreaker(2, 2, 100, 60_000, 101, 60_000, 1);
+		HttpClientUtil.setResilience(resilience);
+		try {
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+			Map<String, String> header = new HashMap<>(Collections.singletonMap("Accept", "text/plain"));
+
+			// 재시도 1회 후 마지막 503 응답 반환, 실패 2건으로 OPEN
+			Map<String, Object> resMap = HttpClientUtil.GetRequest.getMap(false, sUrl, header, 3000);
+			assertEquals(503, resMap.get(HttpClientUtil.STATUS_KEY));
+			assertEquals(2, calls.get());
+
+			// OPEN 이면 호출하지 않고 빈 Map
+			assertTrue( HttpClientUtil.GetRequest.getMap(false, sUrl, header, 3000).isEmpty() );
+			assertEquals(2, calls.get());
+		} finally {
+			HttpClientUtil.setResilience(null);
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void testHttpConnectionUtilPostNotRetried() throws IOException {
+		AtomicInteger calls = new AtomicInteger();
+		HttpServer server = statusServer(calls, 502);
+
+		HttpResilience resilience = new HttpResilience();
+		resilience.setRetry(2, 1, 5);
+		HttpConnectionUtil.setResilience(resilience);
+		try {
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+
+			HttpConnectionUtil.RawRequest.json(false, sUrl, new HashMap<>(Collections.singletonMap("Accept", "application/json")), "{}", 3000);
+			assertEquals(1, calls.get());
+			assertEquals(0, resilience.getRetryCount());
+		} finally {
+			HttpConnectionUtil.setResilience(null);
+			server.stop(0);
+		}
+	}
+
+	/**
+	 * 상태가 바뀌기 전에 시작한 호출의 결과는 HALF_OPEN 시험 결과로 기록하지 않음
+	 */
+	@Test
+	public void testStaleGenerationIgnored() throws Exception {
+		HttpCircuitBreaker breaker = new HttpCircuitBreaker(2, 2, 50, 60_000, 101, 100, 1, null);
+
+		long lSlowCall = breaker.tryAcquirePermission();
+		breaker.onResult(breaker.tryAcquirePermission(), true, 0);
+		breaker.onResult(breaker.tryAcquirePermission(), true, 0);
+		assertEquals(HttpCircuitBreaker.State.OPEN, breaker.getState());
+		assertEquals(HttpCircuitBreaker.NOT_PERMITTED, breaker.tryAcquirePermission());
+
+		Thread.sleep(150);
+		long lTrial = breaker.tryAcquirePermission();
+		assertTrue(lTrial >= 0);
+		assertEquals(HttpCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+		// CLOSED 에서 시작한 호출이 늦게 성공해도 무시
+		breaker.onResult(lSlowCall, false, 0);
+		assertEquals(HttpCircuitBreaker.State.HALF_OPEN, breaker.getState());
+		assertEquals(HttpCircuitBreaker.NOT_PERMITTED, breaker.tryAcquirePermission());
+
+		breaker.onResult(lTrial, false, 0);
+		assertEquals(HttpCircuitBreaker.State.CLOSED, breaker.getState());
+	}
+
+	/**
+	 * 스트리밍 호출은 응답 헤더를 받은 시점에 기록 (본문 처리 시간, 본문 처리 중 오류 제외)
+	 */
+	@Test
+	public void testStreamRequestRecordsAtHeaders() throws IOException {
+		AtomicInteger calls = new AtomicInteger();
+		HttpServer server = statusServer(calls, 200);
+
+		HttpResilience resilience = new HttpResilience();
+		resilience.setCircuitBreaker(2, 2, 50, 100, 50, 60_000, 1);
+		HttpClientUtil.setResilience(resilience);
+		HttpConnectionUtil.setResilience(resilience);
+		try {
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+			String sHost = "127.0.0.1:" + server.getAddress().getPort();
+
+			for (int i = 0; i < 2; i++) {
+				try {
+					HttpClientUtil.StreamRequest.get(false, sUrl, null, 3000, (nStatus, body) -> {
+						throw new IOException("본문 처리 실패");
+					});
+					fail();
+				} catch (IOException e) {
+					assertEquals("본문 처리 실패", e.getMessage());
+				}
+
+				// 느린 본문 처리
+				HttpConnectionUtil.StreamRequest.get(false, sUrl, null, 3000, (nStatus, body) -> {
+					try {
+						Thread.sleep(200);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return nStatus;
+				});
+			}
+
+			assertEquals(4, calls.get());
+			assertEquals(HttpCircuitBreaker.State.CLOSED, resilience.getState(sHost));
+			assertEquals(0, resilience.getActiveCalls(sHost));
+		} finally {
+			HttpClientUtil.setResilience(null);
+			HttpConnectionUtil.setResilience(null);
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+}
@@ -0,0 +1,359 @@
+package common.http;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import common.util.http.HttpClientUtil;
+import common.util.http.HttpResponseCache;
+
+public class TestHttpResponseCache {
+
+	private static Map<String, String> headers(String... nameValues) {
+		Map<String, String> map = new LinkedHashMap<>();
+		for (int i = 0; i < nameValues.length; i += 2) {
+			map.put(nameValues[i], nameValues[i + 1]);
+		}
+		return map;
+	}
+
+	@Test
+	public void testMaxAgeHit() throws IOException {
+		HttpResponseCache cache = new HttpResponseCache();
+		AtomicInteger calls = new AtomicInteger();
+
+		HttpResponseCache.Fetcher fetcher = conditionalHeaders -> {
+			calls.incrementAndGet();
+			return new HttpResponseCache.Response(200, "body", headers("Cache-Control", "max-age=60"));
+		};
+
+		assertEquals("body", cache.get("http://a/x", null, fetcher).getBody());
+		assertEquals("body", cache.get("http://a/x", null, fetcher).getBody());
+		assertEquals(1, calls.get());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		// 요청의 no-store 는 캐시를 거치지 않음
+		cache.get("http://a/x", headers("Cache-Control", "no-store"), fetcher);
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	public void testRevalidateNotModified() throws IOException {
+		HttpResponseCache cache = new HttpResponseCache();
+		List<Map<String, String>> conditionals = new ArrayList<>();
+
+		HttpResponseCache.Fetcher fetcher = conditionalHeaders -> {
+			conditionals.add(conditionalHeaders);
+			if ( "\"v1\"".equals(conditionalHeaders.get("If-None-Match")) ) {
+				return new HttpResponseCache.Response(304, "", headers("ETag", "\"v1\"", "Cache-Control", "no-cache"));
+			}
+			return new HttpResponseCache.Response(200, "v1 body", headers("ETag", "\"v1\"", "Cache-Control", "no-cache"));
+		};
+
+		assertEquals("v1 body", cache.get("http://a/x", null, fetcher).getBody());
+
+		HttpResponseCache.Response response = cache.get("http://a/x", null, fetcher);
+		assertEquals(200, response.getStatus());
+		assertEquals("v1 body", response.getBody());
+		assertEquals("\"v1\"", conditionals.get(1).get("If-None-Match"));
+		assertEquals(1, cache.getRevalidationCount());
+		assertEquals(1, cache.getNotModifiedCount());
+	}
+
+	@Test
+	public void testVary() throws IOException {
+		HttpResponseCache cache = new HttpResponseCache();
+		AtomicInteger calls = new AtomicInteger();
+
+		List<String> languages = new ArrayList<>();
+
+		HttpResponseCache.Fetcher fetcher = conditionalHeaders -> {
+			calls.incrementAndGet();
+			String sLanguage = languages.get(languages.size() - 1);
+			return new HttpResponseCache.Response(200, "body-" + sLanguage, headers("Cache-Control", "max-age=60", "Vary", "Accept-Language"));
+		};
+
+		languages.add("ko");
+		assertEquals("body-ko", cache.get("http://a/x", headers("Accept-Language", "ko"), fetcher).getBody());
+		assertEquals("body-ko", cache.get("http://a/x", headers("accept-language", "ko"), fetcher).getBody());
+		assertEquals(1, calls.get());
+
+		languages.add("en");
+		assertEquals("body-en", cache.get("http://a/x", headers("Accept-Language", "en"), fetcher).getBody());
+		assertEquals(2, calls.get());
+
+		// 변형 별로 저장하므로 다른 변형이 덮어쓰지 않음
+		assertEquals("body-ko", cache.get("http://a/x", headers("Accept-Language", "ko"), fetcher).getBody());
+		assertEquals("body-en", cache.get("http://a/x", headers("Accept-Language", "en"), fetcher).getBody());
+		assertEquals(2, calls.get());
+
+		// 제거하면 모든 변형을 다시 호출
+		cache.remove("http://a/x");
+		languages.add("ko");
+		assertEquals("body-ko", cache.get("http://a/x", headers("Accept-Language", "ko"), fetcher).getBody());
+		languages.add("en");
+		assertEquals("body-en", cache.get("http://a/x", headers("Accept-Language", "en"), fetcher).getBody());
+		assertEquals(4, calls.get());
+	}
+
+	/**
+	 * 변형 하나의 재검증이 실패해도 다른 변형은 그대로 재검증
+	 */
+	@Test
+	public void testVaryRevalidationFailureKeepsOtherVariants() throws IOException {
+		HttpResponseCache cache = new HttpResponseCache();
+		AtomicInteger calls = new AtomicInteger();
+
+		List<String> languages = new ArrayList<>();
+		List<Integer> revalidateStatus = new ArrayList<>();
+
+		HttpResponseCache.Fetcher fetcher = conditionalHeaders -> {
+			calls.incrementAndGet();
+			String sLanguage = languages.get(languages.size() - 1);
+			if ( !conditionalHeaders.isEmpty() ) {
+				return new HttpResponseCache.Response(revalidateStatus.get(revalidateStatus.size() - 1), "", headers());
+			}
+			return new HttpResponseCache.Response(200, "body-" + sLanguage,
+					headers("Cache-Control", "max-age=0", "ETag", "\"" + sLanguage + "\"", "Vary", "Accept-Language"));
+		};
+
+		languages.add("ko");
+		cache.get("http://a/x", headers("Accept-Language", "ko"), fetcher);
+		languages.add("en");
+		cache.get("http://a/x", headers("Accept-Language", "en"), fetcher);
+		assertEquals(2, calls.get());
+
+		// en 변형 재검증 실패
+		revalidateStatus.add(503);
+		assertEquals(503, cache.get("http://a/x", headers("Accept-Language", "en"), fetcher).getStatus());
+
+		// ko 변형은 남아 있으므로 조건부 요청으로 재검증
+		languages.add("ko");
+		revalidateStatus.add(304);
+		assertEquals("body-ko", cache.get("http://a/x", headers("Accept-Language", "ko"), fetcher).getBody());
+		assertEquals(1, cache.getNotModifiedCount());
+		assertEquals(4, calls.get());
+	}
+
+	/**
+	 * 인증 요청과 Cache-Control: private 응답은 저장하지 않음
+	 */
+	@Test
+	public void testPrivateNotCached() throws IOException {
+		HttpResponseCache cache = new HttpResponseCache();
+		AtomicInteger calls = new AtomicInteger();
+
+		HttpResponseCache.Fetcher publicFetcher = conditionalHeaders -> {
+			calls.incrementAndGet();
+			return new HttpResponseCache.Response(200, "user " + calls.get(), headers("Cache-Control", "max-age=60"));
+		};
+
+		assertEquals("user 1", cache.get("http://a/me", headers("Authorization", "Bearer a"), publicFetcher).getBody());
+		assertEquals("user 2", cache.get("http://a/me", headers("Cookie", "session=b"), publicFetcher).getBody());
+		assertEquals(0, cache.size());
+
+		// 인증 요청은 저장된 응답도 사용하지 않음
+		assertEquals("user 3", cache.get("http://a/me", null, publicFetcher).getBody());
+		assertEquals("user 4", cache.get("http://a/me", headers("authorization", "Bearer a"), publicFetcher).getBody());
+		assertEquals("user 3", cache.get("http://a/me", null, publicFetcher).getBody());
+
+		HttpResponseCache.Fetcher privateFetcher = conditionalHeaders -> {
+			calls.incrementAndGet();
+			return new HttpResponseCache.Response(200, "private", headers("Cache-Control", "private, max-age=60"));
+		};
+		cache.get("http://a/private", null, privateFetcher);
+		cache.get("http://a/private", null, privateFetcher);
+		assertEquals(6, calls.get());
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	public void testSingleFlight() throws Exception {
+		HttpResponseCache cache = new HttpResponseCache();
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		HttpResponseCache.Fetcher fetcher = conditionalHeaders -> {
+			calls.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new HttpResponseCache.Response(200, "body", headers("Cache-Control", "no-store"));
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<HttpResponseCache.Response>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> cache.get("http://a/x", null, fetcher)));
+			}
+
+			// 모든 요청이 대기열에 들어갈 때까지
+			long lDeadline = System.currentTimeMillis() + 5000;
+			while ( cache.getCollapsedCount() < 7 && System.currentTimeMillis() < lDeadline ) {
+				Thread.sleep(10);
+			}
+			release.countDown();
+
+			for (Future<HttpResponseCache.Response> future : futures) {
+				assertEquals("body", future.get().getBody());
+			}
+			assertEquals(1, calls.get());
+			assertEquals(7, cache.getCollapsedCount());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testDiskStore() throws IOException {
+		Path dir = Files.createTempDirectory("http-cache");
+		try {
+			HttpResponseCache.Fetcher fetcher = conditionalHeaders -> new HttpResponseCache.Response(200, "디스크 본문",
+					headers("Cache-Control", "max-age=60", "ETag", "\"d1\""));
+
+			HttpResponseCache cache = new HttpResponseCache(1, 1024 * 1024);
+			cache.setDiskStore(dir, 1024 * 1024);
+			cache.get("http://a/1", null, fetcher);
+			cache.get("http://a/2", null, fetcher);
+			assertEquals(1, cache.size());
+
+			// 메모리에서 밀려난 항목은 디스크에서 읽음
+			HttpResponseCache.Fetcher failing = conditionalHeaders -> {
+				throw new IOException("호출하면 안 됩니다.");
+			};
+			assertEquals("디스크 본문", cache.get("http://a/1", null, failing).getBody());
+
+			// 새 캐시도 디스크의 항목을 이어서 사용
+			HttpResponseCache restarted = new HttpResponseCache();
+			restarted.setDiskStore(dir, 1024 * 1024);
+			assertEquals("디스크 본문", restarted.get("http://a/2", null, failing).getBody());
+			assertEquals(1, restarted.getHitCount());
+
+			restarted.clear();
+			try ( Stream<Path> files = Files.list(dir) ) {
+				assertEquals(0, files.count());
+			}
+		} finally {
+			Files.deleteIfExists(dir);
+		}
+	}
+
+	/**
+	 * 디스크에서 읽은 항목은 최근 사용으로 갱신되어 디스크 크기 제한 시 나중에 제거
+	 */
+	@Test
+	public void testDiskStoreLru() throws IOException {
+		Path dir = Files.createTempDirectory("http-cache");
+		try {
+			char[] body = new char[1000];
+			Arrays.fill(body, 'b');
+			HttpResponseCache.Fetcher fetcher = conditionalHeaders -> new HttpResponseCache.Response(200, new String(body),
+					headers("Cache-Control", "max-age=60"));
+			HttpResponseCache.Fetcher failing = conditionalHeaders -> {
+				throw new IOException("호출하면 안 됩니다.");
+			};
+
+			// 메모리 1 개, 디스크 2 개
+			HttpResponseCache cache = new HttpResponseCache(1, 1024 * 1024);
+			cache.setDiskStore(dir, 2500);
+			cache.get("http://a/1", null, fetcher);
+			cache.get("http://a/2", null, fetcher);
+
+			// 1 을 디스크에서 읽으면 3 을 저장할 때 2 가 제거됨
+			cache.get("http://a/1", null, failing);
+			cache.get("http://a/3", null, fetcher);
+
+			HttpResponseCache restarted = new HttpResponseCache();
+			restarted.setDiskStore(dir, 2500);
+			assertEquals(1000, restarted.get("http://a/1", null, failing).getBody().length());
+			assertEquals(1000, restarted.get("http://a/3", null, failing).getBody().length());
+			try {
+				restarted.get("http://a/2", null, failing);
+				throw new AssertionError("2 는 디스크에서 제거되어야 합니다.");
+			} catch (IOException e) {
+				assertEquals("호출하면 안 됩니다.", e.getMessage());
+			}
+		} finally {
+			try ( Stream<Path> files = Files.list(dir) ) {
+				for (Path file : (Iterable<Path>) files::iterator) {
+					Files.delete(file);
+				}
+			}
+			Files.deleteIfExists(dir);
+		}
+	}
+
+	@Test
+	public void testHttpClientUtilConditionalGet() throws IOException {
+		AtomicInteger fullResponses = new AtomicInteger();
+		AtomicInteger notModified = new AtomicInteger();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/ref", exchange -> {
+			exchange.getResponseHeaders().set("ETag", "\"r1\"");
+			exchange.getResponseHeaders().set("Cache-Control", "max-age=0");
+
+			if ( "\"r1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match")) ) {
+				notModified.incrementAndGet();
+				exchange.sendResponseHeaders(304, -1);
+				exchange.close();
+				return;
+			}
+
+			fullResponses.incrementAndGet();
+			byte[] body = "reference".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try ( OutputStream os = exchange.getResponseBody() ) {
+				os.write(body);
+			}
+		});
+		server.start();
+
+		HttpResponseCache cache = new HttpResponseCache();
+		HttpClientUtil.setResponseCache(cache);
+		try {
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/ref";
+			Map<String, String> header = new HashMap<>(Collections.singletonMap("Accept", "text/plain"));
+
+			for (int i = 0; i < 3; i++) {
+				assertEquals("reference", HttpClientUtil.GetRequest.get(false, sUrl, header, 3000));
+			}
+
+			assertEquals(1, fullResponses.get());
+			assertEquals(2, notModified.get());
+			assertEquals(2, cache.getNotModifiedCount());
+		} finally {
+			HttpClientUtil.setResponseCache(null);
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+}
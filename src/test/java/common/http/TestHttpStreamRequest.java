@@ -0,0 +1,259 @@
+package common.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.http.client.HttpResponseException;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sun.net.httpserver.HttpServer;
+
+import common.util.http.HttpClientUtil;
+import common.util.http.HttpConnectionUtil;
+
+public class TestHttpStreamRequest {
+
+	private static final int DOWNLOAD_SIZE = 3 * 1024 * 1024 + 17;
+
+	private static byte[] downloadBody() {
+		byte[] body = new byte[DOWNLOAD_SIZE];
+		for (int i = 0; i < body.length; i++) {
+			body[i] = (byte) (i * 31);
+		}
+		return body;
+	}
+
+	private static HttpServer startServer() throws IOException {
+		final byte[] download = downloadBody();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/download", exchange -> {
+			// 길이를 알리지 않는 chunked 응답
+			exchange.sendResponseHeaders(200, 0);
+			try ( OutputStream os = exchange.getResponseBody() ) {
+				for (int i = 0; i < download.length; i += 8192) {
+					os.write(download, i, Math.min(8192, download.length - i));
+				}
+			}
+		});
+		server.createContext("/json", exchange -> {
+			byte[] body = "[{\"name\":\"홍길동\"},{\"name\":\"kdk\"}]".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try ( OutputStream os = exchange.getResponseBody() ) {
+				os.write(body);
+			}
+		});
+		server.createContext("/echo", exchange -> {
+			byte[] body = readAll(exchange.getRequestBody());
+			exchange.sendResponseHeaders(200, body.length);
+			try ( OutputStream os = exchange.getResponseBody() ) {
+				os.write(body);
+			}
+		});
+		server.createContext("/request-headers", exchange -> {
+			readAll(exchange.getRequestBody());
+			byte[] body = ("{\"te\":\"" + exchange.getRequestHeaders().getFirst("Transfer-Encoding")
+					+ "\",\"ct\":\"" + exchange.getRequestHeaders().getFirst("Content-Type") + "\"}").getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try ( OutputStream os = exchange.getResponseBody() ) {
+				os.write(body);
+			}
+		});
+		server.createContext("/missing", exchange -> {
+			byte[] body = "not found".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(404, body.length);
+			try ( OutputStream os = exchange.getResponseBody() ) {
+				os.write(body);
+			}
+		});
+		server.start();
+		return server;
+	}
+
+	@Test
+	public void testHttpClientStreaming() throws Exception {
+		HttpServer server = startServer();
+		Path path = Files.createTempFile("download", ".bin");
+		try {
+			String sBaseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+			Map<String, Object> resMap = HttpClientUtil.StreamRequest.getToFile(false, sBaseUrl + "/download", null, 3000, path);
+			assertEquals(200, resMap.get(HttpClientUtil.STATUS_KEY));
+			assertEquals(Long.valueOf(DOWNLOAD_SIZE), resMap.get(HttpClientUtil.BODY_LENGTH_KEY));
+			assertArrayEquals(downloadBody(), Files.readAllBytes(path));
+
+			List<Map<String, Object>> list = HttpClientUtil.StreamRequest.getJson(false, sBaseUrl + "/json", null, 3000,
+					new TypeReference<List<Map<String, Object>>>() {});
+			assertEquals(2, list.size());
+			assertEquals("홍길동", list.get(0).get("name"));
+
+			try {
+				HttpClientUtil.StreamRequest.getJson(false, sBaseUrl + "/missing", null, 3000, Map.class);
+				fail("404 응답은 실패해야 합니다.");
+			} catch (HttpResponseException e) {
+				assertEquals(404, e.getStatusCode());
+			}
+
+			// 본문을 끝까지 읽지 않아도 연결이 풀에 남지 않음
+			HttpClientUtil.StreamRequest.get(false, sBaseUrl + "/download", null, 3000, (nStatus, body) -> body.read());
+			assertEquals(0, HttpClientUtil.getClientPool().getTotalStats(false).getLeased());
+		} finally {
+			Files.deleteIfExists(path);
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void testHttpConnectionStreaming() throws Exception {
+		HttpServer server = startServer();
+		try {
+			String sBaseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			Map<String, Object> resMap = HttpConnectionUtil.StreamRequest.getToStream(false, sBaseUrl + "/download", null, 3000, out);
+			assertEquals(200, resMap.get(HttpConnectionUtil.STATUS_KEY));
+			assertEquals(Long.valueOf(DOWNLOAD_SIZE), resMap.get(HttpConnectionUtil.BODY_LENGTH_KEY));
+			assertArrayEquals(downloadBody(), out.toByteArray());
+
+			String sError = HttpConnectionUtil.StreamRequest.get(false, sBaseUrl + "/missing", null, 3000,
+					(nStatus, body) -> nStatus + " " + new String(readAll(body), StandardCharsets.UTF_8));
+			assertEquals("404 not found", sError);
+
+			Path dir = Files.createTempDirectory("download");
+			Path path = dir.resolve("missing-host.bin");
+			try {
+				HttpConnectionUtil.StreamRequest.getToFile(false, "http://127.0.0.1:1/download", null, 1000, path);
+				fail("연결 실패는 IOException 이어야 합니다.");
+			} catch (IOException e) {
+				// 실패하면 파일, 임시 파일이 남지 않음
+				assertFalse(Files.exists(path));
+				try ( Stream<Path> files = Files.list(dir) ) {
+					assertEquals(0, files.count());
+				}
+			} finally {
+				Files.deleteIfExists(dir);
+			}
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	/**
+	 * 2xx 가 아닌 응답은 기존 파일을 덮어쓰지 않고 임시 파일도 남기지 않음
+	 */
+	@Test
+	public void testGetToFileErrorKeepsExistingFile() throws Exception {
+		HttpServer server = startServer();
+		Path dir = Files.createTempDirectory("download");
+		Path path = dir.resolve("existing.bin");
+		byte[] existing = "existing".getBytes(StandardCharsets.UTF_8);
+		Files.write(path, existing);
+		try {
+			String sUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/missing";
+
+			try {
+				HttpConnectionUtil.StreamRequest.getToFile(false, sUrl, null, 3000, path);
+				fail("404 응답은 실패해야 합니다.");
+			} catch (IOException e) {
+				assertArrayEquals(existing, Files.readAllBytes(path));
+			}
+
+			try {
+				HttpClientUtil.StreamRequest.getToFile(false, sUrl, null, 3000, path);
+				fail("404 응답은 실패해야 합니다.");
+			} catch (HttpResponseException e) {
+				assertEquals(404, e.getStatusCode());
+				assertArrayEquals(existing, Files.readAllBytes(path));
+			}
+
+			try ( Stream<Path> files = Files.list(dir) ) {
+				assertEquals(1, files.count());
+			}
+		} finally {
+			Files.deleteIfExists(path);
+			Files.deleteIfExists(dir);
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+	public static class Person {
+		public String name;
+		public int age;
+	}
+
+	@Test
+	public void testPostJson() throws Exception {
+		HttpServer server = startServer();
+		try {
+			String sBaseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+			Person person = new Person();
+			person.name = "홍길동";
+			person.age = 30;
+
+			Person echoed = HttpClientUtil.StreamRequest.postJson(false, sBaseUrl + "/echo", null, person, 3000, Person.class);
+			assertEquals("홍길동", echoed.name);
+			assertEquals(30, echoed.age);
+
+			Map<String, Object> map = HttpConnectionUtil.StreamRequest.postJson(false, sBaseUrl + "/echo", person,
+					new TypeReference<Map<String, Object>>() {});
+			assertEquals("홍길동", map.get("name"));
+			assertEquals(30, map.get("age"));
+
+			Map<String, Object> body = new HashMap<>(Collections.singletonMap("name", "kdk"));
+			List<Map<String, Object>> list = HttpClientUtil.StreamRequest.postJson(false, sBaseUrl + "/echo",
+					Collections.singletonList(body), new TypeReference<List<Map<String, Object>>>() {});
+			assertEquals("kdk", list.get(0).get("name"));
+
+			// 요청 본문은 chunked JSON 으로 전송
+			TypeReference<Map<String, String>> headersType = new TypeReference<Map<String, String>>() {};
+			Map<String, String> headers = HttpConnectionUtil.StreamRequest.postJson(false, sBaseUrl + "/request-headers", person, headersType);
+			assertEquals("chunked", headers.get("te"));
+			assertEquals("application/json; charset=UTF-8", headers.get("ct"));
+
+			headers = HttpClientUtil.StreamRequest.postJson(false, sBaseUrl + "/request-headers", person, headersType);
+			assertEquals("chunked", headers.get("te"));
+			assertEquals("application/json; charset=UTF-8", headers.get("ct"));
+
+			try {
+				HttpClientUtil.StreamRequest.postJson(false, sBaseUrl + "/missing", null, person, 3000, Person.class);
+				fail("404 는 HttpResponseException 이어야 합니다.");
+			} catch (HttpResponseException e) {
+				assertEquals(404, e.getStatusCode());
+			}
+		} finally {
+			HttpClientUtil.shutdown();
+			server.stop(0);
+		}
+	}
+
+	private static byte[] readAll(InputStream is) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1024];
+		int n;
+		while ( (n = is.read(buffer)) != -1 ) {
+			out.write(buffer, 0, n);
+		}
+		return out.toByteArray();
+	}
+
+}
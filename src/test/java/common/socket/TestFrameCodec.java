@@ -0,0 +1,208 @@
+package common.socket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import common.tcp.codec.AsciiLengthFieldFrameCodec;
+import common.tcp.codec.CorrelationIdField;
+import common.tcp.codec.DelimiterFrameCodec;
+import common.tcp.codec.FixedLengthFrameCodec;
+import common.tcp.codec.FrameAccumulator;
+import common.tcp.codec.FrameCodec;
+import common.tcp.codec.LengthFieldFrameCodec;
+
+/**
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class TestFrameCodec {
+
+	private static byte[] bytes(String s) {
+		return s.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static byte[] concat(byte[]... arrays) {
+		int nLen = 0;
+		for (byte[] b : arrays) {
+			nLen += b.length;
+		}
+
+		byte[] result = new byte[nLen];
+		int nPos = 0;
+		for (byte[] b : arrays) {
+			System.arraycopy(b, 0, result, nPos, b.length);
+			nPos += b.length;
+		}
+		return result;
+	}
+
+	/**
+	 * 전문 2개가 붙어서 오고, 세 번째 전문은 1바이트씩 나뉘어 오는 경우
+	 */
+	private static void assertSplitAndCoalesced(FrameCodec codec, byte[]... messages) throws IOException {
+		FrameAccumulator accumulator = new FrameAccumulator(codec, 8);
+
+		byte[] first = concat(codec.encode(messages[0]), codec.encode(messages[1]));
+		accumulator.append(first, 0, first.length);
+
+		assertArrayEquals(messages[0], accumulator.next());
+		assertArrayEquals(messages[1], accumulator.next());
+		assertNull(accumulator.next());
+
+		byte[] third = codec.encode(messages[2]);
+		for (int i = 0; i < third.length - 1; i++) {
+			accumulator.append(third, i, 1);
+			assertNull(accumulator.next());
+		}
+		accumulator.append(third, third.length - 1, 1);
+
+		assertArrayEquals(messages[2], accumulator.next());
+		assertEquals(0, accumulator.pending());
+	}
+
+	@Test
+	public void testLengthField() throws IOException {
+		assertSplitAndCoalesced(new LengthFieldFrameCodec(2), bytes("hello"), bytes("world!"), bytes("0123456789abcdef"));
+		assertSplitAndCoalesced(new LengthFieldFrameCodec(4), bytes("a"), bytes("bc"), bytes("0123456789abcdef0123"));
+	}
+
+	@Test
+	public void testAsciiLengthField() throws IOException {
+		FrameCodec codec = new AsciiLengthFieldFrameCodec(4);
+		assertArrayEquals(bytes("0005hello"), codec.encode(bytes("hello")));
+
+		assertSplitAndCoalesced(codec, bytes("abc"), bytes("xyz"), bytes("0123456789abcdef"));
+	}
+
+	@Test
+	public void testAsciiLengthFieldKeepHeader() throws IOException {
+		// 전문구분(2) + 전체 길이(5) + 본문
+		FrameCodec codec = new AsciiLengthFieldFrameCodec(2, 5, true, false, 1024);
+		byte[] telegram = bytes("8400012ABCDE");
+
+		FrameAccumulator accumulator = new FrameAccumulator(codec);
+		byte[] data = concat(telegram, bytes("84000"));
+		accumulator.append(data, 0, data.length);
+
+		assertArrayEquals(telegram, accumulator.next());
+		assertNull(accumulator.next());
+		assertEquals(5, accumulator.pending());
+	}
+
+	@Test(expected = IOException.class)
+	public void testAsciiLengthFieldInvalid() throws IOException {
+		FrameAccumulator accumulator = new FrameAccumulator(new AsciiLengthFieldFrameCodec(4));
+		byte[] data = bytes("00X5hello");
+		accumulator.append(data, 0, data.length);
+		accumulator.next();
+	}
+
+	@Test(expected = IOException.class)
+	public void testMaxFrameLength() throws IOException {
+		FrameAccumulator accumulator = new FrameAccumulator(new LengthFieldFrameCodec(0, 4, false, true, 1024));
+		byte[] data = new byte[] { 0x7F, 0, 0, 0 };
+		accumulator.append(data, 0, data.length);
+		accumulator.next();
+	}
+
+	@Test
+	public void testFixedLength() throws IOException {
+		FrameCodec codec = new FixedLengthFrameCodec(10);
+		assertArrayEquals(bytes("abc       "), codec.encode(bytes("abc")));
+
+		assertSplitAndCoalesced(codec, bytes("0123456789"), bytes("abcdefghij"), bytes("ABCDEFGHIJ"));
+	}
+
+	@Test
+	public void testDelimiter() throws IOException {
+		assertSplitAndCoalesced(new DelimiterFrameCodec(bytes("\r\n")), bytes("GET"), bytes(""), bytes("line with \r only"));
+	}
+
+	/**
+	 * 미완성 전문은 이전에 검사한 위치부터 이어서 검색 (구분자가 수신 경계에 걸친 경우 포함)
+	 */
+	@Test
+	public void testDelimiterIncrementalScan() throws IOException {
+		DelimiterFrameCodec delimiter = new DelimiterFrameCodec(bytes("END"));
+		List<Integer> scans = new ArrayList<>();
+		FrameCodec codec = new FrameCodec() {
+			@Override
+			public byte[] decode(ByteBuffer in) throws IOException {
+				return decode(in, 0);
+			}
+
+			@Override
+			public byte[] decode(ByteBuffer in, int nScanned) throws IOException {
+				scans.add(nScanned);
+				return delimiter.decode(in, nScanned);
+			}
+
+			@Override
+			public byte[] encode(byte[] message) {
+				return delimiter.encode(message);
+			}
+		};
+
+		// 버퍼 확장, 압축이 일어나도록 작은 초기 크기 사용
+		FrameAccumulator accumulator = new FrameAccumulator(codec, 4);
+		byte[] data = bytes("0123456789ENDabcEN");
+		for (int i = 0; i < data.length; i++) {
+			accumulator.append(data, i, 1);
+			if (i < 12) {
+				assertNull(accumulator.next());
+			}
+		}
+
+		assertArrayEquals(bytes("0123456789"), accumulator.next());
+		assertNull(accumulator.next());
+		accumulator.append(bytes("D"), 0, 1);
+		assertArrayEquals(bytes("abc"), accumulator.next());
+		assertEquals(0, accumulator.pending());
+
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			expected.add(i);
+		}
+		// 첫 전문 완성 후 0 부터 다시 시작
+		expected.add(12);
+		expected.add(0);
+		expected.add(5);
+		assertEquals(expected, scans);
+	}
+
+	@Test
+	public void testCorrelationIdField() throws IOException {
+		CorrelationIdField ascii = new CorrelationIdField(2, 6, true);
+		byte[] message = bytes("AB______body");
+		ascii.write(message, 4321);
+		assertArrayEquals(bytes("AB004321body"), message);
+		assertEquals(4321, ascii.read(message));
+		assertEquals(999999, ascii.getMaxValue());
+
+		CorrelationIdField binary = new CorrelationIdField(0, 4, false);
+		byte[] frame = new byte[6];
+		binary.write(frame, 0xCAFEBABEL);
+		assertEquals(0xCAFEBABEL, binary.read(frame));
+		assertEquals(0xFFFFFFFFL, binary.getMaxValue());
+	}
+
+	@Test(expected = IOException.class)
+	public void testCorrelationIdFieldInvalid() throws IOException {
+		new CorrelationIdField(0, 4, true).read(bytes("12a4"));
+	}
+
+}
@@ -0,0 +1,106 @@
+package common.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import common.tcp.timer.HashedTimingWheel;
+
+public class TestHashedTimingWheel {
+
+	private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Test
+	public void testExpireInOrder() {
+		HashedTimingWheel timer = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8);
+		long lStart = System.nanoTime();
+		List<String> fired = new ArrayList<>();
+
+		timer.newTimeout(() -> fired.add("a"), 30, TimeUnit.MILLISECONDS);
+		// 휠 한 바퀴(80ms)를 넘는 타임아웃
+		timer.newTimeout(() -> fired.add("b"), 200, TimeUnit.MILLISECONDS);
+		assertEquals(2, timer.pendingTimeouts());
+
+		timer.expireTimeouts(lStart);
+		assertTrue( fired.isEmpty() );
+
+		timer.expireTimeouts(lStart + 60 * MS);
+		assertEquals("[a]", fired.toString());
+
+		timer.expireTimeouts(lStart + 150 * MS);
+		assertEquals("[a]", fired.toString());
+
+		timer.expireTimeouts(lStart + 230 * MS);
+		assertEquals("[a, b]", fired.toString());
+		assertEquals(0, timer.pendingTimeouts());
+	}
+
+	@Test
+	public void testCancel() {
+		HashedTimingWheel timer = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8);
+		long lStart = System.nanoTime();
+		List<String> fired = new ArrayList<>();
+
+		HashedTimingWheel.Timeout timeout = timer.newTimeout(() -> fired.add("a"), 20, TimeUnit.MILLISECONDS);
+		timer.newTimeout(() -> fired.add("b"), 20, TimeUnit.MILLISECONDS);
+
+		assertTrue( timeout.cancel() );
+		assertFalse( timeout.cancel() );
+		assertEquals(1, timer.pendingTimeouts());
+
+		timer.expireTimeouts(lStart + 50 * MS);
+		assertEquals("[b]", fired.toString());
+		assertTrue( timeout.isCancelled() );
+	}
+
+	@Test
+	public void testRescheduleFromTask() {
+		HashedTimingWheel timer = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 4);
+		long lStart = System.nanoTime();
+		List<Integer> fired = new ArrayList<>();
+
+		Runnable[] task = new Runnable[1];
+		task[0] = () -> {
+			fired.add(fired.size());
+			if (fired.size() < 3) {
+				timer.newTimeout(task[0], 0, TimeUnit.MILLISECONDS);
+			}
+		};
+		timer.newTimeout(task[0], 0, TimeUnit.MILLISECONDS);
+
+		// 작업에서 다시 등록한 타임아웃은 같은 틱에서 실행되지 않음
+		timer.expireTimeouts(lStart + 15 * MS);
+		assertEquals(1, fired.size());
+
+		timer.expireTimeouts(lStart + 100 * MS);
+		assertEquals(3, fired.size());
+	}
+
+	/**
+	 * 작업에서 예외가 발생해도 같은 버킷의 다음 작업은 실행
+	 */
+	@Test
+	public void testThrowingTaskDoesNotDropBucket() {
+		HashedTimingWheel timer = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8);
+		long lStart = System.nanoTime();
+		List<String> fired = new ArrayList<>();
+
+		timer.newTimeout(() -> {
+			throw new IllegalStateException("테스트 예외");
+		}, 20, TimeUnit.MILLISECONDS);
+		HashedTimingWheel.Timeout timeout = timer.newTimeout(() -> fired.add("b"), 20, TimeUnit.MILLISECONDS);
+		assertEquals(2, timer.pendingTimeouts());
+
+		assertEquals(2, timer.expireTimeouts(lStart + 50 * MS));
+		assertEquals("[b]", fired.toString());
+		assertTrue( timeout.isExpired() );
+		assertEquals(0, timer.pendingTimeouts());
+	}
+
+}
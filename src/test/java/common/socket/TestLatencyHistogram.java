@@ -0,0 +1,54 @@
+package common.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import common.tcp.metrics.LatencyHistogram;
+
+public class TestLatencyHistogram {
+
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		// 1ms ~ 1000ms 균등 분포
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i, TimeUnit.MILLISECONDS);
+		}
+
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1000, histogram.getMax(TimeUnit.MILLISECONDS));
+		assertEquals(500.5, histogram.getMean(TimeUnit.MILLISECONDS), 0.001);
+
+		// 버킷 오차 12.5% 이내
+		assertWithin(500, histogram.getPercentile(50, TimeUnit.MILLISECONDS));
+		assertWithin(990, histogram.getPercentile(99, TimeUnit.MILLISECONDS));
+		assertWithin(999, histogram.getPercentile(99.9, TimeUnit.MILLISECONDS));
+		assertEquals(1000, histogram.getPercentile(100, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void testSmallValuesAndReset() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getPercentile(99, TimeUnit.MICROSECONDS));
+
+		histogram.record(3, TimeUnit.MICROSECONDS);
+		histogram.record(500, TimeUnit.NANOSECONDS);
+		assertEquals(0, histogram.getPercentile(50, TimeUnit.MICROSECONDS));
+		assertEquals(3, histogram.getPercentile(100, TimeUnit.MICROSECONDS));
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax(TimeUnit.MICROSECONDS));
+	}
+
+	private static void assertWithin(long lExpected, long lActual) {
+		assertTrue("expected ~" + lExpected + " but was " + lActual,
+				lActual >= lExpected && lActual <= lExpected * 1.125 + 1);
+	}
+
+}
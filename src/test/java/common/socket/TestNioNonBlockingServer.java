@@ -0,0 +1,489 @@
+package common.socket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+import common.tcp.codec.DelimiterFrameCodec;
+import common.tcp.codec.FrameCodec;
+import common.tcp.socketchannel.multi.NioNonBlockingServerThread;
+
+/**
+ * 평문 모드 루프백 테스트 (전문 구분자: \n)
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class TestNioNonBlockingServer {
+
+	private static int freePort() throws IOException {
+		try ( ServerSocket socket = new ServerSocket(0) ) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static NioNonBlockingServerThread newServer(int nPort, int nWorkerCount) {
+		NioNonBlockingServerThread server = new NioNonBlockingServerThread(nPort, "UTF-8", nWorkerCount);
+		server.setFrameCodec(new DelimiterFrameCodec("\n".getBytes(StandardCharsets.US_ASCII)));
+		server.setMBeanEnabled(false);
+		return server;
+	}
+
+	private static Socket connect(int nPort) throws IOException {
+		Socket socket = new Socket();
+		socket.setSoTimeout(10000);
+		socket.connect(new InetSocketAddress("127.0.0.1", nPort), 3000);
+		return socket;
+	}
+
+	private static void send(Socket socket, String sMessage) throws IOException {
+		OutputStream os = socket.getOutputStream();
+		os.write((sMessage + "\n").getBytes(StandardCharsets.UTF_8));
+		os.flush();
+	}
+
+	private static BufferedReader reader(Socket socket) throws IOException {
+		return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+	}
+
+	private static void await(BooleanSupplier condition, long lTimeoutMillis) throws InterruptedException {
+		long lDeadline = System.currentTimeMillis() + lTimeoutMillis;
+		while ( !condition.getAsBoolean() ) {
+			if (System.currentTimeMillis() > lDeadline) {
+				throw new AssertionError("조건을 만족하지 못했습니다 (" + lTimeoutMillis + " ms)");
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	private static File createFile(int nSize) throws IOException {
+		byte[] data = new byte[nSize];
+		new Random(nSize).nextBytes(data);
+
+		File file = File.createTempFile("TestNioNonBlockingServer", ".bin");
+		file.deleteOnExit();
+		Files.write(file.toPath(), data);
+		return file;
+	}
+
+	/**
+	 * 파일이 이 프로세스에서 열려 있지 않은지 확인 (/proc 이 없으면 삭제 가능 여부로 확인)
+	 */
+	private static void assertFileClosed(File file) throws IOException {
+		File fdDir = new File("/proc/self/fd");
+		if ( fdDir.isDirectory() ) {
+			Path target = file.toPath().toRealPath();
+			for (File fd : fdDir.listFiles()) {
+				try {
+					assertFalse("파일이 열려 있음: " + file, target.equals(Files.readSymbolicLink(fd.toPath())));
+				} catch (IOException e) {
+					// 확인 중에 닫힌 fd
+				}
+			}
+		}
+		assertTrue(file.delete());
+	}
+
+	/**
+	 * "file" 요청을 받으면 응답 대신 헤더(파일 크기 + \n) 와 파일을 전송하는 서버
+	 */
+	private static NioNonBlockingServerThread newFileServer(int nPort, File file, AtomicReference<CompletableFuture<Long>> transfer) {
+		NioNonBlockingServerThread server = newServer(nPort, 1);
+		server.setMessageHandler(new NioNonBlockingServerThread.MessageHandler() {
+			@Override
+			public CompletionStage<String> onMessage(String remoteAddress, String message) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public CompletionStage<String> onMessage(long lConnectionId, String remoteAddress, String message) {
+				byte[] header = (file.length() + "\n").getBytes(StandardCharsets.US_ASCII);
+				transfer.set(server.sendFile(lConnectionId, file, header));
+				return null;
+			}
+		});
+		return server;
+	}
+
+	private static byte[] readFile(Socket socket) throws IOException {
+		DataInputStream in = new DataInputStream(socket.getInputStream());
+		StringBuilder sb = new StringBuilder();
+		int b;
+		while ( (b = in.read()) != '\n' ) {
+			sb.append((char) b);
+		}
+
+		byte[] data = new byte[Integer.parseInt(sb.toString())];
+		in.readFully(data);
+		return data;
+	}
+
+	@Test
+	public void testConnectionsSpreadAcrossWorkers() throws Exception {
+		int nPort = freePort();
+		NioNonBlockingServerThread server = newServer(nPort, 4);
+		server.startServer();
+
+		List<Socket> sockets = new ArrayList<>();
+		try {
+			for (int i = 0; i < 8; i++) {
+				Socket socket = connect(nPort);
+				sockets.add(socket);
+				send(socket, "ping-" + i);
+				assertEquals("ping-" + i, reader(socket).readLine());
+			}
+
+			assertEquals(8, server.getConnectionCount());
+			assertArrayEquals(new int[] { 2, 2, 2, 2 }, server.getWorkerConnectionCounts());
+		} finally {
+			server.stopServer();
+			for (Socket socket : sockets) {
+				socket.close();
+			}
+		}
+	}
+
+	/**
+	 * Worker 가 처리 중일 때 종료해도 연결 정리 작업(버퍼 반납)이 실행됨
+	 */
+	@Test
+	public void testStopReleasesBuffers() throws Exception {
+		FrameCodec delimiter = new DelimiterFrameCodec("\n".getBytes(StandardCharsets.US_ASCII));
+		CountDownLatch decoding = new CountDownLatch(1);
+
+		int nPort = freePort();
+		NioNonBlockingServerThread server = newServer(nPort, 1);
+		server.setFrameCodec(new FrameCodec() {
+			@Override
+			public byte[] decode(ByteBuffer in) throws IOException {
+				if ( in.get(in.position()) == '#' && decoding.getCount() > 0 ) {
+					// 전문 일부를 누적 버퍼에 둔 채 Worker 스레드를 잡아둠
+					decoding.countDown();
+					try {
+						Thread.sleep(500);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return delimiter.decode(in);
+			}
+
+			@Override
+			public byte[] encode(byte[] message) {
+				return delimiter.encode(message);
+			}
+		});
+		server.startServer();
+
+		try ( Socket socket = connect(nPort) ) {
+			send(socket, "ping");
+			assertEquals("ping", reader(socket).readLine());
+
+			socket.getOutputStream().write("#partial".getBytes(StandardCharsets.UTF_8));
+			socket.getOutputStream().flush();
+			assertTrue(decoding.await(3, TimeUnit.SECONDS));
+
+			server.stopServer();
+		}
+
+		assertEquals(0, server.getConnectionCount());
+		assertEquals(0, server.getBufferPoolStats().getBorrowedBytes());
+	}
+
+	@Test
+	public void testResponseOrderWithHandlerPool() throws Exception {
+		int nPort = freePort();
+		NioNonBlockingServerThread server = newServer(nPort, 2);
+		server.setHandlerPoolSize(8, 1024);
+
+		// 응답이 요청 순서와 다르게 완료되도록 임의로 지연
+		ExecutorService completer = Executors.newFixedThreadPool(8);
+		server.setMessageHandler((remoteAddress, message) -> CompletableFuture.supplyAsync(() -> {
+			try {
+				Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "re:" + message;
+		}, completer));
+		server.startServer();
+
+		List<Socket> sockets = new ArrayList<>();
+		try {
+			int nMessages = 200;
+			for (int c = 0; c < 3; c++) {
+				Socket socket = connect(nPort);
+				sockets.add(socket);
+
+				StringBuilder sb = new StringBuilder();
+				for (int i = 0; i < nMessages; i++) {
+					sb.append(c).append('-').append(i).append('\n');
+				}
+				socket.getOutputStream().write(sb.toString().getBytes(StandardCharsets.UTF_8));
+				socket.getOutputStream().flush();
+			}
+
+			for (int c = 0; c < sockets.size(); c++) {
+				BufferedReader reader = reader(sockets.get(c));
+				for (int i = 0; i < nMessages; i++) {
+					assertEquals("re:" + c + "-" + i, reader.readLine());
+				}
+			}
+		} finally {
+			server.stopServer();
+			completer.shutdownNow();
+			for (Socket socket : sockets) {
+				socket.close();
+			}
+		}
+	}
+
+	@Test
+	public void testReadPausedAboveHighWaterMark() throws Exception {
+		int nPort = freePort();
+		NioNonBlockingServerThread server = newServer(nPort, 1);
+		server.setWriteBufferWaterMark(1024, 4096);
+
+		String sLarge = String.join("", Collections.nCopies(1024 * 1024, "x"));
+		AtomicInteger handled = new AtomicInteger();
+		server.setMessageHandler((remoteAddress, message) -> {
+			handled.incrementAndGet();
+			return CompletableFuture.completedFuture(sLarge);
+		});
+		server.startServer();
+
+		int nRequests = 20;
+		try ( Socket socket = new Socket() ) {
+			socket.setReceiveBufferSize(8192);
+			socket.setSoTimeout(10000);
+			socket.connect(new InetSocketAddress("127.0.0.1", nPort), 3000);
+
+			// 응답을 읽지 않고 요청만 보냄 (한 번에 하나씩 읽히도록 나누어 전송)
+			for (int i = 0; i < nRequests; i++) {
+				send(socket, "large-" + i);
+				Thread.sleep(20);
+			}
+
+			await(() -> server.getPausedConnectionCount() == 1, 3000);
+			int nHandled = handled.get();
+			Thread.sleep(200);
+			assertEquals(nHandled, handled.get());
+			assertTrue("소켓 버퍼를 넘는 요청은 읽지 않아야 함: " + nHandled, nHandled < nRequests);
+
+			// 응답을 읽으면 송신 대기량이 low 이하로 내려가 다시 읽음
+			BufferedReader reader = reader(socket);
+			for (int i = 0; i < nRequests; i++) {
+				assertEquals(sLarge.length(), reader.readLine().length());
+			}
+
+			assertEquals(nRequests, handled.get());
+			await(() -> server.getPausedConnectionCount() == 0 && server.getPendingWriteBytes() == 0, 3000);
+		} finally {
+			server.stopServer();
+		}
+	}
+
+	/**
+	 * 전체 송신 대기량이 high 를 넘으면 송신 대기가 없는 연결도 읽기 중지
+	 */
+	@Test
+	public void testGlobalPauseStopsAllConnections() throws Exception {
+		int nPort = freePort();
+		NioNonBlockingServerThread server = newServer(nPort, 2);
+		server.setWriteBufferWaterMark(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+		server.setGlobalWriteBufferWaterMark(64 * 1024, 256 * 1024);
+
+		String sLarge = String.join("", Collections.nCopies(1024 * 1024, "x"));
+		AtomicInteger handled = new AtomicInteger();
+		AtomicBoolean handledWhilePaused = new AtomicBoolean();
+		server.setMessageHandler((remoteAddress, message) -> {
+			handled.incrementAndGet();
+			if ( "while-paused".equals(message) ) {
+				handledWhilePaused.set(server.isGlobalWritePaused());
+			}
+			return CompletableFuture.completedFuture(message.startsWith("large") ? sLarge : message);
+		});
+		server.startServer();
+
+		try ( Socket reading = connect(nPort); Socket writing = new Socket() ) {
+			send(reading, "ping");
+			assertEquals("ping", reader(reading).readLine());
+
+			writing.setReceiveBufferSize(8192);
+			writing.setSoTimeout(10000);
+			writing.connect(new InetSocketAddress("127.0.0.1", nPort), 3000);
+
+			// 응답을 읽지 않는 연결이 전체 송신 대기량을 채움 (소켓 송신 버퍼에 들어가는 양보다 크게)
+			int nLarge = 8;
+			for (int i = 0; i < nLarge; i++) {
+				send(writing, "large-" + i);
+			}
+			await(() -> server.isGlobalWritePaused() && server.getPausedConnectionCount() == 2, 3000);
+
+			// 송신 대기가 없는 연결도 읽지 않음
+			send(reading, "while-paused");
+			Thread.sleep(200);
+			assertFalse(handledWhilePaused.get());
+
+			// 응답을 읽어 해소되면 모두 재개
+			BufferedReader writingReader = reader(writing);
+			for (int i = 0; i < nLarge; i++) {
+				assertEquals(sLarge.length(), writingReader.readLine().length());
+			}
+			assertEquals("while-paused", reader(reading).readLine());
+			await(() -> !server.isGlobalWritePaused() && server.getPausedConnectionCount() == 0, 3000);
+			assertFalse(handledWhilePaused.get());
+			assertEquals(2 + nLarge, handled.get());
+		} finally {
+			server.stopServer();
+		}
+	}
+
+	@Test
+	public void testSendFileZeroCopy() throws Exception {
+		File file = createFile(1024 * 1024 + 7);
+		AtomicReference<CompletableFuture<Long>> transfer = new AtomicReference<>();
+
+		int nPort = freePort();
+		NioNonBlockingServerThread server = newFileServer(nPort, file, transfer);
+		server.startServer();
+
+		try ( Socket socket = connect(nPort) ) {
+			send(socket, "file");
+			assertArrayEquals(Files.readAllBytes(file.toPath()), readFile(socket));
+			// sendFile 반환값은 파일 수신 후에 저장될 수 있음
+			await(() -> transfer.get() != null, 3000);
+			assertEquals(file.length(), transfer.get().get(3, TimeUnit.SECONDS).longValue());
+
+			// 파일 전송 후에도 일반 응답은 그대로 처리
+			send(socket, "file");
+			assertArrayEquals(Files.readAllBytes(file.toPath()), readFile(socket));
+		} finally {
+			server.stopServer();
+		}
+
+		assertFileClosed(file);
+		assertEquals(0, server.getPendingWriteMessages());
+	}
+
+	/**
+	 * 소켓 송신 버퍼가 가득 차서 transferTo 가 일부만 전송하면 OP_WRITE 로 이어서 전송
+	 */
+	@Test
+	public void testSendFilePartialTransfer() throws Exception {
+		File file = createFile(16 * 1024 * 1024);
+		AtomicReference<CompletableFuture<Long>> transfer = new AtomicReference<>();
+
+		int nPort = freePort();
+		NioNonBlockingServerThread server = newFileServer(nPort, file, transfer);
+		server.startServer();
+
+		try ( Socket socket = new Socket() ) {
+			socket.setReceiveBufferSize(8192);
+			socket.setSoTimeout(10000);
+			socket.connect(new InetSocketAddress("127.0.0.1", nPort), 3000);
+
+			send(socket, "file");
+			await(() -> transfer.get() != null, 3000);
+
+			// 읽지 않는 동안은 전송이 끝나지 않음
+			Thread.sleep(300);
+			assertFalse(transfer.get().isDone());
+			assertEquals(1, server.getPendingWriteMessages());
+
+			byte[] received = readFile(socket);
+			assertEquals(file.length(), transfer.get().get(3, TimeUnit.SECONDS).longValue());
+			assertTrue(Arrays.equals(Files.readAllBytes(file.toPath()), received));
+		} finally {
+			server.stopServer();
+		}
+
+		assertFileClosed(file);
+	}
+
+	/**
+	 * 전송 중에 연결이 끊어지면 전송 실패, 파일을 닫음
+	 */
+	@Test
+	public void testSendFileClosedOnDisconnect() throws Exception {
+		File file = createFile(16 * 1024 * 1024);
+		AtomicReference<CompletableFuture<Long>> transfer = new AtomicReference<>();
+
+		int nPort = freePort();
+		NioNonBlockingServerThread server = newFileServer(nPort, file, transfer);
+		server.startServer();
+
+		try {
+			try ( Socket socket = new Socket() ) {
+				socket.setReceiveBufferSize(8192);
+				socket.connect(new InetSocketAddress("127.0.0.1", nPort), 3000);
+
+				send(socket, "file");
+				await(() -> transfer.get() != null, 3000);
+				Thread.sleep(100);
+				assertFalse(transfer.get().isDone());
+			}
+
+			try {
+				transfer.get().get(5, TimeUnit.SECONDS);
+				throw new AssertionError("연결이 끊어지면 실패해야 합니다.");
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof IOException);
+			}
+
+			await(() -> server.getConnectionCount() == 0, 3000);
+			assertFileClosed(file);
+			assertEquals(0, server.getPendingWriteMessages());
+			assertEquals(0, server.getBufferPoolStats().getBorrowedBytes());
+
+			// 연결 ID 로 찾을 수 없는 연결
+			try {
+				server.sendFile(Long.MAX_VALUE, createFile(1)).get(3, TimeUnit.SECONDS);
+				throw new AssertionError("없는 연결이면 실패해야 합니다.");
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof IOException);
+			}
+		} finally {
+			server.stopServer();
+		}
+	}
+
+}
@@ -0,0 +1,190 @@
+package common.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.net.ssl.SSLContext;
+
+import org.junit.Test;
+
+import common.tcp.codec.DelimiterFrameCodec;
+import common.tcp.socket.SslContextCache;
+import common.tcp.socket.SslSocketTrustStoreVo;
+import common.tcp.socketchannel.multi.NioClientEventLoop;
+import common.tcp.socketchannel.multi.NioNonBlockingServerThread;
+import common.tcp.socketchannel.multi.NioSocketClientThread;
+
+/**
+ * NioNonBlockingServerThread 와의 루프백 테스트 (전문 구분자: \n)
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class TestNioSocketClientThread {
+
+	private static final String KEYSTORE_PATH = "src/test/resources/test-keystore.jks";
+	private static final String KEYSTORE_PASSWORD = "changeit";
+
+	private static int freePort() throws IOException {
+		try ( ServerSocket socket = new ServerSocket(0) ) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static DelimiterFrameCodec newCodec() {
+		return new DelimiterFrameCodec("\n".getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private static void await(BooleanSupplier condition, long lTimeoutMillis) throws InterruptedException {
+		long lDeadline = System.currentTimeMillis() + lTimeoutMillis;
+		while ( !condition.getAsBoolean() ) {
+			if (System.currentTimeMillis() > lDeadline) {
+				throw new AssertionError("조건을 만족하지 못했습니다 (" + lTimeoutMillis + " ms)");
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	private static class RecordingListener implements NioSocketClientThread.NioSocketClientListener {
+		private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+		private final CountDownLatch disconnected = new CountDownLatch(1);
+		private volatile Exception error;
+
+		@Override
+		public void onDataReceived(String data) {
+			received.offer(data);
+		}
+
+		@Override
+		public void onDisconnected() {
+			disconnected.countDown();
+		}
+
+		@Override
+		public void onError(Exception e) {
+			error = e;
+		}
+
+		String poll() throws InterruptedException {
+			return received.poll(5, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * 이벤트 루프 하나를 공유하는 클라이언트들이 연결 전에 보낸 데이터도 순서대로 전송
+	 */
+	@Test
+	public void testSharedEventLoopQueuedWriter() throws Exception {
+		int nPort = freePort();
+		NioNonBlockingServerThread server = new NioNonBlockingServerThread(nPort, "UTF-8", 1);
+		server.setFrameCodec(newCodec());
+		server.setMBeanEnabled(false);
+		server.startServer();
+
+		NioClientEventLoop eventLoop = new NioClientEventLoop();
+		List<NioSocketClientThread> clients = new ArrayList<>();
+		List<RecordingListener> listeners = new ArrayList<>();
+		try {
+			int nMessages = 100;
+			for (int c = 0; c < 3; c++) {
+				RecordingListener listener = new RecordingListener();
+				NioSocketClientThread client = new NioSocketClientThread("127.0.0.1", nPort, "UTF-8", false);
+				client.setFrameCodec(newCodec());
+				client.setEventLoop(eventLoop);
+				client.setListener(listener);
+				client.startClient();
+				clients.add(client);
+				listeners.add(listener);
+
+				// 연결 완료를 기다리지 않고 송신 큐에 넣음
+				for (int i = 0; i < nMessages; i++) {
+					client.send((c + "-" + i + "\n").getBytes(StandardCharsets.UTF_8));
+				}
+			}
+
+			for (int c = 0; c < clients.size(); c++) {
+				for (int i = 0; i < nMessages; i++) {
+					assertEquals(c + "-" + i, listeners.get(c).poll());
+				}
+				assertEquals(c + "-" + (nMessages - 1), clients.get(c).receive());
+				assertNull(listeners.get(c).error);
+			}
+			assertEquals(3, eventLoop.getChannelCount());
+
+			// 공유 이벤트 루프는 클라이언트를 종료해도 유지
+			for (NioSocketClientThread client : clients) {
+				client.stopClient();
+			}
+			for (RecordingListener listener : listeners) {
+				assertTrue(listener.disconnected.await(3, TimeUnit.SECONDS));
+			}
+			await(() -> eventLoop.getChannelCount() == 0, 3000);
+			assertFalse(eventLoop.isShutdown());
+		} finally {
+			eventLoop.shutdown();
+			server.stopServer();
+		}
+	}
+
+	/**
+	 * SSLEngine 핸드쉐이크 후 송수신, 서버가 종료하면 onDisconnected
+	 */
+	@Test
+	public void testSslEchoAndServerClose() throws Exception {
+		int nPort = freePort();
+		NioNonBlockingServerThread server = new NioNonBlockingServerThread(KEYSTORE_PATH, KEYSTORE_PASSWORD, nPort, "UTF-8", 1);
+		server.setFrameCodec(newCodec());
+		server.setMBeanEnabled(false);
+		server.startServer();
+
+		SslSocketTrustStoreVo trustStoreVo = new SslSocketTrustStoreVo();
+		trustStoreVo.setTrustStorePath(KEYSTORE_PATH);
+		trustStoreVo.setTrustStorePassword(KEYSTORE_PASSWORD);
+		SSLContext sslContext = SslContextCache.getSslContext(trustStoreVo);
+
+		RecordingListener listener = new RecordingListener();
+		NioSocketClientThread client = new NioSocketClientThread("127.0.0.1", nPort, "UTF-8", true);
+		client.setFrameCodec(newCodec());
+		client.setSslContext(sslContext);
+		client.setListener(listener);
+		try {
+			client.startClient();
+
+			// 핸드쉐이크 전에 보낸 데이터는 완료 후 전송
+			client.send("한글 전문\n".getBytes(StandardCharsets.UTF_8));
+			assertEquals("한글 전문", listener.poll());
+
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < 20000; i++) {
+				sb.append('x');
+			}
+			client.send((sb + "\n").getBytes(StandardCharsets.UTF_8));
+			assertEquals(sb.toString(), listener.poll());
+
+			server.stopServer();
+			assertTrue(listener.disconnected.await(5, TimeUnit.SECONDS));
+			assertNull(listener.error);
+		} finally {
+			client.stopClient();
+			server.stopServer();
+		}
+	}
+
+}
@@ -0,0 +1,277 @@
+package common.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import common.tcp.codec.AsciiLengthFieldFrameCodec;
+import common.tcp.codec.CorrelationIdField;
+import common.tcp.socketchannel.multi.PipelinedSocketClient;
+
+/**
+ * 요청/응답 다중화 클라이언트 루프백 테스트
+ *  - 전문 : 길이(ASCII 4자리) + 식별 번호 + 본문 + "@" + 응답 지연(ms, 음수면 응답하지 않음)
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class TestPipelinedSocketClient {
+
+	/**
+	 * 요청마다 지정한 시간 뒤에 전문을 그대로 돌려주는 서버 (응답 순서가 요청 순서와 다름)
+	 */
+	private static class DelayedEchoServer implements AutoCloseable {
+		private final ServerSocket serverSocket = new ServerSocket(0);
+		private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+		private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+
+		DelayedEchoServer() throws IOException {
+			Thread acceptor = new Thread(() -> {
+				while ( !serverSocket.isClosed() ) {
+					try {
+						Socket socket = serverSocket.accept();
+						accepted.add(socket);
+						Thread reader = new Thread(() -> serve(socket));
+						reader.setDaemon(true);
+						reader.start();
+					} catch (IOException e) {
+						return;
+					}
+				}
+			});
+			acceptor.setDaemon(true);
+			acceptor.start();
+		}
+
+		private void serve(Socket socket) {
+			try {
+				DataInputStream in = new DataInputStream(socket.getInputStream());
+				OutputStream out = socket.getOutputStream();
+				byte[] header = new byte[4];
+				while (true) {
+					in.readFully(header);
+					byte[] frame = new byte[4 + Integer.parseInt(new String(header, StandardCharsets.US_ASCII))];
+					System.arraycopy(header, 0, frame, 0, 4);
+					in.readFully(frame, 4, frame.length - 4);
+
+					String sBody = new String(frame, StandardCharsets.US_ASCII);
+					long lDelay = Long.parseLong(sBody.substring(sBody.lastIndexOf('@') + 1));
+					if (lDelay < 0) {
+						continue;
+					}
+
+					scheduler.schedule(() -> {
+						synchronized (out) {
+							try {
+								out.write(frame);
+								out.flush();
+							} catch (IOException e) {
+								// 연결 종료
+							}
+						}
+					}, lDelay, TimeUnit.MILLISECONDS);
+				}
+			} catch (IOException | RejectedExecutionException e) {
+				// 연결 종료
+			}
+		}
+
+		int getPort() {
+			return serverSocket.getLocalPort();
+		}
+
+		@Override
+		public void close() throws IOException {
+			scheduler.shutdownNow();
+			serverSocket.close();
+			for (Socket socket : accepted) {
+				socket.close();
+			}
+		}
+	}
+
+	private static PipelinedSocketClient newClient(int nPort, int nIdDigits) {
+		return new PipelinedSocketClient("127.0.0.1", nPort, false, new AsciiLengthFieldFrameCodec(4),
+				new CorrelationIdField(0, nIdDigits, true));
+	}
+
+	/**
+	 * 식별 번호 자리 + 본문 + "@" + 응답 지연
+	 */
+	private static byte[] message(int nIdDigits, String sText, long lDelayMillis) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < nIdDigits; i++) {
+			sb.append('0');
+		}
+		return sb.append(sText).append('@').append(lDelayMillis).toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * 응답에서 식별 번호를 제외한 본문
+	 */
+	private static String text(byte[] response, int nIdDigits) {
+		String sBody = new String(response, StandardCharsets.US_ASCII).substring(nIdDigits);
+		return sBody.substring(0, sBody.lastIndexOf('@'));
+	}
+
+	private static Throwable cause(CompletableFuture<?> future) throws InterruptedException {
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			throw new AssertionError("실패해야 합니다.");
+		} catch (ExecutionException e) {
+			return e.getCause();
+		} catch (TimeoutException e) {
+			throw new AssertionError("완료되지 않았습니다.");
+		}
+	}
+
+	@Test
+	public void testOutOfOrderResponses() throws Exception {
+		try ( DelayedEchoServer server = new DelayedEchoServer() ) {
+			PipelinedSocketClient client = newClient(server.getPort(), 8);
+			client.connect();
+			try {
+				List<String> completed = new CopyOnWriteArrayList<>();
+				CompletableFuture<byte[]> slow = client.request(message(8, "slow", 400));
+				CompletableFuture<byte[]> medium = client.request(message(8, "medium", 200));
+				CompletableFuture<byte[]> fast = client.request(message(8, "fast", 0));
+				slow.thenRun(() -> completed.add("slow"));
+				medium.thenRun(() -> completed.add("medium"));
+				fast.thenRun(() -> completed.add("fast"));
+				assertEquals(3, client.getInFlightCount());
+
+				assertEquals("slow", text(slow.get(5, TimeUnit.SECONDS), 8));
+				assertEquals("medium", text(medium.get(5, TimeUnit.SECONDS), 8));
+				assertEquals("fast", text(fast.get(5, TimeUnit.SECONDS), 8));
+
+				// 응답이 도착한 순서대로 완료
+				assertEquals("[fast, medium, slow]", completed.toString());
+				assertEquals(0, client.getInFlightCount());
+			} finally {
+				client.close();
+			}
+		}
+	}
+
+	/**
+	 * 타임아웃된 요청의 늦은 응답은 번호가 한 바퀴 돈 뒤의 새 요청에 전달되지 않음 (식별 번호 1자리 = 10개)
+	 */
+	@Test
+	public void testRequestTimeoutAndLateResponse() throws Exception {
+		try ( DelayedEchoServer server = new DelayedEchoServer() ) {
+			PipelinedSocketClient client = newClient(server.getPort(), 1);
+			client.setRequestTimeout(1000, TimeUnit.MILLISECONDS);
+			client.connect();
+			try {
+				// id=0, 타임아웃 후 약 0.5초 뒤 늦은 응답
+				CompletableFuture<byte[]> late = client.request(message(1, "late", 1600));
+				assertTrue(cause(late) instanceof SocketTimeoutException);
+				assertEquals(0, client.getInFlightCount());
+
+				// id=1 ~ 9
+				for (int i = 1; i < 10; i++) {
+					assertEquals("quick-" + i, text(client.request(message(1, "quick-" + i, 0)).get(5, TimeUnit.SECONDS), 1));
+				}
+
+				// 번호가 한 바퀴 돌아도 id=0 은 건너뜀, 늦은 응답이 도착한 뒤에 응답
+				CompletableFuture<byte[]> next = client.request(message(1, "next", 800));
+				assertEquals("next", text(next.get(5, TimeUnit.SECONDS), 1));
+				assertEquals(0, client.getInFlightCount());
+			} finally {
+				client.close();
+			}
+		}
+	}
+
+	@Test
+	public void testInFlightCapRejectsWithoutWait() throws Exception {
+		try ( DelayedEchoServer server = new DelayedEchoServer() ) {
+			PipelinedSocketClient client = newClient(server.getPort(), 8);
+			client.setMaxInFlight(2);
+			client.connect();
+			try {
+				CompletableFuture<byte[]> first = client.request(message(8, "first", 300));
+				CompletableFuture<byte[]> second = client.request(message(8, "second", 300));
+
+				assertTrue(cause(client.request(message(8, "third", 0))) instanceof RejectedExecutionException);
+
+				assertEquals("first", text(first.get(5, TimeUnit.SECONDS), 8));
+				assertEquals("second", text(second.get(5, TimeUnit.SECONDS), 8));
+				assertEquals("third", text(client.request(message(8, "third", 0)).get(5, TimeUnit.SECONDS), 8));
+			} finally {
+				client.close();
+			}
+		}
+	}
+
+	/**
+	 * 대기 시간을 지정하면 응답 대기 중인 요청이 끝날 때까지 호출 스레드가 기다림
+	 */
+	@Test
+	public void testInFlightCapBlocksCaller() throws Exception {
+		try ( DelayedEchoServer server = new DelayedEchoServer() ) {
+			PipelinedSocketClient client = newClient(server.getPort(), 8);
+			client.setMaxInFlight(2);
+			client.setInFlightWaitTimeout(3, TimeUnit.SECONDS);
+			client.connect();
+			try {
+				CompletableFuture<byte[]> first = client.request(message(8, "first", 300));
+				client.request(message(8, "second", 2000));
+
+				long lStart = System.nanoTime();
+				CompletableFuture<byte[]> third = client.request(message(8, "third", 0));
+				long lWaited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lStart);
+
+				// first 의 응답(300ms)을 받은 뒤에 전송됨
+				assertTrue("대기 시간: " + lWaited, lWaited >= 200);
+				assertEquals("first", text(first.get(5, TimeUnit.SECONDS), 8));
+				assertEquals("third", text(third.get(5, TimeUnit.SECONDS), 8));
+			} finally {
+				client.close();
+			}
+		}
+	}
+
+	@Test
+	public void testInFlightWaitTimeout() throws Exception {
+		try ( DelayedEchoServer server = new DelayedEchoServer() ) {
+			PipelinedSocketClient client = newClient(server.getPort(), 8);
+			client.setMaxInFlight(1);
+			client.setInFlightWaitTimeout(100, TimeUnit.MILLISECONDS);
+			client.connect();
+			try {
+				client.request(message(8, "never", -1));
+
+				long lStart = System.nanoTime();
+				CompletableFuture<byte[]> rejected = client.request(message(8, "rejected", 0));
+				assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lStart) >= 80);
+				assertTrue(cause(rejected) instanceof RejectedExecutionException);
+			} finally {
+				client.close();
+			}
+		}
+	}
+
+}
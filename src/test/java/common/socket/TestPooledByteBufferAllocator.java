@@ -0,0 +1,103 @@
+package common.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import common.tcp.buffer.PooledByteBufferAllocator;
+import common.tcp.codec.FrameAccumulator;
+import common.tcp.codec.LengthFieldFrameCodec;
+
+public class TestPooledByteBufferAllocator {
+
+	@Test
+	public void testAcquireRelease() {
+		PooledByteBufferAllocator allocator = new PooledByteBufferAllocator(new int[] {1024, 4096}, 1, true);
+
+		ByteBuffer buffer = allocator.acquire(1000);
+		assertEquals(1024, buffer.capacity());
+		assertTrue( buffer.isDirect() );
+		assertEquals(1, allocator.getStats().getSizeClasses().get(0).getBorrowed());
+
+		buffer.put((byte) 1);
+		allocator.release(buffer);
+
+		ByteBuffer reused = allocator.acquire(1024);
+		assertSame(buffer, reused);
+		assertEquals(0, reused.position());
+
+		// 최대 유휴 개수(1)를 넘는 버퍼는 버림
+		ByteBuffer other = allocator.acquire(1);
+		allocator.release(reused);
+		allocator.release(other);
+
+		PooledByteBufferAllocator.SizeClassStats stats = allocator.getStats().getSizeClasses().get(0);
+		assertEquals(1, stats.getAllocated());
+		assertEquals(0, stats.getBorrowed());
+		assertEquals(1, stats.getIdle());
+	}
+
+	@Test
+	public void testRejectDoubleAndForeignRelease() {
+		PooledByteBufferAllocator allocator = new PooledByteBufferAllocator(new int[] {1024}, 8, false);
+
+		ByteBuffer buffer = allocator.acquire(1024);
+		allocator.release(buffer);
+		allocator.release(buffer);
+
+		// 같은 크기지만 풀에서 빌리지 않은 버퍼
+		allocator.release(ByteBuffer.allocate(1024));
+
+		PooledByteBufferAllocator.SizeClassStats stats = allocator.getStats().getSizeClasses().get(0);
+		assertEquals(0, stats.getBorrowed());
+		assertEquals(1, stats.getIdle());
+		assertEquals(2, allocator.getStats().getRejectedReleases());
+
+		// 중복 반납된 버퍼를 두 번 빌려주지 않음
+		ByteBuffer first = allocator.acquire(1024);
+		ByteBuffer second = allocator.acquire(1024);
+		assertSame(buffer, first);
+		assertTrue(first != second);
+		assertEquals(2, allocator.getStats().getSizeClasses().get(0).getBorrowed());
+	}
+
+	@Test
+	public void testUnpooled() {
+		PooledByteBufferAllocator allocator = new PooledByteBufferAllocator(new int[] {1024}, 8, false);
+
+		ByteBuffer buffer = allocator.acquire(5000);
+		assertEquals(5000, buffer.capacity());
+		allocator.release(buffer);
+
+		assertEquals(1, allocator.getStats().getUnpooledAllocations());
+		assertEquals(0, allocator.getStats().getAllocatedBytes());
+	}
+
+	@Test
+	public void testFrameAccumulatorReleasesWhenDrained() throws Exception {
+		PooledByteBufferAllocator allocator = new PooledByteBufferAllocator(new int[] {16, 64}, 8, true);
+		LengthFieldFrameCodec codec = new LengthFieldFrameCodec(2);
+		FrameAccumulator accumulator = new FrameAccumulator(codec, allocator, 16);
+
+		byte[] frame = codec.encode("0123456789".getBytes());
+		accumulator.append(frame, 0, 5);
+		assertNull( accumulator.next() );
+		assertEquals(16, allocator.getStats().getBorrowedBytes());
+
+		// 확장 시 큰 버퍼로 교체하고 기존 버퍼는 반납
+		accumulator.append(frame, 5, frame.length - 5);
+		accumulator.append(frame, 0, frame.length);
+		assertEquals(64, allocator.getStats().getBorrowedBytes());
+
+		assertEquals("0123456789", new String(accumulator.next()));
+		assertEquals("0123456789", new String(accumulator.next()));
+		assertNull( accumulator.next() );
+		assertEquals(0, allocator.getStats().getBorrowedBytes());
+	}
+
+}
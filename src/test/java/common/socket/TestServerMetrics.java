@@ -0,0 +1,101 @@
+package common.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.Test;
+
+import common.tcp.metrics.HandshakeMetrics;
+import common.tcp.metrics.PayloadLogPolicy;
+import common.tcp.metrics.ServerMetrics;
+
+public class TestServerMetrics {
+
+	@Test
+	public void testPayloadLogPolicy() {
+		PayloadLogPolicy policy = new PayloadLogPolicy(PayloadLogPolicy.Mode.SAMPLED, 10);
+
+		int nLogged = 0;
+		for (int i = 0; i < 100; i++) {
+			if ( policy.shouldLog() ) {
+				nLogged++;
+			}
+		}
+		assertEquals(10, nLogged);
+
+		policy.setMode(PayloadLogPolicy.parseMode("off"));
+		assertFalse(policy.shouldLog());
+
+		policy.setMode(PayloadLogPolicy.parseMode(" Full "));
+		assertTrue(policy.shouldLog());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPayloadLogPolicyInvalidMode() {
+		PayloadLogPolicy.parseMode("verbose");
+	}
+
+	@Test
+	public void testMBean() throws Exception {
+		ServerMetrics metrics = newMetrics();
+		metrics.recordAccept();
+		metrics.recordBytesIn(100);
+		metrics.recordMessageIn();
+		metrics.recordHandler(TimeUnit.MILLISECONDS.toNanos(2));
+
+		metrics.registerMBean("TestServer", 1);
+		ObjectName name = metrics.getObjectName();
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		try {
+			assertEquals(2, ((Number) mBeanServer.getAttribute(name, "ActiveConnections")).intValue());
+			assertEquals(1L, mBeanServer.getAttribute(name, "AcceptedConnections"));
+			assertEquals(100L, mBeanServer.getAttribute(name, "BytesIn"));
+			assertEquals(7L, mBeanServer.getAttribute(name, "OutboundQueueDepth"));
+
+			CompositeData handlerLatency = (CompositeData) mBeanServer.getAttribute(name, "HandlerLatency");
+			assertEquals(1L, handlerLatency.get("count"));
+			assertEquals(2000L, handlerLatency.get("maxMicros"));
+
+			// 실행 중 로그 정책 변경
+			mBeanServer.setAttribute(name, new Attribute("PayloadLogMode", "sampled"));
+			mBeanServer.setAttribute(name, new Attribute("PayloadLogSampleRate", 50));
+			assertEquals(PayloadLogPolicy.Mode.SAMPLED, metrics.getPayloadLogPolicy().getMode());
+			assertEquals(50, metrics.getPayloadLogPolicy().getSampleRate());
+		} finally {
+			metrics.unregisterMBean();
+		}
+
+		assertNull(metrics.getObjectName());
+		assertFalse(mBeanServer.isRegistered(name));
+	}
+
+	private static ServerMetrics newMetrics() {
+		return new ServerMetrics(
+				new IntSupplier() {
+					@Override
+					public int getAsInt() {
+						return 2;
+					}
+				},
+				new LongSupplier() {
+					@Override
+					public long getAsLong() {
+						return 7;
+					}
+				},
+				new HandshakeMetrics(), new PayloadLogPolicy(PayloadLogPolicy.Mode.FULL, 100));
+	}
+
+}
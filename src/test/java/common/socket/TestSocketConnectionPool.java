@@ -0,0 +1,315 @@
+package common.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+
+import org.junit.Test;
+
+import common.tcp.codec.DelimiterFrameCodec;
+import common.tcp.socket.SocketClient;
+import common.tcp.socket.SslContextCache;
+import common.tcp.socket.SslSocketTrustStoreVo;
+import common.tcp.socket.multi.SocketServerRunnable;
+import common.tcp.socket.pool.PooledConnection;
+import common.tcp.socket.pool.SocketConnectionPool;
+import common.tcp.socketchannel.NioSocketClient;
+
+/**
+ * 커넥션 풀 루프백 테스트 (전문 구분자: \n)
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class TestSocketConnectionPool {
+
+	private static final String KEYSTORE_PATH = "src/test/resources/test-keystore.jks";
+	private static final String KEYSTORE_PASSWORD = "changeit";
+
+	/**
+	 * 평문 에코 서버 (연결 하나당 스레드 하나, 서버 쪽에서 연결을 끊을 수 있음)
+	 */
+	private static class EchoServer implements AutoCloseable {
+		private final ServerSocket serverSocket = new ServerSocket(0);
+		private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+
+		EchoServer() throws IOException {
+			Thread acceptor = new Thread(() -> {
+				while ( !serverSocket.isClosed() ) {
+					try {
+						Socket socket = serverSocket.accept();
+						accepted.add(socket);
+						Thread handler = new Thread(() -> echo(socket));
+						handler.setDaemon(true);
+						handler.start();
+					} catch (IOException e) {
+						return;
+					}
+				}
+			});
+			acceptor.setDaemon(true);
+			acceptor.start();
+		}
+
+		private static void echo(Socket socket) {
+			try ( Socket s = socket ) {
+				BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+				OutputStream os = s.getOutputStream();
+				String sLine;
+				while ( (sLine = reader.readLine()) != null ) {
+					os.write((sLine + "\n").getBytes(StandardCharsets.UTF_8));
+					os.flush();
+				}
+			} catch (IOException e) {
+				// 연결 종료
+			}
+		}
+
+		int getPort() {
+			return serverSocket.getLocalPort();
+		}
+
+		int getAcceptedCount() {
+			return accepted.size();
+		}
+
+		void disconnectAll() throws IOException {
+			for (Socket socket : accepted) {
+				socket.close();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			serverSocket.close();
+			disconnectAll();
+		}
+	}
+
+	private static String echo(PooledConnection conn, String sMessage) throws IOException {
+		conn.getOutputStream().write((sMessage + "\n").getBytes(StandardCharsets.UTF_8));
+		conn.getOutputStream().flush();
+
+		// 응답 한 줄만 읽음 (BufferedReader 로 감싸면 다음 응답까지 미리 읽을 수 있으므로 직접 읽음)
+		StringBuilder sb = new StringBuilder();
+		int b;
+		while ( (b = conn.getInputStream().read()) != '\n' ) {
+			if (b == -1) {
+				throw new IOException("연결 종료");
+			}
+			sb.append((char) b);
+		}
+		return sb.toString();
+	}
+
+	private static void await(BooleanSupplier condition, long lTimeoutMillis) throws InterruptedException {
+		long lDeadline = System.currentTimeMillis() + lTimeoutMillis;
+		while ( !condition.getAsBoolean() ) {
+			if (System.currentTimeMillis() > lDeadline) {
+				throw new AssertionError("조건을 만족하지 못했습니다 (" + lTimeoutMillis + " ms)");
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	private static SslSocketTrustStoreVo trustStore() {
+		SslSocketTrustStoreVo trustStoreVo = new SslSocketTrustStoreVo();
+		trustStoreVo.setTrustStorePath(KEYSTORE_PATH);
+		trustStoreVo.setTrustStorePassword(KEYSTORE_PASSWORD);
+		return trustStoreVo;
+	}
+
+	@Test
+	public void testBorrowTimeoutWhenExhausted() throws Exception {
+		SocketConnectionPool pool = new SocketConnectionPool();
+		pool.setPoolSize(0, 1, 1);
+		pool.setBorrowTimeout(200, TimeUnit.MILLISECONDS);
+
+		try ( EchoServer server = new EchoServer() ) {
+			PooledConnection first = pool.borrow("127.0.0.1", server.getPort(), false, null);
+			assertEquals("a", echo(first, "a"));
+
+			long lStart = System.nanoTime();
+			try {
+				pool.borrow("127.0.0.1", server.getPort(), false, null);
+				fail("최대 연결 수에 도달하면 대기 후 실패해야 함");
+			} catch (SocketTimeoutException e) {
+				assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lStart) >= 150);
+			}
+
+			// 반납하면 같은 연결을 재사용
+			Socket socket = first.getSocket();
+			first.close();
+			try ( PooledConnection second = pool.borrow("127.0.0.1", server.getPort(), false, null) ) {
+				assertSame(socket, second.getSocket());
+				assertEquals("b", echo(second, "b"));
+			}
+			assertEquals(1, server.getAcceptedCount());
+			assertEquals(1, pool.getTotalCount());
+			assertEquals(1, pool.getIdleCount());
+		} finally {
+			pool.close();
+		}
+	}
+
+	/**
+	 * 서버가 끊은 유휴 연결은 대여 시 검사하여 새 연결로 대체
+	 */
+	@Test
+	public void testStaleConnectionReplacedOnBorrow() throws Exception {
+		SocketConnectionPool pool = new SocketConnectionPool();
+
+		try ( EchoServer server = new EchoServer() ) {
+			Socket stale;
+			try ( PooledConnection conn = pool.borrow("127.0.0.1", server.getPort(), false, null) ) {
+				assertEquals("a", echo(conn, "a"));
+				stale = conn.getSocket();
+			}
+
+			server.disconnectAll();
+			// 최근에 사용한 연결은 검사를 생략하므로 그 이후까지 대기
+			Thread.sleep(600);
+
+			try ( PooledConnection conn = pool.borrow("127.0.0.1", server.getPort(), false, null) ) {
+				assertNotSame(stale, conn.getSocket());
+				assertTrue(stale.isClosed());
+				assertEquals("b", echo(conn, "b"));
+			}
+			assertEquals(2, server.getAcceptedCount());
+			assertEquals(1, pool.getTotalCount());
+		} finally {
+			pool.close();
+		}
+	}
+
+	@Test
+	public void testIdleEviction() throws Exception {
+		SocketConnectionPool pool = new SocketConnectionPool(50);
+		pool.setPoolSize(1, 4, 4);
+		pool.setIdleTimeout(100, TimeUnit.MILLISECONDS);
+
+		try ( EchoServer server = new EchoServer() ) {
+			PooledConnection first = pool.borrow("127.0.0.1", server.getPort(), false, null);
+			PooledConnection second = pool.borrow("127.0.0.1", server.getPort(), false, null);
+			PooledConnection third = pool.borrow("127.0.0.1", server.getPort(), false, null);
+			first.close();
+			second.close();
+			third.close();
+			assertEquals(3, pool.getIdleCount());
+
+			// 유휴 시간을 넘긴 연결은 minIdle 개만 남기고 종료
+			await(() -> pool.getIdleCount() == 1 && pool.getTotalCount() == 1, 3000);
+
+			// 반납한 연결이 없어도 minIdle 개는 미리 생성
+			PooledConnection kept = pool.borrow("127.0.0.1", server.getPort(), false, null);
+			await(() -> pool.getIdleCount() == 1 && pool.getTotalCount() == 2, 3000);
+			kept.close();
+		} finally {
+			pool.close();
+		}
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	/**
+	 * 같은 신뢰 저장소는 SSLContext 하나를 재사용 (VO 인스턴스가 달라도 동일)
+	 */
+	@Test
+	public void testSslContextReuse() throws Exception {
+		SSLContext sslContext = SslContextCache.getSslContext(trustStore());
+		assertSame(sslContext, SslContextCache.getSslContext(trustStore()));
+		assertSame(SslContextCache.getSslContext(null), SslContextCache.getSslContext(null));
+
+		SslSocketTrustStoreVo wrongPassword = trustStore();
+		wrongPassword.setTrustStorePassword("wrong-password");
+		try {
+			SslContextCache.getSslContext(wrongPassword);
+			fail("비밀번호가 다르면 캐시된 SSLContext 를 반환하면 안 됨");
+		} catch (IOException e) {
+			// 키 저장소 무결성 검사 실패
+		}
+
+		int nPort;
+		try ( ServerSocket socket = new ServerSocket(0) ) {
+			nPort = socket.getLocalPort();
+		}
+		SocketServerRunnable server = new SocketServerRunnable(KEYSTORE_PATH, KEYSTORE_PASSWORD, nPort, "UTF-8");
+		server.setFrameCodec(new DelimiterFrameCodec("\n".getBytes(StandardCharsets.US_ASCII)));
+		server.setMBeanEnabled(false);
+		server.startServer();
+
+		SocketConnectionPool pool = new SocketConnectionPool();
+		try {
+			PooledConnection first = pool.borrow("127.0.0.1", nPort, true, trustStore());
+			PooledConnection second = pool.borrow("127.0.0.1", nPort, true, trustStore());
+			assertEquals("a", echo(first, "a"));
+			assertEquals("b", echo(second, "b"));
+
+			// 풀의 연결은 캐시된 SSLContext 의 세션 캐시를 공유
+			assertSame(sslContext.getClientSessionContext(), ((SSLSocket) first.getSocket()).getSession().getSessionContext());
+			assertSame(sslContext.getClientSessionContext(), ((SSLSocket) second.getSocket()).getSession().getSessionContext());
+			first.close();
+			second.close();
+			assertEquals(2, pool.getIdleCount());
+
+			// 풀 키는 비밀번호 다이제스트를 포함하므로 비밀번호가 다르면 유휴 연결을 빌려주지 않음
+			try {
+				pool.borrow("127.0.0.1", nPort, true, wrongPassword);
+				fail("비밀번호가 다르면 유휴 연결을 빌려주면 안 됨");
+			} catch (IOException e) {
+				// 키 저장소 무결성 검사 실패
+			}
+			assertEquals(2, pool.getIdleCount());
+		} finally {
+			pool.close();
+			server.stopServer();
+		}
+	}
+
+	/**
+	 * 코덱 없이 풀을 사용하면 응답의 끝을 알 수 없으므로 응답 후 연결을 반납하지 않고 종료
+	 */
+	@Test
+	public void testUnframedClientDoesNotReuseConnection() throws Exception {
+		SocketConnectionPool pool = new SocketConnectionPool();
+		try ( EchoServer server = new EchoServer() ) {
+			SocketClient client = new SocketClient();
+			client.setConnectionPool(pool);
+			client.start("127.0.0.1", server.getPort(), "a\n".getBytes(StandardCharsets.UTF_8), "UTF-8", false, false, null);
+			client.start("127.0.0.1", server.getPort(), "b\n".getBytes(StandardCharsets.UTF_8), "UTF-8", false, false, null);
+			assertEquals("b\n", client.getsRecvData());
+
+			NioSocketClient nioClient = new NioSocketClient();
+			nioClient.setConnectionPool(pool);
+			nioClient.start("127.0.0.1", server.getPort(), "가\n".getBytes(StandardCharsets.UTF_8), "UTF-8", false, false, null);
+			assertEquals("가\n", nioClient.getsRecvData());
+
+			await(() -> server.getAcceptedCount() == 3, 3000);
+			assertEquals(0, pool.getIdleCount());
+		} finally {
+			pool.close();
+		}
+	}
+
+}
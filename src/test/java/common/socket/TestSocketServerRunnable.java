@@ -0,0 +1,343 @@
+package common.socket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.junit.Test;
+
+import common.tcp.codec.DelimiterFrameCodec;
+import common.tcp.socket.SslContextCache;
+import common.tcp.socket.SslSocketTrustStoreVo;
+import common.tcp.socket.multi.SocketServerRunnable;
+
+/**
+ * SSL 루프백 테스트 (키 저장소: src/test/resources/test-keystore.jks, 전문 구분자: \n)
+ * @since 2026. 10. 18.
+ * @author kdk
+ * <pre>
+ * -----------------------------------
+ * 개정이력
+ * 2026. 10. 18. kdk	최초작성
+ * </pre>
+ */
+public class TestSocketServerRunnable {
+
+	private static final String KEYSTORE_PATH = "src/test/resources/test-keystore.jks";
+	private static final String KEYSTORE_PASSWORD = "changeit";
+
+	private static int freePort() throws IOException {
+		try ( ServerSocket socket = new ServerSocket(0) ) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static SocketServerRunnable newServer(int nPort) {
+		SocketServerRunnable server = new SocketServerRunnable(KEYSTORE_PATH, KEYSTORE_PASSWORD, nPort, "UTF-8");
+		server.setFrameCodec(new DelimiterFrameCodec("\n".getBytes(StandardCharsets.US_ASCII)));
+		server.setMBeanEnabled(false);
+		return server;
+	}
+
+	private static SSLSocket connect(int nPort) throws Exception {
+		SslSocketTrustStoreVo trustStoreVo = new SslSocketTrustStoreVo();
+		trustStoreVo.setTrustStorePath(KEYSTORE_PATH);
+		trustStoreVo.setTrustStorePassword(KEYSTORE_PASSWORD);
+		SSLContext sslContext = SslContextCache.getSslContext(trustStoreVo);
+
+		SSLSocket socket = (SSLSocket) sslContext.getSocketFactory().createSocket("127.0.0.1", nPort);
+		socket.setSoTimeout(10000);
+		return socket;
+	}
+
+	/**
+	 * 전송 후 응답 한 줄을 읽음 (SSL 핸드쉐이크는 첫 전송 시 수행)
+	 */
+	private static String echo(SSLSocket socket, String sMessage) throws IOException {
+		OutputStream os = socket.getOutputStream();
+		os.write((sMessage + "\n").getBytes(StandardCharsets.UTF_8));
+		os.flush();
+		return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)).readLine();
+	}
+
+	private static CompletableFuture<String> echoAsync(int nPort, String sMessage, List<SSLSocket> sockets) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				SSLSocket socket = connect(nPort);
+				synchronized (sockets) {
+					sockets.add(socket);
+				}
+				return echo(socket, sMessage);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	private static void await(BooleanSupplier condition, long lTimeoutMillis) throws InterruptedException {
+		long lDeadline = System.currentTimeMillis() + lTimeoutMillis;
+		while ( !condition.getAsBoolean() ) {
+			if (System.currentTimeMillis() > lDeadline) {
+				throw new AssertionError("조건을 만족하지 못했습니다 (" + lTimeoutMillis + " ms)");
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	private static void closeAll(List<SSLSocket> sockets) {
+		synchronized (sockets) {
+			for (SSLSocket socket : sockets) {
+				try {
+					socket.close();
+				} catch (IOException e) {
+					// 무시
+				}
+			}
+		}
+	}
+
+	/**
+	 * core 를 넘는 연결은 큐에 넣지 않고 max 까지 스레드를 늘리고, max 를 넘으면 빈 스레드를 기다림
+	 */
+	@Test
+	public void testElasticHandlerPool() throws Exception {
+		int nPort = freePort();
+		SocketServerRunnable server = newServer(nPort);
+		server.setHandlerPoolSize(1, 3, 2);
+		server.startServer();
+
+		List<SSLSocket> sockets = new ArrayList<>();
+		try {
+			for (int i = 0; i < 3; i++) {
+				SSLSocket socket = connect(nPort);
+				sockets.add(socket);
+				assertEquals("ping-" + i, echo(socket, "ping-" + i));
+			}
+			assertEquals(3, server.getHandlerPoolSize());
+			assertEquals(3, server.getActiveHandlerCount());
+			assertEquals(0, server.getQueuedHandlerCount());
+
+			// 스레드가 모두 사용 중이면 대기 큐에서 기다림
+			CompletableFuture<String> queued = echoAsync(nPort, "queued", sockets);
+			await(() -> server.getQueuedHandlerCount() == 1, 3000);
+			Thread.sleep(200);
+			assertFalse(queued.isDone());
+			assertEquals(4, server.getConnectionCount());
+
+			// 앞 연결이 끝나면 처리됨
+			sockets.get(0).close();
+			assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+			assertEquals(3, server.getHandlerPoolSize());
+			assertEquals(0, server.getRejectedConnectionCount());
+		} finally {
+			server.stopServer();
+			closeAll(sockets);
+		}
+	}
+
+	/**
+	 * 스레드가 모두 사용 중일 때 연결이 한꺼번에 들어와도 (새 스레드가 작업을 시작하기 전이라도) 큐에 넣지 않고 스레드를 늘림
+	 */
+	@Test
+	public void testBurstWhileHandlersBusy() throws Exception {
+		int nPort = freePort();
+		SocketServerRunnable server = newServer(nPort);
+		server.setHandlerPoolSize(2, 8, 10);
+		server.startServer();
+
+		ExecutorService connector = Executors.newFixedThreadPool(6);
+		List<SSLSocket> sockets = new ArrayList<>();
+		try {
+			for (int i = 0; i < 2; i++) {
+				SSLSocket socket = connect(nPort);
+				sockets.add(socket);
+				assertEquals("busy-" + i, echo(socket, "busy-" + i));
+			}
+			assertEquals(2, server.getActiveHandlerCount());
+
+			// 핸드쉐이크 없이 연결만 동시에 맺어서 수락 스레드가 작업을 한꺼번에 제출하게 함
+			CountDownLatch start = new CountDownLatch(1);
+			List<CompletableFuture<SSLSocket>> connects = new ArrayList<>();
+			for (int i = 0; i < 6; i++) {
+				connects.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						start.await();
+						return connect(nPort);
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+				}, connector));
+			}
+			start.countDown();
+			List<SSLSocket> burst = new ArrayList<>();
+			for (CompletableFuture<SSLSocket> connected : connects) {
+				SSLSocket socket = connected.get(5, TimeUnit.SECONDS);
+				sockets.add(socket);
+				burst.add(socket);
+			}
+			await(() -> server.getConnectionCount() == 8, 3000);
+			assertEquals(0, server.getQueuedHandlerCount());
+			assertEquals(8, server.getHandlerPoolSize());
+
+			for (int i = 0; i < burst.size(); i++) {
+				assertEquals("burst-" + i, echo(burst.get(i), "burst-" + i));
+			}
+			assertEquals(0, server.getRejectedConnectionCount());
+		} finally {
+			connector.shutdownNow();
+			server.stopServer();
+			closeAll(sockets);
+		}
+	}
+
+	/**
+	 * 같은 SSLContext 로 다시 연결하면 세션 재사용으로 집계
+	 *  - JDK 의 TLS 1.3 은 재사용할 때도 새 세션 ID 를 발급하므로 TLS 1.2 로 확인
+	 */
+	@Test
+	public void testSessionResumption() throws Exception {
+		int nPort = freePort();
+		SocketServerRunnable server = newServer(nPort);
+		server.startServer();
+
+		// 다른 테스트의 세션 캐시와 섞이지 않도록 새 SSLContext 사용
+		KeyStore trustStore = KeyStore.getInstance("JKS");
+		try ( FileInputStream fis = new FileInputStream(KEYSTORE_PATH) ) {
+			trustStore.load(fis, KEYSTORE_PASSWORD.toCharArray());
+		}
+		TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		tmf.init(trustStore);
+		SSLContext sslContext = SSLContext.getInstance("TLS");
+		sslContext.init(null, tmf.getTrustManagers(), null);
+
+		try {
+			for (int i = 0; i < 2; i++) {
+				try ( SSLSocket socket = (SSLSocket) sslContext.getSocketFactory().createSocket("127.0.0.1", nPort) ) {
+					socket.setSoTimeout(10000);
+					socket.setEnabledProtocols(new String[] { "TLSv1.2" });
+					assertEquals("ping-" + i, echo(socket, "ping-" + i));
+				}
+			}
+
+			assertEquals(1, server.getHandshakeMetrics().getFullHandshakeCount());
+			assertEquals(1, server.getHandshakeMetrics().getResumedHandshakeCount());
+		} finally {
+			server.stopServer();
+		}
+	}
+
+	@Test
+	public void testMaxConnectionsClose() throws Exception {
+		int nPort = freePort();
+		SocketServerRunnable server = newServer(nPort);
+		server.setMaxConnections(2, SocketServerRunnable.ConnectionRejectPolicy.CLOSE);
+		server.startServer();
+
+		List<SSLSocket> sockets = new ArrayList<>();
+		try {
+			for (int i = 0; i < 2; i++) {
+				SSLSocket socket = connect(nPort);
+				sockets.add(socket);
+				assertEquals("ping-" + i, echo(socket, "ping-" + i));
+			}
+
+			// 수락 후 바로 종료됨
+			SSLSocket rejected = connect(nPort);
+			sockets.add(rejected);
+			try {
+				assertNull(echo(rejected, "rejected"));
+			} catch (IOException e) {
+				// 핸드쉐이크 중 종료
+			}
+			await(() -> server.getRejectedConnectionCount() == 1, 3000);
+			assertEquals(2, server.getConnectionCount());
+
+			// 연결이 끝나면 다시 수락
+			sockets.get(0).close();
+			await(() -> server.getConnectionCount() == 1, 3000);
+			SSLSocket socket = connect(nPort);
+			sockets.add(socket);
+			assertEquals("again", echo(socket, "again"));
+		} finally {
+			server.stopServer();
+			closeAll(sockets);
+		}
+	}
+
+	@Test
+	public void testMaxConnectionsBlock() throws Exception {
+		int nPort = freePort();
+		SocketServerRunnable server = newServer(nPort);
+		server.setMaxConnections(1, SocketServerRunnable.ConnectionRejectPolicy.BLOCK);
+		server.startServer();
+
+		List<SSLSocket> sockets = new ArrayList<>();
+		try {
+			SSLSocket first = connect(nPort);
+			sockets.add(first);
+			assertEquals("first", echo(first, "first"));
+
+			// 수락하지 않으므로 OS backlog 에서 대기
+			CompletableFuture<String> waiting = echoAsync(nPort, "waiting", sockets);
+			Thread.sleep(300);
+			assertFalse(waiting.isDone());
+			assertEquals(1, server.getConnectionCount());
+
+			first.close();
+			assertEquals("waiting", waiting.get(5, TimeUnit.SECONDS));
+			assertEquals(0, server.getRejectedConnectionCount());
+		} finally {
+			server.stopServer();
+			closeAll(sockets);
+		}
+	}
+
+	/**
+	 * handler 지연 시간은 실제 업무 처리 호출을 측정, null 응답은 전송하지 않음
+	 */
+	@Test
+	public void testMessageHandlerLatency() throws Exception {
+		int nPort = freePort();
+		SocketServerRunnable server = newServer(nPort);
+		server.setMessageHandler((remoteAddress, message) -> {
+			Thread.sleep(50);
+			return "skip".equals(message) ? null : message.toUpperCase();
+		});
+		server.startServer();
+
+		try ( SSLSocket socket = connect(nPort) ) {
+			OutputStream os = socket.getOutputStream();
+			os.write("skip\n".getBytes(StandardCharsets.UTF_8));
+			os.flush();
+			assertEquals("HELLO", echo(socket, "hello"));
+
+			assertEquals(2, server.getMetrics().getHandlerLatency().getCount());
+			assertTrue(server.getMetrics().getHandlerLatency().getMaxMicros() >= TimeUnit.MILLISECONDS.toMicros(50));
+		} finally {
+			server.stopServer();
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+package common.socket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import common.tcp.codec.StreamingCharsetDecoder;
+import common.tcp.codec.StreamingCharsetEncoder;
+
+public class TestStreamingCharsetDecoder {
+
+	private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+	@Test
+	public void testSplitMultibyte() {
+		String sMessage = "전문 ABC 한글 123 가나다";
+		byte[] bytes = sMessage.getBytes(EUC_KR);
+
+		// 모든 위치에서 두 번에 나누어 수신
+		StreamingCharsetDecoder decoder = new StreamingCharsetDecoder(EUC_KR);
+		for (int i = 0; i <= bytes.length; i++) {
+			String sDecoded = decoder.decode(bytes, 0, i) + decoder.decode(bytes, i, bytes.length - i);
+			assertEquals(sMessage, sDecoded);
+			assertEquals(0, decoder.pending());
+		}
+
+		// 1 바이트씩 수신
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < bytes.length; i++) {
+			sb.append(decoder.decode(bytes, i, 1));
+		}
+		assertEquals(sMessage, sb.toString());
+	}
+
+	@Test
+	public void testFrameAndFlush() {
+		StreamingCharsetDecoder decoder = new StreamingCharsetDecoder(EUC_KR);
+		byte[] bytes = "한글".getBytes(EUC_KR);
+
+		assertEquals("한글", decoder.decodeFrame(bytes));
+		// 전문 끝의 미완성 문자는 new String 과 동일하게 대체 문자로 변환
+		assertEquals(new String(bytes, 0, 3, EUC_KR), decoder.decodeFrame(Arrays.copyOf(bytes, 3)));
+
+		assertEquals("한", decoder.decode(bytes, 0, 3));
+		assertEquals(1, decoder.pending());
+		assertEquals(new String(bytes, 2, 1, EUC_KR), decoder.flush());
+		assertEquals(0, decoder.pending());
+	}
+
+	@Test
+	public void testEncoder() {
+		StreamingCharsetEncoder encoder = new StreamingCharsetEncoder(EUC_KR);
+
+		String sMessage = "응답 데이터 OK";
+		assertArrayEquals(sMessage.getBytes(EUC_KR), encoder.encode(sMessage));
+		// 변환할 수 없는 문자
+		assertArrayEquals("😀".getBytes(EUC_KR), encoder.encode("😀"));
+
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			sb.append('가');
+		}
+		assertArrayEquals(sb.toString().getBytes(EUC_KR), encoder.encode(sb));
+	}
+
+}